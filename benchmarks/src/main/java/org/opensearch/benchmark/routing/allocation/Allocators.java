@@ -54,6 +54,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public final class Allocators {
@@ -98,6 +99,28 @@ public final class Allocators {
         );
     }
 
+    public static AllocationService createAllocationService(Settings settings, Executor deciderExecutor) {
+        final BalancedShardsAllocator shardsAllocator = new BalancedShardsAllocator(settings);
+        shardsAllocator.setDeciderExecutor(deciderExecutor);
+        return new AllocationService(
+            defaultAllocationDeciders(settings, new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)),
+            NoopGatewayAllocator.INSTANCE,
+            shardsAllocator,
+            EmptyClusterInfoService.INSTANCE,
+            EmptySnapshotsInfoService.INSTANCE
+        );
+    }
+
+    public static AllocationService createAllocationService(Settings settings, BalancedShardsAllocator shardsAllocator) {
+        return new AllocationService(
+            defaultAllocationDeciders(settings, new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)),
+            NoopGatewayAllocator.INSTANCE,
+            shardsAllocator,
+            EmptyClusterInfoService.INSTANCE,
+            EmptySnapshotsInfoService.INSTANCE
+        );
+    }
+
     public static AllocationDeciders defaultAllocationDeciders(Settings settings, ClusterSettings clusterSettings) {
         Collection<AllocationDecider> deciders = ClusterModule.createAllocationDeciders(settings, clusterSettings, Collections.emptyList());
         return new AllocationDeciders(deciders);
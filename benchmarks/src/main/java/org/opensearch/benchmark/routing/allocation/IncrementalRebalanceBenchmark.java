@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.routing.allocation;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.cluster.routing.allocation.allocator.BalancedShardsAllocator;
+import org.opensearch.common.logging.LogConfigurator;
+import org.opensearch.common.settings.Settings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.cluster.routing.ShardRoutingState.INITIALIZING;
+
+/**
+ * Measures the reroute triggered by a shard-started event on an otherwise settled cluster, with and without incremental
+ * rebalancing in the {@link BalancedShardsAllocator}.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class IncrementalRebalanceBenchmark {
+    @Param({
+        // indices| nodes
+        "     1000|   50|",
+        "     5000|  200|",
+        "    10000|  200|" })
+    public String indicesNodes = "1|1";
+
+    @Param({ "false", "true" })
+    public boolean incremental;
+
+    public int numIndices;
+    public int numNodes;
+    public int numShards = 5;
+    public int numReplicas = 1;
+
+    private BalancedShardsAllocator shardsAllocator;
+    private AllocationService allocationService;
+    private ClusterState settledClusterState;
+    private ClusterState initializingClusterState;
+
+    @Setup
+    public void setUp() throws Exception {
+        LogConfigurator.setNodeName("test");
+        final String[] params = indicesNodes.split("\\|");
+        numIndices = toInt(params[0]);
+        numNodes = toInt(params[1]);
+
+        final Settings settings = Settings.builder()
+            .put("cluster.routing.allocation.awareness.attributes", "zone")
+            .put("cluster.routing.allocation.node_concurrent_recoveries", "20")
+            .put("cluster.routing.allocation.node_initial_primaries_recoveries", "20")
+            .put(BalancedShardsAllocator.INCREMENTAL_REBALANCE_ENABLED_SETTING.getKey(), incremental)
+            .build();
+        shardsAllocator = new BalancedShardsAllocator(settings);
+        allocationService = Allocators.createAllocationService(settings, shardsAllocator);
+
+        Metadata.Builder mb = Metadata.builder();
+        for (int i = 1; i <= numIndices; i++) {
+            mb.put(
+                IndexMetadata.builder("test_" + i)
+                    .settings(Settings.builder().put("index.version.created", Version.CURRENT))
+                    .numberOfShards(numShards)
+                    .numberOfReplicas(numReplicas)
+            );
+        }
+        Metadata metadata = mb.build();
+        RoutingTable.Builder rb = RoutingTable.builder();
+        for (int i = 1; i <= numIndices; i++) {
+            rb.addAsNew(metadata.index("test_" + i));
+        }
+        ClusterState clusterState = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(metadata)
+            .routingTable(rb.build())
+            .nodes(setUpClusterNodes(numNodes))
+            .build();
+        clusterState = allocationService.reroute(clusterState, "reroute");
+        while (clusterState.getRoutingNodes().shardsWithState(INITIALIZING).isEmpty() == false) {
+            clusterState = allocationService.applyStartedShards(
+                clusterState,
+                clusterState.getRoutingNodes().shardsWithState(INITIALIZING)
+            );
+            clusterState = allocationService.reroute(clusterState, "reroute");
+        }
+        settledClusterState = clusterState;
+
+        // create one more index whose shards are initializing, their start is the event measured by the benchmark
+        Metadata newMetadata = Metadata.builder(settledClusterState.metadata())
+            .put(
+                IndexMetadata.builder("test_new")
+                    .settings(Settings.builder().put("index.version.created", Version.CURRENT))
+                    .numberOfShards(numShards)
+                    .numberOfReplicas(0)
+            )
+            .build();
+        initializingClusterState = allocationService.reroute(
+            ClusterState.builder(settledClusterState)
+                .metadata(newMetadata)
+                .routingTable(RoutingTable.builder(settledClusterState.routingTable()).addAsNew(newMetadata.index("test_new")).build())
+                .build(),
+            "index created"
+        );
+    }
+
+    @Setup(Level.Invocation)
+    public void primeAllocator() {
+        // the allocator has last applied the cluster before the shards being started, as it would in a real cluster
+        final ClusterState rerouted = allocationService.reroute(initializingClusterState, "reroute");
+        shardsAllocator.clusterChanged(new ClusterChangedEvent("benchmark", rerouted, initializingClusterState));
+    }
+
+    @Benchmark
+    public ClusterState measureRerouteAfterShardsStarted() {
+        return allocationService.applyStartedShards(
+            initializingClusterState,
+            initializingClusterState.getRoutingNodes().shardsWithState(INITIALIZING)
+        );
+    }
+
+    private int toInt(String v) {
+        return Integer.valueOf(v.trim());
+    }
+
+    private DiscoveryNodes.Builder setUpClusterNodes(int nodes) {
+        DiscoveryNodes.Builder nb = DiscoveryNodes.builder();
+        for (int i = 1; i <= nodes; i++) {
+            Map<String, String> attributes = new HashMap<>();
+            attributes.put("zone", "zone_" + (i % 3));
+            nb.add(Allocators.newNode("node_0_" + i, attributes));
+        }
+        return nb;
+    }
+}
@@ -17,8 +17,11 @@ import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.cluster.routing.allocation.allocator.BalancedShardsAllocator;
 import org.opensearch.common.logging.LogConfigurator;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -29,11 +32,13 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static org.opensearch.cluster.routing.ShardRoutingState.INITIALIZING;
@@ -50,6 +55,10 @@ public class RerouteBenchmark {
         // indices| nodes
         "    10000|  500|", })
     public String indicesNodes = "1|1";
+
+    @Param({ "1", "4" })
+    public int deciderParallelism;
+
     public int numIndices;
     public int numNodes;
     public int numShards = 10;
@@ -57,6 +66,7 @@ public class RerouteBenchmark {
 
     private AllocationService allocationService;
     private ClusterState initialClusterState;
+    private ExecutorService deciderExecutor;
 
     @Setup
     public void setUp() throws Exception {
@@ -64,6 +74,13 @@ public class RerouteBenchmark {
         final String[] params = indicesNodes.split("\\|");
         numIndices = toInt(params[0]);
         numNodes = toInt(params[1]);
+        deciderExecutor = OpenSearchExecutors.newFixed(
+            "allocation_deciders",
+            deciderParallelism,
+            -1,
+            OpenSearchExecutors.daemonThreadFactory("allocation_deciders"),
+            new ThreadContext(Settings.EMPTY)
+        );
 
         int totalShardCount = (numReplicas + 1) * numShards * numIndices;
         Metadata.Builder mb = Metadata.builder();
@@ -89,6 +106,11 @@ public class RerouteBenchmark {
             .build();
     }
 
+    @TearDown
+    public void tearDown() {
+        deciderExecutor.shutdownNow();
+    }
+
     @Benchmark
     public ClusterState measureShardAllocationEmptyCluster() throws Exception {
         ClusterState clusterState = initialClusterState;
@@ -98,7 +120,9 @@ public class RerouteBenchmark {
                 .put("cluster.routing.allocation.load_awareness.provisioned_capacity", numNodes)
                 .put("cluster.routing.allocation.load_awareness.skew_factor", "50")
                 .put("cluster.routing.allocation.node_concurrent_recoveries", "2")
-                .build()
+                .put(BalancedShardsAllocator.DECIDER_PARALLELISM_SETTING.getKey(), deciderParallelism)
+                .build(),
+            deciderExecutor
         );
         clusterState = allocationService.reroute(clusterState, "reroute");
         while (clusterState.getRoutingNodes().hasUnassignedShards()) {
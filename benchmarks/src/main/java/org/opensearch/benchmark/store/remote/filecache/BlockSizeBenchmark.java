@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.store.remote.filecache;
+
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.Version;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.index.store.remote.file.OnDemandBlockSnapshotIndexInput;
+import org.opensearch.index.store.remote.filecache.FileCache;
+import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.opensearch.index.store.remote.utils.TransferManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares block sizes of {@link OnDemandBlockSnapshotIndexInput} for point lookups and for scans against a cold
+ * {@link FileCache}. The remote repository is stood in for by a local file, with an optional fixed latency added to every
+ * read to model the round trip to a blob store.
+ */
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class BlockSizeBenchmark {
+    private static final String FILE_NAME = "_0.bin";
+    private static final int FILE_SIZE = 128 * 1024 * 1024;
+    private static final int NUM_LOOKUPS = 64;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    @Param({ "16", "20", "23", "24" })
+    public int blockSizeShift;
+
+    @Param({ "0", "10" })
+    public int remoteLatencyMillis;
+
+    private Path workDir;
+    private Path remoteFile;
+    private FSDirectory cacheDirectory;
+    private FileCache fileCache;
+    private TransferManager transferManager;
+    private BlobStoreIndexShardSnapshot.FileInfo fileInfo;
+    private long[] lookupPositions;
+
+    @Setup
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("block-size-benchmark");
+        remoteFile = workDir.resolve("remote");
+        final Random random = new Random(0);
+        final byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+        try (OutputStream out = Files.newOutputStream(remoteFile)) {
+            for (int written = 0; written < FILE_SIZE; written += buffer.length) {
+                random.nextBytes(buffer);
+                out.write(buffer);
+            }
+        }
+        lookupPositions = new long[NUM_LOOKUPS];
+        for (int i = 0; i < NUM_LOOKUPS; i++) {
+            lookupPositions[i] = (long) (random.nextDouble() * (FILE_SIZE - Long.BYTES));
+        }
+        cacheDirectory = FSDirectory.open(Files.createDirectories(workDir.resolve("cache")));
+        fileCache = FileCacheFactory.createConcurrentLRUFileCache(2L * FILE_SIZE, 1);
+        // measure the block size alone
+        fileCache.prefetchTracker().setMaxConcurrentPrefetches(0);
+        transferManager = new TransferManager(this::readRemote, fileCache, null);
+        fileInfo = new BlobStoreIndexShardSnapshot.FileInfo(
+            FILE_NAME,
+            new StoreFileMetadata(FILE_NAME, FILE_SIZE, "", Version.LATEST),
+            null
+        );
+    }
+
+    @Setup(Level.Invocation)
+    public void clearCache() {
+        fileCache.clear();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        fileCache.clear();
+        cacheDirectory.close();
+        IOUtils.rm(workDir);
+    }
+
+    @Benchmark
+    public void pointLookups(Blackhole blackhole) throws IOException {
+        try (IndexInput input = newInput()) {
+            for (long position : lookupPositions) {
+                input.seek(position);
+                blackhole.consume(input.readLong());
+            }
+        }
+    }
+
+    @Benchmark
+    public void scan(Blackhole blackhole) throws IOException {
+        final byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+        try (IndexInput input = newInput()) {
+            for (long remaining = input.length(); remaining > 0; remaining -= buffer.length) {
+                input.readBytes(buffer, 0, (int) Math.min(buffer.length, remaining));
+            }
+            blackhole.consume(buffer);
+        }
+    }
+
+    private IndexInput newInput() {
+        return new OnDemandBlockSnapshotIndexInput(fileInfo, cacheDirectory, transferManager, blockSizeShift);
+    }
+
+    private InputStream readRemote(String name, long position, long length) throws IOException {
+        if (remoteLatencyMillis > 0) {
+            try {
+                Thread.sleep(remoteLatencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+        final FileChannel channel = FileChannel.open(remoteFile, StandardOpenOption.READ);
+        channel.position(position);
+        return new BoundedInputStream(Channels.newInputStream(channel), length);
+    }
+
+    /**
+     * Reads at most a fixed number of bytes from the wrapped stream
+     */
+    private static class BoundedInputStream extends InputStream {
+        private final InputStream in;
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long length) {
+            this.in = in;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int b = in.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
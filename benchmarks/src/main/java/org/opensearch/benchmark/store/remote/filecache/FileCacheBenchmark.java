@@ -12,6 +12,7 @@ import org.apache.lucene.store.IndexInput;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -34,7 +35,9 @@ import java.util.concurrent.TimeUnit;
 /**
  * Simple benchmark test of {@link FileCache}. It uses a uniform random distribution
  * of keys, which is very simple but unlikely to be representative of any real life
- * workload.
+ * workload. The {@code acquireAndRelease} and {@code computeAndRelease} benchmarks follow
+ * the reference counting of the block reads of searches, which contend on the cache
+ * segments when many threads read through the same cache.
  */
 @Warmup(iterations = 1)
 @Measurement(iterations = 1)
@@ -52,6 +55,20 @@ public class FileCacheBenchmark {
         blackhole.consume(parameters.fileCache.get(randomKeyInCache(parameters)));
     }
 
+    @Benchmark
+    public void acquireAndRelease(CacheParameters parameters, Blackhole blackhole) {
+        final Path key = randomKeyInCache(parameters);
+        blackhole.consume(parameters.fileCache.get(key));
+        parameters.fileCache.decRef(key);
+    }
+
+    @Benchmark
+    public void computeAndRelease(CacheParameters parameters, Blackhole blackhole) {
+        final Path key = randomKeyInCache(parameters);
+        blackhole.consume(parameters.fileCache.compute(key, (path, cachedIndexInput) -> cachedIndexInput));
+        parameters.fileCache.decRef(key);
+    }
+
     @Benchmark
     public void replace(CacheParameters parameters, Blackhole blackhole) {
         blackhole.consume(parameters.fileCache.put(randomKeyInCache(parameters), INDEX_INPUT));
@@ -85,13 +102,17 @@ public class FileCacheBenchmark {
         @Param({ "1", "8" })
         int concurrencyLevel;
 
+        @Param({ "lru", "s3_fifo" })
+        String evictionPolicy;
+
         FileCache fileCache;
 
         @Setup
         public void setup() {
-            fileCache = FileCacheFactory.createConcurrentLRUFileCache(
+            fileCache = FileCacheFactory.createConcurrentFileCache(
                 (long) maximumNumberOfEntries * INDEX_INPUT.length(),
-                concurrencyLevel
+                concurrencyLevel,
+                SegmentedCache.EvictionPolicy.fromString(evictionPolicy)
             );
             for (long i = 0; i < maximumNumberOfEntries; i++) {
                 final Path key = Paths.get(Long.toString(i));
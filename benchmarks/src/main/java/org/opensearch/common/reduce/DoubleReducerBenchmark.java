@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.reduce;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.search.aggregations.metrics.CompensatedSum;
+
+import java.util.Random;
+
+@Fork(value = 3)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 1, time = 1)
+@BenchmarkMode(Mode.Throughput)
+public class DoubleReducerBenchmark {
+
+    @Benchmark
+    public void sum(Blackhole bh, Options opts) {
+        if (opts.reducer == null) {
+            CompensatedSum kahan = new CompensatedSum(0, 0);
+            for (double value : opts.values) {
+                kahan.add(value);
+            }
+            bh.consume(kahan.value());
+        } else {
+            final double[] state = new double[2];
+            opts.reducer.sum(opts.values, opts.values.length, state);
+            bh.consume(state[0]);
+        }
+    }
+
+    @Benchmark
+    public void min(Blackhole bh, Options opts) {
+        if (opts.reducer == null) {
+            double min = Double.POSITIVE_INFINITY;
+            for (double value : opts.values) {
+                min = Math.min(min, value);
+            }
+            bh.consume(min);
+        } else {
+            bh.consume(opts.reducer.min(opts.values, opts.values.length));
+        }
+    }
+
+    @Benchmark
+    public void max(Blackhole bh, Options opts) {
+        if (opts.reducer == null) {
+            double max = Double.NEGATIVE_INFINITY;
+            for (double value : opts.values) {
+                max = Math.max(max, value);
+            }
+            bh.consume(max);
+        } else {
+            bh.consume(opts.reducer.max(opts.values, opts.values.length));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Options {
+        @Param({ "16", "64", "128", "512", "4096" })
+        public Integer size;
+
+        /**
+         * "per_value" reduces values one at a time, like the aggregators do when they collect a single document.
+         */
+        @Param({ "per_value", "scalar", "vector" })
+        public String type;
+
+        public double[] values;
+        public DoubleReducer reducer;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(size);
+            values = new double[size];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextDouble() * 1000;
+            }
+
+            switch (type) {
+                case "per_value":
+                    reducer = null;
+                    break;
+                case "scalar":
+                    reducer = new ScalarDoubleReducer();
+                    break;
+                case "vector":
+                    reducer = new VectorDoubleReducer();
+                    break;
+                default:
+                    throw new IllegalArgumentException("invalid type: " + type);
+            }
+        }
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.terms;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.fielddata.LeafFieldData;
+import org.opensearch.index.fielddata.plain.AbstractLeafOrdinalsFieldData;
+import org.opensearch.index.fielddata.plain.SortedSetOrdinalsIndexFieldData;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.CardinalityUpperBound;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.SearchContextAggregations;
+import org.opensearch.search.aggregations.support.CoreValuesSourceType;
+import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.FilteredSearchContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a {@code multi_terms} aggregation on two keyword fields with each of its collection strategies: serializing
+ * the terms of each composite key into bytes, packing the global ordinals of the terms into a single long, and
+ * packing the segment ordinals of the terms and remapping them to bytes keys at the end of each segment.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MultiTermsAggregatorBenchmark {
+    private static final int NUM_DOCS = 1_000_000;
+    private static final int NUM_SEGMENTS = 8;
+    private static final String FIRST_FIELD = "first";
+    private static final String SECOND_FIELD = "second";
+
+    /**
+     * The expected {@code collection_strategy} of the aggregator. Global ordinals are packed when they are eager,
+     * in which case they are built before the benchmark like a refresh would.
+     */
+    @Param({ "composite_bytes", "packed_global_ordinals", "packed_segment_ordinals" })
+    private String strategy;
+
+    /**
+     * The number of distinct terms of the first field, enough for the global ordinals not to be built lazily.
+     */
+    @Param({ "5000", "50000" })
+    private int firstFieldCardinality;
+
+    /**
+     * The number of distinct terms of the second field.
+     */
+    @Param({ "7", "997" })
+    private int secondFieldCardinality;
+
+    private final BigArrays bigArrays = new BigArrays(new PageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService(), "REQUEST");
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private List<ValuesSource> valuesSources;
+    private BenchmarkSearchContext context;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            for (int i = 0; i < NUM_DOCS; i++) {
+                Document document = new Document();
+                document.add(new SortedSetDocValuesField(FIRST_FIELD, new BytesRef("first-" + i % firstFieldCardinality)));
+                document.add(new SortedSetDocValuesField(SECOND_FIELD, new BytesRef("second-" + i % secondFieldCardinality)));
+                writer.addDocument(document);
+                if ((i + 1) % (NUM_DOCS / NUM_SEGMENTS) == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        reader = DirectoryReader.open(directory);
+
+        boolean eager = strategy.equals("packed_global_ordinals");
+        Map<String, MappedFieldType> fieldTypes = new HashMap<>();
+        IndexFieldDataCache cache = new GlobalOrdinalsCache();
+        valuesSources = List.of(valuesSource(FIRST_FIELD, eager, fieldTypes, cache), valuesSource(SECOND_FIELD, eager, fieldTypes, cache));
+        context = new BenchmarkSearchContext(bigArrays, queryShardContext(fieldTypes), reader);
+        if (eager) {
+            for (ValuesSource valuesSource : valuesSources) {
+                ((ValuesSource.Bytes.WithOrdinals) valuesSource).globalMaxOrd(context.searcher());
+            }
+        }
+
+        try (MultiTermsAggregator aggregator = newAggregator()) {
+            Map<String, Object> debug = new HashMap<>();
+            aggregator.collectDebugInfo(debug::put);
+            if (strategy.equals(debug.get("collection_strategy")) == false) {
+                throw new IllegalStateException("expected [" + strategy + "] but got [" + debug.get("collection_strategy") + "]");
+            }
+        }
+    }
+
+    private static ValuesSource valuesSource(
+        String field,
+        boolean eager,
+        Map<String, MappedFieldType> fieldTypes,
+        IndexFieldDataCache cache
+    ) {
+        MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType(field);
+        fieldType.setEagerGlobalOrdinals(eager);
+        fieldTypes.put(field, fieldType);
+        return new ValuesSource.Bytes.WithOrdinals.FieldData(
+            new SortedSetOrdinalsIndexFieldData(
+                cache,
+                field,
+                CoreValuesSourceType.BYTES,
+                new NoneCircuitBreakerService(),
+                AbstractLeafOrdinalsFieldData.DEFAULT_SCRIPT_FUNCTION
+            )
+        );
+    }
+
+    private QueryShardContext queryShardContext(Map<String, MappedFieldType> fieldTypes) {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .build();
+        IndexMetadata indexMetadata = IndexMetadata.builder("index").settings(settings).build();
+        return new QueryShardContext(
+            0,
+            new IndexSettings(indexMetadata, settings),
+            bigArrays,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null
+        ) {
+            @Override
+            public MappedFieldType fieldMapper(String name) {
+                return fieldTypes.get(name);
+            }
+        };
+    }
+
+    private MultiTermsAggregator newAggregator() throws IOException {
+        List<MultiTermsAggregator.InternalValuesSource> internalValuesSources = valuesSources.stream()
+            .map(valuesSource -> MultiTermsAggregator.InternalValuesSourceFactory.bytesValuesSource(valuesSource, null))
+            .toList();
+        return new MultiTermsAggregator(
+            "multi_terms",
+            AggregatorFactories.EMPTY,
+            false,
+            valuesSources,
+            internalValuesSources,
+            List.of(FIRST_FIELD, SECOND_FIELD),
+            List.of(DocValueFormat.RAW, DocValueFormat.RAW),
+            BucketOrder.count(false),
+            Aggregator.SubAggCollectionMode.BREADTH_FIRST,
+            new TermsAggregator.BucketCountThresholds(1, 0, 10, 25),
+            context,
+            null,
+            CardinalityUpperBound.ONE,
+            Map.of(),
+            strategy.equals("composite_bytes") == false
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public InternalAggregation multiTerms() throws IOException {
+        try (MultiTermsAggregator aggregator = newAggregator()) {
+            aggregator.preCollection();
+            for (LeafReaderContext ctx : reader.leaves()) {
+                LeafBucketCollector collector = aggregator.getLeafCollector(ctx);
+                for (int doc = 0; doc < ctx.reader().maxDoc(); doc++) {
+                    collector.collect(doc, 0);
+                }
+            }
+            aggregator.postCollection();
+            return aggregator.buildTopLevel();
+        }
+    }
+
+    /**
+     * Keeps the global ordinals of each field for the lifetime of the reader, like the fielddata cache of a shard does.
+     */
+    private static class GlobalOrdinalsCache implements IndexFieldDataCache {
+        private final Map<String, IndexFieldData<?>> globalOrdinals = new HashMap<>();
+
+        @Override
+        public <FD extends LeafFieldData, IFD extends IndexFieldData<FD>> FD load(LeafReaderContext context, IFD indexFieldData)
+            throws Exception {
+            return indexFieldData.loadDirect(context);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public synchronized <FD extends LeafFieldData, IFD extends IndexFieldData.Global<FD>> IFD load(
+            DirectoryReader indexReader,
+            IFD indexFieldData
+        ) throws Exception {
+            IndexFieldData<?> loaded = globalOrdinals.get(indexFieldData.getFieldName());
+            if (loaded == null) {
+                loaded = indexFieldData.loadGlobalDirect(indexReader);
+                globalOrdinals.put(indexFieldData.getFieldName(), loaded);
+            }
+            return (IFD) loaded;
+        }
+
+        @Override
+        public synchronized void clear() {
+            globalOrdinals.clear();
+        }
+
+        @Override
+        public synchronized void clear(String fieldName) {
+            globalOrdinals.remove(fieldName);
+        }
+    }
+
+    /**
+     * Only provides what the aggregator needs from a search context.
+     */
+    private static class BenchmarkSearchContext extends FilteredSearchContext {
+        private final BigArrays bigArrays;
+        private final QueryShardContext queryShardContext;
+        private final ContextIndexSearcher searcher;
+
+        BenchmarkSearchContext(BigArrays bigArrays, QueryShardContext queryShardContext, DirectoryReader reader) throws IOException {
+            super(null);
+            this.bigArrays = bigArrays;
+            this.queryShardContext = queryShardContext;
+            this.searcher = new ContextIndexSearcher(
+                reader,
+                IndexSearcher.getDefaultSimilarity(),
+                null,
+                IndexSearcher.getDefaultQueryCachingPolicy(),
+                false,
+                null,
+                this
+            );
+        }
+
+        @Override
+        public BigArrays bigArrays() {
+            return bigArrays;
+        }
+
+        @Override
+        public ContextIndexSearcher searcher() {
+            return searcher;
+        }
+
+        @Override
+        public QueryShardContext getQueryShardContext() {
+            return queryShardContext;
+        }
+
+        @Override
+        public Query query() {
+            return null;
+        }
+
+        @Override
+        public SearchContextAggregations aggregations() {
+            return null;
+        }
+
+        @Override
+        public SearchShardTarget shardTarget() {
+            return null;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public boolean shouldUseConcurrentSearch() {
+            return false;
+        }
+
+        @Override
+        public void addReleasable(Releasable releasable) {
+            // the benchmark closes the aggregators itself
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.fielddata.IndexFieldData;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.index.fielddata.plain.SortedNumericIndexFieldData;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.SearchContextAggregations;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.FilteredSearchContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the {@code sum}, {@code avg} and {@code stats} collectors over a numeric field, once with the default scalar
+ * reducer, where the collectors keep their per-document path, and once with the vectorized reducer, where batches of
+ * documents are buffered and reduced together.
+ */
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MetricsCollectorBenchmark {
+    private static final int NUM_DOCS = 1_000_000;
+    private static final int NUM_SEGMENTS = 4;
+    private static final String FIELD = "value";
+
+    @Param({ "sum", "avg", "stats" })
+    private String aggregation;
+
+    /**
+     * "doc" collects one document at a time. "range" collects the documents of each segment through
+     * {@link LeafBucketCollector#collectRange}, like a match-all query or a parent aggregation collecting runs of
+     * documents does.
+     */
+    @Param({ "doc", "range" })
+    private String collection;
+
+    /**
+     * The number of values per document.
+     */
+    @Param({ "1", "3" })
+    private int valuesPerDoc;
+
+    private final BigArrays bigArrays = new BigArrays(new PageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService(), "REQUEST");
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private ValuesSourceConfig config;
+    private BenchmarkSearchContext context;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        Random random = new Random(0);
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            for (int i = 0; i < NUM_DOCS; i++) {
+                Document document = new Document();
+                for (int j = 0; j < valuesPerDoc; j++) {
+                    document.add(new SortedNumericDocValuesField(FIELD, NumericUtils.doubleToSortableLong(random.nextDouble() * 1000)));
+                }
+                writer.addDocument(document);
+                if ((i + 1) % (NUM_DOCS / NUM_SEGMENTS) == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        reader = DirectoryReader.open(directory);
+
+        MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(FIELD, NumberFieldMapper.NumberType.DOUBLE);
+        QueryShardContext queryShardContext = queryShardContext();
+        config = ValuesSourceConfig.resolveFieldOnly(fieldType, queryShardContext);
+        context = new BenchmarkSearchContext(bigArrays, queryShardContext, reader);
+    }
+
+    private QueryShardContext queryShardContext() {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .build();
+        IndexMetadata indexMetadata = IndexMetadata.builder("index").settings(settings).build();
+        return new QueryShardContext(
+            0,
+            new IndexSettings(indexMetadata, settings),
+            bigArrays,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null
+        ) {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <IFD extends IndexFieldData<?>> IFD getForField(MappedFieldType fieldType) {
+                return (IFD) new SortedNumericIndexFieldData(fieldType.name(), IndexNumericFieldData.NumericType.DOUBLE);
+            }
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    @Fork(2)
+    public InternalAggregation scalar() throws IOException {
+        return collect();
+    }
+
+    @Benchmark
+    @Fork(
+        value = 2,
+        jvmArgsAppend = { "--add-modules=jdk.incubator.vector", "-Dopensearch.experimental.feature.simd.aggregations.enabled=forced" }
+    )
+    public InternalAggregation vector() throws IOException {
+        return collect();
+    }
+
+    private InternalAggregation collect() throws IOException {
+        try (Aggregator aggregator = newAggregator()) {
+            aggregator.preCollection();
+            for (LeafReaderContext ctx : reader.leaves()) {
+                LeafBucketCollector collector = aggregator.getLeafCollector(ctx);
+                if (collection.equals("range")) {
+                    collector.collectRange(0, ctx.reader().maxDoc());
+                } else {
+                    for (int doc = 0; doc < ctx.reader().maxDoc(); doc++) {
+                        collector.collect(doc, 0);
+                    }
+                }
+            }
+            aggregator.postCollection();
+            return aggregator.buildTopLevel();
+        }
+    }
+
+    private Aggregator newAggregator() throws IOException {
+        switch (aggregation) {
+            case "sum":
+                return new SumAggregator("sum", config, context, null, Map.of());
+            case "avg":
+                return new AvgAggregator("avg", config, context, null, Map.of());
+            case "stats":
+                return new StatsAggregator("stats", config, context, null, Map.of());
+            default:
+                throw new IllegalArgumentException("invalid aggregation: " + aggregation);
+        }
+    }
+
+    /**
+     * Only provides what the aggregators need from a search context.
+     */
+    private static class BenchmarkSearchContext extends FilteredSearchContext {
+        private final BigArrays bigArrays;
+        private final QueryShardContext queryShardContext;
+        private final ContextIndexSearcher searcher;
+
+        BenchmarkSearchContext(BigArrays bigArrays, QueryShardContext queryShardContext, DirectoryReader reader) throws IOException {
+            super(null);
+            this.bigArrays = bigArrays;
+            this.queryShardContext = queryShardContext;
+            this.searcher = new ContextIndexSearcher(
+                reader,
+                IndexSearcher.getDefaultSimilarity(),
+                null,
+                IndexSearcher.getDefaultQueryCachingPolicy(),
+                false,
+                null,
+                this
+            );
+        }
+
+        @Override
+        public BigArrays bigArrays() {
+            return bigArrays;
+        }
+
+        @Override
+        public ContextIndexSearcher searcher() {
+            return searcher;
+        }
+
+        @Override
+        public QueryShardContext getQueryShardContext() {
+            return queryShardContext;
+        }
+
+        @Override
+        public Query query() {
+            return null;
+        }
+
+        @Override
+        public SearchContextAggregations aggregations() {
+            return null;
+        }
+
+        @Override
+        public SearchShardTarget shardTarget() {
+            return null;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public boolean shouldUseConcurrentSearch() {
+            return false;
+        }
+
+        @Override
+        public void addReleasable(Releasable releasable) {
+            // the benchmark closes the aggregators itself
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.reduce;
+
+import org.opensearch.common.annotation.InternalApi;
+
+/**
+ * Interface to reduce arrays of double values.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+public interface DoubleReducer {
+    /**
+     * Adds the first {@code size} values to a sum using the Kahan summation algorithm.
+     * @param values the values to add
+     * @param size the number of values to add
+     * @param state holds the sum at index 0 and its correction term at index 1, both are updated in place
+     */
+    void sum(double[] values, int size, double[] state);
+
+    /**
+     * Returns the smallest of the first {@code size} values, or {@link Double#POSITIVE_INFINITY} if there are none.
+     */
+    double min(double[] values, int size);
+
+    /**
+     * Returns the largest of the first {@code size} values, or {@link Double#NEGATIVE_INFINITY} if there are none.
+     */
+    double max(double[] values, int size);
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.reduce;
+
+import org.opensearch.common.annotation.InternalApi;
+
+/**
+ * Factory class to create and return the fastest implementation of {@link DoubleReducer}.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+public final class DoubleReducerFactory {
+    /**
+     * Indicates whether the vectorized (SIMD) implementation is to be used.
+     * It is true when either:
+     * 1. The feature flag is set to "forced", or
+     * 2. The platform has a minimum of 4 double vector lanes and the feature flag is set to "true".
+     */
+    private static final boolean USE_VECTOR_REDUCER;
+
+    /**
+     * This class is initialized only when:
+     *  - JDK-20+
+     *  - jdk.incubator.vector.DoubleVector is available (--add-modules=jdk.incubator.vector is passed)
+     */
+    private static final class VectorCheck {
+        final static int SPECIES_PREFERRED = jdk.incubator.vector.DoubleVector.SPECIES_PREFERRED.length();
+    }
+
+    static {
+        String simdAggregationsFeatureFlag = System.getProperty("opensearch.experimental.feature.simd.aggregations.enabled");
+        boolean useVectorReducer = false;
+
+        try {
+            final Class<?> incubator = Class.forName("jdk.incubator.vector.DoubleVector");
+
+            useVectorReducer = "forced".equalsIgnoreCase(simdAggregationsFeatureFlag)
+                || (VectorCheck.SPECIES_PREFERRED >= 4 && "true".equalsIgnoreCase(simdAggregationsFeatureFlag));
+
+        } catch (final ClassNotFoundException ex) {
+            /* do not use VectorDoubleReducer */
+        }
+
+        USE_VECTOR_REDUCER = useVectorReducer;
+    }
+
+    private static final DoubleReducer INSTANCE = USE_VECTOR_REDUCER ? new VectorDoubleReducer() : new ScalarDoubleReducer();
+
+    private DoubleReducerFactory() {}
+
+    /**
+     * Returns whether {@link #create()} returns the vectorized implementation.
+     */
+    public static boolean isVectorized() {
+        return USE_VECTOR_REDUCER;
+    }
+
+    /**
+     * Returns the fastest implementation of {@link DoubleReducer}.
+     */
+    public static DoubleReducer create() {
+        return INSTANCE;
+    }
+}
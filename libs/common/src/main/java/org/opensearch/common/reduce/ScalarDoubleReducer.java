@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.reduce;
+
+import org.opensearch.common.annotation.InternalApi;
+
+/**
+ * Reduces values one at a time, in the order of the array.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+class ScalarDoubleReducer implements DoubleReducer {
+
+    @Override
+    public void sum(double[] values, int size, double[] state) {
+        sum(values, 0, size, state);
+    }
+
+    /**
+     * Adds the values between {@code from} inclusive and {@code to} exclusive, see {@link #sum(double[], int, double[])}.
+     */
+    static void sum(double[] values, int from, int to, double[] state) {
+        double sum = state[0];
+        double delta = state[1];
+        for (int i = from; i < to; i++) {
+            final double value = values[i];
+            // If the value is Inf or NaN, just add it to the running tally to "convert" to Inf/NaN
+            if (Double.isFinite(value) == false) {
+                sum = value + sum;
+            }
+            if (Double.isFinite(sum)) {
+                final double correctedSum = value + delta;
+                final double updatedSum = sum + correctedSum;
+                delta = correctedSum - (updatedSum - sum);
+                sum = updatedSum;
+            }
+        }
+        state[0] = sum;
+        state[1] = delta;
+    }
+
+    @Override
+    public double min(double[] values, int size) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] values, int size) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+}
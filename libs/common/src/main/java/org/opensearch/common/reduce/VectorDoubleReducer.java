@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.reduce;
+
+import org.opensearch.common.annotation.InternalApi;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Reduces values with SIMD instructions, using the Vector API.
+ * <p>
+ * Sums are compensated separately in every lane and the lanes are added up at the end, so the result may differ in
+ * the last bits from the one of the {@link ScalarDoubleReducer}. Sums of non-finite values are delegated to the latter
+ * to keep the same Inf/NaN semantics.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+class VectorDoubleReducer implements DoubleReducer {
+    private static final VectorSpecies<Double> DOUBLE_VECTOR_SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = DOUBLE_VECTOR_SPECIES.length();
+
+    @Override
+    public void sum(double[] values, int size, double[] state) {
+        final int bound = DOUBLE_VECTOR_SPECIES.loopBound(size);
+        DoubleVector sums = DoubleVector.zero(DOUBLE_VECTOR_SPECIES);
+        DoubleVector deltas = DoubleVector.zero(DOUBLE_VECTOR_SPECIES);
+        for (int i = 0; i < bound; i += LANES) {
+            final DoubleVector correctedSums = DoubleVector.fromArray(DOUBLE_VECTOR_SPECIES, values, i).add(deltas);
+            final DoubleVector updatedSums = sums.add(correctedSums);
+            deltas = correctedSums.sub(updatedSums.sub(sums));
+            sums = updatedSums;
+        }
+
+        double sum = state[0];
+        double delta = state[1];
+        for (int lane = 0; lane < LANES; lane++) {
+            final double correctedSum = sums.lane(lane) + (delta + deltas.lane(lane));
+            final double updatedSum = sum + correctedSum;
+            delta = correctedSum - (updatedSum - sum);
+            sum = updatedSum;
+        }
+        if (Double.isFinite(sum) == false || Double.isFinite(delta) == false) {
+            // Inf or NaN values turn the corrections into NaN
+            ScalarDoubleReducer.sum(values, 0, size, state);
+            return;
+        }
+        state[0] = sum;
+        state[1] = delta;
+        ScalarDoubleReducer.sum(values, bound, size, state);
+    }
+
+    @Override
+    public double min(double[] values, int size) {
+        final int bound = DOUBLE_VECTOR_SPECIES.loopBound(size);
+        DoubleVector mins = DoubleVector.broadcast(DOUBLE_VECTOR_SPECIES, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < bound; i += LANES) {
+            mins = mins.min(DoubleVector.fromArray(DOUBLE_VECTOR_SPECIES, values, i));
+        }
+        double min = mins.reduceLanes(VectorOperators.MIN);
+        for (int i = bound; i < size; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] values, int size) {
+        final int bound = DOUBLE_VECTOR_SPECIES.loopBound(size);
+        DoubleVector maxes = DoubleVector.broadcast(DOUBLE_VECTOR_SPECIES, Double.NEGATIVE_INFINITY);
+        for (int i = 0; i < bound; i += LANES) {
+            maxes = maxes.max(DoubleVector.fromArray(DOUBLE_VECTOR_SPECIES, values, i));
+        }
+        double max = maxes.reduceLanes(VectorOperators.MAX);
+        for (int i = bound; i < size; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+}
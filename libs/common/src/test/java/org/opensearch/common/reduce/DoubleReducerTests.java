@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.reduce;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class DoubleReducerTests extends OpenSearchTestCase {
+
+    public void testCreate() {
+        String simdAggregationsFeatureFlag = System.getProperty("opensearch.experimental.feature.simd.aggregations.enabled");
+        boolean useVectorReducer = "forced".equalsIgnoreCase(simdAggregationsFeatureFlag);
+        assertEquals(
+            useVectorReducer ? "VectorDoubleReducer" : "ScalarDoubleReducer",
+            DoubleReducerFactory.create().getClass().getSimpleName()
+        );
+    }
+
+    public void testScalarReducer() {
+        assertReducer(new ScalarDoubleReducer());
+    }
+
+    public void testVectorReducer() {
+        assertReducer(new VectorDoubleReducer());
+    }
+
+    public void testScalarSumMatchesSequentialKahanSummation() {
+        int size = randomIntBetween(0, 1000);
+        double[] values = randomValues(size, size + randomIntBetween(0, 10));
+        double[] state = { randomDouble(), 0 };
+
+        double sum = state[0];
+        double delta = state[1];
+        for (int i = 0; i < size; i++) {
+            double correctedSum = values[i] + delta;
+            double updatedSum = sum + correctedSum;
+            delta = correctedSum - (updatedSum - sum);
+            sum = updatedSum;
+        }
+        new ScalarDoubleReducer().sum(values, size, state);
+        assertEquals(sum, state[0], 0d);
+        assertEquals(delta, state[1], 0d);
+    }
+
+    public void testSumOfNonFiniteValues() {
+        for (DoubleReducer reducer : new DoubleReducer[] { new ScalarDoubleReducer(), new VectorDoubleReducer() }) {
+            int size = randomIntBetween(1, 100);
+            double[] values = randomValues(size, size);
+            values[randomIntBetween(0, size - 1)] = Double.POSITIVE_INFINITY;
+            double[] state = { 0, 0 };
+            reducer.sum(values, size, state);
+            assertEquals(Double.POSITIVE_INFINITY, state[0], 0d);
+
+            values[randomIntBetween(0, size - 1)] = Double.NaN;
+            state = new double[] { 0, 0 };
+            reducer.sum(values, size, state);
+            assertTrue(Double.isNaN(state[0]));
+        }
+    }
+
+    private void assertReducer(DoubleReducer reducer) {
+        int size = randomIntBetween(0, 1000);
+        // the array may be larger than the number of values to reduce
+        double[] values = randomValues(size, size + randomIntBetween(0, 10));
+
+        double[] state = { randomDoubleBetween(-1000, 1000, true), 0 };
+        double expectedSum = state[0];
+        double expectedMin = Double.POSITIVE_INFINITY;
+        double expectedMax = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            expectedSum += values[i];
+            expectedMin = Math.min(expectedMin, values[i]);
+            expectedMax = Math.max(expectedMax, values[i]);
+        }
+
+        reducer.sum(values, size, state);
+        assertEquals(expectedSum, state[0], 1e-6);
+        assertEquals(expectedMin, reducer.min(values, size), 0d);
+        assertEquals(expectedMax, reducer.max(values, size), 0d);
+    }
+
+    private static double[] randomValues(int size, int capacity) {
+        double[] values = new double[capacity];
+        for (int i = 0; i < capacity; i++) {
+            values[i] = i < size ? randomDoubleBetween(-1000, 1000, true) : Double.NaN;
+        }
+        return values;
+    }
+}
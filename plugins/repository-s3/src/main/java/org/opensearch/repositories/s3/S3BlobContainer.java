@@ -102,6 +102,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -408,6 +409,53 @@ class S3BlobContainer extends AbstractBlobContainer implements AsyncMultiStreamB
         }
     }
 
+    @ExperimentalApi
+    @Override
+    public void readBlobAsync(String blobName, long position, long length, ActionListener<InputStream> listener) {
+        if (position < 0L) {
+            listener.onFailure(new IllegalArgumentException("position must be non-negative"));
+            return;
+        }
+        if (length < 0) {
+            listener.onFailure(new IllegalArgumentException("length must be non-negative"));
+            return;
+        }
+        if (length == 0) {
+            listener.onResponse(new ByteArrayInputStream(new byte[0]));
+            return;
+        }
+        try (AmazonAsyncS3Reference amazonS3Reference = AccessController.doPrivileged(blobStore::asyncClientReference)) {
+            final S3AsyncClient s3AsyncClient = amazonS3Reference.get().client();
+            final GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(blobStore.bucket())
+                .key(buildKey(blobName))
+                .range(HttpRangeUtils.toHttpRangeHeader(position, Math.addExact(position, length - 1)))
+                .expectedBucketOwner(blobStore.expectedBucketOwner())
+                .overrideConfiguration(o -> o.addMetricPublisher(blobStore.getStatsMetricPublisher().getObjectMetricPublisher))
+                .build();
+            // the range is buffered in memory by the SDK, so no thread is held while its bytes are in flight
+            AccessController.doPrivileged(() -> s3AsyncClient.getObject(getObjectRequest, AsyncResponseTransformer.toBytes()))
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        // the SDK completes the future with the service exception, possibly wrapped by the stage it went through
+                        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause()
+                            : throwable;
+                        listener.onFailure(cause instanceof Exception ? (Exception) cause : new Exception(cause));
+                    } else {
+                        listener.onResponse(response.asInputStream());
+                    }
+                });
+        } catch (Exception ex) {
+            listener.onFailure(SdkException.create("Error occurred while fetching blob range from the repository", ex));
+        }
+    }
+
+    @Override
+    public boolean asyncRangeReadSupported() {
+        return true;
+    }
+
     public boolean remoteIntegrityCheckSupported() {
         return true;
     }
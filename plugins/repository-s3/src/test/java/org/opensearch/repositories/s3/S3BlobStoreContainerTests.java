@@ -32,6 +32,7 @@
 
 package org.opensearch.repositories.s3;
 
+import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.exception.SdkException;
@@ -1419,6 +1420,120 @@ public class S3BlobStoreContainerTests extends OpenSearchTestCase {
         assertEquals(1, readContextActionListener.getFailureCount());
     }
 
+    public void testReadBlobAsyncRange() throws Exception {
+        final String bucketName = randomAlphaOfLengthBetween(1, 10);
+        final String blobName = randomAlphaOfLengthBetween(1, 10);
+        final String expectedBucketOwner = randomBoolean() ? randomAlphaOfLength(12) : null;
+        final long position = randomLongBetween(0, Integer.MAX_VALUE);
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(1, 100));
+
+        final S3AsyncClient s3AsyncClient = mock(S3AsyncClient.class);
+        final S3BlobStore blobStore = mockBlobStoreWithAsyncClient(s3AsyncClient, bucketName);
+        when(blobStore.expectedBucketOwner()).thenReturn(expectedBucketOwner);
+
+        final ArgumentCaptor<GetObjectRequest> requestCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        when(
+            s3AsyncClient.getObject(
+                requestCaptor.capture(),
+                ArgumentMatchers.<AsyncResponseTransformer<GetObjectResponse, ResponseBytes<GetObjectResponse>>>any()
+            )
+        ).thenReturn(
+            CompletableFuture.completedFuture(
+                ResponseBytes.fromByteArray(GetObjectResponse.builder().contentLength((long) bytes.length).build(), bytes)
+            )
+        );
+
+        final CountDownLatch countDownLatch = new CountDownLatch(1);
+        final CountingCompletionListener<InputStream> readListener = new CountingCompletionListener<>();
+        final S3BlobContainer blobContainer = new S3BlobContainer(new BlobPath(), blobStore);
+        blobContainer.readBlobAsync(blobName, position, bytes.length, new LatchedActionListener<>(readListener, countDownLatch));
+        assertTrue(countDownLatch.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, readListener.getResponseCount());
+        assertEquals(0, readListener.getFailureCount());
+        assertArrayEquals(bytes, readListener.getResponse().readAllBytes());
+
+        final GetObjectRequest request = requestCaptor.getValue();
+        assertEquals(bucketName, request.bucket());
+        assertEquals(blobName, request.key());
+        assertEquals(expectedBucketOwner, request.expectedBucketOwner());
+        // the end of an HTTP range is inclusive
+        assertEquals("bytes=" + position + "-" + (position + bytes.length - 1), request.range());
+    }
+
+    public void testReadBlobAsyncRangeFailure() throws Exception {
+        final String bucketName = randomAlphaOfLengthBetween(1, 10);
+        final String blobName = randomAlphaOfLengthBetween(1, 10);
+
+        final S3AsyncClient s3AsyncClient = mock(S3AsyncClient.class);
+        final S3BlobStore blobStore = mockBlobStoreWithAsyncClient(s3AsyncClient, bucketName);
+
+        final NoSuchKeyException noSuchKeyException = NoSuchKeyException.builder().message("missing").build();
+        final CompletableFuture<ResponseBytes<GetObjectResponse>> failedFuture = new CompletableFuture<>();
+        // the future either fails with the service exception itself or with the exception wrapped by a dependent stage
+        failedFuture.completeExceptionally(randomBoolean() ? noSuchKeyException : new CompletionException(noSuchKeyException));
+        when(
+            s3AsyncClient.getObject(
+                any(GetObjectRequest.class),
+                ArgumentMatchers.<AsyncResponseTransformer<GetObjectResponse, ResponseBytes<GetObjectResponse>>>any()
+            )
+        ).thenReturn(failedFuture);
+
+        final S3BlobContainer blobContainer = new S3BlobContainer(new BlobPath(), blobStore);
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        CountingCompletionListener<InputStream> readListener = new CountingCompletionListener<>();
+        blobContainer.readBlobAsync(blobName, 0, randomIntBetween(1, 100), new LatchedActionListener<>(readListener, countDownLatch));
+        assertTrue(countDownLatch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, readListener.getResponseCount());
+        assertEquals(1, readListener.getFailureCount());
+        assertSame(noSuchKeyException, readListener.getException());
+
+        // failing to get hold of the client is reported as an SDK exception
+        when(blobStore.asyncClientReference()).thenThrow(new IllegalStateException("closed"));
+        countDownLatch = new CountDownLatch(1);
+        readListener = new CountingCompletionListener<>();
+        blobContainer.readBlobAsync(blobName, 0, randomIntBetween(1, 100), new LatchedActionListener<>(readListener, countDownLatch));
+        assertTrue(countDownLatch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, readListener.getFailureCount());
+        assertThat(readListener.getException(), instanceOf(SdkException.class));
+        assertThat(readListener.getException().getCause(), instanceOf(IllegalStateException.class));
+    }
+
+    public void testReadBlobAsyncRangeArguments() throws Exception {
+        final S3AsyncClient s3AsyncClient = mock(S3AsyncClient.class);
+        final S3BlobContainer blobContainer = new S3BlobContainer(
+            new BlobPath(),
+            mockBlobStoreWithAsyncClient(s3AsyncClient, randomAlphaOfLengthBetween(1, 10))
+        );
+        final String blobName = randomAlphaOfLengthBetween(1, 10);
+
+        CountingCompletionListener<InputStream> readListener = new CountingCompletionListener<>();
+        blobContainer.readBlobAsync(blobName, -1, randomIntBetween(1, 100), readListener);
+        assertThat(readListener.getException(), instanceOf(IllegalArgumentException.class));
+
+        readListener = new CountingCompletionListener<>();
+        blobContainer.readBlobAsync(blobName, 0, -1, readListener);
+        assertThat(readListener.getException(), instanceOf(IllegalArgumentException.class));
+
+        // an empty range is answered without a request
+        readListener = new CountingCompletionListener<>();
+        blobContainer.readBlobAsync(blobName, randomLongBetween(0, 100), 0, readListener);
+        assertEquals(1, readListener.getResponseCount());
+        assertEquals(0, readListener.getResponse().readAllBytes().length);
+        verifyNoInteractions(s3AsyncClient);
+    }
+
+    private static S3BlobStore mockBlobStoreWithAsyncClient(S3AsyncClient s3AsyncClient, String bucketName) {
+        final AmazonAsyncS3Reference amazonAsyncS3Reference = new AmazonAsyncS3Reference(
+            AmazonAsyncS3WithCredentials.create(s3AsyncClient, s3AsyncClient, s3AsyncClient, null)
+        );
+        final S3BlobStore blobStore = mock(S3BlobStore.class);
+        when(blobStore.bucket()).thenReturn(bucketName);
+        when(blobStore.getStatsMetricPublisher()).thenReturn(new StatsMetricPublisher());
+        when(blobStore.asyncClientReference()).thenReturn(amazonAsyncS3Reference);
+        return blobStore;
+    }
+
     public void testGetBlobMetadata() throws Exception {
         final String checksum = randomAlphaOfLengthBetween(1, 10);
         final long objectSize = 100L;
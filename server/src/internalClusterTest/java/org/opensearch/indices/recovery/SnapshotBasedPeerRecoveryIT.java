@@ -0,0 +1,267 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.test.OpenSearchIntegTestCase;
+import org.opensearch.test.OpenSearchIntegTestCase.ClusterScope;
+import org.opensearch.test.OpenSearchIntegTestCase.Scope;
+import org.opensearch.test.transport.MockTransportService;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+
+@ClusterScope(scope = Scope.TEST, numDataNodes = 0)
+public class SnapshotBasedPeerRecoveryIT extends OpenSearchIntegTestCase {
+
+    private static final String INDEX_NAME = "test-idx";
+    private static final String REPO_NAME = "test-repo";
+
+    @Override
+    protected Collection<Class<? extends Plugin>> nodePlugins() {
+        return List.of(MockTransportService.TestPlugin.class);
+    }
+
+    public void testReplicaDownloadsSnapshottedFilesFromRepository() throws Exception {
+        final Path repoPath = randomRepoPath();
+        final String primaryNode = createSnapshottedIndex(repoPath);
+        final Set<String> restoredFiles = ConcurrentHashMap.newKeySet();
+        final Set<String> sentFiles = ConcurrentHashMap.newKeySet();
+        trackRecoveryFiles(primaryNode, restoredFiles, sentFiles);
+
+        internalCluster().startNode();
+        assertAcked(
+            client().admin()
+                .indices()
+                .prepareUpdateSettings(INDEX_NAME)
+                .setSettings(Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1))
+        );
+        ensureGreen(INDEX_NAME);
+
+        assertThat(restoredFiles, not(empty()));
+        for (String sentFile : sentFiles) {
+            assertFalse("file [" + sentFile + "] was both restored and sent", restoredFiles.contains(sentFile));
+        }
+        assertReplicaHasAllDocs();
+    }
+
+    public void testSlowDownloadOutlastsActivityTimeout() throws Exception {
+        final Path repoPath = randomRepoPath();
+        final String primaryNode = createSnapshottedIndex(repoPath);
+        final long snapshotBytes = sizeOfDataBlobs(repoPath);
+        final TimeValue activityTimeout = TimeValue.timeValueSeconds(1);
+        // throttle the download of small chunks to take several activity timeouts while still making steady progress
+        createRepository(
+            REPO_NAME,
+            "fs",
+            Settings.builder().put("location", repoPath).put("max_restore_bytes_per_sec", Math.max(1L, snapshotBytes / 4) + "b")
+        );
+        assertAcked(
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(
+                    Settings.builder()
+                        .put(RecoverySettings.INDICES_RECOVERY_ACTIVITY_TIMEOUT_SETTING.getKey(), activityTimeout)
+                        .put(RecoverySettings.INDICES_RECOVERY_CHUNK_SIZE_SETTING.getKey(), "1kb")
+                        .put(RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_SNAPSHOT_FILE_DOWNLOADS_SETTING.getKey(), 1)
+                )
+        );
+        final Set<String> restoredFiles = ConcurrentHashMap.newKeySet();
+        final Set<String> sentFiles = ConcurrentHashMap.newKeySet();
+        trackRecoveryFiles(primaryNode, restoredFiles, sentFiles);
+
+        final String replicaNode = internalCluster().startNode();
+        assertAcked(
+            client().admin()
+                .indices()
+                .prepareUpdateSettings(INDEX_NAME)
+                .setSettings(Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1))
+        );
+        ensureGreen(TimeValue.timeValueSeconds(60), INDEX_NAME);
+
+        assertThat(restoredFiles, not(empty()));
+        for (String sentFile : sentFiles) {
+            assertFalse("file [" + sentFile + "] was both restored and sent", restoredFiles.contains(sentFile));
+        }
+        final List<RecoveryState> recoveries = client().admin()
+            .indices()
+            .prepareRecoveries(INDEX_NAME)
+            .get()
+            .shardRecoveryStates()
+            .get(INDEX_NAME)
+            .stream()
+            .filter(recoveryState -> replicaNode.equals(recoveryState.getTargetNode().getName()))
+            .collect(Collectors.toList());
+        // the recovery monitor did not fail the recovery even though the download took longer than its activity timeout
+        assertThat(recoveries.size(), equalTo(1));
+        assertThat(recoveries.get(0).getTimer().time(), greaterThan(activityTimeout.millis()));
+        assertReplicaHasAllDocs();
+    }
+
+    public void testReplicaFallsBackToPeerCopyIfSnapshotFilesAreMissing() throws Exception {
+        final Path repoPath = randomRepoPath();
+        final String primaryNode = createSnapshottedIndex(repoPath);
+        final Set<String> restoredFiles = ConcurrentHashMap.newKeySet();
+        final Set<String> sentFiles = ConcurrentHashMap.newKeySet();
+        trackRecoveryFiles(primaryNode, restoredFiles, sentFiles);
+        // the shard level metadata still lists the files, but their data is gone
+        Files.walkFileTree(repoPath, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (file.getFileName().toString().startsWith("__")) {
+                    Files.delete(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        internalCluster().startNode();
+        assertAcked(
+            client().admin()
+                .indices()
+                .prepareUpdateSettings(INDEX_NAME)
+                .setSettings(Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1))
+        );
+        ensureGreen(INDEX_NAME);
+
+        assertThat(restoredFiles, not(empty()));
+        assertTrue("restored files " + restoredFiles + " were not all sent " + sentFiles, sentFiles.containsAll(restoredFiles));
+        assertReplicaHasAllDocs();
+    }
+
+    public void testRepositoryIsNotUsedWhenNotConfigured() throws Exception {
+        final Path repoPath = randomRepoPath();
+        final String primaryNode = createSnapshottedIndex(repoPath);
+        assertAcked(
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(Settings.builder().putNull(RecoverySettings.INDICES_RECOVERY_SNAPSHOT_REPOSITORY_SETTING.getKey()))
+        );
+        final Set<String> restoredFiles = ConcurrentHashMap.newKeySet();
+        final Set<String> sentFiles = ConcurrentHashMap.newKeySet();
+        trackRecoveryFiles(primaryNode, restoredFiles, sentFiles);
+
+        internalCluster().startNode();
+        assertAcked(
+            client().admin()
+                .indices()
+                .prepareUpdateSettings(INDEX_NAME)
+                .setSettings(Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1))
+        );
+        ensureGreen(INDEX_NAME);
+
+        assertThat(restoredFiles, empty());
+        assertThat(sentFiles, not(empty()));
+        assertReplicaHasAllDocs();
+    }
+
+    /**
+     * Starts a node with a single shard index which is fully contained in a snapshot, and points recoveries at the repository
+     */
+    private String createSnapshottedIndex(Path repoPath) throws Exception {
+        final String primaryNode = internalCluster().startNode();
+        createIndex(
+            INDEX_NAME,
+            Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1).put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0).build()
+        );
+        ensureGreen(INDEX_NAME);
+        final List<IndexRequestBuilder> indexRequests = IntStream.range(0, between(10, 200))
+            .mapToObj(n -> client().prepareIndex(INDEX_NAME).setSource("foo", "bar-" + n))
+            .collect(Collectors.toList());
+        indexRandom(true, true, true, indexRequests);
+        flush(INDEX_NAME);
+
+        createRepository(REPO_NAME, "fs", Settings.builder().put("location", repoPath).put("compress", randomBoolean()));
+        assertThat(
+            client().admin()
+                .cluster()
+                .prepareCreateSnapshot(REPO_NAME, "snap")
+                .setWaitForCompletion(true)
+                .setIndices(INDEX_NAME)
+                .get()
+                .getSnapshotInfo()
+                .failedShards(),
+            equalTo(0)
+        );
+        assertAcked(
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(
+                    Settings.builder()
+                        .put(RecoverySettings.INDICES_RECOVERY_SNAPSHOT_REPOSITORY_SETTING.getKey(), REPO_NAME)
+                        .put(RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_SNAPSHOT_FILE_DOWNLOADS_SETTING.getKey(), between(1, 5))
+                )
+        );
+        return primaryNode;
+    }
+
+    private static long sizeOfDataBlobs(Path repoPath) throws IOException {
+        final AtomicLong size = new AtomicLong();
+        Files.walkFileTree(repoPath, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (file.getFileName().toString().startsWith("__")) {
+                    size.addAndGet(attrs.size());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return size.get();
+    }
+
+    private void trackRecoveryFiles(String sourceNode, Set<String> restoredFiles, Set<String> sentFiles) {
+        final MockTransportService transportService = (MockTransportService) internalCluster().getInstance(
+            TransportService.class,
+            sourceNode
+        );
+        transportService.addSendBehavior((connection, requestId, action, request, options) -> {
+            if (PeerRecoveryTargetService.Actions.RESTORE_FILES_FROM_SNAPSHOT.equals(action)) {
+                for (BlobStoreIndexShardSnapshot.FileInfo file : ((RecoveryRestoreFilesFromSnapshotRequest) request).files()) {
+                    restoredFiles.add(file.physicalName());
+                }
+            } else if (PeerRecoveryTargetService.Actions.FILE_CHUNK.equals(action)) {
+                sentFiles.add(((FileChunkRequest) request).name());
+            }
+            connection.sendRequest(requestId, action, request, options);
+        });
+    }
+
+    private void assertReplicaHasAllDocs() {
+        final long numDocs = client().prepareSearch(INDEX_NAME).setSize(0).setPreference("_primary").get().getHits().getTotalHits().value();
+        refresh(INDEX_NAME);
+        assertHitCount(client().prepareSearch(INDEX_NAME).setSize(0).setPreference("_replica").get(), numDocs);
+    }
+}
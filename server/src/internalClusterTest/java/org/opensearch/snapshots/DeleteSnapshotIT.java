@@ -76,6 +76,40 @@ public class DeleteSnapshotIT extends AbstractSnapshotIntegTestCase {
         assertBusy(() -> assertEquals(2, RemoteStoreBaseIntegTestCase.getFileCount(absolutePath)));
     }
 
+    public void testDeleteSnapshotWithoutListingShards() throws Exception {
+        internalCluster().startNode();
+        final String repoName = "test-repo";
+        final Path repoPath = randomRepoPath().toAbsolutePath();
+        createRepository(
+            repoName,
+            "fs",
+            Settings.builder().put("location", repoPath).put(BlobStoreRepository.LIST_SHARD_BLOBS_ON_DELETE_SETTING.getKey(), false)
+        );
+        final String indexName = "test-index";
+        createIndex(
+            indexName,
+            Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1).put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0).build()
+        );
+        ensureGreen(indexName);
+        final int numDocs = randomIntBetween(5, 10);
+        indexRandomDocs(indexName, numDocs);
+        createFullSnapshot(repoName, "snap-1");
+        final Path indicesPath = repoPath.resolve(BlobStoreRepository.INDICES_DIR);
+        final int filesAfterFirstSnapshot = RemoteStoreBaseIntegTestCase.getFileCount(indicesPath);
+
+        // the second snapshot only adds blobs, deleting it has to remove exactly those again
+        index(indexName, "_doc", "extra", "field1", "value");
+        client().admin().indices().prepareForceMerge(indexName).setMaxNumSegments(1).setFlush(true).get();
+        createFullSnapshot(repoName, "snap-2");
+        assertAcked(startDeleteSnapshot(repoName, "snap-2").get());
+        assertEquals(filesAfterFirstSnapshot, RemoteStoreBaseIntegTestCase.getFileCount(indicesPath));
+
+        assertAcked(client().admin().indices().prepareDelete(indexName));
+        client().admin().cluster().prepareRestoreSnapshot(repoName, "snap-1").setWaitForCompletion(true).get();
+        ensureGreen(indexName);
+        assertDocCount(indexName, numDocs);
+    }
+
     public void testDeleteSnapshot() throws Exception {
         disableRepoConsistencyCheck("Remote store repository is being used in the test");
         final Path remoteStoreRepoPath = randomRepoPath();
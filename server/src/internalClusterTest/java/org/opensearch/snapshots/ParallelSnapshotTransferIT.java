@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.snapshots;
+
+import org.opensearch.action.admin.cluster.snapshots.create.CreateSnapshotResponse;
+import org.opensearch.action.admin.cluster.snapshots.restore.RestoreSnapshotResponse;
+import org.opensearch.action.admin.cluster.snapshots.status.SnapshotIndexShardStatus;
+import org.opensearch.action.admin.cluster.snapshots.status.SnapshotStatus;
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.remotestore.multipart.mocks.MockFsRepository;
+import org.opensearch.remotestore.multipart.mocks.MockFsRepositoryPlugin;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 0)
+public class ParallelSnapshotTransferIT extends AbstractSnapshotIntegTestCase {
+
+    @Override
+    protected Collection<Class<? extends Plugin>> nodePlugins() {
+        return Stream.concat(super.nodePlugins().stream(), Stream.of(MockFsRepositoryPlugin.class)).collect(Collectors.toList());
+    }
+
+    public void testSnapshotAndRestoreLargeFilesInParallel() throws Exception {
+        internalCluster().startClusterManagerOnlyNode();
+        internalCluster().startDataOnlyNode();
+        final String indexName = "test-index";
+        final String repoName = "test-repo";
+        createIndex(
+            indexName,
+            Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1).put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0).build()
+        );
+        ensureGreen(indexName);
+        final List<IndexRequestBuilder> indexRequests = IntStream.range(0, between(10, 500))
+            .mapToObj(n -> client().prepareIndex(indexName).setSource("foo", "bar-" + n))
+            .collect(Collectors.toList());
+        indexRandom(true, true, true, indexRequests);
+        flush(indexName);
+
+        // every file but the virtual ones is transferred in parts
+        createRepository(
+            repoName,
+            MockFsRepositoryPlugin.TYPE,
+            Settings.builder()
+                .put("location", randomRepoPath())
+                .put(BlobStoreRepository.PARALLEL_TRANSFER_THRESHOLD_SETTING.getKey(), "0b")
+        );
+        final CreateSnapshotResponse createSnapshotResponse = client().admin()
+            .cluster()
+            .prepareCreateSnapshot(repoName, "snap")
+            .setWaitForCompletion(true)
+            .setIndices(indexName)
+            .get();
+        assertThat(createSnapshotResponse.getSnapshotInfo().failedShards(), equalTo(0));
+        assertThat(createSnapshotResponse.getSnapshotInfo().state(), equalTo(SnapshotState.SUCCESS));
+
+        final SnapshotStatus status = client().admin()
+            .cluster()
+            .prepareSnapshotStatus(repoName)
+            .setSnapshots("snap")
+            .get()
+            .getSnapshots()
+            .get(0);
+        for (SnapshotIndexShardStatus shardStatus : status.getIndices().get(indexName)) {
+            assertThat(shardStatus.getStats().getProcessedSize(), greaterThan(0L));
+            if (shardStatus.getStats().getTime() > 0) {
+                assertThat(shardStatus.getStats().getProcessedBytesPerSecond(), greaterThan(0L));
+            }
+        }
+
+        assertAcked(client().admin().indices().prepareDelete(indexName));
+        final RestoreSnapshotResponse restoreSnapshotResponse = client().admin()
+            .cluster()
+            .prepareRestoreSnapshot(repoName, "snap")
+            .setWaitForCompletion(true)
+            .get();
+        assertThat(restoreSnapshotResponse.getRestoreInfo().failedShards(), equalTo(0));
+        ensureGreen(indexName);
+        assertHitCount(client().prepareSearch(indexName).setSize(0).get(), indexRequests.size());
+    }
+
+    public void testLargeFilesAreUploadedInParts() throws Exception {
+        internalCluster().startClusterManagerOnlyNode();
+        internalCluster().startDataOnlyNode();
+        final String indexName = "test-index";
+        createIndex(
+            indexName,
+            Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1).put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0).build()
+        );
+        ensureGreen(indexName);
+        indexRandom(
+            true,
+            IntStream.range(0, between(10, 100))
+                .mapToObj(n -> client().prepareIndex(indexName).setSource("foo", "bar-" + n))
+                .collect(Collectors.toList())
+        );
+        flush(indexName);
+
+        // the mock repository only fails uploads made in parts, so files below the threshold are still snapshotted
+        createRepository(
+            "sequential-repo",
+            MockFsRepositoryPlugin.TYPE,
+            Settings.builder()
+                .put("location", randomRepoPath())
+                .put(MockFsRepository.TRIGGER_DATA_INTEGRITY_FAILURE.getKey(), true)
+                .put(BlobStoreRepository.PARALLEL_TRANSFER_THRESHOLD_SETTING.getKey(), "1tb")
+        );
+        final CreateSnapshotResponse sequentialResponse = client().admin()
+            .cluster()
+            .prepareCreateSnapshot("sequential-repo", "snap")
+            .setWaitForCompletion(true)
+            .setIndices(indexName)
+            .get();
+        assertThat(sequentialResponse.getSnapshotInfo().state(), equalTo(SnapshotState.SUCCESS));
+
+        // while files above the threshold go through the parallel upload and fail the shard
+        createRepository(
+            "parallel-repo",
+            MockFsRepositoryPlugin.TYPE,
+            Settings.builder()
+                .put("location", randomRepoPath())
+                .put(MockFsRepository.TRIGGER_DATA_INTEGRITY_FAILURE.getKey(), true)
+                .put(BlobStoreRepository.PARALLEL_TRANSFER_THRESHOLD_SETTING.getKey(), "0b")
+        );
+        final CreateSnapshotResponse parallelResponse = client().admin()
+            .cluster()
+            .prepareCreateSnapshot("parallel-repo", "snap")
+            .setWaitForCompletion(true)
+            .setIndices(indexName)
+            .get();
+        assertThat(parallelResponse.getSnapshotInfo().failedShards(), equalTo(1));
+    }
+}
@@ -183,7 +183,8 @@ public class RemoteStoreStats implements Writeable, ToXContentFragment {
         builder.startObject(UploadStatsFields.TOTAL_UPLOAD_SIZE)
             .field(SubFields.STARTED_BYTES, remoteSegmentShardStats.uploadBytesStarted)
             .field(SubFields.SUCCEEDED_BYTES, remoteSegmentShardStats.uploadBytesSucceeded)
-            .field(SubFields.FAILED_BYTES, remoteSegmentShardStats.uploadBytesFailed);
+            .field(SubFields.FAILED_BYTES, remoteSegmentShardStats.uploadBytesFailed)
+            .field(SubFields.SKIPPED_BYTES, remoteSegmentShardStats.uploadBytesSkipped);
         builder.endObject();
         builder.startObject(UploadStatsFields.REMOTE_REFRESH_SIZE_IN_BYTES)
             .field(SubFields.LAST_SUCCESSFUL, remoteSegmentShardStats.lastSuccessfulRemoteRefreshBytes)
@@ -377,6 +378,7 @@ public class RemoteStoreStats implements Writeable, ToXContentFragment {
         public static final String STARTED_BYTES = "started_bytes";
         public static final String SUCCEEDED_BYTES = "succeeded_bytes";
         public static final String FAILED_BYTES = "failed_bytes";
+        public static final String SKIPPED_BYTES = "skipped_bytes";
 
         static final String DOWNLOAD = "download";
         public static final String UPLOAD = "upload";
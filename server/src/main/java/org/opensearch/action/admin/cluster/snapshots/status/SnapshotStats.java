@@ -158,6 +158,13 @@ public class SnapshotStats implements Writeable, ToXContentObject {
         return processedSize;
     }
 
+    /**
+     * Returns the number of bytes processed per second over the running time of the snapshot, or {@code 0} if the time is unknown
+     */
+    public long getProcessedBytesPerSecond() {
+        return time > 0 ? processedSize * 1000 / time : 0;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeVLong(startTime);
@@ -192,6 +199,9 @@ public class SnapshotStats implements Writeable, ToXContentObject {
         static final String START_TIME_IN_MILLIS = "start_time_in_millis";
         static final String TIME_IN_MILLIS = "time_in_millis";
         static final String TIME = "time";
+
+        static final String THROUGHPUT_IN_BYTES_PER_SEC = "throughput_in_bytes_per_sec";
+        static final String THROUGHPUT_PER_SEC = "throughput_per_sec";
     }
 
     @Override
@@ -224,6 +234,13 @@ public class SnapshotStats implements Writeable, ToXContentObject {
             // timings stats
             builder.field(Fields.START_TIME_IN_MILLIS, getStartTime());
             builder.humanReadableField(Fields.TIME_IN_MILLIS, Fields.TIME, new TimeValue(getTime()));
+            if (getTime() > 0) {
+                builder.humanReadableField(
+                    Fields.THROUGHPUT_IN_BYTES_PER_SEC,
+                    Fields.THROUGHPUT_PER_SEC,
+                    new ByteSizeValue(getProcessedBytesPerSecond())
+                );
+            }
         }
         return builder.endObject();
     }
@@ -33,6 +33,8 @@ public final class ClusterManagerMetrics {
     public final Histogram rerouteHistogram;
     public final Histogram clusterStateComputeHistogram;
     public final Histogram clusterStatePublishHistogram;
+    public final Histogram clusterStateTaskQueueHistogram;
+    public final Histogram clusterStateTaskBatchSizeHistogram;
 
     public final Counter leaderCheckFailureCounter;
     public final Counter followerChecksFailureCounter;
@@ -66,6 +68,16 @@ public final class ClusterManagerMetrics {
             "Histogram for recording time taken to publish a new cluster state",
             LATENCY_METRIC_UNIT_MS
         );
+        clusterStateTaskQueueHistogram = metricsRegistry.createHistogram(
+            "cluster.state.task.queue.latency",
+            "Histogram for recording time the oldest task of a batch waited before the batch was executed",
+            LATENCY_METRIC_UNIT_MS
+        );
+        clusterStateTaskBatchSizeHistogram = metricsRegistry.createHistogram(
+            "cluster.state.task.batch.size",
+            "Histogram for recording the number of tasks executed in a single batch",
+            COUNTER_METRICS_UNIT
+        );
         followerChecksFailureCounter = metricsRegistry.createCounter(
             "followers.checker.failure.count",
             "Counter for number of failed follower checks",
@@ -101,6 +113,17 @@ public final class ClusterManagerMetrics {
         histogram.record(value, tags.get());
     }
 
+    /**
+     * Records the number of tasks of a batch executed by the cluster manager, in a histogram of its own rather than a latency one.
+     */
+    public void recordTaskBatchSize(int batchSize, Optional<Tags> tags) {
+        if (Objects.isNull(tags) || tags.isEmpty()) {
+            clusterStateTaskBatchSizeHistogram.record(batchSize);
+            return;
+        }
+        clusterStateTaskBatchSizeHistogram.record(batchSize, tags.get());
+    }
+
     public void incrementCounter(Counter counter, Double value) {
         incrementCounter(counter, value, Optional.empty());
     }
@@ -117,6 +117,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -160,6 +161,10 @@ public class ClusterModule extends AbstractModule {
         this.deciderList = createAllocationDeciders(settings, clusterService.getClusterSettings(), clusterPlugins);
         this.allocationDeciders = new AllocationDeciders(deciderList);
         this.shardsAllocator = createShardsAllocator(settings, clusterService.getClusterSettings(), clusterPlugins);
+        if (shardsAllocator instanceof ClusterStateListener clusterStateListener) {
+            // lets the allocator tell which of its allocations made it into an applied cluster state
+            clusterService.addListener(clusterStateListener);
+        }
         this.clusterService = clusterService;
         this.indexNameExpressionResolver = new IndexNameExpressionResolver(threadContext, getCustomResolvers(clusterPlugins));
         this.allocationService = new AllocationService(
@@ -515,4 +520,8 @@ public class ClusterModule extends AbstractModule {
     public void setRerouteServiceForAllocator(RerouteService rerouteService) {
         shardsAllocator.setRerouteService(rerouteService);
     }
+
+    public void setDeciderExecutorForAllocator(Executor executor) {
+        shardsAllocator.setDeciderExecutor(executor);
+    }
 }
@@ -947,7 +947,8 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
         ClusterStateStats clusterStateStats = clusterManagerService.getClusterStateStats();
         ArrayList<PersistedStateStats> stats = new ArrayList<>();
         Stream.of(PersistedStateRegistry.PersistedStateType.values()).forEach(stateType -> {
-            if (persistedStateRegistry.getPersistedState(stateType) != null
+            if (stateType != PersistedStateRegistry.PersistedStateType.LOCAL
+                && persistedStateRegistry.getPersistedState(stateType) != null
                 && persistedStateRegistry.getPersistedState(stateType).getStats() != null) {
                 stats.add(persistedStateRegistry.getPersistedState(stateType).getStats());
             }
@@ -956,6 +957,13 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
             stats.add(remoteClusterStateService.getFullDownloadStats());
             stats.add(remoteClusterStateService.getDiffDownloadStats());
         }
+        // the local stats go last to keep the position of the remote stats which were reported before them
+        final CoordinationState.PersistedState localPersistedState = persistedStateRegistry.getPersistedState(
+            PersistedStateRegistry.PersistedStateType.LOCAL
+        );
+        if (localPersistedState != null && localPersistedState.getStats() != null) {
+            stats.add(localPersistedState.getStats());
+        }
         clusterStateStats.setPersistenceStats(stats);
         return new DiscoveryStats(new PendingClusterStateStats(0, 0, 0), publicationHandler.stats(), clusterStateStats);
     }
@@ -2272,6 +2272,9 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
                 ingestionStatus = IngestionStatus.getDefaultValue();
             }
 
+            // indices created from the same template hold equal mappings, share them rather than keep a copy per index
+            mappings.replaceAll((type, mapping) -> MappingMetadata.intern(mapping));
+
             return new IndexMetadata(
                 new Index(index, uuid),
                 version,
@@ -50,9 +50,11 @@ import org.opensearch.index.mapper.MapperService;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
 
 import static org.opensearch.common.xcontent.support.XContentMapValues.nodeBooleanValue;
 
@@ -65,6 +67,10 @@ import static org.opensearch.common.xcontent.support.XContentMapValues.nodeBoole
 public class MappingMetadata extends AbstractDiffable<MappingMetadata> implements VerifiableWriteable {
     public static final MappingMetadata EMPTY_MAPPINGS = new MappingMetadata(MapperService.SINGLE_MAPPING_NAME, Collections.emptyMap());
 
+    // Mappings of the index metadata built on this node, so that indices with equal mappings share a single instance. Entries are
+    // looked up by the checksum of the compressed source and are dropped once no index metadata refers to their mapping anymore.
+    private static final Map<MappingMetadata, WeakReference<MappingMetadata>> INTERNED_MAPPINGS = new WeakHashMap<>();
+
     private final String type;
 
     private final CompressedXContent source;
@@ -127,6 +133,22 @@ public class MappingMetadata extends AbstractDiffable<MappingMetadata> implement
         return required;
     }
 
+    /**
+     * Returns the mapping equal to the given one which is already held by some index metadata, or the given mapping if
+     * there is none.
+     */
+    static MappingMetadata intern(MappingMetadata mapping) {
+        synchronized (INTERNED_MAPPINGS) {
+            final WeakReference<MappingMetadata> ref = INTERNED_MAPPINGS.get(mapping);
+            final MappingMetadata interned = ref == null ? null : ref.get();
+            if (interned != null) {
+                return interned;
+            }
+            INTERNED_MAPPINGS.put(mapping, new WeakReference<>(mapping));
+            return mapping;
+        }
+    }
+
     public String type() {
         return this.type;
     }
@@ -35,6 +35,8 @@ package org.opensearch.cluster.routing.allocation.allocator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.util.IntroSorter;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.routing.RerouteService;
 import org.opensearch.cluster.routing.RoutingNode;
 import org.opensearch.cluster.routing.RoutingNodes;
@@ -65,6 +67,8 @@ import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.opensearch.cluster.action.shard.ShardStateAction.FOLLOW_UP_REROUTE_PRIORITY_SETTING;
 import static org.opensearch.cluster.routing.allocation.ConstraintTypes.CLUSTER_PRIMARY_SHARD_BALANCE_CONSTRAINT_ID;
@@ -90,7 +94,7 @@ import static org.opensearch.cluster.routing.allocation.ConstraintTypes.INDEX_SH
  *
  * @opensearch.internal
  */
-public class BalancedShardsAllocator implements ShardsAllocator {
+public class BalancedShardsAllocator implements ShardsAllocator, ClusterStateListener {
 
     private static final Logger logger = LogManager.getLogger(BalancedShardsAllocator.class);
     public static final TimeValue MIN_ALLOCATOR_TIMEOUT = TimeValue.timeValueSeconds(20);
@@ -214,6 +218,42 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Enables incremental rebalancing, where each reroute only re-evaluates the balance of the indices affected by the
+     * routing changes since the previous reroute instead of recomputing the weights of all indices on all nodes.
+     */
+    public static final Setting<Boolean> INCREMENTAL_REBALANCE_ENABLED_SETTING = Setting.boolSetting(
+        "cluster.routing.allocation.balanced_shards_allocator.incremental_rebalance.enabled",
+        false,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Bounds the time spent rebalancing in a single reroute when incremental rebalancing is enabled. Indices which could not
+     * be balanced within the budget are carried over to a follow-up reroute. Defaults to -1, which disables the budget.
+     */
+    public static final Setting<TimeValue> INCREMENTAL_REBALANCE_BUDGET_SETTING = Setting.timeSetting(
+        "cluster.routing.allocation.balanced_shards_allocator.incremental_rebalance.budget",
+        TimeValue.MINUS_ONE,
+        TimeValue.MINUS_ONE,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Number of threads on which the allocation deciders are evaluated for the candidate nodes of an unassigned shard. The
+     * allocation decisions are identical to the sequential evaluation, which is used when set to 1, the default.
+     */
+    public static final Setting<Integer> DECIDER_PARALLELISM_SETTING = Setting.intSetting(
+        "cluster.routing.allocation.balanced_shards_allocator.decider_parallelism",
+        1,
+        1,
+        64,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
     private static Priority parseReroutePriority(String priorityString) {
         final Priority priority = Priority.valueOf(priorityString.toUpperCase(Locale.ROOT));
         switch (priority) {
@@ -242,6 +282,11 @@ public class BalancedShardsAllocator implements ShardsAllocator {
     private volatile boolean ignoreThrottleInRestore;
     private volatile TimeValue allocatorTimeout;
     private volatile Priority followUpRerouteTaskPriority;
+    private volatile boolean incrementalRebalanceEnabled;
+    private volatile TimeValue incrementalRebalanceBudget;
+    private final IncrementalRebalanceTracker incrementalRebalanceTracker = new IncrementalRebalanceTracker();
+    private volatile int deciderParallelism;
+    private volatile Executor deciderExecutor;
     private long startTime;
     private RerouteService rerouteService;
 
@@ -263,6 +308,9 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         setShardMovementStrategy(SHARD_MOVEMENT_STRATEGY_SETTING.get(settings));
         setAllocatorTimeout(ALLOCATOR_TIMEOUT_SETTING.get(settings));
         setFollowUpRerouteTaskPriority(FOLLOW_UP_REROUTE_PRIORITY_SETTING.get(settings));
+        setIncrementalRebalanceEnabled(INCREMENTAL_REBALANCE_ENABLED_SETTING.get(settings));
+        setIncrementalRebalanceBudget(INCREMENTAL_REBALANCE_BUDGET_SETTING.get(settings));
+        setDeciderParallelism(DECIDER_PARALLELISM_SETTING.get(settings));
         clusterSettings.addSettingsUpdateConsumer(PREFER_PRIMARY_SHARD_BALANCE, this::setPreferPrimaryShardBalance);
         clusterSettings.addSettingsUpdateConsumer(SHARD_MOVE_PRIMARY_FIRST_SETTING, this::setMovePrimaryFirst);
         clusterSettings.addSettingsUpdateConsumer(SHARD_MOVEMENT_STRATEGY_SETTING, this::setShardMovementStrategy);
@@ -275,6 +323,9 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         clusterSettings.addSettingsUpdateConsumer(IGNORE_THROTTLE_FOR_REMOTE_RESTORE, this::setIgnoreThrottleInRestore);
         clusterSettings.addSettingsUpdateConsumer(ALLOCATOR_TIMEOUT_SETTING, this::setAllocatorTimeout);
         clusterSettings.addSettingsUpdateConsumer(FOLLOW_UP_REROUTE_PRIORITY_SETTING, this::setFollowUpRerouteTaskPriority);
+        clusterSettings.addSettingsUpdateConsumer(INCREMENTAL_REBALANCE_ENABLED_SETTING, this::setIncrementalRebalanceEnabled);
+        clusterSettings.addSettingsUpdateConsumer(INCREMENTAL_REBALANCE_BUDGET_SETTING, this::setIncrementalRebalanceBudget);
+        clusterSettings.addSettingsUpdateConsumer(DECIDER_PARALLELISM_SETTING, this::setDeciderParallelism);
     }
 
     @Override
@@ -283,6 +334,12 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         this.rerouteService = rerouteService;
     }
 
+    @Override
+    public void setDeciderExecutor(Executor deciderExecutor) {
+        assert this.deciderExecutor == null : "Decider executor is already set";
+        this.deciderExecutor = deciderExecutor;
+    }
+
     /**
      * Changes in deprecated setting SHARD_MOVE_PRIMARY_FIRST_SETTING affect value of its replacement setting SHARD_MOVEMENT_STRATEGY_SETTING.
      */
@@ -336,6 +393,7 @@ public class BalancedShardsAllocator implements ShardsAllocator {
     }
 
     private void updateWeightFunction() {
+        incrementalRebalanceTracker.invalidate();
         weightFunction = new WeightFunction(
             this.indexBalanceFactor,
             this.shardBalanceFactor,
@@ -352,6 +410,7 @@ public class BalancedShardsAllocator implements ShardsAllocator {
      */
     private void setPreferPrimaryShardBalance(boolean preferPrimaryShardBalance) {
         this.preferPrimaryShardBalance = preferPrimaryShardBalance;
+        incrementalRebalanceTracker.invalidate();
         this.weightFunction.updateAllocationConstraint(INDEX_PRIMARY_SHARD_BALANCE_CONSTRAINT_ID, preferPrimaryShardBalance);
         this.weightFunction.updateAllocationConstraint(CLUSTER_PRIMARY_SHARD_BALANCE_CONSTRAINT_ID, preferPrimaryShardBalance);
         this.weightFunction.updateRebalanceConstraint(INDEX_PRIMARY_SHARD_BALANCE_CONSTRAINT_ID, preferPrimaryShardBalance);
@@ -359,15 +418,18 @@ public class BalancedShardsAllocator implements ShardsAllocator {
 
     private void setPreferPrimaryShardRebalance(boolean preferPrimaryShardRebalance) {
         this.preferPrimaryShardRebalance = preferPrimaryShardRebalance;
+        incrementalRebalanceTracker.invalidate();
         this.weightFunction.updateRebalanceConstraint(CLUSTER_PRIMARY_SHARD_REBALANCE_CONSTRAINT_ID, preferPrimaryShardRebalance);
     }
 
     private void setThreshold(float threshold) {
         this.threshold = threshold;
+        incrementalRebalanceTracker.invalidate();
     }
 
     private void setPrimaryConstraintThresholdSetting(long threshold) {
         this.primaryConstraintThreshold = threshold;
+        incrementalRebalanceTracker.invalidate();
         this.weightFunction.updatePrimaryConstraintThreshold(threshold);
     }
 
@@ -379,6 +441,19 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         this.followUpRerouteTaskPriority = followUpRerouteTaskPriority;
     }
 
+    private void setIncrementalRebalanceEnabled(boolean incrementalRebalanceEnabled) {
+        this.incrementalRebalanceEnabled = incrementalRebalanceEnabled;
+        incrementalRebalanceTracker.invalidate();
+    }
+
+    private void setIncrementalRebalanceBudget(TimeValue incrementalRebalanceBudget) {
+        this.incrementalRebalanceBudget = incrementalRebalanceBudget;
+    }
+
+    private void setDeciderParallelism(int deciderParallelism) {
+        this.deciderParallelism = deciderParallelism;
+    }
+
     protected boolean allocatorTimedOut() {
         if (allocatorTimeout.equals(TimeValue.MINUS_ONE)) {
             if (logger.isTraceEnabled()) {
@@ -395,7 +470,7 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             failAllocationOfNewPrimaries(allocation);
             return;
         }
-        final ShardsBalancer localShardsBalancer = new LocalShardsBalancer(
+        final LocalShardsBalancer localShardsBalancer = new LocalShardsBalancer(
             logger,
             allocation,
             shardMovementStrategy,
@@ -404,12 +479,17 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             preferPrimaryShardBalance,
             preferPrimaryShardRebalance,
             ignoreThrottleInRestore,
-            this::allocatorTimedOut
+            this::allocatorTimedOut,
+            newDecisionEvaluator()
         );
         this.startTime = System.nanoTime();
         localShardsBalancer.allocateUnassigned();
         localShardsBalancer.moveShards();
-        localShardsBalancer.balance();
+        if (incrementalRebalanceEnabled) {
+            balanceIncrementally(localShardsBalancer, allocation);
+        } else {
+            localShardsBalancer.balance();
+        }
         scheduleRerouteIfAllocatorTimedOut();
 
         final ShardsBalancer remoteShardsBalancer = new RemoteShardsBalancer(logger, allocation);
@@ -417,6 +497,55 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         remoteShardsBalancer.moveShards();
         remoteShardsBalancer.balance();
 
+        if (incrementalRebalanceEnabled) {
+            incrementalRebalanceTracker.onAllocationCompleted(allocation);
+        }
+    }
+
+    /**
+     * Records the incremental rebalance round which produced the applied cluster state, if any. Only the elected
+     * cluster-manager runs rebalance rounds, on other nodes there is never a round to record.
+     */
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        incrementalRebalanceTracker.onClusterStateApplied(event.state());
+    }
+
+    private ParallelNodeDecisionEvaluator newDecisionEvaluator() {
+        final int parallelism = this.deciderParallelism;
+        final Executor executor = this.deciderExecutor;
+        if (parallelism <= 1 || executor == null) {
+            return null;
+        }
+        return new ParallelNodeDecisionEvaluator(executor, parallelism);
+    }
+
+    /**
+     * Rebalances only the indices affected by the changes since the previous reroute, within the configured
+     * {@link #INCREMENTAL_REBALANCE_BUDGET_SETTING}. Indices left unbalanced are carried over to the next reroute, which is
+     * scheduled right away if the budget ran out.
+     */
+    private void balanceIncrementally(LocalShardsBalancer localShardsBalancer, RoutingAllocation allocation) {
+        final Set<String> candidateIndices = incrementalRebalanceTracker.indicesToRebalance(allocation);
+        if (logger.isTraceEnabled()) {
+            logger.trace(
+                "Incrementally rebalancing [{}] indices",
+                candidateIndices == null ? "all" : String.valueOf(candidateIndices.size())
+            );
+        }
+        final TimeValue budget = this.incrementalRebalanceBudget;
+        final long rebalanceStartTime = System.nanoTime();
+        final AtomicBoolean budgetExhausted = new AtomicBoolean();
+        final Set<String> unsettledIndices = localShardsBalancer.balanceIndices(candidateIndices, () -> {
+            if (budget.equals(TimeValue.MINUS_ONE) == false && System.nanoTime() - rebalanceStartTime > budget.nanos()) {
+                budgetExhausted.set(true);
+            }
+            return budgetExhausted.get();
+        });
+        incrementalRebalanceTracker.onRebalanceCompleted(allocation, candidateIndices, unsettledIndices);
+        if (budgetExhausted.get() && allocatorTimedOut() == false) {
+            scheduleFollowUpReroute("reroute after incremental rebalance budget exhausted");
+        }
     }
 
     @Override
@@ -475,21 +604,22 @@ public class BalancedShardsAllocator implements ShardsAllocator {
 
     private void scheduleRerouteIfAllocatorTimedOut() {
         if (allocatorTimedOut()) {
-            if (rerouteService == null) {
-                logger.info("RerouteService not set to schedule reroute after allocator time out");
-                return;
-            }
-            rerouteService.reroute(
-                "reroute after balanced shards allocator timed out",
-                followUpRerouteTaskPriority,
-                ActionListener.wrap(
-                    r -> logger.trace("reroute after balanced shards allocator timed out completed"),
-                    e -> logger.debug("reroute after balanced shards allocator timed out failed", e)
-                )
-            );
+            scheduleFollowUpReroute("reroute after balanced shards allocator timed out");
         }
     }
 
+    private void scheduleFollowUpReroute(String reason) {
+        if (rerouteService == null) {
+            logger.info("RerouteService not set to schedule [{}]", reason);
+            return;
+        }
+        rerouteService.reroute(
+            reason,
+            followUpRerouteTaskPriority,
+            ActionListener.wrap(r -> logger.trace("{} completed", reason), e -> logger.debug(reason + " failed", e))
+        );
+    }
+
     /**
      * Returns the currently configured delta threshold
      */
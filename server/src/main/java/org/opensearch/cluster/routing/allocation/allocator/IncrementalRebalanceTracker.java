@@ -0,0 +1,282 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.RoutingNode;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.allocation.RoutingAllocation;
+import org.opensearch.common.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps track of the routing state seen by the last rebalance round of the {@link BalancedShardsAllocator} so that
+ * subsequent rounds only need to re-evaluate the indices affected by what changed in between.
+ * <p>
+ * An index is considered affected if its routing or its metadata changed, or if it has a shard on a node whose set of
+ * shards changed, since those are the indices whose weights moved. If a node lost shards, every index with a shard on
+ * another node is affected too, since any of those shards may now be better off on the lighter node. Indices which could
+ * not be settled in a previous round, because their relocations were throttled or the rebalance budget ran out, are
+ * carried over to the next round. Any change to the set of nodes, to the cluster level settings or to the balancer
+ * configuration requires a full rebalance.
+ * <p>
+ * The outcome of a round is only recorded once the cluster state it produced is applied, see
+ * {@link #onClusterStateApplied}. The rounds of dry runs, of explanations and of cluster states that are never published
+ * are dropped, so that the next round is still compared against a routing table that actually existed.
+ *
+ * @opensearch.internal
+ */
+final class IncrementalRebalanceTracker {
+
+    private RoutingTable lastRoutingTable;
+    private Metadata lastMetadata;
+    private DiscoveryNodes lastNodes;
+    private boolean fullRebalancePending = true;
+    private final Set<String> pendingIndices = new HashSet<>();
+    @Nullable
+    private Round stagedRound;
+
+    /**
+     * Forgets the tracked state so that the next round rebalances all indices.
+     */
+    synchronized void invalidate() {
+        fullRebalancePending = true;
+        pendingIndices.clear();
+        stagedRound = null;
+    }
+
+    /**
+     * Returns the indices to re-evaluate in the rebalance round of the given allocation, or {@code null} if all indices
+     * need to be re-evaluated.
+     */
+    @Nullable
+    synchronized Set<String> indicesToRebalance(RoutingAllocation allocation) {
+        if (fullRebalancePending || requiresFullRebalance(allocation)) {
+            return null;
+        }
+        final RoutingTable routingTable = allocation.routingTable();
+        final Metadata metadata = allocation.metadata();
+        final Set<String> indices = new HashSet<>(pendingIndices);
+        final Set<String> touchedNodes = new HashSet<>();
+        for (IndexRoutingTable indexRoutingTable : routingTable) {
+            final String indexName = indexRoutingTable.getIndex().getName();
+            final IndexRoutingTable previous = lastRoutingTable.index(indexName);
+            if (previous == null || previous.equals(indexRoutingTable) == false || indexMetadataChanged(indexName, metadata)) {
+                indices.add(indexName);
+                collectAssignedNodes(previous, touchedNodes);
+                collectAssignedNodes(indexRoutingTable, touchedNodes);
+            }
+        }
+        for (IndexRoutingTable previous : lastRoutingTable) {
+            if (routingTable.hasIndex(previous.getIndex().getName()) == false) {
+                collectAssignedNodes(previous, touchedNodes);
+            }
+        }
+        final Set<String> lighterNodes = lighterNodes(allocation, touchedNodes);
+        for (RoutingNode routingNode : allocation.routingNodes()) {
+            final String nodeId = routingNode.nodeId();
+            // the shards of the touched nodes may need to move elsewhere, the shards of the other nodes to the lighter ones
+            if (touchedNodes.contains(nodeId) || (lighterNodes.isEmpty() == false && lighterNodes.contains(nodeId) == false)) {
+                for (ShardRouting shardRouting : routingNode) {
+                    indices.add(shardRouting.getIndexName());
+                }
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Returns the touched nodes which hold fewer shards, or fewer primaries, than in the last recorded round. The
+     * relative weights of the untouched nodes did not change, so only these nodes may have become rebalance targets.
+     */
+    private Set<String> lighterNodes(RoutingAllocation allocation, Set<String> touchedNodes) {
+        if (touchedNodes.isEmpty()) {
+            return Set.of();
+        }
+        final Map<String, int[]> previousCounts = new HashMap<>();
+        for (IndexRoutingTable indexRoutingTable : lastRoutingTable) {
+            for (IndexShardRoutingTable indexShardRoutingTable : indexRoutingTable) {
+                for (ShardRouting shardRouting : indexShardRoutingTable) {
+                    if (shardRouting.relocating()) {
+                        // a relocating shard only counts on its target node, which holds the initializing copy
+                        if (touchedNodes.contains(shardRouting.relocatingNodeId())) {
+                            countShard(previousCounts.computeIfAbsent(shardRouting.relocatingNodeId(), k -> new int[2]), shardRouting);
+                        }
+                    } else if (shardRouting.assignedToNode() && touchedNodes.contains(shardRouting.currentNodeId())) {
+                        countShard(previousCounts.computeIfAbsent(shardRouting.currentNodeId(), k -> new int[2]), shardRouting);
+                    }
+                }
+            }
+        }
+        final Set<String> lighterNodes = new HashSet<>();
+        for (String nodeId : touchedNodes) {
+            final RoutingNode routingNode = allocation.routingNodes().node(nodeId);
+            if (routingNode == null) {
+                continue;
+            }
+            final int[] counts = new int[2];
+            for (ShardRouting shardRouting : routingNode) {
+                if (shardRouting.relocating() == false) {
+                    countShard(counts, shardRouting);
+                }
+            }
+            final int[] previous = previousCounts.getOrDefault(nodeId, new int[2]);
+            if (counts[0] < previous[0] || counts[1] < previous[1]) {
+                lighterNodes.add(nodeId);
+            }
+        }
+        return lighterNodes;
+    }
+
+    private static void countShard(int[] counts, ShardRouting shardRouting) {
+        counts[0]++;
+        if (shardRouting.primary()) {
+            counts[1]++;
+        }
+    }
+
+    /**
+     * Stages the outcome of the rebalance round of the given allocation. It is only recorded once
+     * {@link #onAllocationCompleted} captured the routing the allocation produced and a cluster state with that routing
+     * is {@link #onClusterStateApplied applied}.
+     *
+     * @param candidateIndices the indices that were handed to the balancer, {@code null} if it balanced all indices
+     * @param unsettledIndices the indices that could not be settled, {@code null} if balancing was skipped altogether
+     */
+    synchronized void onRebalanceCompleted(
+        RoutingAllocation allocation,
+        @Nullable Set<String> candidateIndices,
+        @Nullable Set<String> unsettledIndices
+    ) {
+        stagedRound = new Round(allocation.routingTable(), allocation.metadata(), allocation.nodes(), candidateIndices, unsettledIndices);
+    }
+
+    /**
+     * Captures the routing produced by the allocation whose rebalance round was staged last.
+     */
+    synchronized void onAllocationCompleted(RoutingAllocation allocation) {
+        final Round round = stagedRound;
+        if (round == null || round.routingTable != allocation.routingTable()) {
+            return;
+        }
+        round.resultRoutingTable = allocation.routingNodesChanged()
+            ? new RoutingTable.Builder().updateNodes(allocation.routingTable().version(), allocation.routingNodes()).build()
+            : allocation.routingTable();
+    }
+
+    /**
+     * Records the staged round if the given applied cluster state carries the routing that the round produced. Otherwise
+     * the staged round belonged to a dry run or to a cluster state that was never published, and it is dropped: the next
+     * round is then compared against the last recorded round, which covers all the changes since.
+     */
+    synchronized void onClusterStateApplied(ClusterState state) {
+        final Round round = stagedRound;
+        stagedRound = null;
+        if (round == null || round.resultRoutingTable == null) {
+            return;
+        }
+        final RoutingTable appliedRoutingTable = state.routingTable();
+        if (round.resultRoutingTable != appliedRoutingTable
+            && round.resultRoutingTable.indicesRouting().equals(appliedRoutingTable.indicesRouting()) == false) {
+            return;
+        }
+        if (round.unsettledIndices == null) {
+            if (round.candidateIndices == null) {
+                fullRebalancePending = true;
+            } else {
+                pendingIndices.addAll(round.candidateIndices);
+            }
+        } else {
+            fullRebalancePending = false;
+            pendingIndices.clear();
+            pendingIndices.addAll(round.unsettledIndices);
+        }
+        lastRoutingTable = round.routingTable;
+        lastMetadata = round.metadata;
+        lastNodes = round.nodes;
+    }
+
+    private boolean requiresFullRebalance(RoutingAllocation allocation) {
+        if (lastRoutingTable == null) {
+            return true;
+        }
+        final Metadata metadata = allocation.metadata();
+        if (metadata != lastMetadata
+            && (metadata.persistentSettings().equals(lastMetadata.persistentSettings()) == false
+                || metadata.transientSettings().equals(lastMetadata.transientSettings()) == false)) {
+            return true;
+        }
+        final DiscoveryNodes nodes = allocation.nodes();
+        return nodes != lastNodes && nodes.getNodes().equals(lastNodes.getNodes()) == false;
+    }
+
+    private boolean indexMetadataChanged(String indexName, Metadata metadata) {
+        final IndexMetadata current = metadata.index(indexName);
+        final IndexMetadata previous = lastMetadata.index(indexName);
+        if (current == previous) {
+            return false;
+        }
+        return current == null || previous == null || current.getVersion() != previous.getVersion();
+    }
+
+    /**
+     * The outcome of a rebalance round, together with the routing table, metadata and nodes the round started from.
+     */
+    private static final class Round {
+        private final RoutingTable routingTable;
+        private final Metadata metadata;
+        private final DiscoveryNodes nodes;
+        @Nullable
+        private final Set<String> candidateIndices;
+        @Nullable
+        private final Set<String> unsettledIndices;
+        @Nullable
+        private RoutingTable resultRoutingTable;
+
+        private Round(
+            RoutingTable routingTable,
+            Metadata metadata,
+            DiscoveryNodes nodes,
+            @Nullable Set<String> candidateIndices,
+            @Nullable Set<String> unsettledIndices
+        ) {
+            this.routingTable = routingTable;
+            this.metadata = metadata;
+            this.nodes = nodes;
+            this.candidateIndices = candidateIndices;
+            this.unsettledIndices = unsettledIndices;
+        }
+    }
+
+    private static void collectAssignedNodes(@Nullable IndexRoutingTable indexRoutingTable, Set<String> nodeIds) {
+        if (indexRoutingTable == null) {
+            return;
+        }
+        for (IndexShardRoutingTable indexShardRoutingTable : indexRoutingTable) {
+            for (ShardRouting shardRouting : indexShardRoutingTable) {
+                if (shardRouting.assignedToNode()) {
+                    nodeIds.add(shardRouting.currentNodeId());
+                }
+                if (shardRouting.relocating()) {
+                    nodeIds.add(shardRouting.relocatingNodeId());
+                }
+            }
+        }
+    }
+}
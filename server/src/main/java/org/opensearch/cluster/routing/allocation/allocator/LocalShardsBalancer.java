@@ -29,6 +29,7 @@ import org.opensearch.cluster.routing.allocation.RoutingAllocation;
 import org.opensearch.cluster.routing.allocation.decider.AllocationDeciders;
 import org.opensearch.cluster.routing.allocation.decider.Decision;
 import org.opensearch.cluster.routing.allocation.decider.DiskThresholdDecider;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.util.FeatureFlags;
 import org.opensearch.gateway.PriorityComparator;
@@ -75,6 +76,8 @@ public class LocalShardsBalancer extends ShardsBalancer {
     private final BalancedShardsAllocator.NodeSorter sorter;
     private final Set<RoutingNode> inEligibleTargetNode;
     private final Supplier<Boolean> timedOutFunc;
+    private final Set<String> throttledRelocationIndices = new HashSet<>();
+    private final ParallelNodeDecisionEvaluator decisionEvaluator;
     private int totalShardCount = 0;
 
     public LocalShardsBalancer(
@@ -87,6 +90,32 @@ public class LocalShardsBalancer extends ShardsBalancer {
         boolean preferPrimaryRebalance,
         boolean ignoreThrottleInRestore,
         Supplier<Boolean> timedOutFunc
+    ) {
+        this(
+            logger,
+            allocation,
+            shardMovementStrategy,
+            weight,
+            threshold,
+            preferPrimaryBalance,
+            preferPrimaryRebalance,
+            ignoreThrottleInRestore,
+            timedOutFunc,
+            null
+        );
+    }
+
+    LocalShardsBalancer(
+        Logger logger,
+        RoutingAllocation allocation,
+        ShardMovementStrategy shardMovementStrategy,
+        BalancedShardsAllocator.WeightFunction weight,
+        float threshold,
+        boolean preferPrimaryBalance,
+        boolean preferPrimaryRebalance,
+        boolean ignoreThrottleInRestore,
+        Supplier<Boolean> timedOutFunc,
+        @Nullable ParallelNodeDecisionEvaluator decisionEvaluator
     ) {
         this.logger = logger;
         this.allocation = allocation;
@@ -105,6 +134,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
         this.shardMovementStrategy = shardMovementStrategy;
         this.ignoreThrottleInRestore = ignoreThrottleInRestore;
         this.timedOutFunc = timedOutFunc;
+        this.decisionEvaluator = decisionEvaluator;
     }
 
     /**
@@ -175,6 +205,19 @@ public class LocalShardsBalancer extends ShardsBalancer {
      */
     @Override
     void balance() {
+        balanceIndices(null, null);
+    }
+
+    /**
+     * Balances the given local indices on the cluster model according to the weight function, stopping early once
+     * {@code budgetExhaustedFunc} reports that the rebalance budget has been spent. Returns the indices whose balance
+     * could not be settled in this round, either because they were not visited or because a relocation was throttled,
+     * or {@code null} if balancing was skipped altogether.
+     *
+     * @param candidateIndices    the indices to balance, or {@code null} to balance all local indices
+     * @param budgetExhaustedFunc reports whether the rebalance budget is exhausted, may be {@code null}
+     */
+    Set<String> balanceIndices(@Nullable Set<String> candidateIndices, @Nullable Supplier<Boolean> budgetExhaustedFunc) {
         if (logger.isTraceEnabled()) {
             logger.trace("Start balancing cluster");
         }
@@ -187,17 +230,17 @@ public class LocalShardsBalancer extends ShardsBalancer {
              * Therefore we only do a rebalance if we have fetched all information.
              */
             logger.debug("skipping rebalance due to in-flight shard/store fetches");
-            return;
+            return null;
         }
         if (allocation.deciders().canRebalance(allocation).type() != Decision.Type.YES) {
             logger.trace("skipping rebalance as it is disabled");
-            return;
+            return null;
         }
         if (nodes.size() < 2) { /* skip if we only have one node */
             logger.trace("skipping rebalance as single node only");
-            return;
+            return null;
         }
-        balanceByWeights();
+        return balanceByWeights(candidateIndices, budgetExhaustedFunc);
     }
 
     /**
@@ -345,18 +388,26 @@ public class LocalShardsBalancer extends ShardsBalancer {
      * only, or in other words relocations that move the weight delta closer
      * to {@code 0.0}
      */
-    private void balanceByWeights() {
+    private Set<String> balanceByWeights(@Nullable Set<String> candidateIndices, @Nullable Supplier<Boolean> budgetExhaustedFunc) {
         final AllocationDeciders deciders = allocation.deciders();
         final BalancedShardsAllocator.ModelNode[] modelNodes = sorter.modelNodes;
         final float[] weights = sorter.weights;
-        for (String index : buildWeightOrderedIndices()) {
+        final String[] indices = buildWeightOrderedIndices(candidateIndices);
+        final Set<String> unsettledIndices = new HashSet<>();
+        throttledRelocationIndices.clear();
+        for (int indexOrdinal = 0; indexOrdinal < indices.length; indexOrdinal++) {
+            final String index = indices[indexOrdinal];
             // Terminate if the time allocated to the balanced shards allocator has elapsed
             if (timedOutFunc != null && timedOutFunc.get()) {
                 logger.info(
                     "Cannot balance any shard in the cluster as time allocated to balanced shards allocator has elapsed"
                         + ". Skipping indices iteration"
                 );
-                return;
+                return collectUnsettledIndices(unsettledIndices, indices, indexOrdinal);
+            }
+            if (budgetExhaustedFunc != null && budgetExhaustedFunc.get()) {
+                logger.debug("Rebalance budget exhausted, deferring balancing of [{}] indices", indices.length - indexOrdinal);
+                return collectUnsettledIndices(unsettledIndices, indices, indexOrdinal);
             }
             IndexMetadata indexMetadata = metadata.index(index);
 
@@ -388,7 +439,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
                         "Cannot balance any shard in the cluster as time allocated to balanced shards allocator has elapsed"
                             + ". Skipping relevant nodes iteration"
                     );
-                    return;
+                    return collectUnsettledIndices(unsettledIndices, indices, indexOrdinal);
                 }
                 final BalancedShardsAllocator.ModelNode minNode = modelNodes[lowIdx];
                 final BalancedShardsAllocator.ModelNode maxNode = modelNodes[highIdx];
@@ -480,6 +531,20 @@ public class LocalShardsBalancer extends ShardsBalancer {
                 }
             }
         }
+        unsettledIndices.addAll(throttledRelocationIndices);
+        return unsettledIndices;
+    }
+
+    /**
+     * Adds the indices from {@code from} onwards, which were not balanced in this round, to the unsettled indices
+     * together with the indices that only saw throttled relocations.
+     */
+    private Set<String> collectUnsettledIndices(Set<String> unsettledIndices, String[] indices, int from) {
+        for (int i = from; i < indices.length; i++) {
+            unsettledIndices.add(indices[i]);
+        }
+        unsettledIndices.addAll(throttledRelocationIndices);
+        return unsettledIndices;
     }
 
     /**
@@ -494,11 +559,16 @@ public class LocalShardsBalancer extends ShardsBalancer {
      * has no shards yet and global balance for the node is way below
      * average. To re-balance we need to move shards back eventually likely
      * to the nodes we relocated them from.
+     * <p>
+     * If {@code candidateIndices} is not {@code null} only the local indices contained in it are returned.
      */
-    private String[] buildWeightOrderedIndices() {
+    private String[] buildWeightOrderedIndices(@Nullable Set<String> candidateIndices) {
 
         final List<String> localIndices = new ArrayList<>();
         for (String index : allocation.routingTable().indicesRouting().keySet().toArray(new String[0])) {
+            if (candidateIndices != null && candidateIndices.contains(index) == false) {
+                continue;
+            }
             if (RoutingPool.LOCAL_ONLY.equals(RoutingPool.getIndexPool(metadata.index(index)))) {
                 localIndices.add(index);
             }
@@ -966,6 +1036,15 @@ public class LocalShardsBalancer extends ShardsBalancer {
             return AllocateUnassignedDecision.no(UnassignedInfo.AllocationStatus.DECIDERS_NO, null);
         }
 
+        // For REMOTE_STORE recoveries, THROTTLE is as good as NO as we want faster recoveries
+        // The side effect of this are increased relocations post these allocations.
+        final boolean considerThrottleAsNo = ignoreThrottleInRestore
+            && shard.recoverySource().getType() == RecoverySource.Type.REMOTE_STORE
+            && shard.primary();
+        final Map<String, Decision> prefetchedDecisions = decisionEvaluator != null && explain == false
+            ? prefetchAllocationDecisions(shard, considerThrottleAsNo)
+            : null;
+
         /* find an node with minimal weight we can allocate on*/
         float minWeight = Float.POSITIVE_INFINITY;
         BalancedShardsAllocator.ModelNode minNode = null;
@@ -987,20 +1066,16 @@ public class LocalShardsBalancer extends ShardsBalancer {
                 continue;
             }
 
-            Decision currentDecision = allocation.deciders().canAllocate(shard, node.getRoutingNode(), allocation);
+            Decision currentDecision = prefetchedDecisions != null ? prefetchedDecisions.get(node.getNodeId()) : null;
+            if (currentDecision == null) {
+                currentDecision = allocation.deciders().canAllocate(shard, node.getRoutingNode(), allocation);
+            }
             if (explain) {
                 nodeExplanationMap.put(node.getNodeId(), new NodeAllocationResult(node.getRoutingNode().node(), currentDecision, 0));
                 nodeWeights.add(Tuple.tuple(node.getNodeId(), currentWeight));
             }
 
-            // For REMOTE_STORE recoveries, THROTTLE is as good as NO as we want faster recoveries
-            // The side effect of this are increased relocations post these allocations.
-            boolean considerThrottleAsNo = ignoreThrottleInRestore
-                && shard.recoverySource().getType() == RecoverySource.Type.REMOTE_STORE
-                && shard.primary();
-
-            if (currentDecision.type() == Decision.Type.YES
-                || (currentDecision.type() == Decision.Type.THROTTLE && considerThrottleAsNo == false)) {
+            if (isAllocationCandidate(currentDecision, considerThrottleAsNo)) {
                 final boolean updateMinNode;
                 if (currentWeight == minWeight) {
                     /*  we have an equal weight tie breaking:
@@ -1051,6 +1126,58 @@ public class LocalShardsBalancer extends ShardsBalancer {
         return AllocateUnassignedDecision.fromDecision(decision, minNode != null ? minNode.getRoutingNode().node() : null, nodeDecisions);
     }
 
+    private static boolean isAllocationCandidate(Decision decision, boolean considerThrottleAsNo) {
+        return decision.type() == Decision.Type.YES || (decision.type() == Decision.Type.THROTTLE && considerThrottleAsNo == false);
+    }
+
+    /**
+     * Evaluates the allocation deciders for the given unassigned shard on the candidate nodes in parallel, memoizing the
+     * decisions by node id for {@link #decideAllocateUnassigned(ShardRouting)}. Node weights do not depend on decisions, so the
+     * nodes are evaluated in batches in ascending order of weight until the next batch is heavier than the lightest node
+     * the shard can be allocated to, at which point it cannot change the outcome. Any node the sequential selection still
+     * asks for is evaluated there, so the selected node is always the same as without parallel evaluation.
+     */
+    private Map<String, Decision> prefetchAllocationDecisions(ShardRouting shard, boolean considerThrottleAsNo) {
+        final List<BalancedShardsAllocator.ModelNode> candidates = new ArrayList<>(nodes.size());
+        for (BalancedShardsAllocator.ModelNode node : nodes.values()) {
+            if (node.containsShard(shard) == false) {
+                candidates.add(node);
+            }
+        }
+        final Map<BalancedShardsAllocator.ModelNode, Float> weights = new HashMap<>(candidates.size());
+        for (BalancedShardsAllocator.ModelNode node : candidates) {
+            weights.put(node, weight.weightWithAllocationConstraints(this, node, shard.getIndexName()));
+        }
+        candidates.sort(Comparator.comparing(weights::get));
+
+        final Map<String, Decision> decisions = new HashMap<>();
+        final int parallelism = decisionEvaluator.parallelism();
+        final BalancedShardsAllocator.ModelNode[] batch = new BalancedShardsAllocator.ModelNode[parallelism];
+        final Decision[] batchDecisions = new Decision[parallelism];
+        float minCandidateWeight = Float.POSITIVE_INFINITY;
+        int next = 0;
+        while (next < candidates.size() && weights.get(candidates.get(next)) <= minCandidateWeight) {
+            final int batchSize = Math.min(parallelism, candidates.size() - next);
+            for (int i = 0; i < batchSize; i++) {
+                batch[i] = candidates.get(next + i);
+            }
+            decisionEvaluator.evaluate(
+                batch,
+                batchSize,
+                batchDecisions,
+                node -> allocation.deciders().canAllocate(shard, node.getRoutingNode(), allocation)
+            );
+            for (int i = 0; i < batchSize; i++) {
+                decisions.put(batch[i].getNodeId(), batchDecisions[i]);
+                if (isAllocationCandidate(batchDecisions[i], considerThrottleAsNo)) {
+                    minCandidateWeight = Math.min(minCandidateWeight, weights.get(batch[i]));
+                }
+            }
+            next += batchSize;
+        }
+        return decisions;
+    }
+
     private static final Comparator<ShardRouting> BY_DESCENDING_SHARD_ID = Comparator.comparing(ShardRouting::shardId).reversed();
     private static final Comparator<ShardRouting> PRIMARY_FIRST = Comparator.comparing(ShardRouting::primary).reversed();
 
@@ -1113,6 +1240,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
                     assert decision.type() == Decision.Type.THROTTLE;
                     minNode.addShard(shard.relocate(minNode.getNodeId(), shardSize));
                     ++totalShardCount;
+                    throttledRelocationIndices.add(idx);
                     return false;
                 }
             }
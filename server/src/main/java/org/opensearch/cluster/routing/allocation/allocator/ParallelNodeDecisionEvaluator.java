@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.opensearch.cluster.routing.allocation.decider.Decision;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Evaluates the allocation deciders for a batch of candidate nodes on up to {@code parallelism} threads. The calling
+ * thread takes part in the evaluation, so progress never depends on the executor having a free thread, and forked tasks
+ * which only start after all nodes have been claimed return immediately.
+ * <p>
+ * This relies on the deciders only reading the {@link org.opensearch.cluster.routing.allocation.RoutingAllocation} while
+ * making a decision, which holds as long as the routing nodes are not modified during the evaluation of a batch.
+ *
+ * @opensearch.internal
+ */
+final class ParallelNodeDecisionEvaluator {
+
+    private final Executor executor;
+    private final int parallelism;
+
+    ParallelNodeDecisionEvaluator(Executor executor, int parallelism) {
+        assert parallelism > 1 : "parallel evaluation requires a parallelism above 1 but was " + parallelism;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Evaluates {@code decisionFunction} for the first {@code count} nodes and stores each decision at the position of its
+     * node in {@code decisions}.
+     */
+    void evaluate(
+        BalancedShardsAllocator.ModelNode[] nodes,
+        int count,
+        Decision[] decisions,
+        Function<BalancedShardsAllocator.ModelNode, Decision> decisionFunction
+    ) {
+        if (count <= 1) {
+            for (int i = 0; i < count; i++) {
+                decisions[i] = decisionFunction.apply(nodes[i]);
+            }
+            return;
+        }
+        final AtomicInteger nextNode = new AtomicInteger();
+        final CountDownLatch evaluated = new CountDownLatch(count);
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final Runnable worker = () -> {
+            int i;
+            while ((i = nextNode.getAndIncrement()) < count) {
+                try {
+                    decisions[i] = decisionFunction.apply(nodes[i]);
+                } catch (RuntimeException e) {
+                    if (failure.compareAndSet(null, e) == false) {
+                        failure.get().addSuppressed(e);
+                    }
+                } finally {
+                    evaluated.countDown();
+                }
+            }
+        };
+        final int helpers = Math.min(parallelism, count) - 1;
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                // the calling thread evaluates the remaining nodes itself
+                break;
+            }
+        }
+        worker.run();
+        try {
+            evaluated.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while evaluating allocation decisions", e);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+}
@@ -39,6 +39,8 @@ import org.opensearch.cluster.routing.allocation.MoveDecision;
 import org.opensearch.cluster.routing.allocation.RoutingAllocation;
 import org.opensearch.cluster.routing.allocation.ShardAllocationDecision;
 
+import java.util.concurrent.Executor;
+
 /**
  * <p>
  * A {@link ShardsAllocator} is the main entry point for shard allocation on nodes in the cluster.
@@ -76,4 +78,9 @@ public interface ShardsAllocator {
     ShardAllocationDecision decideShardAllocation(ShardRouting shard, RoutingAllocation allocation);
 
     default void setRerouteService(RerouteService rerouteService) {}
+
+    /**
+     * Provides an executor on which the allocator may evaluate allocation deciders in parallel.
+     */
+    default void setDeciderExecutor(Executor executor) {}
 }
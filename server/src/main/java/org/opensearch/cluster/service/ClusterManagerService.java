@@ -109,6 +109,19 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
         Setting.Property.NodeScope
     );
 
+    /**
+     * The maximum number of tasks of the same executor that are computed and published as a single cluster state update. A
+     * backlog of tasks beyond this limit is processed in several updates, between which the tasks of other executors get to
+     * run, so that a flood of tasks for one executor does not hold up the others until the whole flood is processed.
+     */
+    public static final Setting<Integer> CLUSTER_MANAGER_SERVICE_MAX_TASK_BATCH_SIZE_SETTING = Setting.intSetting(
+        "cluster.service.max_task_batch_size",
+        Integer.MAX_VALUE,
+        1,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     static final String CLUSTER_MANAGER_UPDATE_THREAD_NAME = "clusterManagerService#updateTask";
 
     ClusterStatePublisher clusterStatePublisher;
@@ -119,6 +132,8 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
 
     private volatile TimeValue slowTaskLoggingThreshold;
 
+    private volatile int maxTaskBatchSize;
+
     protected final ThreadPool threadPool;
 
     private volatile PrioritizedOpenSearchThreadPoolExecutor threadPoolExecutor;
@@ -146,6 +161,9 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
             this::setSlowTaskLoggingThreshold
         );
 
+        this.maxTaskBatchSize = CLUSTER_MANAGER_SERVICE_MAX_TASK_BATCH_SIZE_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(CLUSTER_MANAGER_SERVICE_MAX_TASK_BATCH_SIZE_SETTING, this::setMaxTaskBatchSize);
+
         this.throttlingStats = new ClusterManagerThrottlingStats();
         this.clusterManagerTaskThrottler = new ClusterManagerTaskThrottler(
             settings,
@@ -162,6 +180,10 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
         this.slowTaskLoggingThreshold = slowTaskLoggingThreshold;
     }
 
+    private void setMaxTaskBatchSize(int maxTaskBatchSize) {
+        this.maxTaskBatchSize = maxTaskBatchSize;
+    }
+
     public synchronized void setClusterStatePublisher(ClusterStatePublisher publisher) {
         clusterStatePublisher = publisher;
     }
@@ -207,10 +229,16 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
                 );
         }
 
+        @Override
+        protected int maxBatchSize(Object batchingKey) {
+            return maxTaskBatchSize;
+        }
+
         @Override
         protected void run(Object batchingKey, List<? extends BatchedTask> tasks, Function<Boolean, String> taskSummaryGenerator) {
             ClusterStateTaskExecutor<Object> taskExecutor = (ClusterStateTaskExecutor<Object>) batchingKey;
             List<UpdateTask> updateTasks = (List<UpdateTask>) tasks;
+            recordBatchMetrics(taskExecutor, updateTasks);
             runTasks(new TaskInputs(taskExecutor, updateTasks, taskSummaryGenerator));
         }
 
@@ -237,6 +265,22 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
         }
     }
 
+    private void recordBatchMetrics(ClusterStateTaskExecutor<?> taskExecutor, List<? extends TaskBatcher.BatchedTask> tasks) {
+        final Optional<Tags> tags = Optional.of(Tags.create().addTag("Operation", taskExecutor.getClass().getSimpleName()));
+        TaskBatcher.BatchedTask oldestTask = tasks.get(0);
+        for (TaskBatcher.BatchedTask task : tasks) {
+            if (task.getCreationDateInNanos() < oldestTask.getCreationDateInNanos()) {
+                oldestTask = task;
+            }
+        }
+        clusterManagerMetrics.recordLatency(
+            clusterManagerMetrics.clusterStateTaskQueueHistogram,
+            (double) oldestTask.getAgeInMillis(),
+            tags
+        );
+        clusterManagerMetrics.recordTaskBatchSize(tasks.size(), tags);
+    }
+
     @Override
     protected synchronized void doStop() {
         ThreadPool.terminate(threadPoolExecutor, 10, TimeUnit.SECONDS);
@@ -43,6 +43,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -176,7 +177,14 @@ public abstract class TaskBatcher {
         // if this task is already processed, it shouldn't execute other tasks with same batching key that arrived later,
         // to give other tasks with different batching key a chance to execute.
         if (updateTask.processed.get() == false) {
-            final List<BatchedTask> toExecute = new ArrayList<>();
+            runPendingTasks(updateTask);
+        }
+    }
+
+    private void runPendingTasks(BatchedTask updateTask) {
+        final List<BatchedTask> toExecute = new ArrayList<>();
+        final int maxBatchSize = maxBatchSize(updateTask.batchingKey);
+        if (maxBatchSize == Integer.MAX_VALUE) {
             // While removing task, need to remove task first from taskMap and then remove identity from identityMap.
             // Changing this order might lead to duplicate task during submission.
             LinkedHashSet<BatchedTask> pending = tasksPerBatchingKey.remove(updateTask.batchingKey);
@@ -191,23 +199,83 @@ public abstract class TaskBatcher {
                     }
                 }
             }
+        } else {
+            takeBatch(updateTask.batchingKey, maxBatchSize, toExecute);
+        }
 
-            if (toExecute.isEmpty() == false) {
-                Function<Boolean, String> taskSummaryGenerator = (longSummaryRequired) -> {
-                    if (longSummaryRequired == null || !longSummaryRequired) {
-                        final List<BatchedTask> sampleTasks = toExecute.stream()
-                            .limit(Math.min(1000, toExecute.size()))
-                            .collect(Collectors.toList());
-                        return buildShortSummary(updateTask.batchingKey, toExecute.size(), getSummary(updateTask, sampleTasks));
-                    }
-                    return getSummary(updateTask, toExecute);
-                };
-                taskBatcherListener.onBeginProcessing(toExecute);
-                run(updateTask.batchingKey, toExecute, taskSummaryGenerator);
+        if (toExecute.isEmpty() == false) {
+            Function<Boolean, String> taskSummaryGenerator = (longSummaryRequired) -> {
+                if (longSummaryRequired == null || !longSummaryRequired) {
+                    final List<BatchedTask> sampleTasks = toExecute.stream()
+                        .limit(Math.min(1000, toExecute.size()))
+                        .collect(Collectors.toList());
+                    return buildShortSummary(updateTask.batchingKey, toExecute.size(), getSummary(updateTask, sampleTasks));
+                }
+                return getSummary(updateTask, toExecute);
+            };
+            taskBatcherListener.onBeginProcessing(toExecute);
+            run(updateTask.batchingKey, toExecute, taskSummaryGenerator);
+        }
+    }
+
+    /**
+     * Moves at most {@code maxBatchSize} unprocessed tasks with the given batching key into {@code toExecute}. If tasks are
+     * left behind then a runnable for them is queued on the executor, behind the tasks which were already waiting, so that a large
+     * backlog for one batching key is processed in slices which interleave with the tasks of other batching keys instead of
+     * holding the thread until the whole backlog is processed.
+     */
+    private void takeBatch(Object batchingKey, int maxBatchSize, List<BatchedTask> toExecute) {
+        final List<BatchedTask> removed = new ArrayList<>();
+        final BatchedTask[] firstRemaining = new BatchedTask[1];
+        // While removing task, need to remove task first from taskMap and then remove identity from identityMap.
+        // Changing this order might lead to duplicate task during submission.
+        tasksPerBatchingKey.computeIfPresent(batchingKey, (tasksKey, existingTasks) -> {
+            final Iterator<BatchedTask> iterator = existingTasks.iterator();
+            while (iterator.hasNext() && toExecute.size() < maxBatchSize) {
+                final BatchedTask task = iterator.next();
+                iterator.remove();
+                removed.add(task);
+                if (task.processed.getAndSet(true) == false) {
+                    logger.trace("will process {}", task);
+                    toExecute.add(task);
+                } else {
+                    logger.trace("skipping {}, already processed", task);
+                }
+            }
+            if (existingTasks.isEmpty()) {
+                return null;
+            }
+            firstRemaining[0] = existingTasks.iterator().next();
+            return existingTasks;
+        });
+        taskIdentityPerBatchingKey.computeIfPresent(batchingKey, (tasksKey, existingIdentities) -> {
+            for (BatchedTask task : removed) {
+                existingIdentities.remove(task.getTask(), task);
+            }
+            if (existingIdentities.isEmpty()) {
+                return null;
+            }
+            return existingIdentities;
+        });
+        if (firstRemaining[0] != null) {
+            logger.trace("batch size limit [{}] reached, re-queueing remaining tasks starting at {}", maxBatchSize, firstRemaining[0]);
+            try {
+                threadExecutor.execute(new RemainingTasks(firstRemaining[0]));
+            } catch (OpenSearchRejectedExecutionException e) {
+                // the executor is shutting down, the remaining tasks fail along with the other queued tasks
+                logger.debug("failed to re-queue remaining tasks starting at {}", firstRemaining[0]);
             }
         }
     }
 
+    /**
+     * Returns the maximum number of tasks with the given batching key that are executed in a single batch. Tasks beyond the
+     * limit are executed in a later batch. Unlimited by default.
+     */
+    protected int maxBatchSize(Object batchingKey) {
+        return Integer.MAX_VALUE;
+    }
+
     private String getSummary(final BatchedTask updateTask, final List<BatchedTask> toExecute) {
         final Map<String, List<BatchedTask>> processTasksBySource = new HashMap<>();
         for (final BatchedTask task : toExecute) {
@@ -234,6 +302,25 @@ public abstract class TaskBatcher {
      */
     protected abstract void run(Object batchingKey, List<? extends BatchedTask> tasks, Function<Boolean, String> taskSummaryGenerator);
 
+    /**
+     * Runs the tasks left behind by a batch which reached the batch size limit. Unlike a {@link BatchedTask} it runs even if
+     * the task it was created from has been processed in the meantime, e.g. because it timed out, since the other remaining
+     * tasks may have no queued runnable of their own.
+     */
+    private class RemainingTasks extends SourcePrioritizedRunnable {
+        private final BatchedTask firstRemaining;
+
+        RemainingTasks(BatchedTask firstRemaining) {
+            super(firstRemaining.priority(), firstRemaining.source);
+            this.firstRemaining = firstRemaining;
+        }
+
+        @Override
+        public void run() {
+            runPendingTasks(firstRemaining);
+        }
+    }
+
     /**
      * Represents a runnable task that supports batching.
      * Implementors of TaskBatcher can subclass this to add a payload to the task.
@@ -14,6 +14,7 @@ import org.opensearch.common.blobstore.stream.write.WriteContext;
 import org.opensearch.core.action.ActionListener;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -43,6 +44,29 @@ public interface AsyncMultiStreamBlobContainer extends BlobContainer {
     @ExperimentalApi
     void readBlobAsync(String blobName, ActionListener<ReadContext> listener);
 
+    /**
+     * Reads the given range of a blob without holding the calling thread while the bytes are transferred, and completes the
+     * listener with a stream over the fully received range. Only supported if {@link #asyncRangeReadSupported()} returns true.
+     *
+     * @param blobName The name of the blob to read.
+     * @param position The position in the blob to start reading from.
+     * @param length   The number of bytes to read.
+     * @param listener Async listener for the stream over the requested range.
+     */
+    @ExperimentalApi
+    default void readBlobAsync(String blobName, long position, long length, ActionListener<InputStream> listener) {
+        listener.onFailure(new UnsupportedOperationException("async range reads are not supported by " + getClass().getSimpleName()));
+    }
+
+    /**
+     * Whether this container implements {@link #readBlobAsync(String, long, long, ActionListener)} on top of non-blocking I/O.
+     * Callers must read through {@link #readBlob(String, long, long)} otherwise.
+     */
+    @ExperimentalApi
+    default boolean asyncRangeReadSupported() {
+        return false;
+    }
+
     /*
      * Wether underlying blobContainer can verify integrity of data after transfer. If true and if expected
      * checksum is provided in WriteContext, then the checksum of transferred data is compared with expected checksum
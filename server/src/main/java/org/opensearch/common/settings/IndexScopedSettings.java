@@ -60,6 +60,7 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.index.store.FsDirectoryFactory;
 import org.opensearch.index.store.Store;
+import org.opensearch.index.store.remote.file.BlockSizePolicy;
 import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.search.streaming.FlushModeResolver;
 
@@ -244,6 +245,8 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
                 IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME,
                 IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID,
                 IndexSettings.SEARCHABLE_SNAPSHOT_SHARD_PATH_TYPE,
+                BlockSizePolicy.INDEX_REMOTE_BLOCK_SIZE_SETTING,
+                BlockSizePolicy.INDEX_REMOTE_BLOCK_SIZE_BY_EXTENSION_SETTING,
 
                 // Settings for remote translog
                 IndexSettings.INDEX_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING,
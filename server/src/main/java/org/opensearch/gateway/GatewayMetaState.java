@@ -479,6 +479,10 @@ public class GatewayMetaState implements Closeable {
                 super.setLastAcceptedState(clusterState);
                 if (newStateQueued) {
                     logger.trace("cluster state update already queued (setting cluster state to {})", clusterState.version());
+                    if (persistedState.getStats() instanceof LucenePersistedStateStats) {
+                        // the queued state is replaced by this one, so only the latest of consecutive states is written
+                        ((LucenePersistedStateStats) persistedState.getStats()).stateSuperseded();
+                    }
                 } else {
                     logger.trace("queuing cluster state update (setting cluster state to {})", clusterState.version());
                     newStateQueued = true;
@@ -489,6 +493,11 @@ public class GatewayMetaState implements Closeable {
             }
         }
 
+        @Override
+        public PersistedStateStats getStats() {
+            return persistedState.getStats();
+        }
+
         private void scheduleUpdate() {
             assert Thread.holdsLock(mutex);
             assert threadPoolExecutor.getQueue().isEmpty() : "threadPoolExecutor queue not empty";
@@ -661,8 +670,7 @@ public class GatewayMetaState implements Closeable {
 
         @Override
         public PersistedStateStats getStats() {
-            // Note: These stats are not published yet, will come in future
-            return null;
+            return persistedClusterStateService.getStats();
         }
 
         private PersistedClusterStateService.Writer getWriterSafe() {
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.gateway;
+
+import org.opensearch.cluster.coordination.PersistedStateStats;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stats for the cluster state persisted to the local Lucene index by the {@link PersistedClusterStateService}
+ *
+ * @opensearch.internal
+ */
+public class LucenePersistedStateStats extends PersistedStateStats {
+    static final String LUCENE_PERSISTENCE = "lucene_persistence";
+    static final String FULL_WRITE_COUNT = "full_write_count";
+    static final String INCREMENTAL_WRITE_COUNT = "incremental_write_count";
+    static final String INDICES_WRITTEN_COUNT = "indices_written_count";
+    static final String INDICES_SKIPPED_COUNT = "indices_skipped_count";
+    static final String SUPERSEDED_STATE_COUNT = "superseded_state_count";
+    private final AtomicLong fullWriteCount = new AtomicLong(0);
+    private final AtomicLong incrementalWriteCount = new AtomicLong(0);
+    private final AtomicLong indicesWrittenCount = new AtomicLong(0);
+    private final AtomicLong indicesSkippedCount = new AtomicLong(0);
+    private final AtomicLong supersededStateCount = new AtomicLong(0);
+
+    public LucenePersistedStateStats() {
+        super(LUCENE_PERSISTENCE);
+        addToExtendedFields(FULL_WRITE_COUNT, fullWriteCount);
+        addToExtendedFields(INCREMENTAL_WRITE_COUNT, incrementalWriteCount);
+        addToExtendedFields(INDICES_WRITTEN_COUNT, indicesWrittenCount);
+        addToExtendedFields(INDICES_SKIPPED_COUNT, indicesSkippedCount);
+        addToExtendedFields(SUPERSEDED_STATE_COUNT, supersededStateCount);
+    }
+
+    void fullStateWritten(long numIndicesWritten) {
+        fullWriteCount.incrementAndGet();
+        indicesWrittenCount.addAndGet(numIndicesWritten);
+    }
+
+    void incrementalStateWritten(long numIndicesWritten, long numIndicesSkipped) {
+        incrementalWriteCount.incrementAndGet();
+        indicesWrittenCount.addAndGet(numIndicesWritten);
+        indicesSkippedCount.addAndGet(numIndicesSkipped);
+    }
+
+    /**
+     * Records a state which was accepted but never written because a newer state was accepted before it could be written.
+     */
+    void stateSuperseded() {
+        supersededStateCount.incrementAndGet();
+    }
+
+    public long getFullWriteCount() {
+        return fullWriteCount.get();
+    }
+
+    public long getIncrementalWriteCount() {
+        return incrementalWriteCount.get();
+    }
+
+    public long getIndicesWrittenCount() {
+        return indicesWrittenCount.get();
+    }
+
+    public long getIndicesSkippedCount() {
+        return indicesSkippedCount.get();
+    }
+
+    public long getSupersededStateCount() {
+        return supersededStateCount.get();
+    }
+}
@@ -162,6 +162,7 @@ public class PersistedClusterStateService {
     private final NamedXContentRegistry namedXContentRegistry;
     private final BigArrays bigArrays;
     private final LongSupplier relativeTimeMillisSupplier;
+    private final LucenePersistedStateStats persistedStateStats = new LucenePersistedStateStats();
 
     private volatile TimeValue slowWriteLoggingThreshold;
 
@@ -203,6 +204,13 @@ public class PersistedClusterStateService {
         this.slowWriteLoggingThreshold = slowWriteLoggingThreshold;
     }
 
+    /**
+     * Returns the stats of the writes done by the writers of this service.
+     */
+    public LucenePersistedStateStats getStats() {
+        return persistedStateStats;
+    }
+
     public String getNodeId() {
         return nodeId;
     }
@@ -229,7 +237,14 @@ public class PersistedClusterStateService {
                 IOUtils.closeWhileHandlingException(closeables);
             }
         }
-        return new Writer(metadataIndexWriters, nodeId, bigArrays, relativeTimeMillisSupplier, () -> slowWriteLoggingThreshold);
+        return new Writer(
+            metadataIndexWriters,
+            nodeId,
+            bigArrays,
+            relativeTimeMillisSupplier,
+            () -> slowWriteLoggingThreshold,
+            persistedStateStats
+        );
     }
 
     private static IndexWriter createIndexWriter(Directory directory, boolean openExisting) throws IOException {
@@ -601,6 +616,7 @@ public class PersistedClusterStateService {
         private final BigArrays bigArrays;
         private final LongSupplier relativeTimeMillisSupplier;
         private final Supplier<TimeValue> slowWriteLoggingThresholdSupplier;
+        private final LucenePersistedStateStats persistedStateStats;
 
         boolean fullStateWritten = false;
         private final AtomicBoolean closed = new AtomicBoolean();
@@ -614,13 +630,15 @@ public class PersistedClusterStateService {
             String nodeId,
             BigArrays bigArrays,
             LongSupplier relativeTimeMillisSupplier,
-            Supplier<TimeValue> slowWriteLoggingThresholdSupplier
+            Supplier<TimeValue> slowWriteLoggingThresholdSupplier,
+            LucenePersistedStateStats persistedStateStats
         ) {
             this.metadataIndexWriters = metadataIndexWriters;
             this.nodeId = nodeId;
             this.bigArrays = bigArrays;
             this.relativeTimeMillisSupplier = relativeTimeMillisSupplier;
             this.slowWriteLoggingThresholdSupplier = slowWriteLoggingThresholdSupplier;
+            this.persistedStateStats = persistedStateStats;
         }
 
         private void ensureOpen() {
@@ -656,6 +674,9 @@ public class PersistedClusterStateService {
                 commit(currentTerm, clusterState.version());
                 fullStateWritten = true;
                 final long durationMillis = relativeTimeMillisSupplier.getAsLong() - startTimeMillis;
+                persistedStateStats.stateSucceeded();
+                persistedStateStats.stateTook(durationMillis);
+                persistedStateStats.fullStateWritten(stats.numIndicesUpdated);
                 final TimeValue finalSlowWriteLoggingThreshold = slowWriteLoggingThresholdSupplier.get();
                 if (durationMillis >= finalSlowWriteLoggingThreshold.getMillis()) {
                     logger.warn(
@@ -672,6 +693,9 @@ public class PersistedClusterStateService {
                         stats.numIndicesUpdated
                     );
                 }
+            } catch (Exception e) {
+                persistedStateStats.stateFailed();
+                throw e;
             } finally {
                 closeIfAnyIndexWriterHasTragedyOrIsClosed();
             }
@@ -690,6 +714,9 @@ public class PersistedClusterStateService {
                 final WriterStats stats = updateMetadata(previousClusterState.metadata(), clusterState.metadata());
                 commit(currentTerm, clusterState.version());
                 final long durationMillis = relativeTimeMillisSupplier.getAsLong() - startTimeMillis;
+                persistedStateStats.stateSucceeded();
+                persistedStateStats.stateTook(durationMillis);
+                persistedStateStats.incrementalStateWritten(stats.numIndicesUpdated, stats.numIndicesUnchanged);
                 final TimeValue finalSlowWriteLoggingThreshold = slowWriteLoggingThresholdSupplier.get();
                 if (durationMillis >= finalSlowWriteLoggingThreshold.getMillis()) {
                     logger.warn(
@@ -711,6 +738,9 @@ public class PersistedClusterStateService {
                         stats.numIndicesUnchanged
                     );
                 }
+            } catch (Exception e) {
+                persistedStateStats.stateFailed();
+                throw e;
             } finally {
                 closeIfAnyIndexWriterHasTragedyOrIsClosed();
             }
@@ -847,6 +877,11 @@ public class PersistedClusterStateService {
             commit(currentTerm, lastAcceptedVersion);
         }
 
+        /**
+         * Commits the pending changes on the calling thread. This must not be deferred to a background commit: a
+         * cluster-manager-eligible node may only acknowledge a publication once the accepted state is durable. Other nodes
+         * already call this from the {@link GatewayMetaState.AsyncLucenePersistedState} thread, which skips superseded states.
+         */
         void commit(long currentTerm, long lastAcceptedVersion) throws IOException {
             ensureOpen();
             try {
@@ -32,9 +32,11 @@
 
 package org.opensearch.index.fielddata;
 
+import org.opensearch.Version;
 import org.opensearch.common.FieldMemoryStats;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -58,8 +60,14 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
     private static final String MEMORY_SIZE_IN_BYTES = "memory_size_in_bytes";
     private static final String EVICTIONS = "evictions";
     private static final String FIELDS = "fields";
+    private static final String GLOBAL_ORDINALS = "global_ordinals";
+    private static final String BUILD_COUNT = "build_count";
+    private static final String BUILD_TIME = "build_time";
+    private static final String BUILD_TIME_IN_MILLIS = "build_time_in_millis";
     private long memorySize;
     private long evictions;
+    private long globalOrdinalsBuildCount;
+    private long globalOrdinalsBuildTimeInMillis;
     @Nullable
     private FieldMemoryStats fields;
 
@@ -76,12 +84,18 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         this.memorySize = builder.memorySize;
         this.evictions = builder.evictions;
         this.fields = builder.fields;
+        this.globalOrdinalsBuildCount = builder.globalOrdinalsBuildCount;
+        this.globalOrdinalsBuildTimeInMillis = builder.globalOrdinalsBuildTimeInMillis;
     }
 
     public FieldDataStats(StreamInput in) throws IOException {
         memorySize = in.readVLong();
         evictions = in.readVLong();
         fields = in.readOptionalWriteable(FieldMemoryStats::new);
+        if (in.getVersion().onOrAfter(Version.V_3_6_0)) {
+            globalOrdinalsBuildCount = in.readVLong();
+            globalOrdinalsBuildTimeInMillis = in.readVLong();
+        }
     }
 
     /**
@@ -101,6 +115,8 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         }
         this.memorySize += stats.memorySize;
         this.evictions += stats.evictions;
+        this.globalOrdinalsBuildCount += stats.globalOrdinalsBuildCount;
+        this.globalOrdinalsBuildTimeInMillis += stats.globalOrdinalsBuildTimeInMillis;
         if (stats.fields != null) {
             if (fields == null) {
                 fields = stats.fields.copy();
@@ -127,6 +143,20 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         return fields;
     }
 
+    /**
+     * The number of times global ordinals were built for a top-level reader
+     */
+    public long getGlobalOrdinalsBuildCount() {
+        return globalOrdinalsBuildCount;
+    }
+
+    /**
+     * The total time spent building global ordinals
+     */
+    public TimeValue getGlobalOrdinalsBuildTime() {
+        return new TimeValue(globalOrdinalsBuildTimeInMillis);
+    }
+
     /**
      * Builder for the {@link FieldDataStats} class.
      * Provides a fluent API for constructing a FieldDataStats object.
@@ -135,6 +165,8 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         private long memorySize = 0;
         private long evictions = 0;
         private FieldMemoryStats fields = null;
+        private long globalOrdinalsBuildCount = 0;
+        private long globalOrdinalsBuildTimeInMillis = 0;
 
         public Builder() {}
 
@@ -153,6 +185,16 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder globalOrdinalsBuildCount(long globalOrdinalsBuildCount) {
+            this.globalOrdinalsBuildCount = globalOrdinalsBuildCount;
+            return this;
+        }
+
+        public Builder globalOrdinalsBuildTimeInMillis(long globalOrdinalsBuildTimeInMillis) {
+            this.globalOrdinalsBuildTimeInMillis = globalOrdinalsBuildTimeInMillis;
+            return this;
+        }
+
         /**
          * Creates a {@link FieldDataStats} object from the builder's current state.
          * @return A new FieldDataStats instance.
@@ -167,6 +209,10 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         out.writeVLong(memorySize);
         out.writeVLong(evictions);
         out.writeOptionalWriteable(fields);
+        if (out.getVersion().onOrAfter(Version.V_3_6_0)) {
+            out.writeVLong(globalOrdinalsBuildCount);
+            out.writeVLong(globalOrdinalsBuildTimeInMillis);
+        }
     }
 
     @Override
@@ -174,6 +220,10 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         builder.startObject(FIELDDATA);
         builder.humanReadableField(MEMORY_SIZE_IN_BYTES, MEMORY_SIZE, getMemorySize());
         builder.field(EVICTIONS, getEvictions());
+        builder.startObject(GLOBAL_ORDINALS);
+        builder.field(BUILD_COUNT, getGlobalOrdinalsBuildCount());
+        builder.humanReadableField(BUILD_TIME_IN_MILLIS, BUILD_TIME, getGlobalOrdinalsBuildTime());
+        builder.endObject();
         if (fields != null) {
             fields.toXContent(builder, FIELDS, MEMORY_SIZE_IN_BYTES, MEMORY_SIZE);
         }
@@ -186,11 +236,15 @@ public class FieldDataStats implements Writeable, ToXContentFragment {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         FieldDataStats that = (FieldDataStats) o;
-        return memorySize == that.memorySize && evictions == that.evictions && Objects.equals(fields, that.fields);
+        return memorySize == that.memorySize
+            && evictions == that.evictions
+            && globalOrdinalsBuildCount == that.globalOrdinalsBuildCount
+            && globalOrdinalsBuildTimeInMillis == that.globalOrdinalsBuildTimeInMillis
+            && Objects.equals(fields, that.fields);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(memorySize, evictions, fields);
+        return Objects.hash(memorySize, evictions, globalOrdinalsBuildCount, globalOrdinalsBuildTimeInMillis, fields);
     }
 }
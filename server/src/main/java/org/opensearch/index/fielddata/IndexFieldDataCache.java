@@ -78,6 +78,11 @@ public interface IndexFieldDataCache {
          * Called after the fielddata is unloaded
          */
         default void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, long sizeInBytes) {}
+
+        /**
+         * Called after the global ordinals of a field are built for a top-level reader
+         */
+        default void onGlobalOrdinalsBuilt(ShardId shardId, String fieldName, long tookInNanos) {}
     }
 
     /**
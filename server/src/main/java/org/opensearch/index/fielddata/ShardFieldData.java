@@ -36,6 +36,7 @@ import org.apache.lucene.util.Accountable;
 import org.opensearch.common.FieldMemoryStats;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.metrics.MeanMetric;
 import org.opensearch.common.regex.Regex;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.util.CollectionUtils;
@@ -44,6 +45,7 @@ import org.opensearch.core.index.shard.ShardId;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * On heap field data for shards
@@ -55,6 +57,7 @@ public class ShardFieldData implements IndexFieldDataCache.Listener {
 
     private final CounterMetric evictionsMetric = new CounterMetric();
     private final CounterMetric totalMetric = new CounterMetric();
+    private final MeanMetric globalOrdinalsBuildMetric = new MeanMetric();
     private final ConcurrentMap<String, CounterMetric> perFieldTotals = ConcurrentCollections.newConcurrentMap();
 
     public FieldDataStats stats(String... fields) {
@@ -70,6 +73,8 @@ public class ShardFieldData implements IndexFieldDataCache.Listener {
         return new FieldDataStats.Builder().memorySize(totalMetric.count())
             .evictions(evictionsMetric.count())
             .fieldMemoryStats(fieldTotals == null ? null : new FieldMemoryStats(fieldTotals))
+            .globalOrdinalsBuildCount(globalOrdinalsBuildMetric.count())
+            .globalOrdinalsBuildTimeInMillis(TimeUnit.NANOSECONDS.toMillis(globalOrdinalsBuildMetric.sum()))
             .build();
     }
 
@@ -89,6 +94,11 @@ public class ShardFieldData implements IndexFieldDataCache.Listener {
         }
     }
 
+    @Override
+    public void onGlobalOrdinalsBuilt(ShardId shardId, String fieldName, long tookInNanos) {
+        globalOrdinalsBuildMetric.inc(tookInNanos);
+    }
+
     @Override
     public void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, long sizeInBytes) {
         if (wasEvicted) {
@@ -154,6 +154,19 @@ public class HllFieldData implements IndexFieldData<HllFieldData.HllLeafFieldDat
             throw new UnsupportedOperationException("HLL fields do not support getBytesValues");
         }
 
+        /**
+         * Get the serialized HLL++ sketches of the segment, as written by {@link AbstractHyperLogLogPlusPlus#writeTo}.
+         * Unlike {@link #getSketch(int)}, this lets callers iterate over the sketches and merge them without deserializing each
+         * of them into a new sketch.
+         *
+         * @return the sketches, or null if no document of the segment has a value
+         * @throws IOException if an error occurs reading the doc values
+         */
+        @Nullable
+        public BinaryDocValues getSketches() throws IOException {
+            return reader.getBinaryDocValues(fieldName);
+        }
+
         /**
          * Get the HLL++ sketch for the given document ID.
          *
@@ -10,6 +10,7 @@ package org.opensearch.index.remote;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.Version;
 import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.logging.Loggers;
@@ -111,6 +112,11 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
      */
     private final Set<String> latestUploadedFiles = ConcurrentCollections.newConcurrentSet();
 
+    /**
+     * Total bytes of segment files whose upload was skipped because a newer refresh no longer referenced them.
+     */
+    private final AtomicLong uploadBytesSkipped = new AtomicLong();
+
     /**
      * Keeps the bytes lag computed so that we do not compute it for every request.
      */
@@ -161,6 +167,14 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
         failures.record(false);
     }
 
+    public long getUploadBytesSkipped() {
+        return uploadBytesSkipped.get();
+    }
+
+    public void addUploadBytesSkipped(long count) {
+        uploadBytesSkipped.addAndGet(count);
+    }
+
     public long getLocalRefreshSeqNo() {
         return localRefreshSeqNo;
     }
@@ -390,6 +404,7 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
             .uploadBytesPerSecMovingAverage(uploadBytesPerSecMovingAverageReference.get().getAverage())
             .uploadTimeMovingAverage(uploadTimeMsMovingAverageReference.get().getAverage())
             .bytesLag(getBytesLag())
+            .uploadBytesSkipped(uploadBytesSkipped.get())
             .totalUploadTimeInMs(totalUploadTimeInMillis.get())
             .directoryFileTransferTrackerStats(directoryFileTransferTracker.stats())
             .build();
@@ -423,6 +438,7 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
         public final long totalUploadTimeInMs;
         public final double uploadTimeMovingAverage;
         public final long bytesLag;
+        public final long uploadBytesSkipped;
         public final DirectoryFileTransferTracker.Stats directoryFileTransferTrackerStats;
 
         private Stats(Builder builder) {
@@ -446,6 +462,7 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
             this.totalUploadTimeInMs = builder.totalUploadTimeInMs;
             this.uploadTimeMovingAverage = builder.uploadTimeMovingAverage;
             this.bytesLag = builder.bytesLag;
+            this.uploadBytesSkipped = builder.uploadBytesSkipped;
             this.directoryFileTransferTrackerStats = builder.directoryFileTransferTrackerStats;
         }
 
@@ -496,6 +513,7 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
             this.uploadBytesPerSecMovingAverage = uploadBytesPerSecMovingAverage;
             this.uploadTimeMovingAverage = uploadTimeMovingAverage;
             this.bytesLag = bytesLag;
+            this.uploadBytesSkipped = 0;
             this.totalUploadTimeInMs = totalUploadTimeInMs;
             this.directoryFileTransferTrackerStats = directoryFileTransferTrackerStats;
         }
@@ -523,6 +541,11 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
                 this.bytesLag = in.readLong();
                 this.totalUploadTimeInMs = in.readLong();
                 this.directoryFileTransferTrackerStats = in.readOptionalWriteable(DirectoryFileTransferTracker.Stats::new);
+                if (in.getVersion().onOrAfter(Version.V_3_6_0)) {
+                    this.uploadBytesSkipped = in.readLong();
+                } else {
+                    this.uploadBytesSkipped = 0;
+                }
             } catch (IOException e) {
                 throw e;
             }
@@ -553,6 +576,7 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
             private long totalUploadTimeInMs = 0;
             private double uploadTimeMovingAverage = 0;
             private long bytesLag = 0;
+            private long uploadBytesSkipped = 0;
             private DirectoryFileTransferTracker.Stats directoryFileTransferTrackerStats = null;
 
             public Builder() {}
@@ -657,6 +681,11 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
                 return this;
             }
 
+            public Builder uploadBytesSkipped(long skipped) {
+                this.uploadBytesSkipped = skipped;
+                return this;
+            }
+
             public Builder directoryFileTransferTrackerStats(DirectoryFileTransferTracker.Stats stats) {
                 this.directoryFileTransferTrackerStats = stats;
                 return this;
@@ -694,6 +723,9 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
             out.writeLong(bytesLag);
             out.writeLong(totalUploadTimeInMs);
             out.writeOptionalWriteable(directoryFileTransferTrackerStats);
+            if (out.getVersion().onOrAfter(Version.V_3_6_0)) {
+                out.writeLong(uploadBytesSkipped);
+            }
         }
 
         @Override
@@ -721,6 +753,7 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
                 && Double.compare(this.uploadBytesPerSecMovingAverage, other.uploadBytesPerSecMovingAverage) == 0
                 && Double.compare(this.uploadTimeMovingAverage, other.uploadTimeMovingAverage) == 0
                 && this.bytesLag == other.bytesLag
+                && this.uploadBytesSkipped == other.uploadBytesSkipped
                 && this.totalUploadTimeInMs == other.totalUploadTimeInMs
                 && this.directoryFileTransferTrackerStats.equals(other.directoryFileTransferTrackerStats);
         }
@@ -747,6 +780,7 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
                 uploadBytesPerSecMovingAverage,
                 uploadTimeMovingAverage,
                 bytesLag,
+                uploadBytesSkipped,
                 totalUploadTimeInMs,
                 directoryFileTransferTrackerStats
             );
@@ -795,6 +829,8 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
                 + uploadTimeMovingAverage
                 + ", bytesLag="
                 + bytesLag
+                + ", uploadBytesSkipped="
+                + uploadBytesSkipped
                 + ", directoryFileTransferTrackerStats="
                 + directoryFileTransferTrackerStats
                 + '}';
@@ -73,6 +73,13 @@ public final class RemoteStoreRefreshListener extends ReleasableRetryableRefresh
 
     private static final int INVALID_PRIMARY_TERM = -1;
 
+    /**
+     * The number of consecutive syncs which may be abandoned because a newer refresh replaced some of their files. The sync
+     * following them uploads all the files of its refresh, so that the remote metadata keeps advancing under sustained
+     * refresh or merge churn.
+     */
+    static final int MAX_CONSECUTIVE_SUPERSEDED_SYNCS = 3;
+
     /**
      * Exponential back off policy with max retry interval.
      */
@@ -90,6 +97,7 @@ public final class RemoteStoreRefreshListener extends ReleasableRetryableRefresh
     private final Map<String, String> localSegmentChecksumMap;
     private volatile long primaryTerm;
     private volatile Iterator<TimeValue> backoffDelayIterator;
+    private volatile int consecutiveSupersededSyncs;
     private final SegmentReplicationCheckpointPublisher checkpointPublisher;
     private final RemoteStoreSettings remoteStoreSettings;
     private final RemoteStoreUploader remoteStoreUploader;
@@ -106,7 +114,14 @@ public final class RemoteStoreRefreshListener extends ReleasableRetryableRefresh
         this.storeDirectory = indexShard.store().directory();
         this.remoteDirectory = (RemoteSegmentStoreDirectory) ((FilterDirectory) ((FilterDirectory) indexShard.remoteStore().directory())
             .getDelegate()).getDelegate();
-        remoteStoreUploader = new RemoteStoreUploaderService(indexShard, storeDirectory, remoteDirectory);
+        remoteStoreUploader = new RemoteStoreUploaderService(
+            indexShard,
+            storeDirectory,
+            remoteDirectory,
+            segmentTracker,
+            remoteStoreSettings::getMaxConcurrentSegmentUploadsPerShard,
+            () -> consecutiveSupersededSyncs < MAX_CONSECUTIVE_SUPERSEDED_SYNCS
+        );
         localSegmentChecksumMap = new HashMap<>();
         RemoteSegmentMetadata remoteSegmentMetadata = null;
         if (indexShard.routingEntry().primary()) {
@@ -235,6 +250,7 @@ public final class RemoteStoreRefreshListener extends ReleasableRetryableRefresh
         long refreshSeqNo = segmentTracker.getLocalRefreshSeqNo();
         long bytesBeforeUpload = segmentTracker.getUploadBytesSucceeded(), startTimeInNS = System.nanoTime();
         final AtomicBoolean successful = new AtomicBoolean(false);
+        final AtomicBoolean superseded = new AtomicBoolean(false);
 
         try {
             try {
@@ -299,7 +315,13 @@ public final class RemoteStoreRefreshListener extends ReleasableRetryableRefresh
 
                         @Override
                         public void onFailure(Exception e) {
-                            logger.warn("Exception while uploading new segments to the remote segment store", e);
+                            if (e instanceof StaleSegmentUploadException) {
+                                // A newer refresh replaced some of the files, the sync following it uploads the latest state
+                                logger.debug("Abandoned upload of segments superseded by a newer refresh", e);
+                                superseded.set(true);
+                            } else {
+                                logger.warn("Exception while uploading new segments to the remote segment store", e);
+                            }
                         }
                     }, latch);
 
@@ -323,7 +345,14 @@ public final class RemoteStoreRefreshListener extends ReleasableRetryableRefresh
         } catch (Throwable t) {
             logger.error("Exception in RemoteStoreRefreshListener.afterRefresh()", t);
         }
-        updateFinalStatusInSegmentTracker(successful.get(), bytesBeforeUpload, startTimeInNS);
+        // Superseded uploads are not failures: they must neither count towards the consecutive failures which trigger
+        // backpressure nor delay the retry which uploads the newer refresh
+        if (superseded.get()) {
+            consecutiveSupersededSyncs++;
+            resetBackOffDelayIterator();
+        } else {
+            updateFinalStatusInSegmentTracker(successful.get(), bytesBeforeUpload, startTimeInNS);
+        }
         // If there are failures in uploading segments, then we should retry as search idle can lead to
         // refresh not occurring until write happens.
         logger.debug("syncSegments runStatus={}", successful.get());
@@ -404,6 +433,7 @@ public final class RemoteStoreRefreshListener extends ReleasableRetryableRefresh
         updateRemoteRefreshTimeAndSeqNo(refreshTimeMs, refreshClockTimeMs, refreshSeqNo);
         // Reset the backoffDelayIterator for the future failures
         resetBackOffDelayIterator();
+        consecutiveSupersededSyncs = 0;
         // Set the minimum sequence number for keeping translog
         indexShard.getEngine().translogManager().setMinSeqNoToKeep(lastRefreshedCheckpoint + 1);
         // Publishing the new checkpoint which is used for remote store + segrep indexes
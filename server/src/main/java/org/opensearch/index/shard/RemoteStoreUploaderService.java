@@ -16,15 +16,26 @@ import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
 import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.cluster.metadata.CryptoMetadata;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.util.UploadListener;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.remote.RemoteSegmentTransferTracker;
 import org.opensearch.index.store.CompositeDirectory;
 import org.opensearch.index.store.RemoteSegmentStoreDirectory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+import static org.opensearch.index.shard.RemoteStoreRefreshListener.EXCLUDE_FILES;
 
 /**
  * The service essentially acts as a bridge between local segment storage and remote storage,
@@ -37,12 +48,46 @@ public class RemoteStoreUploaderService implements RemoteStoreUploader {
     private final IndexShard indexShard;
     private final Directory storeDirectory;
     private final RemoteSegmentStoreDirectory remoteDirectory;
+    @Nullable
+    private final RemoteSegmentTransferTracker segmentTracker;
+    private final IntSupplier maxConcurrentUploadsSupplier;
+    private final BooleanSupplier skipStaleSegmentsSupplier;
 
     public RemoteStoreUploaderService(IndexShard indexShard, Directory storeDirectory, RemoteSegmentStoreDirectory remoteDirectory) {
+        this(indexShard, storeDirectory, remoteDirectory, null, () -> Integer.MAX_VALUE);
+    }
+
+    public RemoteStoreUploaderService(
+        IndexShard indexShard,
+        Directory storeDirectory,
+        RemoteSegmentStoreDirectory remoteDirectory,
+        @Nullable RemoteSegmentTransferTracker segmentTracker,
+        IntSupplier maxConcurrentUploadsSupplier
+    ) {
+        this(indexShard, storeDirectory, remoteDirectory, segmentTracker, maxConcurrentUploadsSupplier, () -> true);
+    }
+
+    /**
+     * Creates an uploader which uploads at most the given number of segment files at a time and, if a segment tracker is
+     * given, skips the files that the latest refresh tracked by it no longer references. Files are only skipped by the
+     * uploads started while {@code skipStaleSegmentsSupplier} returns true, the other uploads upload all their files so that
+     * the metadata of their refresh can be uploaded even if newer refreshes keep replacing files.
+     */
+    public RemoteStoreUploaderService(
+        IndexShard indexShard,
+        Directory storeDirectory,
+        RemoteSegmentStoreDirectory remoteDirectory,
+        @Nullable RemoteSegmentTransferTracker segmentTracker,
+        IntSupplier maxConcurrentUploadsSupplier,
+        BooleanSupplier skipStaleSegmentsSupplier
+    ) {
         logger = Loggers.getLogger(getClass(), indexShard.shardId());
         this.indexShard = indexShard;
         this.storeDirectory = storeDirectory;
         this.remoteDirectory = remoteDirectory;
+        this.segmentTracker = segmentTracker;
+        this.maxConcurrentUploadsSupplier = maxConcurrentUploadsSupplier;
+        this.skipStaleSegmentsSupplier = skipStaleSegmentsSupplier;
     }
 
     @Override
@@ -61,37 +106,142 @@ public class RemoteStoreUploaderService implements RemoteStoreUploader {
         }
 
         logger.debug("Effective new segments files to upload {}", localSegments);
-        ActionListener<Collection<Void>> mappedListener = ActionListener.map(listener, resp -> null);
-        GroupedActionListener<Void> batchUploadListener = new GroupedActionListener<>(mappedListener, localSegments.size());
-        Directory directory = ((FilterDirectory) (((FilterDirectory) storeDirectory).getDelegate())).getDelegate();
+        // Small files mostly belong to the latest refreshes, so they are uploaded before the large files of merged segments
+        final List<String> orderedSegments = new ArrayList<>(localSegments);
+        orderedSegments.sort(
+            Comparator.comparingLong((String segment) -> localSegmentsSizeMap.getOrDefault(segment, 0L)).thenComparing(segment -> segment)
+        );
+        final SegmentUploads uploads = new SegmentUploads(
+            orderedSegments,
+            localSegmentsSizeMap,
+            listener,
+            uploadListenerFunction,
+            isLowPriorityUpload,
+            cryptoMetadata
+        );
+        final int maxConcurrentUploads = Math.max(1, Math.min(maxConcurrentUploadsSupplier.getAsInt(), orderedSegments.size()));
+        for (int i = 0; i < maxConcurrentUploads; i++) {
+            uploadNextSegments(uploads);
+        }
+    }
 
-        for (String localSegment : localSegments) {
+    /**
+     * Uploads the pending segment files one after the other until none are left or an upload completes asynchronously, in
+     * which case its completion carries on with the next file. Uploads which complete on the calling thread are continued in
+     * the loop to avoid deep recursion.
+     */
+    private void uploadNextSegments(SegmentUploads uploads) {
+        Directory directory = ((FilterDirectory) (((FilterDirectory) storeDirectory).getDelegate())).getDelegate();
+        String localSegment;
+        while ((localSegment = uploads.next()) != null) {
+            final String segment = localSegment;
+            // Set by whichever comes first of the upload completing and this loop moving on
+            final AtomicBoolean uploadInFlight = new AtomicBoolean();
             // Initializing listener here to ensure that the stats increment operations are thread-safe
-            UploadListener statsListener = uploadListenerFunction.apply(localSegmentsSizeMap);
-            ActionListener<Void> aggregatedListener = ActionListener.wrap(resp -> {
-                statsListener.onSuccess(localSegment);
-                batchUploadListener.onResponse(resp);
+            UploadListener statsListener = uploads.uploadListenerFunction.apply(uploads.localSegmentsSizeMap);
+            ActionListener<Void> aggregatedListener = ActionListener.runAfter(ActionListener.wrap(resp -> {
+                statsListener.onSuccess(segment);
+                uploads.batchUploadListener.onResponse(resp);
                 // Once uploaded to Remote, local files become eligible for eviction from FileCache
                 if (directory instanceof CompositeDirectory compositeDirectory) {
-                    compositeDirectory.afterSyncToRemote(localSegment);
+                    compositeDirectory.afterSyncToRemote(segment);
                 }
             }, ex -> {
                 logger.warn(() -> new ParameterizedMessage("Exception: [{}] while uploading segment files", ex), ex);
                 if (ex instanceof CorruptIndexException) {
                     indexShard.failShard(ex.getMessage(), ex);
                 }
-                statsListener.onFailure(localSegment);
-                batchUploadListener.onFailure(ex);
+                statsListener.onFailure(segment);
+                uploads.batchUploadListener.onFailure(ex);
+            }), () -> {
+                if (uploadInFlight.getAndSet(true)) {
+                    uploadNextSegments(uploads);
+                }
             });
-            statsListener.beforeUpload(localSegment);
+            statsListener.beforeUpload(segment);
             remoteDirectory.copyFrom(
                 storeDirectory,
-                localSegment,
+                segment,
                 IOContext.DEFAULT,
                 aggregatedListener,
-                isLowPriorityUpload,
-                cryptoMetadata
+                uploads.isLowPriorityUpload,
+                uploads.cryptoMetadata
             );
+            if (uploadInFlight.getAndSet(true) == false) {
+                // the upload is still running and continues with the next file once it completes
+                return;
+            }
+        }
+    }
+
+    /**
+     * The segment files of a single upload, handed out in order while skipping those that the latest refresh of the shard no
+     * longer references.
+     */
+    private final class SegmentUploads {
+        private final Iterator<String> pendingSegments;
+        private final Map<String, Long> localSegmentsSizeMap;
+        private final GroupedActionListener<Void> batchUploadListener;
+        private final Function<Map<String, Long>, UploadListener> uploadListenerFunction;
+        private final boolean isLowPriorityUpload;
+        private final CryptoMetadata cryptoMetadata;
+        private final boolean skipStaleSegments;
+        private final List<String> staleSegments = new ArrayList<>();
+
+        SegmentUploads(
+            List<String> orderedSegments,
+            Map<String, Long> localSegmentsSizeMap,
+            ActionListener<Void> listener,
+            Function<Map<String, Long>, UploadListener> uploadListenerFunction,
+            boolean isLowPriorityUpload,
+            CryptoMetadata cryptoMetadata
+        ) {
+            this.pendingSegments = orderedSegments.iterator();
+            this.localSegmentsSizeMap = localSegmentsSizeMap;
+            ActionListener<Collection<Void>> mappedListener = ActionListener.map(listener, resp -> {
+                ensureNoStaleSegments();
+                return null;
+            });
+            this.batchUploadListener = new GroupedActionListener<>(mappedListener, orderedSegments.size());
+            this.uploadListenerFunction = uploadListenerFunction;
+            this.isLowPriorityUpload = isLowPriorityUpload;
+            this.cryptoMetadata = cryptoMetadata;
+            this.skipStaleSegments = segmentTracker != null && skipStaleSegmentsSupplier.getAsBoolean();
+        }
+
+        String next() {
+            while (true) {
+                final String segment;
+                synchronized (this) {
+                    if (pendingSegments.hasNext() == false) {
+                        return null;
+                    }
+                    segment = pendingSegments.next();
+                    if (isReferencedByLatestRefresh(segment)) {
+                        return segment;
+                    }
+                    staleSegments.add(segment);
+                }
+                // The remote refresh following the newer local refresh does not need this file anymore
+                final long skippedBytes = localSegmentsSizeMap.getOrDefault(segment, 0L);
+                logger.debug("Skipping upload of segment file [{}] of [{}] bytes, it is no longer referenced", segment, skippedBytes);
+                segmentTracker.addUploadBytesSkipped(skippedBytes);
+                batchUploadListener.onResponse(null);
+            }
+        }
+
+        private boolean isReferencedByLatestRefresh(String segment) {
+            return skipStaleSegments == false
+                || EXCLUDE_FILES.contains(segment)
+                || segmentTracker.getLatestLocalFileNameLengthMap().containsKey(segment);
+        }
+
+        private synchronized void ensureNoStaleSegments() throws StaleSegmentUploadException {
+            if (staleSegments.isEmpty() == false) {
+                throw new StaleSegmentUploadException(
+                    "Skipped upload of segment files " + staleSegments + " which are no longer referenced by the latest refresh"
+                );
+            }
         }
     }
 }
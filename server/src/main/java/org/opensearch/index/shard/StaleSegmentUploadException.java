@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+/**
+ * Exception to be thrown when a segment upload is abandoned because a newer refresh no longer references some of its files.
+ *
+ * @opensearch.internal
+ */
+public class StaleSegmentUploadException extends SegmentUploadFailedException {
+
+    /**
+     * Creates a new StaleSegmentUploadException.
+     *
+     * @param message error message
+     */
+    public StaleSegmentUploadException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.snapshots.blobstore;
+
+import org.opensearch.action.ActionRunnable;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.util.concurrent.FutureUtils;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link ParallelRangeInputStream} reads a blob of a known length as consecutive ranges, keeping up to a fixed number of
+ * ranges in flight ahead of the reader. Each range is fetched through {@link #openRange(long, int)} on the given executor and
+ * buffered in memory, so at most {@code maxConcurrentRanges * rangeSize} bytes are held at any time. Ranges are handed out in
+ * order, so the stream can be consumed sequentially like any other input stream.
+ *
+ * @opensearch.internal
+ */
+public abstract class ParallelRangeInputStream extends InputStream {
+    private final long length;
+    private final int rangeSize;
+    private final int maxConcurrentRanges;
+    private final Executor executor;
+    private final ArrayDeque<PlainActionFuture<byte[]>> pendingRanges = new ArrayDeque<>();
+    private long nextRangePosition = 0;
+    private byte[] currentRange;
+    private int currentRangeOffset;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new ParallelRangeInputStream
+     * @param length              the total number of bytes to read
+     * @param rangeSize           the number of bytes fetched per range
+     * @param maxConcurrentRanges the maximum number of ranges fetched ahead of the reader
+     * @param executor            the executor to fetch ranges on
+     */
+    protected ParallelRangeInputStream(long length, int rangeSize, int maxConcurrentRanges, Executor executor) {
+        if (rangeSize <= 0) {
+            throw new IllegalArgumentException("range size must be positive but was [" + rangeSize + "]");
+        }
+        if (maxConcurrentRanges <= 0) {
+            throw new IllegalArgumentException("max concurrent ranges must be positive but was [" + maxConcurrentRanges + "]");
+        }
+        this.length = length;
+        this.rangeSize = rangeSize;
+        this.maxConcurrentRanges = maxConcurrentRanges;
+        this.executor = executor;
+    }
+
+    /**
+     * Called for each range to open a stream over the given number of bytes of the blob, starting at the given position.
+     */
+    protected abstract InputStream openRange(long position, int rangeLength) throws IOException;
+
+    private byte[] currentRange() throws IOException {
+        if (closed) {
+            throw new IOException("stream is closed");
+        }
+        if (currentRange == null || currentRangeOffset == currentRange.length) {
+            fillPendingRanges();
+            final PlainActionFuture<byte[]> next = pendingRanges.poll();
+            if (next == null) {
+                return null;
+            }
+            currentRange = awaitRange(next);
+            currentRangeOffset = 0;
+            // schedule the range that replaces the one just taken before handing out its bytes
+            fillPendingRanges();
+        }
+        return currentRange;
+    }
+
+    private void fillPendingRanges() {
+        while (pendingRanges.size() < maxConcurrentRanges && nextRangePosition < length) {
+            final long position = nextRangePosition;
+            final int rangeLength = Math.toIntExact(Math.min(rangeSize, length - position));
+            nextRangePosition += rangeLength;
+            final PlainActionFuture<byte[]> future = PlainActionFuture.newFuture();
+            pendingRanges.add(future);
+            executor.execute(ActionRunnable.supply(future, () -> readRange(position, rangeLength)));
+        }
+    }
+
+    private byte[] readRange(long position, int rangeLength) throws IOException {
+        if (closed) {
+            throw new IOException("stream is closed");
+        }
+        try (InputStream stream = openRange(position, rangeLength)) {
+            final byte[] bytes = stream.readNBytes(rangeLength);
+            if (bytes.length != rangeLength) {
+                throw new EOFException(
+                    "expected [" + rangeLength + "] bytes at position [" + position + "] but only read [" + bytes.length + "]"
+                );
+            }
+            return bytes;
+        }
+    }
+
+    private static byte[] awaitRange(PlainActionFuture<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while reading range", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw FutureUtils.rethrowExecutionException(e);
+        }
+    }
+
+    @Override
+    public final int read() throws IOException {
+        final byte[] range = currentRange();
+        if (range == null) {
+            return -1;
+        }
+        return range[currentRangeOffset++] & 0xFF;
+    }
+
+    @Override
+    public final int read(byte[] buffer, int offset, int len) throws IOException {
+        Objects.checkFromIndexSize(offset, len, buffer.length);
+        if (len == 0) {
+            return 0;
+        }
+        final byte[] range = currentRange();
+        if (range == null) {
+            return -1;
+        }
+        final int read = Math.min(len, range.length - currentRangeOffset);
+        System.arraycopy(range, currentRangeOffset, buffer, offset, read);
+        currentRangeOffset += read;
+        return read;
+    }
+
+    @Override
+    public final void close() {
+        // ranges that are still in flight fail fast or are dropped once they complete
+        closed = true;
+        pendingRanges.clear();
+        currentRange = null;
+    }
+
+    @Override
+    public final int available() {
+        return currentRange == null ? 0 : currentRange.length - currentRangeOffset;
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.lucene.util.Version;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.lucene.store.InputStreamIndexInput;
 import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.store.remote.file.BlockSizePolicy;
 import org.opensearch.index.store.remote.file.OnDemandBlockSnapshotIndexInput;
 import org.opensearch.index.store.remote.filecache.CachedFullFileIndexInput;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
@@ -61,6 +62,7 @@ public class CompositeDirectory extends FilterDirectory {
     protected final FileCache fileCache;
     protected final TransferManager transferManager;
     protected final ThreadPool threadPool;
+    protected final BlockSizePolicy blockSizePolicy;
 
     /**
      * Constructor to initialise the composite directory
@@ -69,12 +71,30 @@ public class CompositeDirectory extends FilterDirectory {
      * @param fileCache used to cache the remote files locally
      */
     public CompositeDirectory(Directory localDirectory, Directory remoteDirectory, FileCache fileCache, ThreadPool threadPool) {
+        this(localDirectory, remoteDirectory, fileCache, threadPool, BlockSizePolicy.UNIFORM);
+    }
+
+    /**
+     * Constructor to initialise the composite directory
+     * @param localDirectory corresponding to the local FSDirectory
+     * @param remoteDirectory corresponding to the remote directory
+     * @param fileCache used to cache the remote files locally
+     * @param blockSizePolicy decides the size of the blocks in which remote files are fetched
+     */
+    public CompositeDirectory(
+        Directory localDirectory,
+        Directory remoteDirectory,
+        FileCache fileCache,
+        ThreadPool threadPool,
+        BlockSizePolicy blockSizePolicy
+    ) {
         super(localDirectory);
         validate(localDirectory, remoteDirectory, fileCache);
         this.localDirectory = localDirectory;
         this.remoteDirectory = (RemoteSegmentStoreDirectory) remoteDirectory;
         this.fileCache = fileCache;
         this.threadPool = threadPool;
+        this.blockSizePolicy = blockSizePolicy;
         transferManager = new TransferManager(
             (name, position, length) -> new InputStreamIndexInput(
                 CompositeDirectory.this.remoteDirectory.openBlockInput(name, position, length, IOContext.DEFAULT),
@@ -345,7 +365,12 @@ public class CompositeDirectory extends FilterDirectory {
                 new StoreFileMetadata(name, uploadedSegmentMetadata.getLength(), uploadedSegmentMetadata.getChecksum(), Version.LATEST),
                 null
             );
-            return new OnDemandBlockSnapshotIndexInput(fileInfo, getLocalFSDirectory(), transferManager);
+            return new OnDemandBlockSnapshotIndexInput(
+                fileInfo,
+                getLocalFSDirectory(),
+                transferManager,
+                blockSizePolicy.blockSizeShift(name)
+            );
         }
     }
 
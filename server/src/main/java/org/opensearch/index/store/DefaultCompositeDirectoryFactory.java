@@ -13,6 +13,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.store.Directory;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.shard.ShardPath;
+import org.opensearch.index.store.remote.file.BlockSizePolicy;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.plugins.IndexStorePlugin;
 import org.opensearch.threadpool.ThreadPool;
@@ -37,6 +38,12 @@ public class DefaultCompositeDirectoryFactory implements IndexStorePlugin.Compos
     ) throws IOException {
         logger.trace("Creating composite directory from core - Default CompositeDirectoryFactory");
         Directory localDirectory = localDirectoryFactory.newDirectory(indexSettings, shardPath);
-        return new CompositeDirectory(localDirectory, remoteDirectory, fileCache, threadPool);
+        return new CompositeDirectory(
+            localDirectory,
+            remoteDirectory,
+            fileCache,
+            threadPool,
+            BlockSizePolicy.fromSettings(indexSettings.getSettings())
+        );
     }
 }
@@ -17,6 +17,7 @@ import org.apache.lucene.store.Lock;
 import org.apache.lucene.store.NoLockFactory;
 import org.opensearch.common.lucene.store.ByteArrayIndexInput;
 import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.store.remote.file.BlockSizePolicy;
 import org.opensearch.index.store.remote.file.OnDemandBlockSnapshotIndexInput;
 import org.opensearch.index.store.remote.utils.TransferManager;
 import org.opensearch.repositories.blobstore.BlobStoreRepository;
@@ -41,13 +42,24 @@ public final class RemoteSnapshotDirectory extends Directory {
     private final Map<String, BlobStoreIndexShardSnapshot.FileInfo> fileInfoMap;
     private final FSDirectory localStoreDir;
     private final TransferManager transferManager;
+    private final BlockSizePolicy blockSizePolicy;
 
     public RemoteSnapshotDirectory(BlobStoreIndexShardSnapshot snapshot, FSDirectory localStoreDir, TransferManager transferManager) {
+        this(snapshot, localStoreDir, transferManager, BlockSizePolicy.UNIFORM);
+    }
+
+    public RemoteSnapshotDirectory(
+        BlobStoreIndexShardSnapshot snapshot,
+        FSDirectory localStoreDir,
+        TransferManager transferManager,
+        BlockSizePolicy blockSizePolicy
+    ) {
         this.fileInfoMap = snapshot.indexFiles()
             .stream()
             .collect(Collectors.toMap(BlobStoreIndexShardSnapshot.FileInfo::physicalName, f -> f));
         this.localStoreDir = localStoreDir;
         this.transferManager = transferManager;
+        this.blockSizePolicy = blockSizePolicy;
     }
 
     @Override
@@ -70,7 +82,12 @@ public final class RemoteSnapshotDirectory extends Directory {
         if (fileInfo.name().startsWith(VIRTUAL_FILE_PREFIX)) {
             return new ByteArrayIndexInput(fileInfo.physicalName(), fileInfo.metadata().hash().bytes);
         }
-        return new OnDemandBlockSnapshotIndexInput(fileInfo, localStoreDir, transferManager);
+        return new OnDemandBlockSnapshotIndexInput(
+            fileInfo,
+            localStoreDir,
+            transferManager,
+            blockSizePolicy.blockSizeShift(fileInfo.physicalName())
+        );
     }
 
     @Override
@@ -11,12 +11,14 @@ package org.opensearch.index.store.remote.directory;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.LockFactory;
+import org.opensearch.common.blobstore.AsyncMultiStreamBlobContainer;
 import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.remote.RemoteStoreEnums.PathType;
 import org.opensearch.index.shard.ShardPath;
 import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.snapshots.blobstore.IndexShardSnapshot;
+import org.opensearch.index.store.remote.file.BlockSizePolicy;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.utils.TransferManager;
 import org.opensearch.plugins.IndexStorePlugin;
@@ -107,8 +109,31 @@ public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.Di
             assert indexShardSnapshot instanceof BlobStoreIndexShardSnapshot
                 : "indexShardSnapshot should be an instance of BlobStoreIndexShardSnapshot";
             final BlobStoreIndexShardSnapshot snapshot = (BlobStoreIndexShardSnapshot) indexShardSnapshot;
-            TransferManager transferManager = new TransferManager(blobContainer::readBlob, remoteStoreFileCache, threadPool);
-            return new RemoteSnapshotDirectory(snapshot, localStoreDir, transferManager);
+            TransferManager transferManager = new TransferManager(
+                blobContainer::readBlob,
+                asyncStreamReader(blobContainer),
+                remoteStoreFileCache,
+                threadPool
+            );
+            return new RemoteSnapshotDirectory(
+                snapshot,
+                localStoreDir,
+                transferManager,
+                BlockSizePolicy.fromSettings(indexSettings.getSettings())
+            );
         });
     }
+
+    /**
+     * Returns a reader which downloads blocks without holding a thread if the repository supports it, or null otherwise
+     */
+    private static TransferManager.AsyncStreamReader asyncStreamReader(BlobContainer blobContainer) {
+        if (blobContainer instanceof AsyncMultiStreamBlobContainer) {
+            final AsyncMultiStreamBlobContainer asyncBlobContainer = (AsyncMultiStreamBlobContainer) blobContainer;
+            if (asyncBlobContainer.asyncRangeReadSupported()) {
+                return asyncBlobContainer::readBlobAsync;
+            }
+        }
+        return null;
+    }
 }
@@ -18,6 +18,7 @@ import java.io.Closeable;
 import java.io.EOFException;
 import java.io.IOException;
 import java.lang.ref.Cleaner;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -31,6 +32,11 @@ import java.util.stream.IntStream;
  * This class delegate the responsibility of actually fetching the block when demanded to its subclasses using
  * {@link AbstractBlockIndexInput#fetchBlock(int)}.
  * <p>
+ * Each instance also tracks the order in which it demands blocks. Once two consecutive block transitions move forward by
+ * the same number of blocks (sequential or strided access), the next {@link #PREFETCH_DEPTH} blocks along that stride are
+ * handed to {@link AbstractBlockIndexInput#prefetchBlock(int)} so that subclasses may start fetching them before they are
+ * read.
+ * <p>
  * Like {@link IndexInput}, this class may only be used from one thread as it is not thread safe.
  * However, a cleaning action may run from another thread triggered by the {@link Cleaner}, but
  * this is okay because at that point the {@link AbstractBlockIndexInput} instance is phantom
@@ -52,6 +58,12 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
      */
     protected static final Cleaner CLEANER = Cleaner.create(OpenSearchExecutors.daemonThreadFactory(CLEANER_THREAD_NAME_PREFIX));
 
+    /**
+     * Number of blocks ahead of the current block which are prefetched once a sequential or strided access pattern is
+     * detected
+     */
+    public static final int PREFETCH_DEPTH = 2;
+
     /**
      * Start offset of the virtual file : non-zero in the slice case
      */
@@ -83,6 +95,14 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
     private final BlockHolder blockHolder = new BlockHolder();
     protected final Cleaner.Cleanable cleanable;
 
+    /**
+     * Access pattern detection: the last demanded block, the distance to the block demanded before it, and the furthest
+     * block handed to {@link #prefetchBlock(int)} for the current pattern
+     */
+    private int lastDemandedBlockId = -1;
+    private int accessStride;
+    private int prefetchedUpToBlockId = -1;
+
     protected AbstractBlockIndexInput(Builder builder) {
         super(builder.resourceDescription);
         this.isClone = builder.isClone;
@@ -106,6 +126,26 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
      */
     protected abstract IndexInput fetchBlock(int blockId) throws IOException;
 
+    /**
+     * Called with the id of a block which is expected to be demanded soon, based on the access pattern of this instance.
+     * Implementations may start fetching the block in the background but must not block the caller. The block id is
+     * always within the bounds of this input. The default implementation does nothing.
+     * @param blockId to prefetch
+     */
+    protected void prefetchBlock(int blockId) {}
+
+    /**
+     * Called with the ids, in ascending order, of all blocks which are expected to be demanded soon after a block was
+     * demanded. Implementations may fetch them together, for instance with a single request if they are adjacent. The
+     * default implementation hands each block to {@link #prefetchBlock(int)}.
+     * @param blockIds to prefetch
+     */
+    protected void prefetchBlocks(int[] blockIds) {
+        for (int blockId : blockIds) {
+            prefetchBlock(blockId);
+        }
+    }
+
     @Override
     public abstract AbstractBlockIndexInput clone();
 
@@ -134,6 +174,9 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
     public void close() throws IOException {
         blockHolder.close();
         currentBlockId = 0;
+        lastDemandedBlockId = -1;
+        accessStride = 0;
+        prefetchedUpToBlockId = -1;
     }
 
     @Override
@@ -398,6 +441,21 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
         return fileName + "_block_" + blockId;
     }
 
+    /**
+     * Returns the name of a block file for a file split into blocks of the given size. Blocks of the default size keep the
+     * name returned by {@link #getBlockFileName(String, int)}, blocks of any other size also carry the block size shift so
+     * that blocks cached under a different block size are never mistaken for each other.
+     * @param fileName name of the original file
+     * @param blockId id of the block
+     * @param blockSizeShift blockSizeShift used to create blocks
+     */
+    public static String getBlockFileName(String fileName, int blockId, int blockSizeShift) {
+        if (blockSizeShift == Builder.DEFAULT_BLOCK_SIZE_SHIFT) {
+            return getBlockFileName(fileName, blockId);
+        }
+        return getBlockFileName(fileName, blockId) + "_s" + blockSizeShift;
+    }
+
     /**
      * Utility method to get the original file name given the block file name. .
      * @param blockFileName name of the block file whose original file name is required.
@@ -444,12 +502,41 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
 
         blockHolder.set(fetchBlock(blockId));
         currentBlockId = blockId;
+        onBlockDemanded(blockId);
+    }
+
+    private void onBlockDemanded(int blockId) {
+        final int stride = blockId - lastDemandedBlockId;
+        lastDemandedBlockId = blockId;
+        if (stride <= 0 || stride != accessStride) {
+            // no pattern yet, or the pattern changed: start tracking the new one
+            accessStride = Math.max(stride, 0);
+            prefetchedUpToBlockId = blockId;
+            return;
+        }
+        final int lastBlockId = getBlock(offset + length - 1);
+        final int[] blockIds = new int[PREFETCH_DEPTH];
+        int numBlocks = 0;
+        for (int i = 1; i <= PREFETCH_DEPTH; i++) {
+            final long nextBlockId = blockId + (long) i * stride;
+            if (nextBlockId > lastBlockId) {
+                break;
+            }
+            if (nextBlockId > prefetchedUpToBlockId) {
+                blockIds[numBlocks++] = (int) nextBlockId;
+                prefetchedUpToBlockId = (int) nextBlockId;
+            }
+        }
+        if (numBlocks > 0) {
+            prefetchBlocks(Arrays.copyOf(blockIds, numBlocks));
+        }
     }
 
     protected void cloneBlock(AbstractBlockIndexInput other) {
         if (other.blockHolder.block != null) {
             this.blockHolder.set(other.blockHolder.block.clone());
             this.currentBlockId = other.currentBlockId;
+            this.lastDemandedBlockId = other.currentBlockId;
         }
     }
 
@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.file;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.index.store.remote.utils.FileTypeUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decides the size of the blocks in which a remote file is fetched into the file cache, based on the Lucene file extension.
+ * By default all files use {@link AbstractBlockIndexInput.Builder#DEFAULT_BLOCK_SIZE}. Indices can opt in to a per-extension
+ * table with {@code index.store.remote.block_size_by_extension}: files which are mostly accessed through small random reads
+ * (terms and points indices, stored fields index) then use smaller blocks so that a lookup does not download more than it
+ * needs, while files which are mostly scanned (doc values, stored fields) use larger blocks so that scans issue fewer remote
+ * reads. The table has not been tuned by benchmarks yet, which is why it is not the default.
+ * <p>
+ * The block size can be overridden per index and extension with {@code index.store.remote.block_size.<extension>}.
+ *
+ * @opensearch.internal
+ */
+public final class BlockSizePolicy {
+
+    static final ByteSizeValue MIN_BLOCK_SIZE = new ByteSizeValue(4, ByteSizeUnit.KB);
+    static final ByteSizeValue MAX_BLOCK_SIZE = new ByteSizeValue(1, ByteSizeUnit.GB);
+
+    /**
+     * Block size used for files with the given extension, which must be a power of two
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> INDEX_REMOTE_BLOCK_SIZE_SETTING = Setting.prefixKeySetting(
+        "index.store.remote.block_size.",
+        key -> new Setting<>(
+            key,
+            new ByteSizeValue(AbstractBlockIndexInput.Builder.DEFAULT_BLOCK_SIZE).getStringRep(),
+            value -> parseBlockSize(value, key),
+            Setting.Property.IndexScope
+        )
+    );
+
+    /**
+     * Whether files use the block sizes of {@link #EXTENSION_BLOCK_SIZE_SHIFTS} rather than the default block size
+     */
+    public static final Setting<Boolean> INDEX_REMOTE_BLOCK_SIZE_BY_EXTENSION_SETTING = Setting.boolSetting(
+        "index.store.remote.block_size_by_extension",
+        false,
+        Setting.Property.IndexScope
+    );
+
+    /**
+     * Block size shifts for extensions which do not use the default block size: 1MiB for the terms index and dictionary,
+     * the points index and the stored fields index, which are read through point lookups, and 16MiB for doc values and
+     * stored fields data, which are scanned
+     */
+    static final Map<String, Integer> EXTENSION_BLOCK_SIZE_SHIFTS = Map.of(
+        "tip",
+        20,
+        "tim",
+        20,
+        "kdi",
+        20,
+        "fdx",
+        20,
+        "dvd",
+        24,
+        "fdt",
+        24
+    );
+
+    /**
+     * Policy which uses {@link AbstractBlockIndexInput.Builder#DEFAULT_BLOCK_SIZE} for all files, the default
+     */
+    public static final BlockSizePolicy UNIFORM = new BlockSizePolicy(Map.of());
+
+    /**
+     * Policy with the per-extension block size table
+     */
+    public static final BlockSizePolicy BY_EXTENSION = new BlockSizePolicy(EXTENSION_BLOCK_SIZE_SHIFTS);
+
+    private final Map<String, Integer> blockSizeShifts;
+
+    BlockSizePolicy(Map<String, Integer> blockSizeShifts) {
+        this.blockSizeShifts = Map.copyOf(blockSizeShifts);
+    }
+
+    /**
+     * Builds the policy for an index, applying the overrides in its settings on top of the uniform policy, or of the
+     * per-extension table if the index opted in to it
+     */
+    public static BlockSizePolicy fromSettings(Settings indexSettings) {
+        final BlockSizePolicy base = INDEX_REMOTE_BLOCK_SIZE_BY_EXTENSION_SETTING.get(indexSettings) ? BY_EXTENSION : UNIFORM;
+        final Map<String, ByteSizeValue> overrides = INDEX_REMOTE_BLOCK_SIZE_SETTING.getAsMap(indexSettings);
+        if (overrides.isEmpty()) {
+            return base;
+        }
+        final Map<String, Integer> blockSizeShifts = new HashMap<>(base.blockSizeShifts);
+        overrides.forEach((extension, blockSize) -> blockSizeShifts.put(extension, Long.numberOfTrailingZeros(blockSize.getBytes())));
+        return new BlockSizePolicy(blockSizeShifts);
+    }
+
+    /**
+     * Returns the block size shift to use for the given file
+     */
+    public int blockSizeShift(String fileName) {
+        final String extension = FileTypeUtils.getExtension(fileName);
+        if (extension == null) {
+            return AbstractBlockIndexInput.Builder.DEFAULT_BLOCK_SIZE_SHIFT;
+        }
+        return blockSizeShifts.getOrDefault(extension, AbstractBlockIndexInput.Builder.DEFAULT_BLOCK_SIZE_SHIFT);
+    }
+
+    private static ByteSizeValue parseBlockSize(String value, String key) {
+        final ByteSizeValue blockSize = ByteSizeValue.parseBytesSizeValue(value, key);
+        final long bytes = blockSize.getBytes();
+        if (bytes < MIN_BLOCK_SIZE.getBytes() || bytes > MAX_BLOCK_SIZE.getBytes()) {
+            throw new IllegalArgumentException(
+                "failed to parse value ["
+                    + value
+                    + "] for setting ["
+                    + key
+                    + "], must be between ["
+                    + MIN_BLOCK_SIZE
+                    + "] and ["
+                    + MAX_BLOCK_SIZE
+                    + "]"
+            );
+        }
+        if (Long.bitCount(bytes) != 1) {
+            throw new IllegalArgumentException("failed to parse value [" + value + "] for setting [" + key + "], must be a power of two");
+        }
+        return blockSize;
+    }
+}
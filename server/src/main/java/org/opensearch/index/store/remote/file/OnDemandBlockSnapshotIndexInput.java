@@ -59,21 +59,29 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
     protected final long originalFileSize;
 
     public OnDemandBlockSnapshotIndexInput(FileInfo fileInfo, FSDirectory directory, TransferManager transferManager) {
+        this(fileInfo, directory, transferManager, AbstractBlockIndexInput.Builder.DEFAULT_BLOCK_SIZE_SHIFT);
+    }
+
+    public OnDemandBlockSnapshotIndexInput(FileInfo fileInfo, FSDirectory directory, TransferManager transferManager, int blockSizeShift) {
         this(
-            "BlockedSnapshotIndexInput(path=\""
-                + directory.getDirectory().toString()
-                + "/"
-                + fileInfo.physicalName()
-                + "\", "
-                + "offset="
-                + 0
-                + ", length= "
-                + fileInfo.length()
-                + ")",
+            AbstractBlockIndexInput.builder()
+                .resourceDescription(
+                    "BlockedSnapshotIndexInput(path=\""
+                        + directory.getDirectory().toString()
+                        + "/"
+                        + fileInfo.physicalName()
+                        + "\", "
+                        + "offset="
+                        + 0
+                        + ", length= "
+                        + fileInfo.length()
+                        + ")"
+                )
+                .isClone(false)
+                .offset(0L)
+                .length(fileInfo.length())
+                .blockSizeShift(blockSizeShift),
             fileInfo,
-            0L,
-            fileInfo.length(),
-            false,
             directory,
             transferManager
         );
@@ -137,7 +145,27 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
     @Override
     protected IndexInput fetchBlock(int blockId) throws IOException {
         logger.trace("fetchBlock called with blockId -> {}", blockId);
-        final String blockFileName = getBlockFileName(fileName, blockId);
+        return transferManager.fetchBlob(createBlobFetchRequest(blockId));
+    }
+
+    @Override
+    protected void prefetchBlock(int blockId) {
+        logger.trace("prefetchBlock called with blockId -> {}", blockId);
+        transferManager.prefetchBlob(createBlobFetchRequest(blockId));
+    }
+
+    @Override
+    protected void prefetchBlocks(int[] blockIds) {
+        logger.trace("prefetchBlocks called with blockIds -> {}", blockIds);
+        final List<BlobFetchRequest> blobFetchRequests = new ArrayList<>(blockIds.length);
+        for (int blockId : blockIds) {
+            blobFetchRequests.add(createBlobFetchRequest(blockId));
+        }
+        transferManager.prefetchBlobs(blobFetchRequests);
+    }
+
+    private BlobFetchRequest createBlobFetchRequest(int blockId) {
+        final String blockFileName = getBlockFileName(fileName, blockId, blockSizeShift);
 
         final long blockStart = getBlockStart(blockId);
         final long blockEnd = blockStart + getActualBlockSize(blockId, blockSizeShift, originalFileSize);
@@ -152,12 +180,11 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
 
         // Block may be present on multiple chunks of a file, so we need
         // to fetch each chunk/blob part separately to fetch an entire block.
-        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder()
+        return BlobFetchRequest.builder()
             .blobParts(getBlobParts(blockStart, blockEnd))
             .directory(directory)
             .fileName(blockFileName)
             .build();
-        return transferManager.fetchBlob(blobFetchRequest);
     }
 
     /**
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.filecache;
+
+import org.opensearch.common.metrics.CounterMetric;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Node level bookkeeping for blocks which are fetched into the {@link FileCache} ahead of being read. It bounds the number
+ * of block prefetches in flight on the node and counts how many prefetched blocks were later read (hits) and how many
+ * left the cache without ever being read (waste).
+ *
+ * @opensearch.internal
+ */
+public class BlockPrefetchTracker {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int maxConcurrentPrefetches;
+
+    private final CounterMetric prefetchCount = new CounterMetric();
+    private final CounterMetric hitCount = new CounterMetric();
+    private final CounterMetric wasteCount = new CounterMetric();
+
+    public BlockPrefetchTracker(int maxConcurrentPrefetches) {
+        this.maxConcurrentPrefetches = maxConcurrentPrefetches;
+    }
+
+    public void setMaxConcurrentPrefetches(int maxConcurrentPrefetches) {
+        this.maxConcurrentPrefetches = maxConcurrentPrefetches;
+    }
+
+    public int getMaxConcurrentPrefetches() {
+        return maxConcurrentPrefetches;
+    }
+
+    /**
+     * Reserves a slot for a prefetch. Returns {@code false} if the node already has the maximum number of prefetches in
+     * flight, in which case the caller must not issue the prefetch. A successful call must be paired with a call to
+     * {@link #onPrefetchCompleted()}.
+     */
+    public boolean tryStartPrefetch() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= maxConcurrentPrefetches) {
+                return false;
+            }
+        } while (inFlight.compareAndSet(current, current + 1) == false);
+        return true;
+    }
+
+    /**
+     * Releases the slot reserved by {@link #tryStartPrefetch()}.
+     */
+    public void onPrefetchCompleted() {
+        final int remaining = inFlight.decrementAndGet();
+        assert remaining >= 0 : "prefetch completed without being started";
+    }
+
+    /**
+     * Records that a block download was started ahead of it being read.
+     */
+    public void onPrefetchIssued() {
+        prefetchCount.inc();
+    }
+
+    /**
+     * Records the first read of a block which was prefetched.
+     */
+    public void onPrefetchHit() {
+        hitCount.inc();
+    }
+
+    /**
+     * Records a prefetched block which left the cache without being read.
+     */
+    public void onPrefetchWasted() {
+        wasteCount.inc();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getPrefetchCount() {
+        return prefetchCount.count();
+    }
+
+    public long getHitCount() {
+        return hitCount.count();
+    }
+
+    public long getWasteCount() {
+        return wasteCount.count();
+    }
+}
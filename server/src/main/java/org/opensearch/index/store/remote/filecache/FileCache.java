@@ -13,6 +13,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.index.store.remote.filecache.AggregateFileCacheStats.FileCacheStatsType;
 import org.opensearch.index.store.remote.utils.cache.RefCountedCache;
@@ -62,6 +63,10 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
 
     private final CircuitBreaker circuitBreaker = null;
 
+    private final BlockPrefetchTracker prefetchTracker = new BlockPrefetchTracker(
+        FileCacheSettings.MAX_CONCURRENT_BLOCK_PREFETCHES_SETTING.getDefault(Settings.EMPTY)
+    );
+
     /**
      * @deprecated Use {@link FileCache(SegmentedCache<Path, CachedIndexInput>)}. CircuitBreaker parameter is not used.
      */
@@ -239,6 +244,13 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
         });
     }
 
+    /**
+     * Returns the node level tracker for blocks fetched into this cache ahead of being read
+     */
+    public BlockPrefetchTracker prefetchTracker() {
+        return prefetchTracker;
+    }
+
     /**
      * Returns the current {@link AggregateFileCacheStats}
      */
@@ -260,6 +272,9 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 overallCacheStats.removeWeight(),
                 overallCacheStats.hitCount(),
                 overallCacheStats.missCount(),
+                prefetchTracker.getPrefetchCount(),
+                prefetchTracker.getHitCount(),
+                prefetchTracker.getWasteCount(),
                 FileCacheStatsType.OVER_ALL_STATS
             ),
             new FileCacheStats(
@@ -282,6 +297,9 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 blockFileCacheStats.removeWeight(),
                 blockFileCacheStats.hitCount(),
                 blockFileCacheStats.missCount(),
+                prefetchTracker.getPrefetchCount(),
+                prefetchTracker.getHitCount(),
+                prefetchTracker.getWasteCount(),
                 FileCacheStatsType.BLOCK_FILE_STATS
             ),
             new FileCacheStats(
@@ -44,6 +44,16 @@ public class FileCacheFactory {
         return new FileCache(createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).build());
     }
 
+    public static FileCache createConcurrentFileCache(long capacity, SegmentedCache.EvictionPolicy evictionPolicy) {
+        return new FileCache(createDefaultBuilder().capacity(capacity).evictionPolicy(evictionPolicy).build());
+    }
+
+    public static FileCache createConcurrentFileCache(long capacity, int concurrencyLevel, SegmentedCache.EvictionPolicy evictionPolicy) {
+        return new FileCache(
+            createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).evictionPolicy(evictionPolicy).build()
+        );
+    }
+
     private static SegmentedCache.Builder<Path, CachedIndexInput> createDefaultBuilder() {
         return SegmentedCache.<Path, CachedIndexInput>builder()
             // use length in bytes as the weight of the file item
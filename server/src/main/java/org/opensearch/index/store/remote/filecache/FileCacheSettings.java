@@ -11,6 +11,9 @@ package org.opensearch.index.store.remote.filecache;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
+
+import java.util.Locale;
 
 /**
  * Settings relate to file cache
@@ -32,6 +35,30 @@ public class FileCacheSettings {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Maximum number of blocks which may be fetched into the file cache ahead of being read at any one time on a node.
+     * Block inputs which are read sequentially or with a constant stride prefetch the blocks they are expected to read
+     * next, as long as this limit is not reached. A value of 0 disables prefetching.
+     */
+    public static final Setting<Integer> MAX_CONCURRENT_BLOCK_PREFETCHES_SETTING = Setting.intSetting(
+        "node.search.cache.max_concurrent_block_prefetches",
+        4,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Eviction policy of the file cache. {@code lru} evicts the least recently used unreferenced file, {@code s3_fifo}
+     * keeps files which are read repeatedly over files which are only read once, such as the blocks read by a scan, and
+     * does not take a segment wide lock when looking up files.
+     */
+    public static final Setting<SegmentedCache.EvictionPolicy> EVICTION_POLICY_SETTING = new Setting<>(
+        "node.search.cache.eviction_policy",
+        SegmentedCache.EvictionPolicy.LRU.name().toLowerCase(Locale.ROOT),
+        SegmentedCache.EvictionPolicy::fromString,
+        Setting.Property.NodeScope
+    );
+
     private volatile double remoteDataRatio;
 
     public FileCacheSettings(Settings settings, ClusterSettings clusterSettings) {
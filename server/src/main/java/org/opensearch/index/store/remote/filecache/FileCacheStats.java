@@ -28,6 +28,7 @@ import static org.opensearch.index.store.remote.filecache.AggregateFileCacheStat
  * Aggregates statistics across all cache segments including:
  * - Memory usage: active and used bytes.
  * - Cache performance: hit counts and eviction counts.
+ * - Block prefetching: prefetched blocks and how many of them were read (hits) or evicted unread (waste).
  * - Utilization: active percentage of total used memory.
  * The statistics are exposed as part of {@link AggregateFileCacheStats} and via {@link org.opensearch.action.admin.cluster.node.stats.NodeStats}
  * to provide visibility into cache behavior and performance.
@@ -45,6 +46,9 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
     private final long removed;
     private final long hits;
     private final long misses;
+    private final long prefetches;
+    private final long prefetchHits;
+    private final long prefetchWaste;
     private final FileCacheStatsType statsType;
 
     @InternalApi
@@ -58,6 +62,24 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         final long hits,
         long misses,
         FileCacheStatsType statsType
+    ) {
+        this(active, total, used, pinned, evicted, removed, hits, misses, 0L, 0L, 0L, statsType);
+    }
+
+    @InternalApi
+    public FileCacheStats(
+        final long active,
+        long total,
+        final long used,
+        final long pinned,
+        final long evicted,
+        final long removed,
+        final long hits,
+        long misses,
+        long prefetches,
+        long prefetchHits,
+        long prefetchWaste,
+        FileCacheStatsType statsType
     ) {
         this.active = active;
         this.total = total;
@@ -67,6 +89,9 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         this.removed = removed;
         this.hits = hits;
         this.misses = misses;
+        this.prefetches = prefetches;
+        this.prefetchHits = prefetchHits;
+        this.prefetchWaste = prefetchWaste;
         this.statsType = statsType;
     }
 
@@ -87,6 +112,15 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
             this.removed = 0L;
             this.misses = 0L;
         }
+        if (in.getVersion().onOrAfter(Version.V_3_6_0)) {
+            this.prefetches = in.readVLong();
+            this.prefetchHits = in.readVLong();
+            this.prefetchWaste = in.readVLong();
+        } else {
+            this.prefetches = 0L;
+            this.prefetchHits = 0L;
+            this.prefetchWaste = 0L;
+        }
     }
 
     @Override
@@ -103,6 +137,11 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
             out.writeLong(removed);
             out.writeLong(misses);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_6_0)) {
+            out.writeVLong(prefetches);
+            out.writeVLong(prefetchHits);
+            out.writeVLong(prefetchWaste);
+        }
     }
 
     public long getActive() {
@@ -149,6 +188,18 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         return misses;
     }
 
+    public long getPrefetches() {
+        return prefetches;
+    }
+
+    public long getPrefetchHits() {
+        return prefetchHits;
+    }
+
+    public long getPrefetchWaste() {
+        return prefetchWaste;
+    }
+
     static final class Fields {
         static final String ACTIVE = "active";
         static final String ACTIVE_IN_BYTES = "active_in_bytes";
@@ -163,6 +214,9 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         static final String ACTIVE_PERCENT = "active_percent";
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String PREFETCH_COUNT = "prefetch_count";
+        static final String PREFETCH_HIT_COUNT = "prefetch_hit_count";
+        static final String PREFETCH_WASTE_COUNT = "prefetch_waste_count";
     }
 
     @Override
@@ -180,6 +234,9 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         builder.field(FileCacheStats.Fields.ACTIVE_PERCENT, getActivePercent());
         builder.field(FileCacheStats.Fields.HIT_COUNT, getHits());
         builder.field(FileCacheStats.Fields.MISS_COUNT, getCacheMisses());
+        builder.field(FileCacheStats.Fields.PREFETCH_COUNT, getPrefetches());
+        builder.field(FileCacheStats.Fields.PREFETCH_HIT_COUNT, getPrefetchHits());
+        builder.field(FileCacheStats.Fields.PREFETCH_WASTE_COUNT, getPrefetchWaste());
         builder.endObject();
         return builder;
     }
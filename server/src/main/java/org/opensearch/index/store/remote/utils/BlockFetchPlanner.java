@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils;
+
+import org.opensearch.core.common.unit.ByteSizeUnit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Plans the reads needed to download a batch of blocks. Blocks which lie in the same blob and are adjacent, or only separated
+ * by a small gap, are merged into a single ranged read, so that fewer requests are sent to the repository. Blocks which
+ * overlap are never merged.
+ *
+ * @opensearch.internal
+ */
+final class BlockFetchPlanner {
+
+    /**
+     * Largest number of unneeded bytes between two blocks which are still read with a single request
+     */
+    static final long MAX_GAP_BYTES = ByteSizeUnit.KB.toBytes(128);
+
+    /**
+     * Largest number of bytes read with a single request
+     */
+    static final long MAX_READ_BYTES = ByteSizeUnit.MB.toBytes(64);
+
+    private BlockFetchPlanner() {}
+
+    /**
+     * A single ranged read of a blob, covering the given blocks in ascending order of their position
+     *
+     * @opensearch.internal
+     */
+    static final class CoalescedRead<T> {
+        private final String blobName;
+        private final long position;
+        private long length;
+        private final List<T> blocks = new ArrayList<>();
+
+        private CoalescedRead(String blobName, long position) {
+            this.blobName = blobName;
+            this.position = position;
+        }
+
+        String blobName() {
+            return blobName;
+        }
+
+        long position() {
+            return position;
+        }
+
+        long length() {
+            return length;
+        }
+
+        List<T> blocks() {
+            return blocks;
+        }
+
+        private long end() {
+            return position + length;
+        }
+    }
+
+    static <T> List<CoalescedRead<T>> plan(List<T> blocks, Function<T, BlobFetchRequest.BlobPart> blobPart) {
+        return plan(blocks, blobPart, MAX_GAP_BYTES, MAX_READ_BYTES);
+    }
+
+    static <T> List<CoalescedRead<T>> plan(List<T> blocks, Function<T, BlobFetchRequest.BlobPart> blobPart, long maxGap, long maxRead) {
+        final List<T> sorted = new ArrayList<>(blocks);
+        sorted.sort(
+            Comparator.comparing((T block) -> blobPart.apply(block).getBlobName())
+                .thenComparingLong(block -> blobPart.apply(block).getPosition())
+        );
+        final List<CoalescedRead<T>> reads = new ArrayList<>();
+        CoalescedRead<T> current = null;
+        for (T block : sorted) {
+            final BlobFetchRequest.BlobPart part = blobPart.apply(block);
+            final boolean mergeable = current != null
+                && current.blobName.equals(part.getBlobName())
+                && part.getPosition() >= current.end()
+                && part.getPosition() - current.end() <= maxGap
+                && part.getPosition() + part.getLength() - current.position <= maxRead;
+            if (mergeable == false) {
+                current = new CoalescedRead<>(part.getBlobName(), part.getPosition());
+                reads.add(current);
+            }
+            current.length = part.getPosition() + part.getLength() - current.position;
+            current.blocks.add(block);
+        }
+        return reads;
+    }
+}
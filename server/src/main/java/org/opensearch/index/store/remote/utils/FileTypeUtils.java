@@ -40,4 +40,12 @@ public class FileTypeUtils {
     public static boolean isSegmentsFile(String name) {
         return name.startsWith("segments_");
     }
+
+    /**
+     * Returns the extension of the given file name without the leading dot, or {@code null} if it has none
+     */
+    public static String getExtension(String name) {
+        final int index = name.lastIndexOf('.');
+        return index == -1 ? null : name.substring(index + 1);
+    }
 }
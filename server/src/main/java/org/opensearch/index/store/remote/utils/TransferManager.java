@@ -10,9 +10,16 @@ package org.opensearch.index.store.remote.utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.IOUtils;
+import org.opensearch.action.ActionRunnable;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.io.Streams;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.store.remote.filecache.BlockPrefetchTracker;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCachedIndexInput;
@@ -20,15 +27,21 @@ import org.opensearch.secure_sm.AccessController;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.BufferedOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -48,12 +61,42 @@ public class TransferManager {
         InputStream read(String name, long position, long length) throws IOException;
     }
 
+    /**
+     * Functional interface to read a file at a certain offset and size without holding the calling thread while the bytes
+     * are transferred. The listener is completed with a stream over the fully received range.
+     */
+    @FunctionalInterface
+    public interface AsyncStreamReader {
+        void read(String name, long position, long length, ActionListener<InputStream> listener);
+    }
+
     private final StreamReader streamReader;
+    @Nullable
+    private final AsyncStreamReader asyncStreamReader;
     private final FileCache fileCache;
     private final ThreadPool threadPool;
+    /**
+     * Prefetched blocks waiting to be read, together with adjacent blocks, by the next flush on a remote recovery thread
+     */
+    private final Queue<DelayedCreationCachedIndexInput> pendingPrefetches = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean prefetchFlushScheduled = new AtomicBoolean(false);
 
     public TransferManager(final StreamReader streamReader, final FileCache fileCache, ThreadPool threadPool) {
+        this(streamReader, null, fileCache, threadPool);
+    }
+
+    /**
+     * Creates a transfer manager which downloads blobs through the given async reader if one is provided, so that no thread
+     * is held while blocks are in flight. Concurrent requests for the same block share a single download.
+     */
+    public TransferManager(
+        final StreamReader streamReader,
+        @Nullable final AsyncStreamReader asyncStreamReader,
+        final FileCache fileCache,
+        ThreadPool threadPool
+    ) {
         this.streamReader = streamReader;
+        this.asyncStreamReader = asyncStreamReader;
         this.fileCache = fileCache;
         this.threadPool = threadPool;
     }
@@ -81,7 +124,7 @@ public class TransferManager {
                     if (cachedIndexInput == null || cachedIndexInput.isClosed()) {
                         logger.trace("Transfer Manager - IndexInput closed or not in cache");
                         // Doesn't exist or is closed, either way create a new one
-                        return new DelayedCreationCachedIndexInput(fileCache, streamReader, blobFetchRequest);
+                        return newCacheEntry(blobFetchRequest, false);
                     } else {
                         logger.trace("Transfer Manager - Already in cache");
                         // already in the cache and ready to be used (open)
@@ -89,6 +132,10 @@ public class TransferManager {
                     }
                 });
 
+                if (cacheEntry instanceof DelayedCreationCachedIndexInput) {
+                    ((DelayedCreationCachedIndexInput) cacheEntry).onDemanded();
+                }
+
                 // Cache entry was either retrieved from the cache or newly added, either
                 // way the reference count has been incremented by one. We can only
                 // decrement this reference _after_ creating the clone to be returned.
@@ -118,7 +165,7 @@ public class TransferManager {
                 if (cachedIndexInput == null || cachedIndexInput.isClosed()) {
                     logger.trace("Transfer Manager - IndexInput closed or not in cache");
                     // Doesn't exist or is closed, either way create a new one
-                    return new DelayedCreationCachedIndexInput(fileCache, streamReader, blobFetchRequest);
+                    return newCacheEntry(blobFetchRequest, false);
                 } else {
                     logger.trace("Transfer Manager - Required blob Already in cache: {}", blobFetchRequest.toString());
                     // already in the cache and ready to be used (open)
@@ -141,21 +188,198 @@ public class TransferManager {
         }
     }
 
-    private static FileCachedIndexInput createIndexInput(FileCache fileCache, StreamReader streamReader, BlobFetchRequest request) {
+    /**
+     * Starts downloading the given block into the file cache in the background, ahead of it being read. This is a no-op
+     * if the block is already cached or the node has reached its limit of concurrent prefetches, so the caller never
+     * waits for a prefetch and a block which is not prefetched is simply fetched on demand.
+     *
+     * @param blobFetchRequest the block to fetch
+     */
+    public void prefetchBlob(BlobFetchRequest blobFetchRequest) {
+        prefetchBlobs(List.of(blobFetchRequest));
+    }
+
+    /**
+     * Starts downloading the given blocks into the file cache in the background, like {@link #prefetchBlob}. Blocks are
+     * queued until a remote recovery thread picks them up, and the queued blocks which are adjacent or close to each other
+     * within the same blob, including those queued by concurrent prefetches, are then downloaded with a single ranged read.
+     *
+     * @param blobFetchRequests the blocks to fetch
+     */
+    public void prefetchBlobs(List<BlobFetchRequest> blobFetchRequests) {
+        boolean queued = false;
+        for (BlobFetchRequest blobFetchRequest : blobFetchRequests) {
+            final DelayedCreationCachedIndexInput prefetched = startPrefetch(blobFetchRequest);
+            if (prefetched == null) {
+                continue;
+            }
+            final BlockPrefetchTracker prefetchTracker = fileCache.prefetchTracker();
+            try {
+                if (blobFetchRequest.blobParts().size() == 1 && Files.exists(blobFetchRequest.getFilePath()) == false) {
+                    if (prefetched.claimDownload()) {
+                        pendingPrefetches.add(prefetched);
+                        queued = true;
+                    } else {
+                        // a reader demanded the block in the meantime and is downloading it already
+                        fileCache.decRef(blobFetchRequest.getFilePath());
+                        prefetchTracker.onPrefetchCompleted();
+                    }
+                } else {
+                    prefetched.asyncLoadIndexInput(threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY))
+                        .whenComplete((indexInput, throwable) -> prefetchTracker.onPrefetchCompleted());
+                }
+            } catch (Exception e) {
+                logger.debug(() -> new ParameterizedMessage("Failed to prefetch {}", blobFetchRequest.getFilePath()), e);
+                prefetchTracker.onPrefetchCompleted();
+            }
+        }
+        if (queued && prefetchFlushScheduled.compareAndSet(false, true)) {
+            try {
+                threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY).execute(this::flushPrefetches);
+            } catch (Exception e) {
+                prefetchFlushScheduled.set(false);
+                failPendingPrefetches(e);
+            }
+        }
+    }
+
+    /**
+     * Inserts a cache entry for the given block on behalf of a prefetch, or returns null if the block is already cached or
+     * the node has reached its limit of concurrent prefetches. The returned entry holds a reference taken by the insertion.
+     */
+    @SuppressWarnings("removal")
+    private DelayedCreationCachedIndexInput startPrefetch(BlobFetchRequest blobFetchRequest) {
+        final Path key = blobFetchRequest.getFilePath();
+        final BlockPrefetchTracker prefetchTracker = fileCache.prefetchTracker();
+        if (prefetchTracker.tryStartPrefetch() == false) {
+            logger.trace("Skipping prefetch of {} as too many prefetches are in flight", key);
+            return null;
+        }
         try {
-            // This local file cache is ref counted and may not strictly enforce configured capacity.
-            // If we find available capacity is exceeded, deny further BlobFetchRequests.
-            if (fileCache.capacity() < fileCache.usage()) {
-                fileCache.prune();
-                throw new IOException(
-                    "Local file cache capacity ("
-                        + fileCache.capacity()
-                        + ") exceeded ("
-                        + fileCache.usage()
-                        + ") - BlobFetchRequest failed: "
-                        + request.getFilePath()
-                );
+            final DelayedCreationCachedIndexInput prefetched = newCacheEntry(blobFetchRequest, true);
+            final CachedIndexInput cacheEntry = AccessController.doPrivileged(
+                () -> fileCache.compute(
+                    key,
+                    (path, cachedIndexInput) -> cachedIndexInput == null || cachedIndexInput.isClosed() ? prefetched : cachedIndexInput
+                )
+            );
+            if (cacheEntry != prefetched) {
+                // already cached or being fetched, release the reference taken by compute
+                fileCache.decRef(key);
+                prefetchTracker.onPrefetchCompleted();
+                return null;
+            }
+            logger.trace("Prefetching {}", key);
+            prefetchTracker.onPrefetchIssued();
+            return prefetched;
+        } catch (Exception e) {
+            logger.debug(() -> new ParameterizedMessage("Failed to prefetch {}", key), e);
+            prefetchTracker.onPrefetchCompleted();
+            return null;
+        }
+    }
+
+    private void flushPrefetches() {
+        prefetchFlushScheduled.set(false);
+        final List<DelayedCreationCachedIndexInput> blocks = new ArrayList<>();
+        for (DelayedCreationCachedIndexInput block = pendingPrefetches.poll(); block != null; block = pendingPrefetches.poll()) {
+            blocks.add(block);
+        }
+        final List<BlockFetchPlanner.CoalescedRead<DelayedCreationCachedIndexInput>> reads = BlockFetchPlanner.plan(
+            blocks,
+            block -> block.request.blobParts().get(0)
+        );
+        for (BlockFetchPlanner.CoalescedRead<DelayedCreationCachedIndexInput> read : reads) {
+            logger.trace("Reading {} prefetched blocks of blob {} with a single request", read.blocks().size(), read.blobName());
+            final ActionListener<InputStream> listener = ActionListener.wrap(
+                inputStream -> completeCoalescedRead(read, inputStream),
+                e -> failBlocks(read.blocks(), e)
+            );
+            try {
+                if (asyncStreamReader != null) {
+                    asyncStreamReader.read(read.blobName(), read.position(), read.length(), ActionListener.wrap(inputStream -> {
+                        // write the blocks on a remote recovery thread rather than on the thread which completed the read
+                        threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY)
+                            .execute(ActionRunnable.wrap(listener, l -> l.onResponse(inputStream)));
+                    }, listener::onFailure));
+                } else {
+                    threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY)
+                        .execute(ActionRunnable.supply(listener, () -> streamReader.read(read.blobName(), read.position(), read.length())));
+                }
+            } catch (Exception e) {
+                failBlocks(read.blocks(), e);
             }
+        }
+    }
+
+    /**
+     * Splits the stream over a coalesced read into the files of the blocks it covers
+     */
+    private static void completeCoalescedRead(BlockFetchPlanner.CoalescedRead<DelayedCreationCachedIndexInput> read, InputStream stream) {
+        final List<DelayedCreationCachedIndexInput> blocks = read.blocks();
+        int completed = 0;
+        try (InputStream inputStream = stream) {
+            long streamPosition = read.position();
+            for (DelayedCreationCachedIndexInput block : blocks) {
+                final BlobFetchRequest.BlobPart blobPart = block.request.blobParts().get(0);
+                inputStream.skipNBytes(blobPart.getPosition() - streamPosition);
+                block.completeDownload(Streams.limitStream(inputStream, blobPart.getLength()));
+                streamPosition = blobPart.getPosition() + blobPart.getLength();
+                completed++;
+            }
+        } catch (Exception e) {
+            failBlocks(blocks.subList(completed, blocks.size()), e);
+        }
+    }
+
+    private void failPendingPrefetches(Exception e) {
+        final List<DelayedCreationCachedIndexInput> blocks = new ArrayList<>();
+        for (DelayedCreationCachedIndexInput block = pendingPrefetches.poll(); block != null; block = pendingPrefetches.poll()) {
+            blocks.add(block);
+        }
+        failBlocks(blocks, e);
+    }
+
+    private static void failBlocks(List<DelayedCreationCachedIndexInput> blocks, Exception e) {
+        for (DelayedCreationCachedIndexInput block : blocks) {
+            logger.debug(() -> new ParameterizedMessage("Failed to prefetch {}", block.request.getFilePath()), e);
+            block.failDownload(e);
+        }
+    }
+
+    private DelayedCreationCachedIndexInput newCacheEntry(BlobFetchRequest blobFetchRequest, boolean prefetched) {
+        if (asyncStreamReader == null) {
+            return new DelayedCreationCachedIndexInput(fileCache, streamReader, null, null, blobFetchRequest, prefetched);
+        }
+        // the downloaded parts are written to the cache file on the remote recovery pool rather than on the I/O threads
+        final Executor executor = threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY);
+        return new DelayedCreationCachedIndexInput(fileCache, streamReader, asyncStreamReader, executor, blobFetchRequest, prefetched);
+    }
+
+    private static void ensureCapacity(FileCache fileCache, BlobFetchRequest request) throws IOException {
+        // This local file cache is ref counted and may not strictly enforce configured capacity.
+        // If we find available capacity is exceeded, deny further BlobFetchRequests.
+        if (fileCache.capacity() < fileCache.usage()) {
+            fileCache.prune();
+            throw new IOException(
+                "Local file cache capacity ("
+                    + fileCache.capacity()
+                    + ") exceeded ("
+                    + fileCache.usage()
+                    + ") - BlobFetchRequest failed: "
+                    + request.getFilePath()
+            );
+        }
+    }
+
+    private static FileCachedIndexInput openIndexInput(FileCache fileCache, BlobFetchRequest request) throws IOException {
+        final IndexInput luceneIndexInput = request.getDirectory().openInput(request.getFileName(), IOContext.DEFAULT);
+        return new FileCachedIndexInput(fileCache, request.getFilePath(), luceneIndexInput);
+    }
+
+    private static FileCachedIndexInput createIndexInput(FileCache fileCache, StreamReader streamReader, BlobFetchRequest request) {
+        try {
+            ensureCapacity(fileCache, request);
             if (Files.exists(request.getFilePath()) == false) {
                 logger.trace("Fetching from Remote in createIndexInput of Transfer Manager");
                 try (
@@ -175,13 +399,73 @@ public class TransferManager {
                     }
                 }
             }
-            final IndexInput luceneIndexInput = request.getDirectory().openInput(request.getFileName(), IOContext.DEFAULT);
-            return new FileCachedIndexInput(fileCache, request.getFilePath(), luceneIndexInput);
+            return openIndexInput(fileCache, request);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * Issues the reads of all parts of the requested blob at once through the async reader, and only once all of them have
+     * arrived writes them to the cache file on the given executor. No thread is held while the parts are in flight.
+     */
+    private static CompletableFuture<IndexInput> createIndexInputAsync(
+        FileCache fileCache,
+        AsyncStreamReader asyncStreamReader,
+        BlobFetchRequest request,
+        Executor executor
+    ) {
+        final List<CompletableFuture<InputStream>> parts = new ArrayList<>();
+        try {
+            ensureCapacity(fileCache, request);
+            if (Files.exists(request.getFilePath()) == false) {
+                logger.trace("Fetching from Remote asynchronously in createIndexInputAsync of Transfer Manager");
+                for (BlobFetchRequest.BlobPart blobPart : request.blobParts()) {
+                    final CompletableFuture<InputStream> part = new CompletableFuture<>();
+                    asyncStreamReader.read(
+                        blobPart.getBlobName(),
+                        blobPart.getPosition(),
+                        blobPart.getLength(),
+                        ActionListener.wrap(part::complete, part::completeExceptionally)
+                    );
+                    parts.add(part);
+                }
+            }
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0])).thenApplyAsync(ignored -> {
+            try {
+                if (parts.isEmpty() == false) {
+                    writeParts(request.getFilePath(), parts);
+                }
+                return openIndexInput(fileCache, request);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    private static void writeParts(Path filePath, List<CompletableFuture<InputStream>> parts) throws IOException {
+        boolean success = false;
+        try (
+            OutputStream fileOutputStream = Files.newOutputStream(filePath);
+            OutputStream localFileOutputStream = new BufferedOutputStream(fileOutputStream)
+        ) {
+            for (CompletableFuture<InputStream> part : parts) {
+                try (InputStream partInputStream = part.join()) {
+                    partInputStream.transferTo(localFileOutputStream);
+                }
+            }
+            success = true;
+        } finally {
+            if (success == false) {
+                // do not leave a partial block behind, it would otherwise be mistaken for a complete one
+                IOUtils.deleteFilesIgnoringExceptions(filePath);
+            }
+        }
+    }
+
     /**
      * Implementation of CachedIndexInput the defers creation of the underlying
      * IndexInput until the first invocation of {@link #getIndexInput()}. This
@@ -192,15 +476,54 @@ public class TransferManager {
     private static class DelayedCreationCachedIndexInput implements CachedIndexInput {
         private final FileCache fileCache;
         private final StreamReader streamReader;
+        @Nullable
+        private final AsyncStreamReader asyncStreamReader;
+        @Nullable
+        private final Executor asyncWriteExecutor;
         private final BlobFetchRequest request;
         private final CompletableFuture<IndexInput> result = new CompletableFuture<>();
         private final AtomicBoolean isStarted = new AtomicBoolean(false);
         private final AtomicBoolean isClosed = new AtomicBoolean(false);
+        private final AtomicBoolean downloadCompleted = new AtomicBoolean(false);
+        /**
+         * Whether this entry was created by a prefetch, in which case its first read counts as a prefetch hit and its
+         * removal before any read as prefetch waste.
+         */
+        private final boolean prefetched;
+        private final AtomicBoolean prefetchAccounted = new AtomicBoolean(false);
 
-        private DelayedCreationCachedIndexInput(FileCache fileCache, StreamReader streamReader, BlobFetchRequest request) {
+        private DelayedCreationCachedIndexInput(
+            FileCache fileCache,
+            StreamReader streamReader,
+            @Nullable AsyncStreamReader asyncStreamReader,
+            @Nullable Executor asyncWriteExecutor,
+            BlobFetchRequest request,
+            boolean prefetched
+        ) {
             this.fileCache = fileCache;
             this.streamReader = streamReader;
+            this.asyncStreamReader = asyncStreamReader;
+            this.asyncWriteExecutor = asyncWriteExecutor;
             this.request = request;
+            this.prefetched = prefetched;
+        }
+
+        /**
+         * Downloads the block through the async reader, removing the entry from the cache if that fails.
+         */
+        private CompletableFuture<IndexInput> loadAsync() {
+            final CompletableFuture<IndexInput> download = createIndexInputAsync(fileCache, asyncStreamReader, request, asyncWriteExecutor);
+            return download.whenComplete((indexInput, throwable) -> {
+                if (throwable != null) {
+                    fileCache.remove(request.getFilePath());
+                }
+            });
+        }
+
+        private void onDemanded() {
+            if (prefetched && prefetchAccounted.compareAndSet(false, true)) {
+                fileCache.prefetchTracker().onPrefetchHit();
+            }
         }
 
         @Override
@@ -210,11 +533,16 @@ public class TransferManager {
             }
             if (isStarted.getAndSet(true) == false) {
                 // We're the first one here, need to download the block
-                try {
-                    result.complete(createIndexInput(fileCache, streamReader, request));
-                } catch (Exception e) {
-                    result.completeExceptionally(e);
-                    fileCache.remove(request.getFilePath());
+                if (asyncStreamReader != null) {
+                    // the block is read without holding this thread, which parks on the result below like any concurrent reader
+                    loadAsync().whenComplete(this::completeResult);
+                } else {
+                    try {
+                        result.complete(createIndexInput(fileCache, streamReader, request));
+                    } catch (Exception e) {
+                        result.completeExceptionally(e);
+                        fileCache.remove(request.getFilePath());
+                    }
                 }
             }
             try {
@@ -222,6 +550,8 @@ public class TransferManager {
             } catch (CompletionException e) {
                 if (e.getCause() instanceof UncheckedIOException) {
                     throw ((UncheckedIOException) e.getCause()).getCause();
+                } else if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
                 } else if (e.getCause() instanceof RuntimeException) {
                     throw (RuntimeException) e.getCause();
                 }
@@ -237,22 +567,27 @@ public class TransferManager {
             }
             if (isStarted.getAndSet(true) == false) {
                 // Create new future and set it as the result
-                CompletableFuture.supplyAsync(() -> {
-                    try {
-                        return createIndexInput(fileCache, streamReader, request);
-                    } catch (Exception e) {
-                        fileCache.remove(request.getFilePath());
-                        throw new CompletionException(e);
-                    }
-                }, executor).handle((indexInput, throwable) -> {
+                try {
+                    final CompletableFuture<IndexInput> download = asyncStreamReader != null
+                        ? loadAsync()
+                        : CompletableFuture.supplyAsync(() -> {
+                            try {
+                                return createIndexInput(fileCache, streamReader, request);
+                            } catch (Exception e) {
+                                fileCache.remove(request.getFilePath());
+                                throw new CompletionException(e);
+                            }
+                        }, executor);
+                    download.whenComplete((indexInput, throwable) -> {
+                        fileCache.decRef(request.getFilePath());
+                        completeResult(indexInput, throwable);
+                    });
+                } catch (RejectedExecutionException e) {
+                    // nobody else will complete the result, fail it so that waiting readers do not block forever
                     fileCache.decRef(request.getFilePath());
-                    if (throwable != null) {
-                        result.completeExceptionally(throwable);
-                    } else {
-                        result.complete(indexInput);
-                    }
-                    return null;
-                });
+                    fileCache.remove(request.getFilePath());
+                    result.completeExceptionally(e);
+                }
             } else {
                 // Decreasing the extra ref count introduced by compute
                 fileCache.decRef(request.getFilePath());
@@ -260,6 +595,63 @@ public class TransferManager {
             return result;
         }
 
+        /**
+         * Marks the download of this entry as started on behalf of a coalesced read, which must then complete it through
+         * {@link #completeDownload} or {@link #failDownload}. Returns false if the download was started already.
+         */
+        private boolean claimDownload() {
+            return isClosed.get() == false && isStarted.compareAndSet(false, true);
+        }
+
+        /**
+         * Writes the block from the given stream, which must hold exactly the bytes of the block, and completes the
+         * download. Throws without completing the download if the block could not be written.
+         */
+        private void completeDownload(InputStream inputStream) throws IOException {
+            final Path filePath = request.getFilePath();
+            ensureCapacity(fileCache, request);
+            final IndexInput indexInput;
+            boolean success = false;
+            try {
+                try (OutputStream fileOutputStream = Files.newOutputStream(filePath)) {
+                    final long written = inputStream.transferTo(fileOutputStream);
+                    if (written != request.getBlobLength()) {
+                        throw new EOFException(
+                            "expected [" + request.getBlobLength() + "] bytes for " + filePath + " but read [" + written + "]"
+                        );
+                    }
+                }
+                indexInput = openIndexInput(fileCache, request);
+                success = true;
+            } finally {
+                if (success == false) {
+                    IOUtils.deleteFilesIgnoringExceptions(filePath);
+                }
+            }
+            if (downloadCompleted.compareAndSet(false, true)) {
+                fileCache.decRef(filePath);
+                completeResult(indexInput, null);
+                fileCache.prefetchTracker().onPrefetchCompleted();
+            }
+        }
+
+        private void failDownload(Exception e) {
+            if (downloadCompleted.compareAndSet(false, true)) {
+                fileCache.remove(request.getFilePath());
+                fileCache.decRef(request.getFilePath());
+                completeResult(null, e);
+                fileCache.prefetchTracker().onPrefetchCompleted();
+            }
+        }
+
+        private void completeResult(IndexInput indexInput, Throwable throwable) {
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else {
+                result.complete(indexInput);
+            }
+        }
+
         @Override
         public long length() {
             return request.getBlobLength();
@@ -273,6 +665,9 @@ public class TransferManager {
         @Override
         public void close() throws Exception {
             if (isClosed.getAndSet(true) == false) {
+                if (prefetched && prefetchAccounted.compareAndSet(false, true)) {
+                    fileCache.prefetchTracker().onPrefetchWasted();
+                }
                 result.whenComplete((indexInput, error) -> {
                     if (indexInput != null) {
                         try {
@@ -0,0 +1,725 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.Weigher;
+import org.opensearch.index.store.remote.utils.cache.stats.ConcurrentStatsCounter;
+import org.opensearch.index.store.remote.utils.cache.stats.FileStatsCounter;
+import org.opensearch.index.store.remote.utils.cache.stats.IRefCountedCacheStats;
+import org.opensearch.index.store.remote.utils.cache.stats.StatsCounter;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * S3-FIFO implementation of {@link RefCountedCache}.
+ * <p>
+ * Entries are admitted to a small FIFO queue which holds about {@link #SMALL_QUEUE_PERCENT} percent of the capacity. Entries
+ * which were accessed again by the time they reach the end of the small queue move to the main FIFO queue, the others are
+ * evicted and their keys are remembered in a ghost queue so that they go straight to the main queue if they are inserted
+ * again. Entries at the end of the main queue are given another round for each access they received, up to
+ * {@link #MAX_FREQUENCY}. Blocks read once by a scan therefore leave the cache through the small queue without evicting
+ * blocks which are read repeatedly.
+ * <p>
+ * Unlike {@link LRUCache}, this cache does not have a cache wide lock:
+ * <ul>
+ * <li>Lookups only read the backing {@link ConcurrentHashMap} and update the entry's reference count and access frequency
+ * with atomic operations.</li>
+ * <li>Reference counts and pins are kept in a single atomic state per entry, so pinned and referenced entries are tracked
+ * without any global structure. Only transitions of the reference count from or to zero take the entry's own monitor, so
+ * that the active usage stays consistent with concurrent replacements of the entry's value.</li>
+ * <li>Insertions, replacements and removals are serialized per key by the backing map. The removal listener is invoked
+ * while the key is locked, so a key is never re-inserted before the listener is done with the previous value, and the
+ * listener must not call back into the cache.</li>
+ * <li>Only eviction is serialized by a lock, and it is only taken when the cache has overflowed.</li>
+ * </ul>
+ * As long as an entry is referenced or pinned it is not eligible for eviction, so like {@link LRUCache} this cache only
+ * maintains its capacity on a best-effort basis.
+ *
+ * @see RefCountedCache
+ *
+ * @opensearch.internal
+ */
+class S3FifoCache<K, V> implements RefCountedCache<K, V> {
+    private static final Logger logger = LogManager.getLogger(S3FifoCache.class);
+
+    /**
+     * Number of accesses remembered per entry
+     */
+    static final int MAX_FREQUENCY = 3;
+
+    /**
+     * Share of the capacity, in percent, targeted for the small queue
+     */
+    static final int SMALL_QUEUE_PERCENT = 10;
+
+    /**
+     * Minimum number of removed entries waiting in the queues before they are swept
+     */
+    private static final int MIN_DEAD_NODES_TO_SWEEP = 64;
+
+    private final long capacity;
+
+    private final long smallQueueCapacity;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+
+    /** the queue new entries are admitted to */
+    private final ConcurrentLinkedQueue<Node<K, V>> smallQueue;
+
+    /** the queue for entries which were accessed while in the small queue */
+    private final ConcurrentLinkedQueue<Node<K, V>> mainQueue;
+
+    /** the sum of the weights of the entries in the small queue, as of when they were enqueued */
+    private final AtomicLong smallQueueWeight;
+
+    /** keys recently evicted from the small queue, in eviction order. Only accessed under the eviction lock. */
+    private final ArrayDeque<K> ghostQueue;
+
+    private final Set<K> ghosts;
+
+    /** the number of removed entries which are still in one of the queues */
+    private final AtomicInteger deadNodes;
+
+    private final AtomicLong weightedSize;
+
+    private final RemovalListener<K, V> listener;
+
+    private final Weigher<V> weigher;
+
+    private final StatsCounter<K, V> statsCounter;
+
+    private final ReentrantLock evictionLock;
+
+    static final class Node<K, V> {
+        /** state of a node which was removed from the cache */
+        static final int DEAD = -1;
+
+        static final int PINNED = 1 << 30;
+
+        static final int REF_COUNT_MASK = PINNED - 1;
+
+        final K key;
+
+        /** the weight accounted for by the small queue */
+        final long queuedWeight;
+
+        volatile V value;
+
+        volatile long weight;
+
+        /** reference count and pinned flag, or {@link #DEAD} */
+        final AtomicInteger state;
+
+        volatile int frequency;
+
+        Node(K key, V value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.queuedWeight = weight;
+            this.state = new AtomicInteger(0);
+            this.frequency = 0;
+        }
+
+        static int refCount(int state) {
+            return state & REF_COUNT_MASK;
+        }
+
+        static boolean isPinned(int state) {
+            return (state & PINNED) != 0;
+        }
+
+        boolean isDead() {
+            return state.get() == DEAD;
+        }
+
+        boolean evictable() {
+            return state.get() == 0;
+        }
+
+        void recordAccess() {
+            // racy increments may lose an access, which is fine for an eviction hint
+            final int current = frequency;
+            if (current < MAX_FREQUENCY) {
+                frequency = current + 1;
+            }
+        }
+
+        /**
+         * Moves the node from unreferenced and unpinned to dead, so that it can no longer be acquired.
+         */
+        boolean tryRetire() {
+            return state.compareAndSet(0, DEAD);
+        }
+    }
+
+    public S3FifoCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+        this.capacity = capacity;
+        this.smallQueueCapacity = capacity * SMALL_QUEUE_PERCENT / 100;
+        this.listener = listener;
+        this.weigher = weigher;
+        this.data = new ConcurrentHashMap<>();
+        this.smallQueue = new ConcurrentLinkedQueue<>();
+        this.mainQueue = new ConcurrentLinkedQueue<>();
+        this.smallQueueWeight = new AtomicLong();
+        this.ghostQueue = new ArrayDeque<>();
+        this.ghosts = ConcurrentHashMap.newKeySet();
+        this.deadNodes = new AtomicInteger();
+        this.weightedSize = new AtomicLong();
+        this.statsCounter = new FileStatsCounter<>(ConcurrentStatsCounter::new);
+        this.evictionLock = new ReentrantLock();
+    }
+
+    @Override
+    public V get(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        // miss, or removed concurrently
+        if (node == null || acquire(node) == false) {
+            statsCounter.recordMisses(key, 1);
+            return null;
+        }
+        // hit
+        node.recordAccess();
+        statsCounter.recordHits(key, node.value, Node.isPinned(node.state.get()), 1);
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        final Object[] oldValue = new Object[1];
+        final Node<K, V> added = computeNode(key, (k, node) -> {
+            if (node == null) {
+                return addNode(key, value);
+            }
+            oldValue[0] = node.value;
+            replaceNode(node, value);
+            return node;
+        });
+        afterWrite(added);
+        @SuppressWarnings("unchecked")
+        final V result = (V) oldValue[0];
+        return result;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(remappingFunction);
+        final Object[] newValue = new Object[1];
+        final Node<K, V> added = computeNode(key, (k, node) -> {
+            if (node == null) {
+                final V value = remappingFunction.apply(key, null);
+                if (value == null) {
+                    // Remapping function asked for removal, but nothing to remove
+                    return null;
+                }
+                final Node<K, V> newNode = addNode(key, value);
+                statsCounter.recordMisses(key, 1);
+                newValue[0] = value;
+                return newNode;
+            }
+            final V value = remappingFunction.apply(key, node.value);
+            if (value == null) {
+                removeNode(node, RemovalReason.EXPLICIT);
+                return null;
+            }
+            statsCounter.recordHits(key, node.value, Node.isPinned(node.state.get()), 1);
+            node.recordAccess();
+            replaceNode(node, value);
+            newValue[0] = value;
+            return node;
+        });
+        afterWrite(added);
+        @SuppressWarnings("unchecked")
+        final V result = (V) newValue[0];
+        return result;
+    }
+
+    @Override
+    public void remove(K key) {
+        Objects.requireNonNull(key);
+        data.computeIfPresent(key, (k, node) -> {
+            removeNode(node, RemovalReason.EXPLICIT);
+            return null;
+        });
+        sweepIfNeeded();
+    }
+
+    // To be used only in testing framework.
+    public void closeIndexInputReferences() {
+        int closedEntries = 0;
+        for (K key : data.keySet()) {
+            if (data.computeIfPresent(key, (k, node) -> {
+                node.state.set(Node.DEAD);
+                deadNodes.incrementAndGet();
+                listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.RESTARTED));
+                return null;
+            }) == null) {
+                closedEntries++;
+            }
+        }
+        sweepIfNeeded();
+        logger.trace("Reference cleanup completed - Total entries: {}", closedEntries);
+    }
+
+    @Override
+    public void clear() {
+        for (K key : data.keySet()) {
+            data.computeIfPresent(key, (k, node) -> {
+                removeNode(node, RemovalReason.EXPLICIT);
+                return null;
+            });
+        }
+        evictionLock.lock();
+        try {
+            sweep();
+            ghostQueue.clear();
+            ghosts.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public long size() {
+        return data.size();
+    }
+
+    @Override
+    public void incRef(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        if (node != null) {
+            acquire(node);
+        }
+    }
+
+    @Override
+    public void decRef(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        if (node != null && release(node)) {
+            // If cache usage is already overflowing trigger evictions
+            evict();
+        }
+    }
+
+    /**
+     * Pins the key in the cache, preventing it from being evicted.
+     *
+     * @param key
+     */
+    @Override
+    public void pin(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        if (node == null) {
+            return;
+        }
+        synchronized (node) {
+            int state;
+            do {
+                state = node.state.get();
+                if (state == Node.DEAD || Node.isPinned(state)) {
+                    return;
+                }
+            } while (node.state.compareAndSet(state, state | Node.PINNED) == false);
+            statsCounter.recordPinnedUsage(node.value, node.weight, false);
+        }
+    }
+
+    /**
+     * Unpins the key in the cache, allowing it to be evicted.
+     *
+     * @param key
+     */
+    @Override
+    public void unpin(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        if (node == null) {
+            return;
+        }
+        synchronized (node) {
+            int state;
+            do {
+                state = node.state.get();
+                if (state == Node.DEAD || Node.isPinned(state) == false) {
+                    return;
+                }
+            } while (node.state.compareAndSet(state, state & ~Node.PINNED) == false);
+            statsCounter.recordPinnedUsage(node.value, node.weight, true);
+        }
+    }
+
+    @Override
+    public Integer getRef(K key) {
+        Objects.requireNonNull(key);
+        final Node<K, V> node = data.get(key);
+        if (node != null) {
+            final int state = node.state.get();
+            if (state != Node.DEAD) {
+                return Node.refCount(state);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public long prune(Predicate<K> keyPredicate) {
+        final long[] sum = new long[1];
+        for (Node<K, V> node : data.values()) {
+            if (keyPredicate != null && !keyPredicate.test(node.key)) {
+                continue;
+            }
+            if (node.evictable() == false) {
+                continue;
+            }
+            data.computeIfPresent(node.key, (k, current) -> {
+                if (current != node || node.tryRetire() == false) {
+                    return current;
+                }
+                sum[0] += node.weight;
+                weightedSize.addAndGet(-node.weight);
+                deadNodes.incrementAndGet();
+                statsCounter.recordRemoval(node.value, false, node.weight);
+                listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
+                return null;
+            });
+        }
+        sweepIfNeeded();
+        return sum[0];
+    }
+
+    @Override
+    public long usage() {
+        return statsCounter.usage();
+    }
+
+    @Override
+    public long activeUsage() {
+        return statsCounter.activeUsage();
+    }
+
+    /**
+     * Returns the pinned usage of this cache.
+     *
+     * @return the combined pinned weight of the values in this cache.
+     */
+    @Override
+    public long pinnedUsage() {
+        return statsCounter.pinnedUsage();
+    }
+
+    @Override
+    public IRefCountedCacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    // To be used only for debugging purposes
+    public void logCurrentState() {
+        final StringBuilder allFiles = new StringBuilder("\n");
+        for (Map.Entry<K, Node<K, V>> entry : data.entrySet()) {
+            String path = entry.getKey().toString();
+            String file = path.substring(path.lastIndexOf('/'));
+            allFiles.append(file)
+                .append(" [RefCount: ")
+                .append(Node.refCount(entry.getValue().state.get()))
+                .append(" , Frequency: ")
+                .append(entry.getValue().frequency)
+                .append(" , Weight: ")
+                .append(entry.getValue().weight)
+                .append(" ]\n");
+        }
+        if (allFiles.length() > 1) {
+            logger.trace(() -> "Cache entries : " + allFiles);
+        }
+    }
+
+    private Node<K, V> computeNode(K key, BiFunction<K, Node<K, V>, Node<K, V>> function) {
+        final Object[] added = new Object[1];
+        data.compute(key, (k, node) -> {
+            assert node == null || node.isDead() == false : "dead nodes are removed from the map before they are unlocked";
+            final Node<K, V> result = function.apply(k, node);
+            if (node == null && result != null) {
+                added[0] = result;
+            }
+            return result;
+        });
+        @SuppressWarnings("unchecked")
+        final Node<K, V> addedNode = (Node<K, V>) added[0];
+        return addedNode;
+    }
+
+    /**
+     * Creates a node with a reference count of one. Must be called while the key is locked.
+     */
+    private Node<K, V> addNode(K key, V value) {
+        final long weight = weigher.weightOf(value);
+        final Node<K, V> node = new Node<>(key, value, weight);
+        node.state.set(1);
+        weightedSize.addAndGet(weight);
+        statsCounter.recordUsage(value, weight, false, false);
+        statsCounter.recordActiveUsage(value, weight, false, false);
+        return node;
+    }
+
+    /**
+     * Replaces the value of a node and acquires it. Must be called while the key is locked.
+     */
+    private void replaceNode(Node<K, V> node, V newValue) {
+        if (node.value != newValue) { // replace if new value is not the same instance as existing value
+            final V oldValue = node.value;
+            synchronized (node) {
+                final long oldWeight = node.weight;
+                final long newWeight = weigher.weightOf(newValue);
+                // update the value and weight
+                node.value = newValue;
+                node.weight = newWeight;
+                weightedSize.addAndGet(newWeight - oldWeight);
+
+                // update stats
+                final int state = node.state.get();
+                statsCounter.recordReplacement(oldValue, newValue, oldWeight, newWeight, Node.refCount(state) > 0, Node.isPinned(state));
+            }
+            listener.onRemoval(new RemovalNotification<>(node.key, oldValue, RemovalReason.REPLACED));
+        }
+        acquire(node);
+    }
+
+    /**
+     * Removes a node regardless of its reference count. Must be called while the key is locked.
+     */
+    private void removeNode(Node<K, V> node, RemovalReason reason) {
+        final int state;
+        synchronized (node) {
+            state = node.state.getAndSet(Node.DEAD);
+        }
+        if (Node.refCount(state) > 0) {
+            statsCounter.recordActiveUsage(node.value, node.weight, Node.isPinned(state), true);
+        }
+        if (Node.isPinned(state)) {
+            statsCounter.recordPinnedUsage(node.value, node.weight, true);
+        }
+        weightedSize.addAndGet(-node.weight);
+        deadNodes.incrementAndGet();
+        statsCounter.recordRemoval(node.value, Node.isPinned(state), node.weight);
+        listener.onRemoval(new RemovalNotification<>(node.key, node.value, reason));
+    }
+
+    /**
+     * Increments the reference count of a node, returning {@code false} if it was removed from the cache.
+     */
+    private boolean acquire(Node<K, V> node) {
+        // fast path, the node is already referenced so the active usage does not change
+        int state;
+        while ((state = node.state.get()) != Node.DEAD && Node.refCount(state) > 0) {
+            if (node.state.compareAndSet(state, state + 1)) {
+                return true;
+            }
+        }
+        if (state == Node.DEAD) {
+            return false;
+        }
+        synchronized (node) {
+            do {
+                state = node.state.get();
+                if (state == Node.DEAD) {
+                    return false;
+                }
+            } while (node.state.compareAndSet(state, state + 1) == false);
+            if (Node.refCount(state) == 0) {
+                // if it was inactive, we should add the weight to active usage from now
+                statsCounter.recordActiveUsage(node.value, node.weight, Node.isPinned(state), false);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decrements the reference count of a node, returning {@code true} if it became eligible for eviction.
+     */
+    private boolean release(Node<K, V> node) {
+        // fast path, the node stays referenced so the active usage does not change
+        int state;
+        while ((state = node.state.get()) != Node.DEAD && Node.refCount(state) > 1) {
+            if (node.state.compareAndSet(state, state - 1)) {
+                return false;
+            }
+        }
+        if (state == Node.DEAD || Node.refCount(state) == 0) {
+            return false;
+        }
+        synchronized (node) {
+            do {
+                state = node.state.get();
+                if (state == Node.DEAD || Node.refCount(state) == 0) {
+                    return false;
+                }
+            } while (node.state.compareAndSet(state, state - 1) == false);
+            if (Node.refCount(state) == 1) {
+                // if it was active, we should remove its weight from active usage
+                statsCounter.recordActiveUsage(node.value, node.weight, Node.isPinned(state), true);
+                return Node.isPinned(state) == false;
+            }
+        }
+        return false;
+    }
+
+    private void afterWrite(Node<K, V> added) {
+        if (added != null) {
+            if (ghosts.remove(added.key)) {
+                // the key was evicted from the small queue recently, so it is reused often enough for the main queue
+                mainQueue.offer(added);
+            } else {
+                smallQueueWeight.addAndGet(added.queuedWeight);
+                smallQueue.offer(added);
+            }
+        }
+        evict();
+    }
+
+    private boolean hasOverflowed() {
+        return weightedSize.get() >= capacity;
+    }
+
+    private void evict() {
+        // Attempts to evict entries from the cache if it exceeds the maximum
+        // capacity.
+        if (hasOverflowed() == false) {
+            return;
+        }
+        evictionLock.lock();
+        try {
+            // referenced and pinned entries are cycled through the main queue, bound the work in case none can be evicted
+            long budget = (long) (MAX_FREQUENCY + 1) * (data.size() + 1);
+            while (hasOverflowed() && budget-- > 0) {
+                boolean fromSmallQueue = smallQueueWeight.get() >= smallQueueCapacity;
+                Node<K, V> node = fromSmallQueue ? smallQueue.poll() : null;
+                if (node == null) {
+                    fromSmallQueue = false;
+                    node = mainQueue.poll();
+                }
+                if (node == null) {
+                    fromSmallQueue = true;
+                    node = smallQueue.poll();
+                }
+                if (node == null) {
+                    break;
+                }
+                if (fromSmallQueue) {
+                    smallQueueWeight.addAndGet(-node.queuedWeight);
+                }
+                if (node.isDead()) {
+                    deadNodes.decrementAndGet();
+                } else if (fromSmallQueue) {
+                    evictFromSmallQueue(node);
+                } else {
+                    evictFromMainQueue(node);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void evictFromSmallQueue(Node<K, V> node) {
+        if (node.frequency > 0 || node.evictable() == false) {
+            // accessed again, or still in use, since it was admitted
+            node.frequency = 0;
+            mainQueue.offer(node);
+        } else if (tryEvict(node)) {
+            ghosts.add(node.key);
+            ghostQueue.offer(node.key);
+            while (ghostQueue.size() > data.size()) {
+                ghosts.remove(ghostQueue.poll());
+            }
+        } else {
+            mainQueue.offer(node);
+        }
+    }
+
+    private void evictFromMainQueue(Node<K, V> node) {
+        final int frequency = node.frequency;
+        if (node.evictable() && frequency > 0) {
+            node.frequency = frequency - 1;
+            mainQueue.offer(node);
+        } else if (node.evictable() == false || tryEvict(node) == false) {
+            mainQueue.offer(node);
+        }
+    }
+
+    private boolean tryEvict(Node<K, V> node) {
+        final boolean[] evicted = new boolean[1];
+        data.computeIfPresent(node.key, (k, current) -> {
+            if (current != node || node.tryRetire() == false) {
+                return current;
+            }
+            evicted[0] = true;
+            weightedSize.addAndGet(-node.weight);
+            // Notify the listener only if the entry was evicted
+            statsCounter.recordEviction(node.value, node.weight);
+            listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.CAPACITY));
+            return null;
+        });
+        return evicted[0];
+    }
+
+    /**
+     * Removed entries are left in the queues until eviction reaches them, sweep them once they outnumber the live entries
+     * so that the queues stay bounded when entries are removed explicitly.
+     */
+    private void sweepIfNeeded() {
+        if (deadNodes.get() > Math.max(MIN_DEAD_NODES_TO_SWEEP, data.size())) {
+            evictionLock.lock();
+            try {
+                sweep();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void sweep() {
+        assert evictionLock.isHeldByCurrentThread();
+        smallQueue.removeIf(node -> {
+            if (node.isDead()) {
+                smallQueueWeight.addAndGet(-node.queuedWeight);
+                deadNodes.decrementAndGet();
+                return true;
+            }
+            return false;
+        });
+        mainQueue.removeIf(node -> {
+            if (node.isDead()) {
+                deadNodes.decrementAndGet();
+                return true;
+            }
+            return false;
+        });
+    }
+}
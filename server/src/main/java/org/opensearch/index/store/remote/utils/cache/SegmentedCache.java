@@ -17,12 +17,14 @@ import org.opensearch.index.store.remote.utils.cache.stats.AggregateRefCountedCa
 import org.opensearch.index.store.remote.utils.cache.stats.IRefCountedCacheStats;
 import org.opensearch.index.store.remote.utils.cache.stats.RefCountedCacheStats;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
 /**
- * Segmented {@link LRUCache} to offer concurrent access with less contention.
+ * Segmented {@link RefCountedCache} to offer concurrent access with less contention. Each segment is an {@link LRUCache} or an
+ * {@link S3FifoCache} depending on the {@link EvictionPolicy}.
  * @param <K> type of the key
  * @param <V> type of th value
  *
@@ -60,7 +62,10 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         this.perSegmentCapacity = (builder.capacity + (segments - 1)) / segments;
         this.weigher = builder.weigher;
         for (int i = 0; i < table.length; i++) {
-            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            table[i] = switch (builder.evictionPolicy) {
+                case LRU -> new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+                case S3_FIFO -> new S3FifoCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            };
         }
         this.capacity = perSegmentCapacity * segments;
     }
@@ -238,7 +243,11 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             if (cache.size() > 0) {
                 final int segmentIndex = i;
                 logger.trace(() -> "SegmentedCache " + segmentIndex);
-                ((LRUCache<K, V>) cache).logCurrentState();
+                if (cache instanceof S3FifoCache<K, V> s3FifoCache) {
+                    s3FifoCache.logCurrentState();
+                } else {
+                    ((LRUCache<K, V>) cache).logCurrentState();
+                }
             }
             i++;
         }
@@ -247,7 +256,35 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
     // To be used only in testing framework.
     public void closeIndexInputReferences() {
         for (RefCountedCache<K, V> cache : table) {
-            ((LRUCache<K, V>) cache).closeIndexInputReferences();
+            if (cache instanceof S3FifoCache<K, V> s3FifoCache) {
+                s3FifoCache.closeIndexInputReferences();
+            } else {
+                ((LRUCache<K, V>) cache).closeIndexInputReferences();
+            }
+        }
+    }
+
+    /**
+     * Eviction policy of the segments
+     */
+    public enum EvictionPolicy {
+        /**
+         * Evicts the least recently used unreferenced entry, see {@link LRUCache}
+         */
+        LRU,
+        /**
+         * Evicts unreferenced entries which were not accessed again since they were admitted before frequently accessed
+         * ones, without a segment wide lock on lookups, see {@link S3FifoCache}
+         */
+        S3_FIFO;
+
+        public static EvictionPolicy fromString(String value) {
+            for (EvictionPolicy policy : values()) {
+                if (policy.name().equalsIgnoreCase(value)) {
+                    return policy;
+                }
+            }
+            throw new IllegalArgumentException("unknown eviction policy [" + value + "], must be one of " + List.of(values()));
         }
     }
 
@@ -302,11 +339,14 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
         long capacity;
 
+        EvictionPolicy evictionPolicy;
+
         @SuppressWarnings("unchecked")
         Builder() {
             capacity = -1;
             weigher = (Weigher<V>) SingletonWeigher.INSTANCE;
             concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
+            evictionPolicy = EvictionPolicy.LRU;
             listener = (RemovalListener<K, V>) DiscardingListener.INSTANCE;
         }
 
@@ -340,6 +380,18 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             return this;
         }
 
+        /**
+         * Specifies the eviction policy of the segments (default {@link EvictionPolicy#LRU}).
+         *
+         * @param evictionPolicy the eviction policy
+         * @throws NullPointerException if the eviction policy is null
+         */
+        public Builder<K, V> evictionPolicy(EvictionPolicy evictionPolicy) {
+            Objects.requireNonNull(evictionPolicy);
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
         /**
          * Specifies an optional listener that is registered for notification when
          * an entry is removed.
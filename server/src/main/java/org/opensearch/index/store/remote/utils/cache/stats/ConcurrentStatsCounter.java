@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache.stats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe {@link StatsCounter} implementation for caches which record statistics without holding a cache wide lock.
+ * Snapshots taken while the counters are being updated are not atomic, so usages may briefly lag behind each other.
+ *
+ * @opensearch.internal
+ */
+public class ConcurrentStatsCounter<K, V> implements StatsCounter<K, V> {
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder removeCount = new LongAdder();
+    private final LongAdder removeWeight = new LongAdder();
+    private final LongAdder replaceCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder evictionWeight = new LongAdder();
+    /**
+     * this tracks cache usage on the system (as long as cache entry is in the cache)
+     */
+    private final LongAdder usage = new LongAdder();
+
+    /**
+     * this tracks cache usage only by entries which are being referred.
+     */
+    private final LongAdder activeUsage = new LongAdder();
+
+    /**
+     * this tracks cache usage only by pinned entries.
+     */
+    private final LongAdder pinnedUsage = new LongAdder();
+
+    @Override
+    public void recordHits(K key, V value, boolean pinned, int count) {
+        hitCount.add(count);
+    }
+
+    @Override
+    public void recordMisses(K key, int count) {
+        missCount.add(count);
+    }
+
+    @Override
+    public void recordRemoval(V value, boolean pinned, long weight) {
+        removeCount.increment();
+        removeWeight.add(weight);
+        usage.add(-weight);
+    }
+
+    @Override
+    public void recordReplacement(
+        V oldValue,
+        V newValue,
+        long oldWeight,
+        long newWeight,
+        boolean shouldUpdateActiveUsage,
+        boolean isPinned
+    ) {
+        replaceCount.increment();
+        if (shouldUpdateActiveUsage) activeUsage.add(newWeight - oldWeight);
+        if (isPinned) pinnedUsage.add(newWeight - oldWeight);
+        usage.add(newWeight - oldWeight);
+    }
+
+    @Override
+    public void recordEviction(V value, long weight) {
+        evictionCount.increment();
+        evictionWeight.add(weight);
+        usage.add(-weight);
+    }
+
+    @Override
+    public void recordUsage(V value, long weight, boolean pinned, boolean shouldDecrease) {
+        usage.add(shouldDecrease ? -weight : weight);
+    }
+
+    @Override
+    public void recordActiveUsage(V value, long weight, boolean pinned, boolean shouldDecrease) {
+        activeUsage.add(shouldDecrease ? -weight : weight);
+    }
+
+    @Override
+    public void recordPinnedUsage(V value, long weight, boolean shouldDecrease) {
+        pinnedUsage.add(shouldDecrease ? -weight : weight);
+    }
+
+    @Override
+    public void resetActiveUsage() {
+        activeUsage.reset();
+    }
+
+    @Override
+    public void resetPinnedUsage() {
+        pinnedUsage.reset();
+    }
+
+    @Override
+    public void resetUsage() {
+        usage.reset();
+    }
+
+    @Override
+    public long activeUsage() {
+        return Math.max(0L, activeUsage.sum());
+    }
+
+    @Override
+    public long usage() {
+        return Math.max(0L, usage.sum());
+    }
+
+    @Override
+    public long pinnedUsage() {
+        return Math.max(0L, pinnedUsage.sum());
+    }
+
+    @Override
+    public IRefCountedCacheStats snapshot() {
+        // a removal racing with the snapshot can be seen before the matching addition, never report it as a negative usage
+        return new RefCountedCacheStats(
+            hitCount.sum(),
+            missCount.sum(),
+            removeCount.sum(),
+            removeWeight.sum(),
+            replaceCount.sum(),
+            evictionCount.sum(),
+            evictionWeight.sum(),
+            usage(),
+            activeUsage(),
+            pinnedUsage()
+        );
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+}
@@ -10,23 +10,30 @@ package org.opensearch.index.store.remote.utils.cache.stats;
 
 import org.opensearch.index.store.remote.filecache.CachedFullFileIndexInput;
 
+import java.util.function.Supplier;
+
 /**
- * A non thread-safe {@link StatsCounter} implementation which aggregates multiple {@link DefaultStatsCounter}.
+ * A {@link StatsCounter} implementation which aggregates multiple counters, by default {@link DefaultStatsCounter}.
+ * It is thread-safe only if the aggregated counters are.
  *
  * @opensearch.internal
  */
 public class FileStatsCounter<K, V> implements StatsCounter<K, V> {
 
-    private final DefaultStatsCounter<K, V> overallStatsCounter;
-    private final DefaultStatsCounter<K, V> fullFileStatsCounter;
-    private final DefaultStatsCounter<K, V> blockFileStatsCounter;
-    private final DefaultStatsCounter<K, V> pinnedFileStatsCounter;
+    private final StatsCounter<K, V> overallStatsCounter;
+    private final StatsCounter<K, V> fullFileStatsCounter;
+    private final StatsCounter<K, V> blockFileStatsCounter;
+    private final StatsCounter<K, V> pinnedFileStatsCounter;
 
     public FileStatsCounter() {
-        overallStatsCounter = new DefaultStatsCounter<>();
-        fullFileStatsCounter = new DefaultStatsCounter<>();
-        blockFileStatsCounter = new DefaultStatsCounter<>();
-        pinnedFileStatsCounter = new DefaultStatsCounter<>();
+        this(DefaultStatsCounter::new);
+    }
+
+    public FileStatsCounter(Supplier<StatsCounter<K, V>> counterSupplier) {
+        overallStatsCounter = counterSupplier.get();
+        fullFileStatsCounter = counterSupplier.get();
+        blockFileStatsCounter = counterSupplier.get();
+        pinnedFileStatsCounter = counterSupplier.get();
     }
 
     @Override
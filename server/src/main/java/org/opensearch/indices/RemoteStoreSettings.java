@@ -134,6 +134,18 @@ public class RemoteStoreSettings {
         Property.Dynamic
     );
 
+    /**
+     * Controls the maximum number of segment files a single shard uploads to the remote segment store at the same time. Files
+     * are uploaded smallest first, so a shard with a large merged segment to upload leaves room for other shards' uploads.
+     */
+    public static final Setting<Integer> CLUSTER_REMOTE_SEGMENT_MAX_CONCURRENT_UPLOADS_PER_SHARD_SETTING = Setting.intSetting(
+        "cluster.remote_store.segment.max_concurrent_uploads_per_shard",
+        16,
+        1,
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
     /**
      * Controls pinned timestamp feature enablement
      */
@@ -198,6 +210,7 @@ public class RemoteStoreSettings {
     private volatile int minRemoteSegmentMetadataFiles;
     private volatile TimeValue clusterRemoteTranslogTransferTimeout;
     private volatile TimeValue clusterRemoteSegmentTransferTimeout;
+    private volatile int maxConcurrentSegmentUploadsPerShard;
     private volatile RemoteStoreEnums.PathType pathType;
     private volatile RemoteStoreEnums.PathHashAlgorithm pathHashAlgorithm;
     private volatile int maxRemoteTranslogReaders;
@@ -246,6 +259,12 @@ public class RemoteStoreSettings {
             this::setClusterRemoteSegmentTransferTimeout
         );
 
+        maxConcurrentSegmentUploadsPerShard = CLUSTER_REMOTE_SEGMENT_MAX_CONCURRENT_UPLOADS_PER_SHARD_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(
+            CLUSTER_REMOTE_SEGMENT_MAX_CONCURRENT_UPLOADS_PER_SHARD_SETTING,
+            this::setMaxConcurrentSegmentUploadsPerShard
+        );
+
         isClusterServerSideEncryptionRepoEnabled = CLUSTER_SERVER_SIDE_ENCRYPTION_ENABLED.get(settings);
         clusterSettings.addSettingsUpdateConsumer(CLUSTER_SERVER_SIDE_ENCRYPTION_ENABLED, this::setClusterServerSideEncryptionEnabled);
 
@@ -289,6 +308,14 @@ public class RemoteStoreSettings {
         this.clusterRemoteSegmentTransferTimeout = clusterRemoteSegmentTransferTimeout;
     }
 
+    public int getMaxConcurrentSegmentUploadsPerShard() {
+        return maxConcurrentSegmentUploadsPerShard;
+    }
+
+    private void setMaxConcurrentSegmentUploadsPerShard(int maxConcurrentSegmentUploadsPerShard) {
+        this.maxConcurrentSegmentUploadsPerShard = maxConcurrentSegmentUploadsPerShard;
+    }
+
     @ExperimentalApi
     public RemoteStoreEnums.PathType getPathType() {
         return pathType;
@@ -317,10 +317,13 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
             final Accountable accountable = nodeLevelCache.getCache().computeIfAbsent(key, k -> {
                 OpenSearchDirectoryReader.addReaderCloseListener(indexReader, IndexFieldCache.this);
                 Collections.addAll(k.listeners, this.listeners);
+                final long startTimeNanos = System.nanoTime();
                 final Accountable ifd = (Accountable) indexFieldData.loadGlobalDirect(indexReader);
+                final long tookInNanos = System.nanoTime() - startTimeNanos;
                 for (Listener listener : k.listeners) {
                     try {
                         listener.onCache(shardId, fieldName, ifd);
+                        listener.onGlobalOrdinalsBuilt(shardId, fieldName, tookInNanos);
                     } catch (Exception e) {
                         // load anyway since listeners should not throw exceptions
                         logger.error("Failed to call listener on global ordinals loading", e);
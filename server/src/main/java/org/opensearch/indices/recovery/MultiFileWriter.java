@@ -205,6 +205,27 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         }
     }
 
+    /**
+     * Drops everything written so far for the given file, so that it can be written again from the start. The caller must make
+     * sure that no chunks of the file are being written concurrently.
+     */
+    public void discardFile(String name) {
+        ensureOpen.run();
+        fileChunkWriters.remove(name);
+        final IndexOutput indexOutput = openIndexOutputs.remove(name);
+        if (indexOutput != null) {
+            try {
+                indexOutput.close();
+            } catch (Exception e) {
+                logger.debug(() -> new ParameterizedMessage("error while closing recovery output [{}]", indexOutput), e);
+            }
+        }
+        final String tempFileName = getTempNameForFile(name);
+        if (tempFileNames.remove(tempFileName) != null) {
+            store.deleteQuiet(tempFileName);
+        }
+    }
+
     /** renames all temporary files to their true name, potentially overriding existing files */
     public void renameAllTempFiles() throws IOException {
         ensureOpen.run();
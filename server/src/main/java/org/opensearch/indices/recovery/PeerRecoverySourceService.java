@@ -55,6 +55,7 @@ import org.opensearch.index.IndexService;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportChannel;
@@ -92,14 +93,28 @@ public class PeerRecoverySourceService extends AbstractLifecycleComponent implem
     private final TransportService transportService;
     private final IndicesService indicesService;
     private final RecoverySettings recoverySettings;
+    @Nullable
+    private final SnapshotRecoveryPlanner snapshotRecoveryPlanner;
 
     final OngoingRecoveries ongoingRecoveries = new OngoingRecoveries();
 
     @Inject
     public PeerRecoverySourceService(TransportService transportService, IndicesService indicesService, RecoverySettings recoverySettings) {
+        this(transportService, indicesService, recoverySettings, null);
+    }
+
+    public PeerRecoverySourceService(
+        TransportService transportService,
+        IndicesService indicesService,
+        RecoverySettings recoverySettings,
+        @Nullable RepositoriesService repositoriesService
+    ) {
         this.transportService = transportService;
         this.indicesService = indicesService;
         this.recoverySettings = recoverySettings;
+        this.snapshotRecoveryPlanner = repositoriesService == null
+            ? null
+            : new SnapshotRecoveryPlanner(repositoriesService, transportService.getThreadPool(), recoverySettings);
         // When the target node wants to start a peer recovery it sends a START_RECOVERY request to the source
         // node. Upon receiving START_RECOVERY, the source node will initiate the peer recovery.
         transportService.registerRequestHandler(
@@ -379,7 +394,7 @@ public class PeerRecoverySourceService extends AbstractLifecycleComponent implem
                     throttleTime -> shard.recoveryStats().addThrottleTime(throttleTime),
                     shard.isRemoteTranslogEnabled() || request.targetNode().isRemoteStoreNode()
                 );
-                handler = RecoverySourceHandlerFactory.create(shard, recoveryTarget, request, recoverySettings);
+                handler = RecoverySourceHandlerFactory.create(shard, recoveryTarget, request, recoverySettings, snapshotRecoveryPlanner);
                 return Tuple.tuple(handler, recoveryTarget);
             }
         }
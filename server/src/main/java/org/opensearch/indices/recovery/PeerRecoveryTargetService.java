@@ -69,6 +69,7 @@ import org.opensearch.index.translog.TranslogCorruptedException;
 import org.opensearch.indices.replication.common.ReplicationCollection;
 import org.opensearch.indices.replication.common.ReplicationCollection.ReplicationRef;
 import org.opensearch.indices.replication.common.ReplicationTimer;
+import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.ConnectTransportException;
@@ -108,6 +109,7 @@ public class PeerRecoveryTargetService implements IndexEventListener {
         public static final String FILES_INFO = "internal:index/shard/recovery/filesInfo";
         public static final String FILE_CHUNK = "internal:index/shard/recovery/file_chunk";
         public static final String CLEAN_FILES = "internal:index/shard/recovery/clean_files";
+        public static final String RESTORE_FILES_FROM_SNAPSHOT = "internal:index/shard/recovery/restore_files_from_snapshot";
         public static final String TRANSLOG_OPS = "internal:index/shard/recovery/translog_ops";
         public static final String PREPARE_TRANSLOG = "internal:index/shard/recovery/prepare_translog";
         public static final String FINALIZE = "internal:index/shard/recovery/finalize";
@@ -123,16 +125,32 @@ public class PeerRecoveryTargetService implements IndexEventListener {
 
     private final ReplicationCollection<RecoveryTarget> onGoingRecoveries;
 
+    @Nullable
+    private final SnapshotRecoveryFileDownloader snapshotDownloader;
+
     public PeerRecoveryTargetService(
         ThreadPool threadPool,
         TransportService transportService,
         RecoverySettings recoverySettings,
         ClusterService clusterService
+    ) {
+        this(threadPool, transportService, recoverySettings, clusterService, null);
+    }
+
+    public PeerRecoveryTargetService(
+        ThreadPool threadPool,
+        TransportService transportService,
+        RecoverySettings recoverySettings,
+        ClusterService clusterService,
+        @Nullable RepositoriesService repositoriesService
     ) {
         this.threadPool = threadPool;
         this.transportService = transportService;
         this.recoverySettings = recoverySettings;
         this.clusterService = clusterService;
+        this.snapshotDownloader = repositoriesService == null
+            ? null
+            : new SnapshotRecoveryFileDownloader(repositoriesService, threadPool, recoverySettings);
         this.onGoingRecoveries = new ReplicationCollection<>(logger, threadPool);
 
         transportService.registerRequestHandler(
@@ -147,6 +165,12 @@ public class PeerRecoveryTargetService implements IndexEventListener {
             FileChunkRequest::new,
             new FileChunkTransportRequestHandler()
         );
+        transportService.registerRequestHandler(
+            Actions.RESTORE_FILES_FROM_SNAPSHOT,
+            ThreadPool.Names.GENERIC,
+            RecoveryRestoreFilesFromSnapshotRequest::new,
+            new RestoreFilesFromSnapshotRequestHandler()
+        );
         transportService.registerRequestHandler(
             Actions.CLEAN_FILES,
             ThreadPool.Names.GENERIC,
@@ -189,7 +213,7 @@ public class PeerRecoveryTargetService implements IndexEventListener {
     public void startRecovery(final IndexShard indexShard, final DiscoveryNode sourceNode, final RecoveryListener listener) {
         // create a new recovery status, and process...
         final long recoveryId = onGoingRecoveries.start(
-            new RecoveryTarget(indexShard, sourceNode, listener, threadPool),
+            new RecoveryTarget(indexShard, sourceNode, listener, threadPool, snapshotDownloader),
             recoverySettings.activityTimeout()
         );
         // we fork off quickly here and go async but this is called from the cluster state applier thread too and that can cause
@@ -545,6 +569,33 @@ public class PeerRecoveryTargetService implements IndexEventListener {
         }
     }
 
+    class RestoreFilesFromSnapshotRequestHandler implements TransportRequestHandler<RecoveryRestoreFilesFromSnapshotRequest> {
+
+        @Override
+        public void messageReceived(RecoveryRestoreFilesFromSnapshotRequest request, TransportChannel channel, Task task)
+            throws Exception {
+            try (ReplicationRef<RecoveryTarget> recoveryRef = onGoingRecoveries.getSafe(request.recoveryId(), request.shardId())) {
+                final RecoveryTarget recoveryTarget = recoveryRef.get();
+                final ActionListener<Void> listener = recoveryTarget.createOrFinishListener(
+                    channel,
+                    Actions.RESTORE_FILES_FROM_SNAPSHOT,
+                    request
+                );
+                if (listener == null) {
+                    return;
+                }
+
+                recoveryTarget.restoreFilesFromSnapshot(
+                    request.repository(),
+                    request.indexId(),
+                    request.files(),
+                    request.totalTranslogOps(),
+                    listener
+                );
+            }
+        }
+    }
+
     class CleanFilesRequestHandler implements TransportRequestHandler<RecoveryCleanFilesRequest> {
 
         @Override
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.repositories.IndexId;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request to download files of a recovery from a snapshot repository instead of receiving them from the source
+ *
+ * @opensearch.internal
+ */
+public class RecoveryRestoreFilesFromSnapshotRequest extends RecoveryTransportRequest {
+
+    private final long recoveryId;
+    private final ShardId shardId;
+    private final String repository;
+    private final IndexId indexId;
+    private final List<BlobStoreIndexShardSnapshot.FileInfo> files;
+    private final int totalTranslogOps;
+
+    public RecoveryRestoreFilesFromSnapshotRequest(StreamInput in) throws IOException {
+        super(in);
+        recoveryId = in.readLong();
+        shardId = new ShardId(in);
+        repository = in.readString();
+        indexId = new IndexId(in);
+        final int size = in.readVInt();
+        files = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final String name = in.readString();
+            final StoreFileMetadata metadata = new StoreFileMetadata(in);
+            final ByteSizeValue partSize = in.readOptionalWriteable(ByteSizeValue::new);
+            files.add(new BlobStoreIndexShardSnapshot.FileInfo(name, metadata, partSize));
+        }
+        totalTranslogOps = in.readVInt();
+    }
+
+    RecoveryRestoreFilesFromSnapshotRequest(
+        long recoveryId,
+        long requestSeqNo,
+        ShardId shardId,
+        String repository,
+        IndexId indexId,
+        List<BlobStoreIndexShardSnapshot.FileInfo> files,
+        int totalTranslogOps
+    ) {
+        super(requestSeqNo);
+        this.recoveryId = recoveryId;
+        this.shardId = shardId;
+        this.repository = repository;
+        this.indexId = indexId;
+        this.files = files;
+        this.totalTranslogOps = totalTranslogOps;
+    }
+
+    public long recoveryId() {
+        return recoveryId;
+    }
+
+    public ShardId shardId() {
+        return shardId;
+    }
+
+    public String repository() {
+        return repository;
+    }
+
+    public IndexId indexId() {
+        return indexId;
+    }
+
+    public List<BlobStoreIndexShardSnapshot.FileInfo> files() {
+        return files;
+    }
+
+    public int totalTranslogOps() {
+        return totalTranslogOps;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeLong(recoveryId);
+        shardId.writeTo(out);
+        out.writeString(repository);
+        indexId.writeTo(out);
+        out.writeVInt(files.size());
+        for (BlobStoreIndexShardSnapshot.FileInfo file : files) {
+            out.writeString(file.name());
+            file.metadata().writeTo(out);
+            out.writeOptionalWriteable(file.partSize());
+        }
+        out.writeVInt(totalTranslogOps);
+    }
+}
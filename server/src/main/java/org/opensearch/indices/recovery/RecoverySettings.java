@@ -141,6 +141,28 @@ public class RecoverySettings {
         Property.NodeScope
     );
 
+    /**
+     * Name of a registered snapshot repository from which peer recoveries download the files that a snapshot of the shard already
+     * contains, so that only the remaining files are copied from the primary. Empty disables snapshot based recoveries.
+     */
+    public static final Setting<String> INDICES_RECOVERY_SNAPSHOT_REPOSITORY_SETTING = Setting.simpleString(
+        "indices.recovery.snapshot_repository",
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * Controls the maximum number of files that can be downloaded concurrently per recovery from the snapshot repository.
+     */
+    public static final Setting<Integer> INDICES_RECOVERY_MAX_CONCURRENT_SNAPSHOT_FILE_DOWNLOADS_SETTING = Setting.intSetting(
+        "indices.recovery.max_concurrent_snapshot_file_downloads",
+        5,
+        1,
+        20,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     /**
      * Controls the maximum number of streams that can be started concurrently per recovery when downloading from the remote store.
      */
@@ -258,6 +280,8 @@ public class RecoverySettings {
     private volatile int maxConcurrentFileChunks;
     private volatile int maxConcurrentOperations;
     private volatile int maxConcurrentRemoteStoreStreams;
+    private volatile String snapshotRepository;
+    private volatile int maxConcurrentSnapshotFileDownloads;
     private volatile SimpleRateLimiter recoveryRateLimiter;
     private volatile SimpleRateLimiter replicationRateLimiter;
     private volatile SimpleRateLimiter mergedSegmentReplicationRateLimiter;
@@ -280,6 +304,8 @@ public class RecoverySettings {
         this.maxConcurrentFileChunks = INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING.get(settings);
         this.maxConcurrentOperations = INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING.get(settings);
         this.maxConcurrentRemoteStoreStreams = INDICES_RECOVERY_MAX_CONCURRENT_REMOTE_STORE_STREAMS_SETTING.get(settings);
+        this.snapshotRepository = INDICES_RECOVERY_SNAPSHOT_REPOSITORY_SETTING.get(settings);
+        this.maxConcurrentSnapshotFileDownloads = INDICES_RECOVERY_MAX_CONCURRENT_SNAPSHOT_FILE_DOWNLOADS_SETTING.get(settings);
         // doesn't have to be fast as nodes are reconnected every 10s by default (see InternalClusterService.ReconnectToNodes)
         // and we want to give the cluster-manager time to remove a faulty node
         this.retryDelayNetwork = INDICES_RECOVERY_RETRY_DELAY_NETWORK_SETTING.get(settings);
@@ -336,6 +362,11 @@ public class RecoverySettings {
             INDICES_RECOVERY_MAX_CONCURRENT_REMOTE_STORE_STREAMS_SETTING,
             this::setMaxConcurrentRemoteStoreStreams
         );
+        clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_SNAPSHOT_REPOSITORY_SETTING, this::setSnapshotRepository);
+        clusterSettings.addSettingsUpdateConsumer(
+            INDICES_RECOVERY_MAX_CONCURRENT_SNAPSHOT_FILE_DOWNLOADS_SETTING,
+            this::setMaxConcurrentSnapshotFileDownloads
+        );
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_RETRY_DELAY_STATE_SYNC_SETTING, this::setRetryDelayStateSync);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_RETRY_DELAY_NETWORK_SETTING, this::setRetryDelayNetwork);
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_INTERNAL_ACTION_TIMEOUT_SETTING, this::setInternalActionTimeout);
@@ -516,6 +547,22 @@ public class RecoverySettings {
         this.maxConcurrentRemoteStoreStreams = maxConcurrentRemoteStoreStreams;
     }
 
+    public String getSnapshotRepository() {
+        return snapshotRepository;
+    }
+
+    private void setSnapshotRepository(String snapshotRepository) {
+        this.snapshotRepository = snapshotRepository;
+    }
+
+    public int getMaxConcurrentSnapshotFileDownloads() {
+        return maxConcurrentSnapshotFileDownloads;
+    }
+
+    private void setMaxConcurrentSnapshotFileDownloads(int maxConcurrentSnapshotFileDownloads) {
+        this.maxConcurrentSnapshotFileDownloads = maxConcurrentSnapshotFileDownloads;
+    }
+
     public boolean isMergedSegmentReplicationWarmerEnabled() {
         return mergedSegmentReplicationWarmerEnabled;
     }
@@ -39,6 +39,8 @@ import org.apache.lucene.index.IndexFormatTooNewException;
 import org.apache.lucene.index.IndexFormatTooOldException;
 import org.apache.lucene.store.RateLimiter;
 import org.apache.lucene.util.ArrayUtil;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRunnable;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.bulk.BackoffPolicy;
@@ -48,6 +50,7 @@ import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.cluster.routing.IndexShardRoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.common.CheckedRunnable;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.StopWatch;
 import org.opensearch.common.concurrent.GatedCloseable;
@@ -126,6 +129,8 @@ public abstract class RecoverySourceHandler {
     protected final ListenableFuture<RecoveryResponse> future = new ListenableFuture<>();
     public static final String PEER_RECOVERY_NAME = "peer-recovery";
     private final SegmentFileTransferHandler transferHandler;
+    @Nullable
+    private final SnapshotRecoveryPlanner snapshotRecoveryPlanner;
 
     RecoverySourceHandler(
         IndexShard shard,
@@ -135,6 +140,19 @@ public abstract class RecoverySourceHandler {
         int fileChunkSizeInBytes,
         int maxConcurrentFileChunks,
         int maxConcurrentOperations
+    ) {
+        this(shard, recoveryTarget, threadPool, request, fileChunkSizeInBytes, maxConcurrentFileChunks, maxConcurrentOperations, null);
+    }
+
+    RecoverySourceHandler(
+        IndexShard shard,
+        RecoveryTargetHandler recoveryTarget,
+        ThreadPool threadPool,
+        StartRecoveryRequest request,
+        int fileChunkSizeInBytes,
+        int maxConcurrentFileChunks,
+        int maxConcurrentOperations,
+        @Nullable SnapshotRecoveryPlanner snapshotRecoveryPlanner
     ) {
         this.logger = Loggers.getLogger(RecoverySourceHandler.class, request.shardId(), "recover to " + request.targetNode().getName());
         this.transferHandler = new SegmentFileTransferHandler(
@@ -155,6 +173,7 @@ public abstract class RecoverySourceHandler {
         this.chunkSizeInBytes = fileChunkSizeInBytes;
         // if the target is on an old version, it won't be able to handle out-of-order file chunks.
         this.maxConcurrentOperations = maxConcurrentOperations;
+        this.snapshotRecoveryPlanner = snapshotRecoveryPlanner;
     }
 
     public StartRecoveryRequest getRequest() {
@@ -505,7 +524,7 @@ public abstract class RecoverySourceHandler {
 
                 sendFileInfoStep.whenComplete(r -> {
                     logger.debug("sendFileInfoStep completed");
-                    sendFiles(store, phase1Files.toArray(new StoreFileMetadata[0]), translogOps, sendFilesStep);
+                    restoreFromSnapshotAndSendFiles(store, phase1Files, translogOps, sendFilesStep);
                 }, listener::onFailure);
 
                 // When doing peer recovery of remote store enabled replica, retention leases are not required.
@@ -578,6 +597,54 @@ public abstract class RecoverySourceHandler {
         }
     }
 
+    /**
+     * Has the target download the files which a snapshot of the shard already contains from the snapshot repository, and sends the
+     * remaining ones. If the download fails, all files are sent.
+     */
+    void restoreFromSnapshotAndSendFiles(
+        Store store,
+        List<StoreFileMetadata> files,
+        IntSupplier translogOps,
+        ActionListener<Void> listener
+    ) {
+        if (snapshotRecoveryPlanner == null || files.isEmpty() || request.targetNode().getVersion().before(Version.V_3_6_0)) {
+            sendFiles(store, files.toArray(new StoreFileMetadata[0]), translogOps, listener);
+            return;
+        }
+        snapshotRecoveryPlanner.plan(request.shardId(), files, ActionListener.wrap(plan -> {
+            if (plan.snapshotFiles().isEmpty()) {
+                sendFiles(store, files.toArray(new StoreFileMetadata[0]), translogOps, listener);
+                return;
+            }
+            logger.debug(
+                "recovery [phase1]: restoring [{}] files from snapshot repository [{}], sending [{}] files",
+                plan.snapshotFiles().size(),
+                plan.repository(),
+                plan.sourceFiles().size()
+            );
+            cancellableThreads.checkForCancel();
+            final StepListener<Void> restoreFilesStep = new StepListener<>();
+            recoveryTarget.restoreFilesFromSnapshot(
+                plan.repository(),
+                plan.indexId(),
+                plan.snapshotFiles(),
+                translogOps.getAsInt(),
+                restoreFilesStep
+            );
+            restoreFilesStep.whenComplete(
+                r -> sendFiles(store, plan.sourceFiles().toArray(new StoreFileMetadata[0]), translogOps, listener),
+                e -> {
+                    if (ExceptionsHelper.unwrapCause(e) instanceof CancellableThreads.ExecutionCancelledException) {
+                        listener.onFailure(e);
+                        return;
+                    }
+                    logger.warn("recovery [phase1]: failed to restore files from snapshot, sending all files", e);
+                    sendFiles(store, files.toArray(new StoreFileMetadata[0]), translogOps, listener);
+                }
+            );
+        }, listener::onFailure));
+    }
+
     void sendFiles(Store store, StoreFileMetadata[] files, IntSupplier translogOps, ActionListener<Void> listener) {
         final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = transferHandler.createTransfer(
             store,
@@ -8,6 +8,7 @@
 
 package org.opensearch.indices.recovery;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.index.shard.IndexShard;
 
 /**
@@ -22,6 +23,16 @@ public class RecoverySourceHandlerFactory {
         RecoveryTargetHandler recoveryTarget,
         StartRecoveryRequest request,
         RecoverySettings recoverySettings
+    ) {
+        return create(shard, recoveryTarget, request, recoverySettings, null);
+    }
+
+    public static RecoverySourceHandler create(
+        IndexShard shard,
+        RecoveryTargetHandler recoveryTarget,
+        StartRecoveryRequest request,
+        RecoverySettings recoverySettings,
+        @Nullable SnapshotRecoveryPlanner snapshotRecoveryPlanner
     ) {
         boolean isReplicaRecoveryWithRemoteTranslog = request.isPrimaryRelocation() == false && request.targetNode().isRemoteStoreNode();
         if (isReplicaRecoveryWithRemoteTranslog) {
@@ -42,7 +53,8 @@ public class RecoverySourceHandlerFactory {
                 request,
                 Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
                 recoverySettings.getMaxConcurrentFileChunks(),
-                recoverySettings.getMaxConcurrentOperations()
+                recoverySettings.getMaxConcurrentOperations(),
+                snapshotRecoveryPlanner
             );
         }
     }
@@ -38,6 +38,7 @@ import org.apache.lucene.index.IndexFormatTooOldException;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.admin.indices.flush.FlushRequest;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.lucene.Lucene;
@@ -53,6 +54,7 @@ import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardNotRecoveringException;
 import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.index.translog.Translog;
@@ -61,6 +63,7 @@ import org.opensearch.indices.replication.common.ReplicationFailedException;
 import org.opensearch.indices.replication.common.ReplicationListener;
 import org.opensearch.indices.replication.common.ReplicationLuceneIndex;
 import org.opensearch.indices.replication.common.ReplicationTarget;
+import org.opensearch.repositories.IndexId;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
@@ -90,6 +93,9 @@ public class RecoveryTarget extends ReplicationTarget implements RecoveryTargetH
 
     private final ThreadPool threadPool;
 
+    @Nullable
+    private final SnapshotRecoveryFileDownloader snapshotDownloader;
+
     /**
      * Creates a new recovery target object that represents a recovery to the provided shard.
      *
@@ -99,9 +105,29 @@ public class RecoveryTarget extends ReplicationTarget implements RecoveryTargetH
      * @param threadPool threadpool instance
      */
     public RecoveryTarget(IndexShard indexShard, DiscoveryNode sourceNode, ReplicationListener listener, ThreadPool threadPool) {
+        this(indexShard, sourceNode, listener, threadPool, null);
+    }
+
+    /**
+     * Creates a new recovery target object that represents a recovery to the provided shard.
+     *
+     * @param indexShard         local shard where we want to recover to
+     * @param sourceNode         source node of the recovery where we recover from
+     * @param listener           called when recovery is completed/failed
+     * @param threadPool         threadpool instance
+     * @param snapshotDownloader downloads files from a snapshot repository if the source asks for it, may be null
+     */
+    public RecoveryTarget(
+        IndexShard indexShard,
+        DiscoveryNode sourceNode,
+        ReplicationListener listener,
+        ThreadPool threadPool,
+        @Nullable SnapshotRecoveryFileDownloader snapshotDownloader
+    ) {
         super("recovery_status", indexShard, indexShard.recoveryState().getIndex(), listener);
         this.sourceNode = sourceNode;
         this.threadPool = threadPool;
+        this.snapshotDownloader = snapshotDownloader;
         indexShard.recoveryStats().incCurrentAsTarget();
         final String tempFilePrefix = getPrefix() + UUIDs.randomBase64UUID() + ".";
         this.multiFileWriter = new MultiFileWriter(indexShard.store(), stateIndex, tempFilePrefix, logger, this::ensureRefCount);
@@ -113,7 +139,7 @@ public class RecoveryTarget extends ReplicationTarget implements RecoveryTargetH
      * @return a copy of this recovery target
      */
     public RecoveryTarget retryCopy() {
-        return new RecoveryTarget(indexShard, sourceNode, listener, threadPool);
+        return new RecoveryTarget(indexShard, sourceNode, listener, threadPool, snapshotDownloader);
     }
 
     public String source() {
@@ -359,6 +385,47 @@ public class RecoveryTarget extends ReplicationTarget implements RecoveryTargetH
         });
     }
 
+    @Override
+    public void restoreFilesFromSnapshot(
+        String repository,
+        IndexId indexId,
+        List<BlobStoreIndexShardSnapshot.FileInfo> files,
+        int totalTranslogOps,
+        ActionListener<Void> listener
+    ) {
+        if (snapshotDownloader == null) {
+            listener.onFailure(new IllegalStateException("restoring recovery files from a snapshot is not supported on this node"));
+            return;
+        }
+        if (tryIncRef() == false) {
+            listener.onFailure(new IllegalStateException("recovery target [" + getId() + "] is already closed"));
+            return;
+        }
+        state().getTranslog().totalOperations(totalTranslogOps);
+        final ActionListener<Void> releasingListener = ActionListener.runAfter(ActionListener.wrap(listener::onResponse, e -> {
+            // the source copies all these files itself after a failure, so drop whatever was downloaded
+            try {
+                for (BlobStoreIndexShardSnapshot.FileInfo file : files) {
+                    multiFileWriter.discardFile(file.physicalName());
+                    state().getIndex().resetRecoveredBytesOfFile(file.physicalName());
+                }
+            } catch (Exception inner) {
+                e.addSuppressed(inner);
+            }
+            listener.onFailure(e);
+        }), this::decRef);
+        snapshotDownloader.download(
+            repository,
+            indexId,
+            shardId(),
+            files,
+            multiFileWriter,
+            cancellableThreads,
+            this::setLastAccessTime,
+            releasingListener
+        );
+    }
+
     @Override
     public void cleanFiles(
         int totalTranslogOps,
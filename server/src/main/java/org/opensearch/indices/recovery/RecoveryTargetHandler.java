@@ -34,8 +34,10 @@ package org.opensearch.indices.recovery;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.seqno.ReplicationTracker;
 import org.opensearch.index.seqno.RetentionLeases;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.repositories.IndexId;
 
 import java.util.List;
 
@@ -119,6 +121,25 @@ public interface RecoveryTargetHandler extends FileChunkWriter {
         ActionListener<Void> listener
     );
 
+    /**
+     * Downloads the given files from a snapshot of the shard rather than have them sent over by the source. The files must have
+     * been announced through {@link #receiveFileInfo} before.
+     *
+     * @param repository       name of the snapshot repository holding the files
+     * @param indexId          id of the index in the snapshot repository
+     * @param files            files to download
+     * @param totalTranslogOps current number of total operations expected to be indexed
+     */
+    default void restoreFilesFromSnapshot(
+        String repository,
+        IndexId indexId,
+        List<BlobStoreIndexShardSnapshot.FileInfo> files,
+        int totalTranslogOps,
+        ActionListener<Void> listener
+    ) {
+        listener.onFailure(new UnsupportedOperationException("restoring files from a snapshot is not supported by " + getClass()));
+    }
+
     /**
      * After all source files has been sent over, this command is sent to the target so it can clean any local
      * files that are not part of the source store
@@ -42,11 +42,13 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.index.seqno.ReplicationTracker;
 import org.opensearch.index.seqno.RetentionLeases;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.indices.replication.RemoteSegmentFileChunkWriter;
 import org.opensearch.indices.replication.SegmentReplicationTargetService;
+import org.opensearch.repositories.IndexId;
 import org.opensearch.transport.EmptyTransportResponseHandler;
 import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportService;
@@ -241,6 +243,31 @@ public class RemoteRecoveryTargetHandler implements RecoveryTargetHandler {
         retryableTransportClient.executeRetryableAction(action, request, responseListener, reader);
     }
 
+    @Override
+    public void restoreFilesFromSnapshot(
+        String repository,
+        IndexId indexId,
+        List<BlobStoreIndexShardSnapshot.FileInfo> files,
+        int totalTranslogOps,
+        ActionListener<Void> listener
+    ) {
+        final String action = PeerRecoveryTargetService.Actions.RESTORE_FILES_FROM_SNAPSHOT;
+        final long requestSeqNo = requestSeqNoGenerator.getAndIncrement();
+        final RecoveryRestoreFilesFromSnapshotRequest request = new RecoveryRestoreFilesFromSnapshotRequest(
+            recoveryId,
+            requestSeqNo,
+            shardId,
+            repository,
+            indexId,
+            files,
+            totalTranslogOps
+        );
+        final Writeable.Reader<TransportResponse.Empty> reader = in -> TransportResponse.Empty.INSTANCE;
+        final ActionListener<TransportResponse.Empty> responseListener = ActionListener.map(listener, r -> null);
+        // the target only responds once all files are downloaded, which can take as long as copying them from the source
+        retryableTransportClient.executeRetryableAction(action, request, translogOpsRequestOptions, responseListener, reader);
+    }
+
     @Override
     public void cleanFiles(
         int totalTranslogOps,
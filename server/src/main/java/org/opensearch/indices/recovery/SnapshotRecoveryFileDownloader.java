@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionRunnable;
+import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.snapshots.blobstore.SlicedInputStream;
+import org.opensearch.repositories.IndexId;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.repositories.Repository;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Downloads the files of a peer recovery which the source found in a snapshot of the shard, see {@link SnapshotRecoveryPlanner}.
+ * Up to {@link RecoverySettings#INDICES_RECOVERY_MAX_CONCURRENT_SNAPSHOT_FILE_DOWNLOADS_SETTING} files are downloaded in
+ * parallel on the generic thread pool, throttled by the same rate limiters as snapshot restores and recoveries.
+ *
+ * @opensearch.internal
+ */
+public class SnapshotRecoveryFileDownloader {
+
+    private static final Logger logger = LogManager.getLogger(SnapshotRecoveryFileDownloader.class);
+
+    private final RepositoriesService repositoriesService;
+    private final ThreadPool threadPool;
+    private final RecoverySettings recoverySettings;
+
+    public SnapshotRecoveryFileDownloader(
+        RepositoriesService repositoriesService,
+        ThreadPool threadPool,
+        RecoverySettings recoverySettings
+    ) {
+        this.repositoriesService = repositoriesService;
+        this.threadPool = threadPool;
+        this.recoverySettings = recoverySettings;
+    }
+
+    /**
+     * Downloads the given files of the shard from the repository into the writer. The listener is only completed once all
+     * downloads have stopped, so that the caller can safely clean up after a failure.
+     *
+     * @param onProgress called after every chunk that was written, so that the recovery isn't considered idle while large
+     *                   files are downloaded without any request from the source
+     */
+    public void download(
+        String repositoryName,
+        IndexId indexId,
+        ShardId shardId,
+        List<BlobStoreIndexShardSnapshot.FileInfo> files,
+        MultiFileWriter writer,
+        CancellableThreads cancellableThreads,
+        Runnable onProgress,
+        ActionListener<Void> listener
+    ) {
+        final BlobContainer container;
+        final BlobStoreRepository repository;
+        try {
+            final Repository repo = repositoriesService.repository(repositoryName);
+            if (repo instanceof BlobStoreRepository == false) {
+                throw new IllegalArgumentException("repository [" + repositoryName + "] is not a blob store repository");
+            }
+            repository = (BlobStoreRepository) repo;
+            container = repository.shardContainer(indexId, shardId.id());
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        if (files.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        logger.trace("{} downloading [{}] files from snapshot repository [{}]", shardId, files.size(), repositoryName);
+        final Queue<BlobStoreIndexShardSnapshot.FileInfo> pending = new ConcurrentLinkedQueue<>(files);
+        final AtomicBoolean failed = new AtomicBoolean();
+        final int workers = Math.min(recoverySettings.getMaxConcurrentSnapshotFileDownloads(), files.size());
+        final GroupedActionListener<Void> groupedListener = new GroupedActionListener<>(ActionListener.map(listener, r -> null), workers);
+        for (int i = 0; i < workers; i++) {
+            threadPool.generic().execute(ActionRunnable.run(groupedListener, () -> {
+                BlobStoreIndexShardSnapshot.FileInfo fileInfo;
+                // stop picking up files as soon as one download failed, the whole batch is going to be copied from the source
+                while (failed.get() == false && (fileInfo = pending.poll()) != null) {
+                    try {
+                        downloadFile(repository, container, fileInfo, writer, cancellableThreads, onProgress);
+                    } catch (Exception e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                }
+            }));
+        }
+    }
+
+    private void downloadFile(
+        BlobStoreRepository repository,
+        BlobContainer container,
+        BlobStoreIndexShardSnapshot.FileInfo fileInfo,
+        MultiFileWriter writer,
+        CancellableThreads cancellableThreads,
+        Runnable onProgress
+    ) throws IOException {
+        assert fileInfo.name().startsWith(BlobStoreRepository.VIRTUAL_DATA_BLOB_PREFIX) == false : "virtual blob " + fileInfo;
+        final long length = fileInfo.length();
+        final int chunkSize = Math.toIntExact(Math.min(recoverySettings.getChunkSize().getBytes(), Math.max(1L, length)));
+        final byte[] buffer = new byte[chunkSize];
+        try (InputStream stream = repository.maybeRateLimitRestores(new SlicedInputStream(fileInfo.numberOfParts()) {
+            @Override
+            protected InputStream openSlice(int slice) throws IOException {
+                cancellableThreads.checkForCancel();
+                return container.readBlob(fileInfo.partName(slice));
+            }
+        })) {
+            long position = 0;
+            do {
+                cancellableThreads.checkForCancel();
+                final int toRead = Math.toIntExact(Math.min(buffer.length, length - position));
+                final int read = stream.readNBytes(buffer, 0, toRead);
+                if (read < toRead) {
+                    throw new EOFException("unexpected end of [" + fileInfo.name() + "] for file [" + fileInfo.physicalName() + "]");
+                }
+                // chunks of a file are written in order, so the writer consumes the buffer before returning
+                writer.writeFileChunk(fileInfo.metadata(), position, new BytesArray(buffer, 0, read), position + read == length);
+                position += read;
+                onProgress.run();
+            } while (position < length);
+        }
+    }
+}
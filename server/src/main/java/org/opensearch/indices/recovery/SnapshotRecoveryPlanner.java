@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshots;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.repositories.IndexId;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.repositories.Repository;
+import org.opensearch.repositories.RepositoryData;
+import org.opensearch.repositories.RepositoryMissingException;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Plans which of the files of a peer recovery the target can download from a snapshot repository rather than have copied over
+ * from the source. A file can be downloaded if any snapshot of the shard in the repository configured through
+ * {@link RecoverySettings#INDICES_RECOVERY_SNAPSHOT_REPOSITORY_SETTING} contains a file with the same name, length and checksum.
+ * Planning never fails the recovery: if the repository cannot be read, all files are copied from the source.
+ *
+ * @opensearch.internal
+ */
+public class SnapshotRecoveryPlanner {
+
+    private static final Logger logger = LogManager.getLogger(SnapshotRecoveryPlanner.class);
+
+    private final RepositoriesService repositoriesService;
+    private final ThreadPool threadPool;
+    private final RecoverySettings recoverySettings;
+
+    public SnapshotRecoveryPlanner(RepositoriesService repositoriesService, ThreadPool threadPool, RecoverySettings recoverySettings) {
+        this.repositoriesService = repositoriesService;
+        this.threadPool = threadPool;
+        this.recoverySettings = recoverySettings;
+    }
+
+    /**
+     * Splits the given files into the ones to download from the snapshot repository and the ones to copy from the source.
+     */
+    public void plan(ShardId shardId, List<StoreFileMetadata> files, ActionListener<Plan> listener) {
+        final String repositoryName = recoverySettings.getSnapshotRepository();
+        if (repositoryName.isEmpty() || files.isEmpty()) {
+            listener.onResponse(Plan.sourceOnly(files));
+            return;
+        }
+        final Repository repository;
+        try {
+            repository = repositoriesService.repository(repositoryName);
+        } catch (RepositoryMissingException e) {
+            logger.debug("{} snapshot repository [{}] for recoveries is not registered", shardId, repositoryName);
+            listener.onResponse(Plan.sourceOnly(files));
+            return;
+        }
+        if (repository instanceof BlobStoreRepository == false) {
+            logger.debug("{} snapshot repository [{}] for recoveries is not a blob store repository", shardId, repositoryName);
+            listener.onResponse(Plan.sourceOnly(files));
+            return;
+        }
+        final BlobStoreRepository blobStoreRepository = (BlobStoreRepository) repository;
+        repository.getRepositoryData(ActionListener.wrap(repositoryData -> {
+            // reading the shard's index-N blob is blocking, never do it on the thread that completed the repository data listener
+            threadPool.generic().execute(() -> listener.onResponse(planOrFallback(blobStoreRepository, repositoryData, shardId, files)));
+        }, e -> {
+            logger.warn(new ParameterizedMessage("{} failed to read snapshot repository [{}] for recovery", shardId, repositoryName), e);
+            listener.onResponse(Plan.sourceOnly(files));
+        }));
+    }
+
+    private static Plan planOrFallback(
+        BlobStoreRepository repository,
+        RepositoryData repositoryData,
+        ShardId shardId,
+        List<StoreFileMetadata> files
+    ) {
+        try {
+            return plan(repository, repositoryData, shardId, files);
+        } catch (Exception e) {
+            final String repositoryName = repository.getMetadata().name();
+            logger.warn(new ParameterizedMessage("{} failed to load shard snapshots of repository [{}]", shardId, repositoryName), e);
+            return Plan.sourceOnly(files);
+        }
+    }
+
+    static Plan plan(BlobStoreRepository repository, RepositoryData repositoryData, ShardId shardId, List<StoreFileMetadata> files)
+        throws Exception {
+        final IndexId indexId = repositoryData.getIndices().get(shardId.getIndexName());
+        if (indexId == null) {
+            return Plan.sourceOnly(files);
+        }
+        final String shardGeneration = repositoryData.shardGenerations().getShardGen(indexId, shardId.id());
+        final BlobStoreIndexShardSnapshots shardSnapshots = repository.loadShardSnapshots(indexId, shardId.id(), shardGeneration);
+        final List<BlobStoreIndexShardSnapshot.FileInfo> snapshotFiles = new ArrayList<>();
+        final List<StoreFileMetadata> sourceFiles = new ArrayList<>();
+        for (StoreFileMetadata md : files) {
+            final BlobStoreIndexShardSnapshot.FileInfo fileInfo = findSnapshotFile(shardSnapshots, md);
+            if (fileInfo == null) {
+                sourceFiles.add(md);
+            } else {
+                snapshotFiles.add(fileInfo);
+            }
+        }
+        return new Plan(repository.getMetadata().name(), indexId, snapshotFiles, sourceFiles);
+    }
+
+    private static BlobStoreIndexShardSnapshot.FileInfo findSnapshotFile(BlobStoreIndexShardSnapshots snapshots, StoreFileMetadata md) {
+        final List<BlobStoreIndexShardSnapshot.FileInfo> candidates = snapshots.findPhysicalIndexFiles(md.name());
+        if (candidates == null) {
+            return null;
+        }
+        for (BlobStoreIndexShardSnapshot.FileInfo candidate : candidates) {
+            // virtual blobs hold small files inline in the shard metadata, they are cheaper to copy from the source
+            if (candidate.isSame(md) && candidate.name().startsWith(BlobStoreRepository.VIRTUAL_DATA_BLOB_PREFIX) == false) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The files of a recovery split by where the target gets them from
+     *
+     * @opensearch.internal
+     */
+    public static class Plan {
+        private final String repository;
+        private final IndexId indexId;
+        private final List<BlobStoreIndexShardSnapshot.FileInfo> snapshotFiles;
+        private final List<StoreFileMetadata> sourceFiles;
+
+        Plan(
+            String repository,
+            IndexId indexId,
+            List<BlobStoreIndexShardSnapshot.FileInfo> snapshotFiles,
+            List<StoreFileMetadata> sourceFiles
+        ) {
+            this.repository = repository;
+            this.indexId = indexId;
+            this.snapshotFiles = Collections.unmodifiableList(snapshotFiles);
+            this.sourceFiles = Collections.unmodifiableList(sourceFiles);
+        }
+
+        static Plan sourceOnly(List<StoreFileMetadata> files) {
+            return new Plan(null, null, Collections.emptyList(), files);
+        }
+
+        /**
+         * Name of the repository to download the snapshot files from, or {@code null} if there are none
+         */
+        public String repository() {
+            return repository;
+        }
+
+        public IndexId indexId() {
+            return indexId;
+        }
+
+        /**
+         * Files to download from the snapshot repository
+         */
+        public List<BlobStoreIndexShardSnapshot.FileInfo> snapshotFiles() {
+            return snapshotFiles;
+        }
+
+        /**
+         * Files to copy from the source
+         */
+        public List<StoreFileMetadata> sourceFiles() {
+            return sourceFiles;
+        }
+    }
+}
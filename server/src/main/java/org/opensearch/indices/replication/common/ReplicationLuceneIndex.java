@@ -90,6 +90,13 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
         filesDetails.addRecoveredBytesToFile(name, bytes);
     }
 
+    /**
+     * Forgets the bytes recovered so far for the given file, when the file is going to be recovered again from the start
+     */
+    public synchronized void resetRecoveredBytesOfFile(String name) {
+        filesDetails.resetRecoveredBytesOfFile(name);
+    }
+
     public synchronized void addSourceThrottling(long timeInNanos) {
         if (sourceThrottlingInNanos == UNKNOWN) {
             sourceThrottlingInNanos = timeInNanos;
@@ -362,6 +369,12 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
             file.addRecoveredBytes(bytes);
         }
 
+        public void resetRecoveredBytesOfFile(String name) {
+            FileMetadata file = fileMetadataMap.get(name);
+            assert file != null : "file [" + name + "] hasn't been reported";
+            file.resetRecoveredBytes();
+        }
+
         public FileMetadata get(String name) {
             return fileMetadataMap.get(name);
         }
@@ -432,6 +445,11 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
             recovered += bytes;
         }
 
+        void resetRecoveredBytes() {
+            assert reused == false : "file is marked as reused, can't update recovered bytes";
+            recovered = 0;
+        }
+
         /**
          * file name
          */
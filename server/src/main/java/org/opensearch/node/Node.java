@@ -946,6 +946,7 @@ public class Node implements Closeable {
             rerouteServiceReference.set(rerouteService);
             clusterService.setRerouteService(rerouteService);
             clusterModule.setRerouteServiceForAllocator(rerouteService);
+            clusterModule.setDeciderExecutorForAllocator(threadPool.generic());
 
             final RecoverySettings recoverySettings = new RecoverySettings(settings, settingsModule.getClusterSettings());
 
@@ -1609,9 +1610,11 @@ public class Node implements Closeable {
                 b.bind(RemoteStoreSettings.class).toInstance(remoteStoreSettings);
                 {
                     b.bind(PeerRecoverySourceService.class)
-                        .toInstance(new PeerRecoverySourceService(transportService, indicesService, recoverySettings));
+                        .toInstance(new PeerRecoverySourceService(transportService, indicesService, recoverySettings, repositoryService));
                     b.bind(PeerRecoveryTargetService.class)
-                        .toInstance(new PeerRecoveryTargetService(threadPool, transportService, recoverySettings, clusterService));
+                        .toInstance(
+                            new PeerRecoveryTargetService(threadPool, transportService, recoverySettings, clusterService, repositoryService)
+                        );
                     b.bind(SegmentReplicationTargetService.class)
                         .toInstance(
                             new SegmentReplicationTargetService(
@@ -2387,7 +2390,9 @@ public class Node implements Closeable {
             throw new SettingsException("Cache size must be larger than zero and less than total capacity");
         }
 
-        this.fileCache = FileCacheFactory.createConcurrentLRUFileCache(capacity);
+        this.fileCache = FileCacheFactory.createConcurrentFileCache(capacity, FileCacheSettings.EVICTION_POLICY_SETTING.get(settings));
+        this.fileCache.prefetchTracker()
+            .setMaxConcurrentPrefetches(FileCacheSettings.MAX_CONCURRENT_BLOCK_PREFETCHES_SETTING.get(settings));
         fileCacheNodePath.fileCacheReservedSize = new ByteSizeValue(this.fileCache.capacity(), ByteSizeUnit.BYTES);
         ForkJoinPool loadFileCacheThreadpool = new ForkJoinPool(
             Runtime.getRuntime().availableProcessors(),
@@ -35,6 +35,7 @@ package org.opensearch.repositories.blobstore;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.codecs.CodecUtil;
 import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexFormatTooNewException;
@@ -50,6 +51,7 @@ import org.opensearch.Version;
 import org.opensearch.action.ActionRunnable;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.ClusterStateUpdateTask;
 import org.opensearch.cluster.RepositoryCleanupInProgress;
@@ -70,12 +72,17 @@ import org.opensearch.common.Priority;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.UUIDs;
+import org.opensearch.common.blobstore.AsyncMultiStreamBlobContainer;
 import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.common.blobstore.BlobMetadata;
 import org.opensearch.common.blobstore.BlobPath;
 import org.opensearch.common.blobstore.BlobStore;
 import org.opensearch.common.blobstore.DeleteResult;
+import org.opensearch.common.blobstore.exception.CorruptFileException;
 import org.opensearch.common.blobstore.fs.FsBlobContainer;
+import org.opensearch.common.blobstore.stream.write.WritePriority;
+import org.opensearch.common.blobstore.transfer.RemoteTransferContainer;
+import org.opensearch.common.blobstore.transfer.stream.OffsetRangeIndexInputStream;
 import org.opensearch.common.blobstore.transfer.stream.OffsetRangeInputStream;
 import org.opensearch.common.blobstore.transfer.stream.RateLimitingOffsetRangeInputStream;
 import org.opensearch.common.collect.Tuple;
@@ -122,6 +129,7 @@ import org.opensearch.index.snapshots.IndexShardSnapshotStatus;
 import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshots;
 import org.opensearch.index.snapshots.blobstore.IndexShardSnapshot;
+import org.opensearch.index.snapshots.blobstore.ParallelRangeInputStream;
 import org.opensearch.index.snapshots.blobstore.RateLimitingInputStream;
 import org.opensearch.index.snapshots.blobstore.RemoteStoreShardShallowCopySnapshot;
 import org.opensearch.index.snapshots.blobstore.SlicedInputStream;
@@ -186,6 +194,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -196,6 +205,7 @@ import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static org.opensearch.common.blobstore.transfer.RemoteTransferContainer.checksumOfChecksum;
 import static org.opensearch.common.unit.MemorySizeValue.parseBytesSizeValueOrHeapRatio;
 import static org.opensearch.index.remote.RemoteStoreEnums.PathHashAlgorithm.FNV_1A_COMPOSITE_1;
 import static org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo.canonicalName;
@@ -412,6 +422,28 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         Setting.Property.NodeScope
     );
 
+    /**
+     * Single part files of at least this size are uploaded as parts in parallel and restored through parallel ranged reads, if the
+     * blob container is an {@link AsyncMultiStreamBlobContainer}.
+     */
+    public static final Setting<ByteSizeValue> PARALLEL_TRANSFER_THRESHOLD_SETTING = Setting.byteSizeSetting(
+        "parallel_transfer_threshold",
+        new ByteSizeValue(256, ByteSizeUnit.MB),
+        new ByteSizeValue(0, ByteSizeUnit.BYTES),
+        new ByteSizeValue(Long.MAX_VALUE, ByteSizeUnit.BYTES),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Size of the ranges of a parallel ranged restore, see {@link #PARALLEL_TRANSFER_THRESHOLD_SETTING}
+     */
+    static final int PARALLEL_RESTORE_RANGE_SIZE = Math.toIntExact(ByteSizeUnit.MB.toBytes(8));
+
+    /**
+     * Number of ranges read ahead per file of a parallel ranged restore, bounding the restore buffers to 32mb per file
+     */
+    static final int PARALLEL_RESTORE_CONCURRENT_RANGES = 4;
+
     public static final Setting<Boolean> REMOTE_STORE_INDEX_SHALLOW_COPY = Setting.boolSetting("remote_store_index_shallow_copy", false);
 
     public static final Setting<Boolean> SHALLOW_SNAPSHOT_V2 = Setting.boolSetting("shallow_snapshot_v2", false);
@@ -433,6 +465,17 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         Setting.Property.NodeScope
     );
 
+    /**
+     * Whether a snapshot deletion lists all blobs of each affected shard to find the blobs to delete. If disabled, the blobs to delete
+     * are determined from the repository data and the shard level metadata, and only the index-N blobs of each shard are listed.
+     * Blobs which are not referenced by any shard level metadata, like data left behind by a failed snapshot, are then not removed.
+     */
+    public static final Setting<Boolean> LIST_SHARD_BLOBS_ON_DELETE_SETTING = Setting.boolSetting(
+        "list_shard_blobs_on_delete",
+        true,
+        Setting.Property.NodeScope
+    );
+
     public static final Setting<Boolean> COMPRESS_SETTING = Setting.boolSetting("compress", false, Setting.Property.NodeScope);
 
     public static final Setting<Compressor> COMPRESSION_TYPE_SETTING = new Setting<>(
@@ -486,6 +529,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
 
     private volatile int maxShardBlobDeleteBatch;
 
+    private volatile long parallelTransferThreshold;
+
+    private volatile boolean listShardBlobsOnDelete;
+
     private volatile Compressor compressor;
 
     private volatile boolean cacheRepositoryData;
@@ -663,6 +710,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         cacheRepositoryData = CACHE_REPOSITORY_DATA.get(metadata.settings());
         bufferSize = Math.toIntExact(BUFFER_SIZE_SETTING.get(metadata.settings()).getBytes());
         maxShardBlobDeleteBatch = MAX_SNAPSHOT_SHARD_BLOB_DELETE_BATCH_SIZE.get(metadata.settings());
+        parallelTransferThreshold = PARALLEL_TRANSFER_THRESHOLD_SETTING.get(metadata.settings()).getBytes();
+        listShardBlobsOnDelete = LIST_SHARD_BLOBS_ON_DELETE_SETTING.get(metadata.settings());
         compressor = COMPRESS_SETTING.get(metadata.settings())
             ? COMPRESSION_TYPE_SETTING.get(metadata.settings())
             : CompressorRegistry.none();
@@ -1763,6 +1812,12 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 }
                 // Deleting the shard blobs
                 deleteFromContainer(rootBlobContainer(), eligibleFilesToDelete);
+                logger.debug(
+                    "[{}] deleted [{}] stale shard blobs, [{}] batches left to delete",
+                    metadata.name(),
+                    eligibleFilesToDelete.size(),
+                    staleFilesToDeleteInBatch.size()
+                );
                 l.onResponse(null);
             } catch (Exception e) {
                 logger.warn(
@@ -1807,6 +1862,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                 .stream()
                 .filter(id -> snapshotIds.contains(id) == false)
                 .collect(Collectors.toSet());
+            final List<SnapshotId> deletedSnapshots = oldRepositoryData.getSnapshots(indexId)
+                .stream()
+                .filter(snapshotIds::contains)
+                .collect(Collectors.toList());
             final StepListener<Collection<Integer>> shardCountListener = new StepListener<>();
             final Collection<String> indexMetaGenerations = snapshotIds.stream()
                 .map(id -> oldRepositoryData.indexMetaDataGenerations().indexMetaBlobId(id, indexId))
@@ -1854,15 +1913,28 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                         @Override
                         protected void doRun() throws Exception {
                             final BlobContainer shardContainer = shardContainer(indexId, finalShardId);
-                            final Set<String> blobs = shardContainer.listBlobs().keySet();
+                            final Tuple<BlobStoreIndexShardSnapshots, Set<String>> fromMetadata = useUUIDs
+                                && listShardBlobsOnDelete == false
+                                && remoteStoreLockManagerFactory == null
+                                    ? shardBlobsFromMetadata(
+                                        shardContainer,
+                                        oldRepositoryData.shardGenerations().getShardGen(indexId, finalShardId),
+                                        deletedSnapshots
+                                    )
+                                    : null;
+                            final Set<String> blobs = fromMetadata == null ? shardContainer.listBlobs().keySet() : fromMetadata.v2();
                             final BlobStoreIndexShardSnapshots blobStoreIndexShardSnapshots;
                             final long newGen;
 
-                            // Index-N file would be present if snapshots other than shallow snapshots are present for this shard
-                            if (blobs.stream()
+                            if (fromMetadata != null) {
+                                // the shard level metadata accounts for all blobs of the deleted snapshots, the shard was not listed
+                                newGen = -1L;
+                                blobStoreIndexShardSnapshots = fromMetadata.v1();
+                            } else if (blobs.stream()
                                 .filter(blob -> blob.startsWith(SNAPSHOT_INDEX_PREFIX))
                                 .collect(Collectors.toSet())
                                 .size() > 0) {
+                                // Index-N file would be present if snapshots other than shallow snapshots are present for this shard
                                 if (useUUIDs) {
                                     newGen = -1L;
                                     blobStoreIndexShardSnapshots = buildBlobStoreIndexShardSnapshots(
@@ -1918,6 +1990,58 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
+    /**
+     * Determines the blobs of a shard that can become unreferenced by deleting the given snapshots from the shard level metadata and
+     * a listing of the shard's index-N blobs only, instead of a listing of the whole shard container. These are all index-N blobs,
+     * the snap- blobs of the deleted snapshots and the data blobs of all files in the shard level metadata. Blobs that no snapshot
+     * refers to, for example data left behind by a failed snapshot, are not found this way and stay in the repository.
+     *
+     * @param shardContainer   container of the shard
+     * @param generation       shard generation of the shard before the deletion
+     * @param deletedSnapshots snapshots to delete which contain the shard's index
+     * @return the shard level metadata and the candidate blobs for deletion, or {@code null} if the shard container has to be listed
+     *         because the shard generation is unknown or the metadata does not contain all deleted snapshots, like shallow snapshots
+     *         or snapshots in which the shard failed
+     */
+    @Nullable
+    private Tuple<BlobStoreIndexShardSnapshots, Set<String>> shardBlobsFromMetadata(
+        BlobContainer shardContainer,
+        @Nullable String generation,
+        Collection<SnapshotId> deletedSnapshots
+    ) throws IOException {
+        if (generation == null
+            || generation.equals(ShardGenerations.NEW_SHARD_GEN)
+            || generation.equals(ShardGenerations.DELETED_SHARD_GEN)) {
+            return null;
+        }
+        final BlobStoreIndexShardSnapshots snapshots;
+        try {
+            snapshots = INDEX_SHARD_SNAPSHOTS_FORMAT.read(shardContainer, generation, namedXContentRegistry);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        // snapshots leave the previous index-N blobs behind, there are only a few of them compared to the data blobs of a shard
+        final Set<String> blobs = new HashSet<>(shardContainer.listBlobsByPrefix(SNAPSHOT_INDEX_PREFIX).keySet());
+        final Set<String> snapshotNames = new HashSet<>();
+        for (SnapshotFiles snapshotFiles : snapshots) {
+            snapshotNames.add(snapshotFiles.snapshot());
+            for (BlobStoreIndexShardSnapshot.FileInfo fileInfo : snapshotFiles.indexFiles()) {
+                if (fileInfo.name().startsWith(VIRTUAL_DATA_BLOB_PREFIX) == false) {
+                    for (int i = 0; i < fileInfo.numberOfParts(); i++) {
+                        blobs.add(fileInfo.partName(i));
+                    }
+                }
+            }
+        }
+        for (SnapshotId snapshotId : deletedSnapshots) {
+            if (snapshotNames.contains(snapshotId.getName()) == false) {
+                return null;
+            }
+            blobs.add(INDEX_SHARD_SNAPSHOT_FORMAT.blobName(snapshotId.getUUID()));
+        }
+        return Tuple.tuple(snapshots, blobs);
+    }
+
     /**
      * Resolves the list of files that should be deleted during a snapshot deletion operation.
      * This method combines files to be deleted from shard-level metadata and index-level metadata.
@@ -4305,13 +4429,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                             indexOutput.writeBytes(hash.bytes, hash.offset, hash.length);
                             recoveryState.getIndex().addRecoveredBytesToFile(fileInfo.physicalName(), hash.length);
                         } else {
-                            try (InputStream stream = maybeRateLimitRestores(new SlicedInputStream(fileInfo.numberOfParts()) {
-                                @Override
-                                protected InputStream openSlice(int slice) throws IOException {
-                                    ensureNotClosing(store);
-                                    return container.readBlob(fileInfo.partName(slice));
-                                }
-                            })) {
+                            try (InputStream stream = maybeRateLimitRestores(openRestoreStream(fileInfo, store))) {
                                 final byte[] buffer = new byte[Math.toIntExact(Math.min(bufferSize, fileInfo.length()))];
                                 int length;
                                 while ((length = stream.read(buffer)) > 0) {
@@ -4339,6 +4457,32 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                     }
                 }
 
+                private InputStream openRestoreStream(BlobStoreIndexShardSnapshot.FileInfo fileInfo, Store store) {
+                    if (useParallelTransfer(container, fileInfo)) {
+                        // large files are read as ranges in parallel, on the generic pool so that the restore workers which
+                        // consume them can never starve the reads of threads
+                        return new ParallelRangeInputStream(
+                            fileInfo.length(),
+                            PARALLEL_RESTORE_RANGE_SIZE,
+                            PARALLEL_RESTORE_CONCURRENT_RANGES,
+                            threadPool.generic()
+                        ) {
+                            @Override
+                            protected InputStream openRange(long position, int rangeLength) throws IOException {
+                                ensureNotClosing(store);
+                                return container.readBlob(fileInfo.partName(0), position, rangeLength);
+                            }
+                        };
+                    }
+                    return new SlicedInputStream(fileInfo.numberOfParts()) {
+                        @Override
+                        protected InputStream openSlice(int slice) throws IOException {
+                            ensureNotClosing(store);
+                            return container.readBlob(fileInfo.partName(slice));
+                        }
+                    };
+                }
+
                 void ensureNotClosing(final Store store) throws AlreadyClosedException {
                     assert store.refCount() > 0;
                     if (store.isClosing()) {
@@ -4469,6 +4613,15 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         return maybeRateLimit(stream, () -> snapshotRateLimiter, snapshotRateLimitingTimeInNanos, BlobStoreTransferContext.SNAPSHOT);
     }
 
+    public OffsetRangeInputStream maybeRateLimitSnapshotUploads(OffsetRangeInputStream offsetRangeInputStream) {
+        return maybeRateLimitRemoteTransfers(
+            offsetRangeInputStream,
+            () -> snapshotRateLimiter,
+            snapshotRateLimitingTimeInNanos,
+            BlobStoreTransferContext.SNAPSHOT
+        );
+    }
+
     // Visible for testing
     public RateLimiter snapshotRateLimiter() {
         return snapshotRateLimiter;
@@ -4786,6 +4939,23 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         return new Tuple<>(legacyIndex.v1(), String.valueOf(legacyIndex.v2()));
     }
 
+    /**
+     * Loads the files of all snapshots of a shard from its index-N blob. If the shard generation is unknown, it is determined by
+     * listing the shard container.
+     *
+     * @param indexId    index the shard belongs to
+     * @param shardId    shard id
+     * @param generation shard generation or {@code null} if unknown
+     * @return all snapshots of the shard in the repository
+     */
+    public BlobStoreIndexShardSnapshots loadShardSnapshots(IndexId indexId, int shardId, @Nullable String generation) throws IOException {
+        final BlobContainer shardContainer = shardContainer(indexId, shardId);
+        final Set<String> blobs = generation == null
+            ? shardContainer.listBlobsByPrefix(INDEX_FILE_PREFIX).keySet()
+            : Collections.singleton(INDEX_FILE_PREFIX + generation);
+        return buildBlobStoreIndexShardSnapshots(blobs, shardContainer, generation).v1();
+    }
+
     /**
      * Loads all available snapshots in the repository
      *
@@ -4826,6 +4996,10 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         CryptoMetadata cryptoMetadata
     ) throws IOException {
         final BlobContainer shardContainer = shardContainer(indexId, shardId);
+        if (useParallelTransfer(shardContainer, fileInfo)) {
+            snapshotFileInParallel(fileInfo, shardId, snapshotId, snapshotStatus, store, cryptoMetadata, shardContainer);
+            return;
+        }
 
         final String file = fileInfo.physicalName();
         try (IndexInput indexInput = store.openVerifyingInput(file, IOContext.DEFAULT, fileInfo.metadata())) {
@@ -4869,6 +5043,153 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
+    private boolean useParallelTransfer(BlobContainer container, BlobStoreIndexShardSnapshot.FileInfo fileInfo) {
+        return container instanceof AsyncMultiStreamBlobContainer
+            && fileInfo.numberOfParts() == 1
+            && fileInfo.length() >= parallelTransferThreshold
+            && fileInfo.name().startsWith(VIRTUAL_DATA_BLOB_PREFIX) == false;
+    }
+
+    /**
+     * Uploads a large single part file as multiple parts in parallel. The checksum of the file is computed from the parts as they
+     * are uploaded and compared to the one in the file's footer, which must match the checksum of the file's metadata, so that the
+     * file is read only once.
+     */
+    private void snapshotFileInParallel(
+        BlobStoreIndexShardSnapshot.FileInfo fileInfo,
+        ShardId shardId,
+        SnapshotId snapshotId,
+        IndexShardSnapshotStatus snapshotStatus,
+        Store store,
+        CryptoMetadata cryptoMetadata,
+        BlobContainer shardContainer
+    ) throws IOException {
+        final String file = fileInfo.physicalName();
+        final String partName = fileInfo.partName(0);
+        try (IndexInput indexInput = store.directory().openInput(file, IOContext.DEFAULT)) {
+            final String footerChecksum = Store.digestToString(CodecUtil.retrieveChecksum(indexInput));
+            if (footerChecksum.equals(fileInfo.metadata().checksum()) == false) {
+                throw new CorruptIndexException(
+                    "checksum failed (hardware problem?) : expected=" + fileInfo.metadata().checksum() + " actual=" + footerChecksum,
+                    indexInput
+                );
+            }
+            final PlainActionFuture<Void> future = PlainActionFuture.newFuture();
+            try (
+                RemoteTransferContainer remoteTransferContainer = new RemoteTransferContainer(
+                    file,
+                    partName,
+                    fileInfo.length(),
+                    false,
+                    WritePriority.NORMAL,
+                    (size, position) -> new AbortableOffsetRangeInputStream(
+                        maybeRateLimitSnapshotUploads(new OffsetRangeIndexInputStream(indexInput.clone(), size, position)),
+                        snapshotStatus
+                    ),
+                    checksumOfChecksum(indexInput, 8),
+                    ((AsyncMultiStreamBlobContainer) shardContainer).remoteIntegrityCheckSupported(),
+                    null,
+                    cryptoMetadata
+                )
+            ) {
+                logger.trace(
+                    () -> new ParameterizedMessage("[{}] Writing [{}] to [{}] in parts", metadata.name(), partName, shardContainer.path())
+                );
+                ((AsyncMultiStreamBlobContainer) shardContainer).asyncBlobUpload(remoteTransferContainer.createWriteContext(), future);
+                // the parts are uploaded on the blob store's transfer threads, the snapshot thread only waits for all of them
+                future.actionGet();
+            }
+            snapshotStatus.addProcessedFile(fileInfo.length());
+        } catch (Exception e) {
+            final Exception failure = unwrapParallelUploadFailure(e);
+            failStoreIfCorrupted(store, failure);
+            snapshotStatus.addProcessedFile(0);
+            logger.debug(() -> new ParameterizedMessage("[{}] [{}] failed to upload [{}] in parts", shardId, snapshotId, file), failure);
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            throw ExceptionsHelper.convertToRuntime(failure);
+        }
+    }
+
+    private static Exception unwrapParallelUploadFailure(Exception e) {
+        final IOException corruption = ExceptionsHelper.unwrapCorruption(e);
+        if (corruption != null) {
+            return corruption;
+        }
+        final Throwable corruptFile = ExceptionsHelper.unwrap(e, CorruptFileException.class);
+        if (corruptFile != null) {
+            return new CorruptIndexException(corruptFile.getMessage(), ((CorruptFileException) corruptFile).getFileName());
+        }
+        final Throwable aborted = ExceptionsHelper.unwrap(e, AbortedSnapshotException.class);
+        if (aborted != null) {
+            return (AbortedSnapshotException) aborted;
+        }
+        return e;
+    }
+
+    /**
+     * Makes the parts of a parallel upload abortable by mutating the snapshot status, like the streams of a sequential upload
+     */
+    private static final class AbortableOffsetRangeInputStream extends OffsetRangeInputStream {
+
+        private final OffsetRangeInputStream delegate;
+        private final IndexShardSnapshotStatus snapshotStatus;
+
+        AbortableOffsetRangeInputStream(OffsetRangeInputStream delegate, IndexShardSnapshotStatus snapshotStatus) {
+            this.delegate = delegate;
+            this.snapshotStatus = snapshotStatus;
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkAborted();
+            return delegate.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            checkAborted();
+            return delegate.read(b, off, len);
+        }
+
+        private void checkAborted() {
+            if (snapshotStatus.isAborted()) {
+                throw new AbortedSnapshotException();
+            }
+        }
+
+        @Override
+        public long getFilePointer() throws IOException {
+            return delegate.getFilePointer();
+        }
+
+        @Override
+        public void setReadBlock(AtomicBoolean readBlock) {
+            delegate.setReadBlock(readBlock);
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+            delegate.mark(readlimit);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return delegate.markSupported();
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            delegate.reset();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
     private static void failStoreIfCorrupted(Store store, Exception e) {
         if (Lucene.isCorruptionException(e)) {
             try {
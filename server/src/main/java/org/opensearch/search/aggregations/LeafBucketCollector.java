@@ -88,6 +88,13 @@ public abstract class LeafBucketCollector implements LeafCollector {
                         }
                     }
 
+                    @Override
+                    public void collectRange(int min, int max, long bucket) throws IOException {
+                        for (LeafBucketCollector c : colls) {
+                            c.collectRange(min, max, bucket);
+                        }
+                    }
+
                 };
         }
     }
@@ -172,6 +179,22 @@ public abstract class LeafBucketCollector implements LeafCollector {
         stream.forEach((doc) -> collect(doc, owningBucketOrd));
     }
 
+    /**
+     * Collect a range of doc IDs, between {@code min} inclusive and {@code max} exclusive, within {@code owningBucketOrd}.
+     * {@code max} is guaranteed to be greater than {@code min}.
+     *
+     * <p>This is used by parent bucket aggregations that can tell from a {@link DocValuesSkipper} that a whole range of doc IDs
+     * falls into the same bucket, so that sub-aggregations can collect the range without the parent visiting every doc.
+     *
+     * <p>The default implementation calls {@link #collect(int, long)} for every doc ID of the range.
+     */
+    @ExperimentalApi
+    public void collectRange(int min, int max, long owningBucketOrd) throws IOException {
+        for (int docId = min; docId < max; docId++) {
+            collect(docId, owningBucketOrd);
+        }
+    }
+
     @Override
     public void setScorer(Scorable scorer) throws IOException {
         // no-op by default
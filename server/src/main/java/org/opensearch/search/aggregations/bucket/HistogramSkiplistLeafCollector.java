@@ -8,11 +8,14 @@
 
 package org.opensearch.search.aggregations.bucket;
 
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.DocValuesSkipper;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.Scorable;
 import org.opensearch.common.Rounding;
+import org.opensearch.index.mapper.DocCountFieldMapper;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorBase;
 import org.opensearch.search.aggregations.LeafBucketCollector;
@@ -27,6 +30,11 @@ import java.util.function.Supplier;
  * Histogram collection logic using skip list.
  *
  * Currently, it can only handle one owningBucketOrd at a time.
+ * <p>
+ * Ranges of doc IDs that the skip index proves to fall into a single bucket are counted without reading their values, and are
+ * passed to the sub-aggregations through {@link LeafBucketCollector#collectRange(int, int, long)}. When the index is sorted on the
+ * field, the values of a range are monotonic, so the docs of other ranges are counted in runs of consecutive docs of the same
+ * bucket instead of being rounded one by one.
  *
  * @opensearch.internal
  */
@@ -36,6 +44,15 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
     private final DocValuesSkipper skipper;
     private final LeafBucketCollector sub;
     private final boolean isSubNoOp;
+    /**
+     * Whether sub-aggregations may be handed whole ranges of doc IDs. This is not the case if they need scores, which
+     * are only available for the doc that is being collected.
+     */
+    private final boolean subCollectsRanges;
+    /**
+     * Whether doc values are monotonic in doc ID order, which is the case when the index is sorted on the field.
+     */
+    private final boolean sortedValues;
     private final BucketsAggregator aggregator;
 
     /**
@@ -76,7 +93,31 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
         LeafBucketCollector sub,
         BucketsAggregator aggregator
     ) {
-        this(values, skipper, (owningBucketOrd) -> preparedRounding, () -> bucketOrds, sub, aggregator, (owningBucketOrd, rounded) -> {});
+        this(values, skipper, preparedRounding, bucketOrds, sub, aggregator, false);
+    }
+
+    /**
+     * Constructor for a fixed rounding over an index that may be sorted on the field.
+     */
+    public HistogramSkiplistLeafCollector(
+        NumericDocValues values,
+        DocValuesSkipper skipper,
+        Rounding.Prepared preparedRounding,
+        LongKeyedBucketOrds bucketOrds,
+        LeafBucketCollector sub,
+        BucketsAggregator aggregator,
+        boolean sortedValues
+    ) {
+        this(
+            values,
+            skipper,
+            (owningBucketOrd) -> preparedRounding,
+            () -> bucketOrds,
+            sub,
+            aggregator,
+            (owningBucketOrd, rounded) -> {},
+            sortedValues
+        );
     }
 
     /**
@@ -90,6 +131,19 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
         LeafBucketCollector sub,
         BucketsAggregator aggregator,
         IncreaseRoundingIfNeeded increaseRoundingIfNeeded
+    ) {
+        this(values, skipper, preparedRoundingSupplier, bucketOrdsSupplier, sub, aggregator, increaseRoundingIfNeeded, false);
+    }
+
+    private HistogramSkiplistLeafCollector(
+        NumericDocValues values,
+        DocValuesSkipper skipper,
+        LongFunction<Rounding.Prepared> preparedRoundingSupplier,
+        Supplier<LongKeyedBucketOrds> bucketOrdsSupplier,
+        LeafBucketCollector sub,
+        BucketsAggregator aggregator,
+        IncreaseRoundingIfNeeded increaseRoundingIfNeeded,
+        boolean sortedValues
     ) {
         this.values = values;
         this.skipper = skipper;
@@ -99,6 +153,8 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
         this.isSubNoOp = (sub == NO_OP_COLLECTOR);
         this.aggregator = aggregator;
         this.increaseRoundingIfNeeded = increaseRoundingIfNeeded;
+        this.subCollectsRanges = isSubNoOp == false && aggregator.scoreMode().needsScores() == false;
+        this.sortedValues = sortedValues;
     }
 
     @Override
@@ -147,8 +203,7 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
         }
     }
 
-    @Override
-    public void collect(int doc, long owningBucketOrd) throws IOException {
+    private Rounding.Prepared currentRounding(long owningBucketOrd) {
         Rounding.Prepared currentRounding = preparedRoundingSupplier.apply(owningBucketOrd);
 
         // Check if rounding changed (using reference equality)
@@ -158,6 +213,12 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
             upToSameBucket = false;
             lastPreparedRounding = currentRounding;
         }
+        return currentRounding;
+    }
+
+    @Override
+    public void collect(int doc, long owningBucketOrd) throws IOException {
+        Rounding.Prepared currentRounding = currentRounding(owningBucketOrd);
 
         if (doc > upToInclusive) {
             advanceSkipper(doc, owningBucketOrd);
@@ -219,6 +280,87 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
         }
     }
 
+    @Override
+    public void collectRange(int min, int max) throws IOException {
+        // This will only be called if its the top agg
+        collectRange(min, max, 0);
+    }
+
+    @Override
+    public void collectRange(int min, int max, long owningBucketOrd) throws IOException {
+        int doc = min;
+        while (doc < max) {
+            currentRounding(owningBucketOrd);
+            if (doc > upToInclusive) {
+                advanceSkipper(doc, owningBucketOrd);
+            }
+            int upToExclusive = upToInclusive + 1;
+            if (upToExclusive < 0 || upToExclusive > max) { // overflow
+                upToExclusive = max;
+            }
+
+            if (upToSameBucket) {
+                collectSameBucket(doc, upToExclusive, upToBucketIndex);
+            } else if (sortedValues) {
+                collectSortedRuns(doc, upToExclusive, owningBucketOrd);
+            } else {
+                for (int i = doc; i < upToExclusive; i++) {
+                    collect(i, owningBucketOrd);
+                }
+            }
+            doc = upToExclusive;
+        }
+    }
+
+    /**
+     * Collects all docs between {@code min} inclusive and {@code max} exclusive, which are known to have a value, into the
+     * same bucket.
+     */
+    private void collectSameBucket(int min, int max, long bucketIndex) throws IOException {
+        aggregator.incrementBucketDocCount(bucketIndex, max - min);
+        if (subCollectsRanges) {
+            sub.collectRange(min, max, bucketIndex);
+        } else if (isSubNoOp == false) {
+            for (int doc = min; doc < max; doc++) {
+                sub.collect(doc, bucketIndex);
+            }
+        }
+    }
+
+    /**
+     * Collects the docs between {@code min} inclusive and {@code max} exclusive of an index sorted on the field. Values are
+     * monotonic, so the docs of a bucket are consecutive and only need to be compared against the bounds of the bucket.
+     */
+    private void collectSortedRuns(int min, int max, long owningBucketOrd) throws IOException {
+        int doc = min;
+        while (doc < max) {
+            final Rounding.Prepared currentRounding = currentRounding(owningBucketOrd);
+            if (values.advanceExact(doc) == false) {
+                doc++;
+                continue;
+            }
+            final long rounded = currentRounding.round(values.longValue());
+            final long nextRounded = currentRounding.nextRoundingValue(rounded);
+            final int runStart = doc;
+            for (doc++; doc < max; doc++) {
+                if (values.advanceExact(doc) == false) {
+                    break;
+                }
+                final long value = values.longValue();
+                if (value < rounded || value >= nextRounded) {
+                    break;
+                }
+            }
+            final long bucketIndex = bucketOrdsSupplier.get().add(owningBucketOrd, rounded);
+            if (bucketIndex < 0) {
+                collectSameBucket(runStart, doc, -1 - bucketIndex);
+            } else {
+                collectSameBucket(runStart, doc, bucketIndex);
+                increaseRoundingIfNeeded.accept(owningBucketOrd, rounded);
+            }
+        }
+    }
+
     /**
      * Call back for auto date histogram
      *
@@ -228,6 +370,15 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
         void accept(long owningBucket, long rounded);
     }
 
+    /**
+     * Whether some docs of the segment carry a {@code _doc_count}, like those of rollup indices. Such docs stand for
+     * more than one doc, so they can't be counted by range and have to be collected one by one through
+     * {@link BucketsAggregator#collectBucket}.
+     */
+    public static boolean hasDocCountField(LeafReader reader) throws IOException {
+        return DocValues.getNumeric(reader, DocCountFieldMapper.NAME).nextDoc() != NumericDocValues.NO_MORE_DOCS;
+    }
+
     /**
      * Skiplist is based as top level agg (null parent) or parent that will execute in sorted order
      *
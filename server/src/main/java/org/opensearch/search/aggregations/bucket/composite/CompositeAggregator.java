@@ -112,6 +112,9 @@ public final class CompositeAggregator extends BucketsAggregator {
     private final CompositeValuesSourceConfig[] sourceConfigs;
     private final SingleDimensionValuesSource<?>[] sources;
     private final CompositeValuesCollectorQueue queue;
+    private final Query leadSourceAfterQuery;
+    private Weight leadSourceAfterWeight;
+    private int leadSourceAfterSegments;
 
     private final List<Entry> entries = new ArrayList<>();
     private LeafReaderContext currentLeaf;
@@ -180,6 +183,9 @@ public final class CompositeAggregator extends BucketsAggregator {
 
         this.queue = new CompositeValuesCollectorQueue(context.bigArrays(), sources, size, rawAfterKey);
         this.rawAfterKey = rawAfterKey;
+        this.leadSourceAfterQuery = rawAfterKey != null && sourceConfigs[0].hasScript() == false
+            ? sources[0].createAfterQueryOrNull()
+            : null;
 
         CompositeAggregatorBridge bridge = new CompositeAggregatorBridge() {
             private RoundingValuesSource valuesSource;
@@ -560,17 +566,35 @@ public final class CompositeAggregator extends BucketsAggregator {
             // include all docs that belong to the partial bucket
             fieldDoc.doc = -1;
         }
+        Weight weight = createFilteredWeight(new SearchAfterSortedDocQuery(applySortFieldRounding(indexSortPrefix), fieldDoc));
+        processLeafFromWeight(ctx, weight, indexSortPrefix.getSort().length);
+    }
+
+    /**
+     * Visits the documents that match the query and whose leading source value is greater than or equal to
+     * the after key. This skips the documents that cannot produce a competitive bucket without reading their
+     * values, which avoids scanning the documents of all previous pages again on each page.
+     */
+    private void processLeafAfterLeadSource(LeafReaderContext ctx, int sortPrefixLen) throws IOException {
+        if (leadSourceAfterWeight == null) {
+            leadSourceAfterWeight = createFilteredWeight(leadSourceAfterQuery);
+        }
+        leadSourceAfterSegments++;
+        processLeafFromWeight(ctx, leadSourceAfterWeight, sortPrefixLen);
+    }
+
+    private Weight createFilteredWeight(Query filter) throws IOException {
         BooleanQuery newQuery = new BooleanQuery.Builder().add(context.query(), BooleanClause.Occur.MUST)
-            .add(new SearchAfterSortedDocQuery(applySortFieldRounding(indexSortPrefix), fieldDoc), BooleanClause.Occur.FILTER)
+            .add(filter, BooleanClause.Occur.FILTER)
             .build();
-        Weight weight = context.searcher().createWeight(context.searcher().rewrite(newQuery), ScoreMode.COMPLETE_NO_SCORES, 1f);
+        return context.searcher().createWeight(context.searcher().rewrite(newQuery), ScoreMode.COMPLETE_NO_SCORES, 1f);
+    }
+
+    private void processLeafFromWeight(LeafReaderContext ctx, Weight weight, int sortPrefixLen) throws IOException {
         Scorer scorer = weight.scorer(ctx);
         if (scorer != null) {
             DocIdSetIterator docIt = scorer.iterator();
-            final LeafBucketCollector inner = queue.getLeafCollector(
-                ctx,
-                getFirstPassCollector(docIdSetBuilder, indexSortPrefix.getSort().length)
-            );
+            final LeafBucketCollector inner = queue.getLeafCollector(ctx, getFirstPassCollector(docIdSetBuilder, sortPrefixLen));
             inner.setScorer(scorer);
             final Bits liveDocs = ctx.reader().getLiveDocs();
             while (docIt.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
@@ -629,6 +653,11 @@ public final class CompositeAggregator extends BucketsAggregator {
                 assert indexSortPrefix != null;
                 processLeafFromQuery(ctx, indexSortPrefix);
                 throw new CollectionTerminatedException();
+            } else if (leadSourceAfterQuery != null) {
+                // We have an after key and the leading source can skip the documents whose values sort before it,
+                // so we only visit the documents that match both the query and the after key of the leading source.
+                processLeafAfterLeadSource(ctx, sortPrefixLen);
+                throw new CollectionTerminatedException();
             } else {
                 final LeafBucketCollector inner = queue.getLeafCollector(ctx, getFirstPassCollector(docIdSetBuilder, sortPrefixLen));
                 return new LeafBucketCollector() {
@@ -769,5 +798,6 @@ public final class CompositeAggregator extends BucketsAggregator {
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         filterRewriteOptimizationContext.populateDebugInfo(add);
+        add.accept("lead_source_after_key_segments", leadSourceAfterSegments);
     }
 }
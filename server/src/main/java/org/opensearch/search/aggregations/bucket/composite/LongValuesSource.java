@@ -42,6 +42,7 @@ import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.FieldExistsQuery;
 import org.apache.lucene.search.IndexOrDocValuesQuery;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.PointRangeQuery;
 import org.apache.lucene.search.Query;
 import org.opensearch.common.CheckedFunction;
@@ -57,6 +58,7 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Objects;
 import java.util.function.LongUnaryOperator;
 import java.util.function.ToLongFunction;
@@ -250,6 +252,39 @@ public class LongValuesSource extends SingleDimensionValuesSource<Long> {
         }
     }
 
+    @Override
+    Query createAfterQueryOrNull() {
+        if (checkIfAfterQueryIsApplicable(fieldType) == false) {
+            return null;
+        }
+        // values are rounded down, so a document whose indexed values are all lower than the after value
+        // cannot produce a value that is greater than or equal to the after value
+        final long lower = afterValue;
+        if (fieldType.unwrap() instanceof NumberFieldMapper.NumberFieldType) {
+            switch (fieldType.unwrap().typeName()) {
+                case "long":
+                    return LongPoint.newRangeQuery(fieldType.name(), lower, Long.MAX_VALUE);
+
+                case "integer":
+                case "short":
+                case "byte":
+                    if (lower > Integer.MAX_VALUE) {
+                        return new MatchNoDocsQuery("after value is greater than all values of [" + fieldType.name() + "]");
+                    }
+                    return IntPoint.newRangeQuery(fieldType.name(), (int) Math.max(lower, Integer.MIN_VALUE), Integer.MAX_VALUE);
+
+                default:
+                    return null;
+            }
+        } else if (fieldType.unwrap() instanceof DateFieldMapper.DateFieldType) {
+            final DateFieldMapper.Resolution resolution = ((DateFieldMapper.DateFieldType) fieldType.unwrap()).resolution();
+            final long lowerPoint = resolution.convert(resolution.clampToValidRange(Instant.ofEpochMilli(lower)));
+            return LongPoint.newRangeQuery(fieldType.name(), lowerPoint, Long.MAX_VALUE);
+        } else {
+            return null;
+        }
+    }
+
     @Override
     SortedDocsProducer createSortedDocsProducerOrNull(IndexReader reader, Query query) {
         query = extractQuery(query);
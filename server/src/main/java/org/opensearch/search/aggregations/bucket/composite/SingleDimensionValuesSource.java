@@ -172,6 +172,27 @@ public abstract class SingleDimensionValuesSource<T extends Comparable<T>> imple
      */
     abstract SortedDocsProducer createSortedDocsProducerOrNull(IndexReader reader, Query query);
 
+    /**
+     * Returns a {@link Query} that matches all documents that may produce a value greater than or equal to the
+     * after value of this source, or null if this source cannot restrict the documents to visit.
+     */
+    Query createAfterQueryOrNull() {
+        return null;
+    }
+
+    /**
+     * Returns true if the after value can be used to skip documents with {@link #createAfterQueryOrNull()}.
+     */
+    protected boolean checkIfAfterQueryIsApplicable(MappedFieldType fieldType) {
+        return fieldType != null
+            && fieldType.isSearchable()
+            && afterValue != null
+            // documents without values must be visited if they sort after all values
+            && (missingBucket == false || missingOrder != LAST)
+            // inverse of the natural order
+            && reverseMul == 1;
+    }
+
     /**
      * Returns true if a {@link SortedDocsProducer} should be used to optimize the execution.
      */
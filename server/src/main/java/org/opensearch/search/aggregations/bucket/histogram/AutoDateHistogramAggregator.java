@@ -276,7 +276,8 @@ abstract class AutoDateHistogramAggregator extends DeferableBucketAggregator {
 
         final SortedNumericDocValues values = valuesSource.longValues(ctx);
         DocValuesSkipper skipper = null;
-        if (this.fieldName != null) {
+        // docs with a _doc_count can't be counted by range, so segments that have some don't use the skip list
+        if (this.fieldName != null && HistogramSkiplistLeafCollector.hasDocCountField(ctx.reader()) == false) {
             skipper = ctx.reader().getDocValuesSkipper(this.fieldName);
         }
 
@@ -226,7 +226,8 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         }
 
         DocValuesSkipper skipper = null;
-        if (this.fieldName != null) {
+        // docs with a _doc_count can't be counted by range, so segments that have some don't use the skip list
+        if (this.fieldName != null && HistogramSkiplistLeafCollector.hasDocCountField(ctx.reader()) == false) {
             skipper = ctx.reader().getDocValuesSkipper(this.fieldName);
         }
         final SortedNumericDocValues values = valuesSource.longValues(ctx);
@@ -234,7 +235,7 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
 
         if (HistogramSkiplistLeafCollector.canUseSkiplist(hardBounds, parent, skipper, singleton)) {
             skipListCollectorsUsed++;
-            return new HistogramSkiplistLeafCollector(singleton, skipper, preparedRounding, bucketOrds, sub, this);
+            return new HistogramSkiplistLeafCollector(singleton, skipper, preparedRounding, bucketOrds, sub, this, fieldIndexSort);
         }
 
         if (singleton != null) {
@@ -44,6 +44,7 @@ import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.PriorityQueue;
 import org.opensearch.common.SetOnce;
@@ -183,9 +184,8 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             if (weight.count(ctx) == 0) {
                 // No documents matches top level query on this segment, we can skip the segment entirely
                 return true;
-            } else if (weight.count(ctx) != ctx.reader().maxDoc()) {
-                // weight.count(ctx) == ctx.reader().maxDoc() implies there are no deleted documents and
-                // top-level query matches all docs in the segment
+            } else if (weight.count(ctx) != ctx.reader().numDocs()) {
+                // weight.count(ctx) == ctx.reader().numDocs() implies that the top-level query matches all live docs in the segment
                 return false;
             }
         }
@@ -207,6 +207,17 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             return false;
         }
 
+        // Doc frequencies include deleted documents, so their terms are counted separately and subtracted
+        final int[] deletedDocFreqs;
+        if (ctx.reader().hasDeletions()) {
+            deletedDocFreqs = countDeletedDocFreqs(ctx, termCount);
+            if (deletedDocFreqs == null) {
+                return false;
+            }
+        } else {
+            deletedDocFreqs = null;
+        }
+
         final TermsEnum segmentTermsEnum = segmentTerms.iterator();
         final LongUnaryOperator globalOrdsMapping = valuesSource.globalOrdinalsMapping(ctx);
 
@@ -216,7 +227,13 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             segmentTermsEnum.next();
             long globalOrd = globalOrdsMapping.applyAsLong(segmentOrd);
             if (acceptedGlobalOrdinals.test(globalOrd)) {
-                ordCountConsumer.accept(globalOrd, segmentTermsEnum.docFreq());
+                int docFreq = segmentTermsEnum.docFreq();
+                if (deletedDocFreqs != null) {
+                    docFreq -= deletedDocFreqs[(int) segmentOrd];
+                }
+                if (docFreq > 0) {
+                    ordCountConsumer.accept(globalOrd, docFreq);
+                }
             }
         }
 
@@ -225,6 +242,28 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         return true;
     }
 
+    /**
+     * Counts the number of deleted documents that contain each term of the segment, by reading the doc values of
+     * the deleted documents. Deletes are usually a small fraction of a segment, so this is much cheaper than
+     * collecting the live documents. Returns null if the doc values don't have the same terms as the index.
+     */
+    private int[] countDeletedDocFreqs(LeafReaderContext ctx, long termCount) throws IOException {
+        final SortedSetDocValues values = DocValues.getSortedSet(ctx.reader(), fieldName);
+        if (values.getValueCount() != termCount) {
+            return null;
+        }
+        final Bits liveDocs = ctx.reader().getLiveDocs();
+        final int[] deletedDocFreqs = new int[(int) termCount];
+        for (int doc = 0; doc < ctx.reader().maxDoc(); doc++) {
+            if (liveDocs.get(doc) == false && values.advanceExact(doc)) {
+                for (int i = 0; i < values.docValueCount(); i++) {
+                    deletedDocFreqs[(int) values.nextOrd()]++;
+                }
+            }
+        }
+        return deletedDocFreqs;
+    }
+
     @Override
     protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
         if (tryStarTreePrecompute(ctx) == true) {
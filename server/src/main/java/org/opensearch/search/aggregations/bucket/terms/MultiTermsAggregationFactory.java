@@ -158,7 +158,9 @@ public class MultiTermsAggregationFactory extends AggregatorFactory {
             searchContext,
             parent,
             cardinality,
-            metadata
+            metadata,
+            // include/exclude filters the terms of the internal values sources only
+            configs.stream().allMatch(config -> config.v2() == null)
         );
     }
 
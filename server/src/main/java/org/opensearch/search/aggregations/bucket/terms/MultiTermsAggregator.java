@@ -8,8 +8,12 @@
 
 package org.opensearch.search.aggregations.bucket.terms;
 
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
 import org.apache.lucene.util.PriorityQueue;
@@ -19,6 +23,7 @@ import org.opensearch.common.Numbers;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.LongArray;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -29,6 +34,7 @@ import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.Sort
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -60,6 +66,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
@@ -72,8 +79,30 @@ import static org.opensearch.search.startree.StarTreeQueryHelper.getSupportedSta
  * @opensearch.internal
  */
 public class MultiTermsAggregator extends DeferableBucketAggregator implements StarTreePreComputeCollector {
+    /**
+     * Global ordinals that are not built eagerly are only packed if they can't be more than this many, because their
+     * {@code OrdinalMap} has to be built for the search.
+     */
+    static final long MAX_LAZY_GLOBAL_ORDS = SegmentOrdinalsStringTermsAggregator.MAX_LOW_CARDINALITY_ORDS;
 
     private final BytesKeyedBucketOrds bucketOrds;
+    /**
+     * Packs the composite keys into longs when all the fields have cheap global ordinals, {@code null} otherwise.
+     */
+    private final PackedOrdinalsKeys packedKeys;
+    private final LongKeyedBucketOrds packedBucketOrds;
+    /**
+     * The fields whose segment ordinals are packed into longs and remapped to bytes keys at the end of each segment,
+     * {@code null} if the segment ordinals are not packed.
+     */
+    private final ValuesSource.Bytes.WithOrdinals[] segmentOrdinalsSources;
+    private final CardinalityUpperBound cardinality;
+    private final BytesStreamOutput remapScratch = new BytesStreamOutput();
+    private LeafReaderContext segment;
+    private PackedOrdinalsKeys segmentKeys;
+    private LongKeyedBucketOrds segmentBucketOrds;
+    private LongArray segmentDocCounts;
+    private int segmentsWithPackedOrdinals;
     private final MultiTermsValuesSource multiTermsValue;
     private final boolean showTermDocCountError;
     private final List<DocValueFormat> formats;
@@ -100,9 +129,74 @@ public class MultiTermsAggregator extends DeferableBucketAggregator implements S
         Aggregator parent,
         CardinalityUpperBound cardinality,
         Map<String, Object> metadata
+    ) throws IOException {
+        this(
+            name,
+            factories,
+            showTermDocCountError,
+            rawValuesSources,
+            internalValuesSources,
+            fields,
+            formats,
+            order,
+            collectMode,
+            bucketCountThresholds,
+            context,
+            parent,
+            cardinality,
+            metadata,
+            false
+        );
+    }
+
+    /**
+     * @param allowPackedKeys whether the composite keys may be packed into longs, which is only correct if the
+     *                        {@link ValuesSource}s are not further filtered by the {@link InternalValuesSource}s.
+     */
+    public MultiTermsAggregator(
+        String name,
+        AggregatorFactories factories,
+        boolean showTermDocCountError,
+        List<ValuesSource> rawValuesSources,
+        List<InternalValuesSource> internalValuesSources,
+        List<String> fields,
+        List<DocValueFormat> formats,
+        BucketOrder order,
+        SubAggCollectionMode collectMode,
+        TermsAggregator.BucketCountThresholds bucketCountThresholds,
+        SearchContext context,
+        Aggregator parent,
+        CardinalityUpperBound cardinality,
+        Map<String, Object> metadata,
+        boolean allowPackedKeys
     ) throws IOException {
         super(name, factories, context, parent, metadata);
-        this.bucketOrds = BytesKeyedBucketOrds.build(context.bigArrays(), cardinality);
+        PackedOrdinalsKeys packed = null;
+        ValuesSource.Bytes.WithOrdinals[] segmentSources = null;
+        // min_doc_count: 0 brute forces all the docs into the bytes keyed ords and
+        // the star-tree pre-computation collects bytes keys
+        if (allowPackedKeys && bucketCountThresholds.getMinDocCount() > 0 && getSupportedStarTree(context.getQueryShardContext()) == null) {
+            ValuesSource.Bytes.WithOrdinals[] ordinalsSources = PackedOrdinalsKeys.ordinalsSourcesOrNull(rawValuesSources);
+            if (ordinalsSources != null) {
+                if (PackedOrdinalsKeys.hasCheapGlobalOrdinals(ordinalsSources, context)) {
+                    packed = PackedOrdinalsKeys.globalOrNull(ordinalsSources, context.searcher());
+                }
+                // the sub-aggregations collect into the final bucket ords, which are only known once the segment is remapped
+                if (packed == null && subAggregators.length == 0) {
+                    segmentSources = ordinalsSources;
+                }
+            }
+        }
+        this.packedKeys = packed;
+        this.segmentOrdinalsSources = segmentSources;
+        this.cardinality = cardinality;
+        if (packed == null) {
+            this.bucketOrds = BytesKeyedBucketOrds.build(context.bigArrays(), cardinality);
+            this.packedBucketOrds = null;
+        } else {
+            this.bucketOrds = null;
+            this.packedBucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
+        }
         this.multiTermsValue = new MultiTermsValuesSource(rawValuesSources, internalValuesSources);
         this.showTermDocCountError = showTermDocCountError;
         this.formats = formats;
@@ -140,36 +234,34 @@ public class MultiTermsAggregator extends DeferableBucketAggregator implements S
         LocalBucketCountThresholds localBucketCountThresholds = context.asLocalBucketCountThresholds(bucketCountThresholds);
         InternalMultiTerms.Bucket[][] topBucketsPerOrd = new InternalMultiTerms.Bucket[owningBucketOrds.length][];
         long[] otherDocCounts = new long[owningBucketOrds.length];
+        // the terms of the packed keys are looked up once all the buckets are collected
+        SortedSetDocValues[] packedKeysLookups = packedKeys == null ? null : packedKeys.lookups(context.searcher().getIndexReader());
         for (int ordIdx = 0; ordIdx < owningBucketOrds.length; ordIdx++) {
             checkCancelled();
             collectZeroDocEntriesIfNeeded(owningBucketOrds[ordIdx]);
-            long bucketsInOrd = bucketOrds.bucketsInOrd(owningBucketOrds[ordIdx]);
+            long bucketsInOrd = bucketsInOrd(owningBucketOrds[ordIdx]);
 
             int size = (int) Math.min(bucketsInOrd, localBucketCountThresholds.getRequiredSize());
             PriorityQueue<InternalMultiTerms.Bucket> ordered = new BucketPriorityQueue<>(size, partiallyBuiltBucketComparator);
             InternalMultiTerms.Bucket spare = null;
-            BytesRef dest = null;
-            BytesKeyedBucketOrds.BucketOrdsEnum ordsEnum = bucketOrds.ordsEnum(owningBucketOrds[ordIdx]);
+            CompositeKeysEnum keysEnum = keysEnum(owningBucketOrds[ordIdx], packedKeysLookups);
             CheckedSupplier<InternalMultiTerms.Bucket, IOException> emptyBucketBuilder = () -> InternalMultiTerms.Bucket.EMPTY(
                 showTermDocCountError,
                 formats
             );
-            while (ordsEnum.next()) {
-                long docCount = bucketDocCount(ordsEnum.ord());
+            while (keysEnum.next()) {
+                long docCount = bucketDocCount(keysEnum.ord());
                 otherDocCounts[ordIdx] += docCount;
                 if (docCount < localBucketCountThresholds.getMinDocCount()) {
                     continue;
                 }
                 if (spare == null) {
                     spare = emptyBucketBuilder.get();
-                    dest = new BytesRef();
                 }
 
-                ordsEnum.readValue(dest);
-
-                spare.termValues = decode(dest);
+                spare.termValues = keysEnum.termValues();
                 spare.docCount = docCount;
-                spare.bucketOrd = ordsEnum.ord();
+                spare.bucketOrd = keysEnum.ord();
                 spare = ordered.insertWithOverflow(spare);
             }
 
@@ -191,6 +283,51 @@ public class MultiTermsAggregator extends DeferableBucketAggregator implements S
         return result;
     }
 
+    private long bucketsInOrd(long owningBucketOrd) {
+        return packedKeys == null ? bucketOrds.bucketsInOrd(owningBucketOrd) : packedBucketOrds.bucketsInOrd(owningBucketOrd);
+    }
+
+    private CompositeKeysEnum keysEnum(long owningBucketOrd, SortedSetDocValues[] packedKeysLookups) {
+        if (packedKeys == null) {
+            BytesKeyedBucketOrds.BucketOrdsEnum ordsEnum = bucketOrds.ordsEnum(owningBucketOrd);
+            BytesRef scratch = new BytesRef();
+            return new CompositeKeysEnum() {
+                @Override
+                public boolean next() {
+                    return ordsEnum.next();
+                }
+
+                @Override
+                public long ord() {
+                    return ordsEnum.ord();
+                }
+
+                @Override
+                public List<Object> termValues() {
+                    ordsEnum.readValue(scratch);
+                    return decode(scratch);
+                }
+            };
+        }
+        LongKeyedBucketOrds.BucketOrdsEnum ordsEnum = packedBucketOrds.ordsEnum(owningBucketOrd);
+        return new CompositeKeysEnum() {
+            @Override
+            public boolean next() {
+                return ordsEnum.next();
+            }
+
+            @Override
+            public long ord() {
+                return ordsEnum.ord();
+            }
+
+            @Override
+            public List<Object> termValues() throws IOException {
+                return packedKeys.decode(ordsEnum.value(), packedKeysLookups);
+            }
+        };
+    }
+
     InternalMultiTerms buildResult(long owningBucketOrd, long otherDocCount, InternalMultiTerms.Bucket[] topBuckets) {
         BucketOrder reduceOrder;
         if (isKeyOrder(order) == false) {
@@ -233,6 +370,38 @@ public class MultiTermsAggregator extends DeferableBucketAggregator implements S
 
     @Override
     protected LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
+        if (packedKeys != null) {
+            return packedKeys.getLeafCollector(ctx, (doc, owningBucketOrd, key) -> {
+                long bucketOrd = packedBucketOrds.add(owningBucketOrd, key);
+                if (bucketOrd < 0) {
+                    collectExistingBucket(sub, doc, -1 - bucketOrd);
+                } else {
+                    collectBucket(sub, doc, bucketOrd);
+                }
+            });
+        }
+        if (segmentOrdinalsSources != null) {
+            remapSegmentKeys();
+            PackedOrdinalsKeys keys = PackedOrdinalsKeys.segmentOrNull(segmentOrdinalsSources, ctx);
+            if (keys != null) {
+                assert sub == LeafBucketCollector.NO_OP_COLLECTOR;
+                segmentsWithPackedOrdinals++;
+                segment = ctx;
+                segmentKeys = keys;
+                segmentBucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
+                segmentDocCounts = context.bigArrays().newLongArray(1, true);
+                return keys.getLeafCollector(ctx, (doc, owningBucketOrd, key) -> {
+                    long segmentBucketOrd = segmentBucketOrds.add(owningBucketOrd, key);
+                    if (segmentBucketOrd < 0) {
+                        segmentBucketOrd = -1 - segmentBucketOrd;
+                    } else {
+                        segmentDocCounts = context.bigArrays().grow(segmentDocCounts, segmentBucketOrd + 1);
+                    }
+                    segmentDocCounts.increment(segmentBucketOrd, docCountProvider.getDocCount(doc));
+                });
+            }
+            // the segment ordinals don't fit into a long, fall back to bytes keys for this segment only
+        }
         MultiTermsValuesSourceCollector collector = multiTermsValue.getValues(ctx, bucketOrds, this, sub);
         return new LeafBucketCollector() {
             @Override
@@ -242,6 +411,39 @@ public class MultiTermsAggregator extends DeferableBucketAggregator implements S
         };
     }
 
+    @Override
+    protected void doPostCollection() throws IOException {
+        remapSegmentKeys();
+    }
+
+    /**
+     * Adds the doc counts of the packed keys of the last collected segment to the buckets of their bytes keys.
+     */
+    private void remapSegmentKeys() throws IOException {
+        if (segmentKeys == null) {
+            return;
+        }
+        SortedSetDocValues[] lookups = segmentKeys.lookups(segment);
+        for (long owningBucketOrd = 0; owningBucketOrd <= segmentBucketOrds.maxOwningBucketOrd(); owningBucketOrd++) {
+            LongKeyedBucketOrds.BucketOrdsEnum ordsEnum = segmentBucketOrds.ordsEnum(owningBucketOrd);
+            while (ordsEnum.next()) {
+                remapScratch.seek(0);
+                remapScratch.writeVInt(lookups.length);
+                segmentKeys.writeTerms(ordsEnum.value(), lookups, remapScratch);
+                long bucketOrd = bucketOrds.add(owningBucketOrd, remapScratch.bytes().toBytesRef());
+                if (bucketOrd < 0) {
+                    bucketOrd = -1 - bucketOrd;
+                }
+                incrementBucketDocCount(bucketOrd, segmentDocCounts.get(ordsEnum.ord()));
+            }
+        }
+        Releasables.close(segmentBucketOrds, segmentDocCounts);
+        segment = null;
+        segmentKeys = null;
+        segmentBucketOrds = null;
+        segmentDocCounts = null;
+    }
+
     @Override
     protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
         CompositeIndexFieldInfo supportedStarTree = getSupportedStarTree(this.context.getQueryShardContext());
@@ -378,9 +580,22 @@ public class MultiTermsAggregator extends DeferableBucketAggregator implements S
         );
     }
 
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        if (packedKeys != null) {
+            add.accept("collection_strategy", "packed_global_ordinals");
+        } else if (segmentOrdinalsSources != null) {
+            add.accept("collection_strategy", "packed_segment_ordinals");
+            add.accept("segments_with_packed_ordinals", segmentsWithPackedOrdinals);
+        } else {
+            add.accept("collection_strategy", "composite_bytes");
+        }
+    }
+
     @Override
     protected void doClose() {
-        Releasables.close(bucketOrds, multiTermsValue);
+        Releasables.close(bucketOrds, packedBucketOrds, segmentBucketOrds, segmentDocCounts, remapScratch, multiTermsValue);
     }
 
     private static List<Object> decode(BytesRef bytesRef) {
@@ -435,6 +650,20 @@ public class MultiTermsAggregator extends DeferableBucketAggregator implements S
 
     }
 
+    /**
+     * Iterates the collected composite keys of an owning bucket, whatever their encoding.
+     */
+    private interface CompositeKeysEnum {
+        boolean next();
+
+        long ord();
+
+        /**
+         * Decodes the term values of the current composite key.
+         */
+        List<Object> termValues() throws IOException;
+    }
+
     @FunctionalInterface
     interface InternalValuesSource {
         /**
@@ -585,6 +814,202 @@ public class MultiTermsAggregator extends DeferableBucketAggregator implements S
         }
     }
 
+    /**
+     * Packs the ordinals of all the fields of a composite key into a single long, giving each field just enough
+     * bits for its max ordinal. This avoids serializing every composite key into bytes and hashing them while
+     * collecting: the keys are only decoded back into terms for the buckets that are built.
+     * <p>
+     * Global ordinals are packed when they are cheap to get, and then the packed keys are the bucket keys. Otherwise
+     * the segment ordinals are packed, and the keys of each segment are remapped to bytes keys once it is collected.
+     *
+     * @opensearch.internal
+     */
+    static class PackedOrdinalsKeys {
+        private final ValuesSource.Bytes.WithOrdinals[] valuesSources;
+        private final boolean global;
+        private final int[] shifts;
+        private final long[] masks;
+
+        private PackedOrdinalsKeys(ValuesSource.Bytes.WithOrdinals[] valuesSources, boolean global, int[] shifts, long[] masks) {
+            this.valuesSources = valuesSources;
+            this.global = global;
+            this.shifts = shifts;
+            this.masks = masks;
+        }
+
+        /**
+         * Returns {@code null} if one of the fields has no ordinals.
+         */
+        static ValuesSource.Bytes.WithOrdinals[] ordinalsSourcesOrNull(List<ValuesSource> rawValuesSources) {
+            if (rawValuesSources.isEmpty()) {
+                return null;
+            }
+            ValuesSource.Bytes.WithOrdinals[] valuesSources = new ValuesSource.Bytes.WithOrdinals[rawValuesSources.size()];
+            for (int i = 0; i < valuesSources.length; i++) {
+                if (rawValuesSources.get(i) instanceof ValuesSource.Bytes.WithOrdinals valuesSource) {
+                    valuesSources[i] = valuesSource;
+                } else {
+                    return null;
+                }
+            }
+            return valuesSources;
+        }
+
+        /**
+         * Whether getting the global ordinals of all the fields is cheap: either they are the segment ordinals of
+         * the only segment, or they are eagerly built on refresh, or the sum of the segment ordinals of the field,
+         * which is an upper bound of its global ordinals, shows that its {@code OrdinalMap} is small.
+         */
+        static boolean hasCheapGlobalOrdinals(ValuesSource.Bytes.WithOrdinals[] valuesSources, SearchContext context) throws IOException {
+            List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+            if (leaves.size() <= 1) {
+                return true;
+            }
+            for (ValuesSource.Bytes.WithOrdinals valuesSource : valuesSources) {
+                String fieldName = valuesSource.getIndexFieldName();
+                MappedFieldType fieldType = fieldName == null ? null : context.getQueryShardContext().fieldMapper(fieldName);
+                if (fieldType != null && fieldType.eagerGlobalOrdinals()) {
+                    continue;
+                }
+                long maxGlobalOrds = 0;
+                for (LeafReaderContext ctx : leaves) {
+                    maxGlobalOrds += valuesSource.ordinalsValues(ctx).getValueCount();
+                    if (maxGlobalOrds > MAX_LAZY_GLOBAL_ORDS) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Packs the global ordinals, returns {@code null} if they don't fit together into a positive long.
+         */
+        static PackedOrdinalsKeys globalOrNull(ValuesSource.Bytes.WithOrdinals[] valuesSources, IndexSearcher searcher) throws IOException {
+            long[] maxOrds = new long[valuesSources.length];
+            for (int i = 0; i < valuesSources.length; i++) {
+                maxOrds[i] = valuesSources[i].globalMaxOrd(searcher);
+            }
+            return buildOrNull(valuesSources, true, maxOrds);
+        }
+
+        /**
+         * Packs the ordinals of a segment, returns {@code null} if they don't fit together into a positive long.
+         */
+        static PackedOrdinalsKeys segmentOrNull(ValuesSource.Bytes.WithOrdinals[] valuesSources, LeafReaderContext ctx) throws IOException {
+            long[] maxOrds = new long[valuesSources.length];
+            for (int i = 0; i < valuesSources.length; i++) {
+                maxOrds[i] = valuesSources[i].ordinalsValues(ctx).getValueCount();
+            }
+            return buildOrNull(valuesSources, false, maxOrds);
+        }
+
+        private static PackedOrdinalsKeys buildOrNull(ValuesSource.Bytes.WithOrdinals[] valuesSources, boolean global, long[] maxOrds) {
+            int[] shifts = new int[valuesSources.length];
+            long[] masks = new long[valuesSources.length];
+            int totalBits = 0;
+            for (int i = 0; i < valuesSources.length; i++) {
+                long maxOrd = maxOrds[i];
+                int bits = maxOrd <= 1 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(maxOrd - 1);
+                shifts[i] = totalBits;
+                masks[i] = (1L << bits) - 1;
+                totalBits += bits;
+                if (totalBits >= Long.SIZE) {
+                    return null;
+                }
+            }
+            return new PackedOrdinalsKeys(valuesSources, global, shifts, masks);
+        }
+
+        private SortedSetDocValues values(int field, LeafReaderContext ctx) throws IOException {
+            return global ? valuesSources[field].globalOrdinalsValues(ctx) : valuesSources[field].ordinalsValues(ctx);
+        }
+
+        LeafBucketCollector getLeafCollector(LeafReaderContext ctx, PackedKeyCollector keyCollector) throws IOException {
+            SortedSetDocValues[] values = new SortedSetDocValues[valuesSources.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = values(i, ctx);
+            }
+            long[][] ords = new long[values.length][1];
+            int[] ordCounts = new int[values.length];
+            return new LeafBucketCollector() {
+                @Override
+                public void collect(int doc, long owningBucketOrd) throws IOException {
+                    for (int i = 0; i < values.length; i++) {
+                        if (false == values[i].advanceExact(doc)) {
+                            // the cartesian product of the values is empty
+                            return;
+                        }
+                        int count = values[i].docValueCount();
+                        ords[i] = ArrayUtil.grow(ords[i], count);
+                        for (int j = 0; j < count; j++) {
+                            ords[i][j] = values[i].nextOrd();
+                        }
+                        ordCounts[i] = count;
+                    }
+                    collectKeys(doc, owningBucketOrd, 0, 0L);
+                }
+
+                private void collectKeys(int doc, long owningBucketOrd, int index, long key) throws IOException {
+                    if (index == values.length) {
+                        keyCollector.collect(doc, owningBucketOrd, key);
+                        return;
+                    }
+                    for (int j = 0; j < ordCounts[index]; j++) {
+                        collectKeys(doc, owningBucketOrd, index + 1, key | (ords[index][j] << shifts[index]));
+                    }
+                }
+            };
+        }
+
+        /**
+         * The global ordinals used to look up the terms of the packed keys, {@code null} if there are no segments.
+         */
+        SortedSetDocValues[] lookups(IndexReader reader) throws IOException {
+            assert global;
+            List<LeafReaderContext> leaves = reader.leaves();
+            return leaves.isEmpty() ? null : lookups(leaves.get(0));
+        }
+
+        /**
+         * The ordinals used to look up the terms of the keys packed in a segment.
+         */
+        SortedSetDocValues[] lookups(LeafReaderContext ctx) throws IOException {
+            SortedSetDocValues[] lookups = new SortedSetDocValues[valuesSources.length];
+            for (int i = 0; i < lookups.length; i++) {
+                lookups[i] = values(i, ctx);
+            }
+            return lookups;
+        }
+
+        List<Object> decode(long key, SortedSetDocValues[] lookups) throws IOException {
+            List<Object> termValues = new ArrayList<>(lookups.length);
+            for (int i = 0; i < lookups.length; i++) {
+                long ord = (key >>> shifts[i]) & masks[i];
+                termValues.add(BytesRef.deepCopyOf(lookups[i].lookupOrd(ord)));
+            }
+            return termValues;
+        }
+
+        /**
+         * Writes the terms of a packed key the same way the bytes keys are written.
+         */
+        void writeTerms(long key, SortedSetDocValues[] lookups, StreamOutput out) throws IOException {
+            for (int i = 0; i < lookups.length; i++) {
+                long ord = (key >>> shifts[i]) & masks[i];
+                TermValue.of(lookups[i].lookupOrd(ord)).writeTo(out);
+            }
+        }
+    }
+
+    /**
+     * Collects the packed key of a document.
+     */
+    @FunctionalInterface
+    interface PackedKeyCollector {
+        void collect(int doc, long owningBucketOrd, long key) throws IOException;
+    }
+
     /**
      * Factory for construct {@link InternalValuesSource}.
      *
@@ -0,0 +1,358 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket.terms;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefBuilder;
+import org.apache.lucene.util.PriorityQueue;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.CardinalityUpperBound;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.InternalOrder;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.bucket.LocalBucketCountThresholds;
+import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
+
+/**
+ * An aggregator of string values that counts the ordinals of each segment into a separate array and merges the counts of
+ * all segments by term once collection is over. Unlike {@link GlobalOrdinalsStringTermsAggregator} it never needs global
+ * ordinals, which are expensive to build for high cardinality fields that are only aggregated once in a while, and unlike
+ * {@link MapStringTermsAggregator} it doesn't hash a term for every collected document.
+ * <p>
+ * This only supports the standard {@code terms} aggregation collecting from a single bucket, without sub-aggregations,
+ * include/exclude rules and with a {@code min_doc_count} greater than zero.
+ *
+ * @opensearch.internal
+ */
+public class SegmentOrdinalsStringTermsAggregator extends AbstractStringTermsAggregator {
+
+    /**
+     * Fields whose segments have at most this many ordinals are cheap to collect with global ordinals, see
+     * {@link GlobalOrdinalsStringTermsAggregator.LowCardinality}.
+     */
+    static final long MAX_LOW_CARDINALITY_ORDS = 2048;
+
+    /**
+     * Largest number of segments whose terms are merged. Every merged term costs a number of term comparisons that grows
+     * with the number of segments, while global ordinals pay for the merge only once and are cached afterwards.
+     */
+    static final int MAX_MERGED_SEGMENTS = 32;
+
+    private final ValuesSource.Bytes.WithOrdinals valuesSource;
+    private final String selectedBy;
+    private final List<SegmentCounts> segments = new ArrayList<>();
+    private int segmentsWithSingleValuedOrds = 0;
+    private int segmentsWithMultiValuedOrds = 0;
+    private long mergedTerms = 0;
+
+    public SegmentOrdinalsStringTermsAggregator(
+        String name,
+        AggregatorFactories factories,
+        ValuesSource.Bytes.WithOrdinals valuesSource,
+        BucketOrder order,
+        DocValueFormat format,
+        BucketCountThresholds bucketCountThresholds,
+        SearchContext context,
+        Aggregator parent,
+        SubAggCollectionMode collectionMode,
+        boolean showTermDocCountError,
+        String selectedBy,
+        Map<String, Object> metadata
+    ) throws IOException {
+        super(name, factories, context, parent, order, format, bucketCountThresholds, collectionMode, showTermDocCountError, metadata);
+        assert factories == null || factories.countAggregators() == 0;
+        this.valuesSource = valuesSource;
+        this.selectedBy = selectedBy;
+    }
+
+    /**
+     * Whether the aggregation can be executed by collecting segment ordinals.
+     */
+    static boolean supports(
+        AggregatorFactories factories,
+        IncludeExclude includeExclude,
+        BucketCountThresholds bucketCountThresholds,
+        CardinalityUpperBound cardinality
+    ) {
+        return factories == AggregatorFactories.EMPTY
+            && includeExclude == null
+            && bucketCountThresholds.getMinDocCount() > 0
+            && cardinality == CardinalityUpperBound.ONE;
+    }
+
+    /**
+     * Estimates whether collecting segment ordinals is cheaper than collecting global ordinals, without loading the latter.
+     * Both approaches count ordinals per document the same way, but global ordinals merge the terms of all segments up-front
+     * while this aggregator only merges terms which were collected. This pays off for high cardinality fields, where global
+     * ordinals are both large and expensive to build, as long as there are few enough segments to merge.
+     * <p>
+     * This is conservative and keeps global ordinals for fields which load them eagerly, since refreshes already paid for
+     * them, and for match_all queries on indexed fields whose segments {@link GlobalOrdinalsStringTermsAggregator} counts
+     * from term frequencies without collecting any document.
+     */
+    static boolean isCheaperThanGlobalOrdinals(ValuesSource.Bytes.WithOrdinals valuesSource, SearchContext context) throws IOException {
+        final IndexReader reader = context.searcher().getIndexReader();
+        if (reader.leaves().size() < 2 || reader.leaves().size() > MAX_MERGED_SEGMENTS) {
+            return false;
+        }
+        final String fieldName = valuesSource.getIndexFieldName();
+        final MappedFieldType fieldType = fieldName == null ? null : context.getQueryShardContext().fieldMapper(fieldName);
+        if (fieldType != null && fieldType.eagerGlobalOrdinals()) {
+            return false;
+        }
+        final boolean matchAll = TermsAggregatorFactory.isMatchAllQuery(context.query());
+        // the largest segment gives a lower bound of the number of global ordinals
+        long maxSegmentOrds = 0;
+        for (LeafReaderContext ctx : reader.leaves()) {
+            if (matchAll && fieldName != null) {
+                final Terms terms = ctx.reader().terms(fieldName);
+                if (terms != null && terms.size() != -1 && terms.size() <= context.termsAggregationMaxPrecomputeCardinality()) {
+                    return false;
+                }
+            }
+            maxSegmentOrds = Math.max(maxSegmentOrds, valuesSource.ordinalsValues(ctx).getValueCount());
+        }
+        return maxSegmentOrds > MAX_LOW_CARDINALITY_ORDS || maxSegmentOrds > reader.numDocs() / 2;
+    }
+
+    @Override
+    public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
+        assert sub == LeafBucketCollector.NO_OP_COLLECTOR;
+        final SortedSetDocValues segmentOrds = valuesSource.ordinalsValues(ctx);
+        if (segmentOrds.getValueCount() == 0) {
+            return LeafBucketCollector.NO_OP_COLLECTOR;
+        }
+        final LongArray docCounts = context.bigArrays().newLongArray(segmentOrds.getValueCount(), true);
+        segments.add(new SegmentCounts(ctx, docCounts));
+
+        final SortedDocValues singleValues = DocValues.unwrapSingleton(segmentOrds);
+        if (singleValues != null) {
+            segmentsWithSingleValuedOrds++;
+            return new LeafBucketCollectorBase(sub, segmentOrds) {
+                @Override
+                public void collect(int doc, long owningBucketOrd) throws IOException {
+                    assert owningBucketOrd == 0;
+                    if (singleValues.advanceExact(doc)) {
+                        docCounts.increment(singleValues.ordValue(), docCountProvider.getDocCount(doc));
+                    }
+                }
+            };
+        }
+        segmentsWithMultiValuedOrds++;
+        return new LeafBucketCollectorBase(sub, segmentOrds) {
+            @Override
+            public void collect(int doc, long owningBucketOrd) throws IOException {
+                assert owningBucketOrd == 0;
+                if (false == segmentOrds.advanceExact(doc)) {
+                    return;
+                }
+                final long docCount = docCountProvider.getDocCount(doc);
+                final int count = segmentOrds.docValueCount();
+                for (int i = 0; i < count; i++) {
+                    docCounts.increment(segmentOrds.nextOrd(), docCount);
+                }
+            }
+        };
+    }
+
+    @Override
+    public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
+        assert owningBucketOrds.length == 1 && owningBucketOrds[0] == 0;
+        if (segments.isEmpty()) {
+            return new InternalAggregation[] { buildEmptyTermsAggregation() };
+        }
+        final LocalBucketCountThresholds localBucketCountThresholds = context.asLocalBucketCountThresholds(bucketCountThresholds);
+        long totalSegmentOrds = 0;
+        for (SegmentCounts segment : segments) {
+            totalSegmentOrds += segment.docCounts.size();
+        }
+        final int size = (int) Math.min(totalSegmentOrds, localBucketCountThresholds.getRequiredSize());
+        final PriorityQueue<StringTerms.Bucket> ordered = new BucketPriorityQueue<>(size, partiallyBuiltBucketComparator);
+
+        long otherDocCount = 0;
+        StringTerms.Bucket spare = null;
+        final SegmentTermsQueue queue = new SegmentTermsQueue(segments.size());
+        for (SegmentCounts segment : segments) {
+            final SegmentTerms segmentTerms = new SegmentTerms(valuesSource.ordinalsValues(segment.ctx), segment.docCounts);
+            if (segmentTerms.next()) {
+                queue.add(segmentTerms);
+            }
+        }
+        final BytesRefBuilder term = new BytesRefBuilder();
+        while (queue.size() > 0) {
+            if ((mergedTerms++ & 0xFFFF) == 0) {
+                checkCancelled();
+            }
+            SegmentTerms top = queue.top();
+            term.copyBytes(top.term);
+            long docCount = 0;
+            do {
+                docCount += top.docCounts.get(top.ord);
+                if (top.next()) {
+                    queue.updateTop();
+                } else {
+                    queue.pop();
+                }
+                top = queue.top();
+            } while (top != null && top.term.bytesEquals(term.get()));
+
+            otherDocCount += docCount;
+            if (docCount >= localBucketCountThresholds.getMinDocCount()) {
+                if (spare == null) {
+                    spare = new StringTerms.Bucket(new BytesRef(), 0, InternalAggregations.EMPTY, showTermDocCountError, 0, format);
+                }
+                // the evicted bucket is reused as the next spare, so every bucket owns the bytes of its term
+                spare.termBytes.bytes = ArrayUtil.grow(spare.termBytes.bytes, term.length());
+                System.arraycopy(term.bytes(), 0, spare.termBytes.bytes, 0, term.length());
+                spare.termBytes.offset = 0;
+                spare.termBytes.length = term.length();
+                spare.docCount = docCount;
+                spare = ordered.insertWithOverflow(spare);
+            }
+        }
+
+        final StringTerms.Bucket[] topBuckets = new StringTerms.Bucket[ordered.size()];
+        if (isKeyOrder(order)) {
+            for (int i = ordered.size() - 1; i >= 0; --i) {
+                topBuckets[i] = ordered.pop();
+                otherDocCount -= topBuckets[i].getDocCount();
+            }
+        } else {
+            // the buckets are sorted by key below, so the order of the priority queue doesn't matter
+            final Iterator<StringTerms.Bucket> itr = ordered.iterator();
+            for (int i = ordered.size() - 1; i >= 0; --i) {
+                topBuckets[i] = itr.next();
+                otherDocCount -= topBuckets[i].getDocCount();
+            }
+        }
+        return new InternalAggregation[] { buildResult(otherDocCount, topBuckets) };
+    }
+
+    private StringTerms buildResult(long otherDocCount, StringTerms.Bucket[] topBuckets) {
+        final BucketOrder reduceOrder;
+        if (isKeyOrder(order) == false) {
+            reduceOrder = InternalOrder.key(true);
+            Arrays.sort(topBuckets, reduceOrder.comparator());
+        } else {
+            reduceOrder = order;
+        }
+        return new StringTerms(
+            name,
+            reduceOrder,
+            order,
+            metadata(),
+            format,
+            bucketCountThresholds.getShardSize(),
+            showTermDocCountError,
+            otherDocCount,
+            Arrays.asList(topBuckets),
+            0,
+            bucketCountThresholds
+        );
+    }
+
+    @Override
+    public InternalAggregation buildEmptyAggregation() {
+        return buildEmptyTermsAggregation();
+    }
+
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        add.accept("collection_strategy", "segment_ordinals");
+        add.accept("selected_by", selectedBy);
+        add.accept("result_strategy", "terms");
+        add.accept("segments_with_single_valued_ords", segmentsWithSingleValuedOrds);
+        add.accept("segments_with_multi_valued_ords", segmentsWithMultiValuedOrds);
+        add.accept("merged_terms", mergedTerms);
+    }
+
+    @Override
+    protected void doClose() {
+        Releasables.close(segments.stream().map(segment -> segment.docCounts).toArray(LongArray[]::new));
+    }
+
+    /**
+     * The doc counts of the ordinals of a single segment.
+     */
+    private static class SegmentCounts {
+        final LeafReaderContext ctx;
+        final LongArray docCounts;
+
+        SegmentCounts(LeafReaderContext ctx, LongArray docCounts) {
+            this.ctx = ctx;
+            this.docCounts = docCounts;
+        }
+    }
+
+    /**
+     * Iterates in term order over the ordinals of a segment which have been collected at least once.
+     */
+    private static class SegmentTerms {
+        final SortedSetDocValues values;
+        final LongArray docCounts;
+        long ord = -1;
+        BytesRef term;
+
+        SegmentTerms(SortedSetDocValues values, LongArray docCounts) {
+            this.values = values;
+            this.docCounts = docCounts;
+        }
+
+        boolean next() throws IOException {
+            while (++ord < docCounts.size()) {
+                if (docCounts.get(ord) > 0) {
+                    term = values.lookupOrd(ord);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Orders the segments by their current term, so that equal terms of all segments are popped one after another.
+     */
+    private static class SegmentTermsQueue extends PriorityQueue<SegmentTerms> {
+        SegmentTermsQueue(int size) {
+            super(size);
+        }
+
+        @Override
+        protected boolean lessThan(SegmentTerms a, SegmentTerms b) {
+            return a.term.compareTo(b.term) < 0;
+        }
+    }
+}
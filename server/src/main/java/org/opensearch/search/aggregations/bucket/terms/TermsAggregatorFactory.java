@@ -142,6 +142,26 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory implem
                             metadata
                         );
                     }
+                    if (SegmentOrdinalsStringTermsAggregator.supports(factories, includeExclude, bucketCountThresholds, cardinality)
+                        && SegmentOrdinalsStringTermsAggregator.isCheaperThanGlobalOrdinals(
+                            (ValuesSource.Bytes.WithOrdinals) valuesSource,
+                            context
+                        )) {
+                        return new SegmentOrdinalsStringTermsAggregator(
+                            name,
+                            factories,
+                            (ValuesSource.Bytes.WithOrdinals) valuesSource,
+                            order,
+                            format,
+                            bucketCountThresholds,
+                            context,
+                            parent,
+                            subAggCollectMode,
+                            showTermDocCountError,
+                            "cost_model",
+                            metadata
+                        );
+                    }
                     execution = ExecutionMode.GLOBAL_ORDINALS;
                 }
                 final long maxOrd = execution == ExecutionMode.GLOBAL_ORDINALS ? getMaxOrd(valuesSource, context.searcher()) : -1;
@@ -561,6 +581,59 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory implem
                     metadata
                 );
             }
+        },
+        SEGMENT_ORDINALS(new ParseField("segment_ordinals")) {
+
+            @Override
+            Aggregator create(
+                String name,
+                AggregatorFactories factories,
+                ValuesSource valuesSource,
+                BucketOrder order,
+                DocValueFormat format,
+                TermsAggregator.BucketCountThresholds bucketCountThresholds,
+                IncludeExclude includeExclude,
+                SearchContext context,
+                Aggregator parent,
+                SubAggCollectionMode subAggCollectMode,
+                boolean showTermDocCountError,
+                CardinalityUpperBound cardinality,
+                Map<String, Object> metadata
+            ) throws IOException {
+                assert valuesSource instanceof ValuesSource.Bytes.WithOrdinals;
+                if (SegmentOrdinalsStringTermsAggregator.supports(factories, includeExclude, bucketCountThresholds, cardinality) == false) {
+                    // fall back to global ordinals for the aggregations which segment ordinals can't collect
+                    return GLOBAL_ORDINALS.create(
+                        name,
+                        factories,
+                        valuesSource,
+                        order,
+                        format,
+                        bucketCountThresholds,
+                        includeExclude,
+                        context,
+                        parent,
+                        subAggCollectMode,
+                        showTermDocCountError,
+                        cardinality,
+                        metadata
+                    );
+                }
+                return new SegmentOrdinalsStringTermsAggregator(
+                    name,
+                    factories,
+                    (ValuesSource.Bytes.WithOrdinals) valuesSource,
+                    order,
+                    format,
+                    bucketCountThresholds,
+                    context,
+                    parent,
+                    subAggCollectMode,
+                    showTermDocCountError,
+                    "execution_hint",
+                    metadata
+                );
+            }
         };
 
         public static ExecutionMode fromString(String value) {
@@ -569,8 +642,12 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory implem
                     return GLOBAL_ORDINALS;
                 case "map":
                     return MAP;
+                case "segment_ordinals":
+                    return SEGMENT_ORDINALS;
                 default:
-                    throw new IllegalArgumentException("Unknown `execution_hint`: [" + value + "], expected any of [map, global_ordinals]");
+                    throw new IllegalArgumentException(
+                        "Unknown `execution_hint`: [" + value + "], expected any of [map, global_ordinals, segment_ordinals]"
+                    );
             }
         }
 
@@ -789,7 +866,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory implem
     /**
      * Checks if the query is a match-all query.
      */
-    private static boolean isMatchAllQuery(Query query) {
+    static boolean isMatchAllQuery(Query query) {
         return query instanceof MatchAllDocsQuery;
     }
 
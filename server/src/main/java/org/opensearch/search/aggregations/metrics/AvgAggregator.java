@@ -130,6 +130,7 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue implements Star
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        final DoubleValuesBatch batch = DoubleValuesBatch.ENABLED ? new DoubleValuesBatch(values) : null;
 
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -150,37 +151,66 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue implements Star
             @Override
             public void collect(DocIdStream stream, long bucket) throws IOException {
                 setKahanSummation(bucket);
-                final int[] count = { 0 };
-                stream.forEach((doc) -> {
-                    if (values.advanceExact(doc)) {
-                        int valueCount = values.docValueCount();
-                        count[0] += valueCount;
-                        for (int i = 0; i < valueCount; i++) {
-                            kahanSummation.add(values.nextValue());
+                if (batch == null) {
+                    final int[] count = { 0 };
+                    stream.forEach((doc) -> {
+                        if (values.advanceExact(doc)) {
+                            int valueCount = values.docValueCount();
+                            count[0] += valueCount;
+                            for (int i = 0; i < valueCount; i++) {
+                                kahanSummation.add(values.nextValue());
+                            }
                         }
-                    }
-                });
-                counts.increment(bucket, count[0]);
+                    });
+                    counts.increment(bucket, count[0]);
+                } else {
+                    stream.forEach((doc) -> {
+                        if (batch.add(doc)) {
+                            reduceBatch(bucket);
+                        }
+                    });
+                    reduceBatch(bucket);
+                }
                 sums.set(bucket, kahanSummation.value());
                 compensations.set(bucket, kahanSummation.delta());
             }
 
             @Override
             public void collectRange(int min, int max) throws IOException {
-                setKahanSummation(0);
-                int count = 0;
-                for (int docId = min; docId < max; docId++) {
-                    if (values.advanceExact(docId)) {
-                        int valueCount = values.docValueCount();
-                        count += valueCount;
-                        for (int i = 0; i < valueCount; i++) {
-                            kahanSummation.add(values.nextValue());
+                collectRange(min, max, 0);
+            }
+
+            @Override
+            public void collectRange(int min, int max, long bucket) throws IOException {
+                setKahanSummation(bucket);
+                if (batch == null) {
+                    int count = 0;
+                    for (int docId = min; docId < max; docId++) {
+                        if (values.advanceExact(docId)) {
+                            int valueCount = values.docValueCount();
+                            count += valueCount;
+                            for (int i = 0; i < valueCount; i++) {
+                                kahanSummation.add(values.nextValue());
+                            }
                         }
                     }
+                    counts.increment(bucket, count);
+                } else {
+                    for (int docId = min; docId < max; docId++) {
+                        if (batch.add(docId)) {
+                            reduceBatch(bucket);
+                        }
+                    }
+                    reduceBatch(bucket);
                 }
-                counts.increment(0, count);
-                sums.set(0, kahanSummation.value());
-                compensations.set(0, kahanSummation.delta());
+                sums.set(bucket, kahanSummation.value());
+                compensations.set(bucket, kahanSummation.delta());
+            }
+
+            private void reduceBatch(long bucket) {
+                counts.increment(bucket, batch.size());
+                batch.sum(kahanSummation);
+                batch.clear();
             }
 
             private void setKahanSummation(long bucket) {
@@ -34,6 +34,7 @@ package org.opensearch.search.aggregations.metrics;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.index.SortedSetDocValues;
@@ -63,6 +64,7 @@ import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.BitArray;
 import org.opensearch.common.util.BitMixer;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.common.util.LongHash;
 import org.opensearch.common.util.ObjectArray;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.rest.RestStatus;
@@ -141,10 +143,18 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
 
     Collector collector;
 
+    /**
+     * Weight of the top-level query, used to estimate how many docs of a segment are collected.
+     */
+    @Nullable
+    private Weight weight;
+
     int emptyCollectorsUsed;
     int numericCollectorsUsed;
     int ordinalsCollectorsUsed;
+    int sparseOrdinalsCollectorsUsed;
     int hybridCollectorsUsed;
+    int hybridCollectorsStartedDirect;
     int ordinalsCollectorsOverheadTooHigh;
     int stringHashingCollectorsUsed;
     int dynamicPrunedSegments;
@@ -172,6 +182,10 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
         return valuesSource != null && valuesSource.needsScores() ? ScoreMode.COMPLETE : ScoreMode.COMPLETE_NO_SCORES;
     }
 
+    public void setWeight(Weight weight) {
+        this.weight = weight;
+    }
+
     private Collector pickCollector(LeafReaderContext ctx) throws IOException {
         if (valuesSource == null) {
             emptyCollectorsUsed++;
@@ -198,20 +212,36 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
                 ordinalsCollectorsUsed++;
                 collector = new OrdinalsCollector(counts, ordinalValues, context.bigArrays());
             } else if (executionMode == null) {
-                // no hint provided, fall back to heuristics
+                // no hint provided, pick the cheapest collector for the number of ordinals this segment may collect
                 CardinalityAggregationContext cardinalityContext = context.cardinalityAggregationContext();
+                final long ordinalsMemoryUsage = OrdinalsCollector.memoryOverhead(maxOrd);
+                final long sparseOrdinalsMemoryUsage = SparseOrdinalsCollector.memoryOverhead(estimateCollectedOrds(ctx, ordinalValues));
 
                 if (cardinalityContext.isHybridCollectorEnabled()) {
                     // Use HybridCollector with configurable memory threshold
                     MurmurHash3Values hashValues = MurmurHash3Values.hash(source.bytesValues(ctx));
+                    final long memoryThreshold = cardinalityContext.getMemoryThreshold();
+                    final Collector initialCollector;
+                    if (ordinalsMemoryUsage <= sparseOrdinalsMemoryUsage && ordinalsMemoryUsage <= memoryThreshold) {
+                        initialCollector = new OrdinalsCollector(counts, ordinalValues, context.bigArrays(), memoryThreshold, true);
+                    } else if (sparseOrdinalsMemoryUsage <= memoryThreshold) {
+                        sparseOrdinalsCollectorsUsed++;
+                        initialCollector = new SparseOrdinalsCollector(counts, ordinalValues, context.bigArrays(), memoryThreshold, true);
+                    } else {
+                        // even the ordinals of a single bucket would not fit, so don't build them only to switch later
+                        hybridCollectorsStartedDirect++;
+                        initialCollector = new DirectCollector(counts, hashValues);
+                    }
                     hybridCollectorsUsed++;
-                    collector = new HybridCollector(counts, ordinalValues, hashValues, context.bigArrays(), cardinalityContext);
+                    collector = new HybridCollector(counts, initialCollector, hashValues);
                 } else {
-                    final long ordinalsMemoryUsage = OrdinalsCollector.memoryOverhead(maxOrd);
                     final long countsMemoryUsage = HyperLogLogPlusPlus.memoryUsage(precision);
                     if (ordinalsMemoryUsage < countsMemoryUsage / 4) {
                         ordinalsCollectorsUsed++;
                         collector = new OrdinalsCollector(counts, ordinalValues, context.bigArrays());
+                    } else if (sparseOrdinalsMemoryUsage < countsMemoryUsage / 4) {
+                        sparseOrdinalsCollectorsUsed++;
+                        collector = new SparseOrdinalsCollector(counts, ordinalValues, context.bigArrays());
                     } else {
                         ordinalsCollectorsOverheadTooHigh++;
                     }
@@ -248,6 +278,33 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
         return collector;
     }
 
+    /**
+     * Estimates how many distinct ordinals of the segment are collected, from the number of docs that match the query
+     * and the average number of values per doc of the field. The estimate never exceeds the number of ordinals.
+     */
+    private long estimateCollectedOrds(LeafReaderContext ctx, SortedSetDocValues ordinalValues) throws IOException {
+        final long maxOrd = ordinalValues.getValueCount();
+        long docs = Math.min(ordinalValues.cost(), ctx.reader().maxDoc());
+        if (weight != null) {
+            final int count = weight.count(ctx);
+            if (count >= 0) {
+                docs = Math.min(docs, count);
+            }
+        }
+        if (DocValues.unwrapSingleton(ordinalValues) != null) {
+            return Math.min(maxOrd, docs);
+        }
+        final Terms terms = valuesSourceConfig.fieldContext() == null
+            ? null
+            : ctx.reader().terms(valuesSourceConfig.fieldContext().field());
+        if (terms == null || terms.getDocCount() <= 0 || terms.getSumDocFreq() <= 0) {
+            // the number of values per doc is unknown
+            return maxOrd;
+        }
+        final double valuesPerDoc = (double) terms.getSumDocFreq() / terms.getDocCount();
+        return (long) Math.min(maxOrd, Math.ceil(docs * valuesPerDoc));
+    }
+
     private boolean canPrune(Aggregator parent, Aggregator[] subAggregators, ValuesSourceConfig valuesSourceConfig) {
         return parent == null && subAggregators.length == 0 && valuesSourceConfig.missing() == null && valuesSourceConfig.script() == null;
     }
@@ -389,7 +446,9 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
         add.accept("empty_collectors_used", emptyCollectorsUsed);
         add.accept("numeric_collectors_used", numericCollectorsUsed);
         add.accept("ordinals_collectors_used", ordinalsCollectorsUsed);
+        add.accept("sparse_ordinals_collectors_used", sparseOrdinalsCollectorsUsed);
         add.accept("hybrid_collectors_used", hybridCollectorsUsed);
+        add.accept("hybrid_collectors_started_direct", hybridCollectorsStartedDirect);
         add.accept("ordinals_collectors_overhead_too_high", ordinalsCollectorsOverheadTooHigh);
         add.accept("string_hashing_collectors_used", stringHashingCollectorsUsed);
         add.accept("dynamic_pruned_segments", dynamicPrunedSegments);
@@ -738,6 +797,154 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
         }
     }
 
+    /**
+     * Sparse Ordinals Collector for the cardinality agg. It keeps the visited ordinals of each bucket in a hash set rather
+     * than in a bitset over all ordinals of the segment, which is cheaper when the query only visits a few of them.
+     *
+     * @opensearch.internal
+     */
+    static class SparseOrdinalsCollector extends Collector {
+
+        private static final long SHALLOW_LONGHASH_SIZE = RamUsageEstimator.shallowSizeOfInstance(LongHash.class);
+        // every slot of a LongHash holds an id and a key
+        private static final long BYTES_PER_SLOT = 2 * Long.BYTES;
+        private static final float LOAD_FACTOR = 0.6f;
+
+        /**
+         * Return an approximate memory overhead per bucket for this collector when it visits {@code expectedOrds} ordinals.
+         */
+        public static long memoryOverhead(long expectedOrds) {
+            final long slots = Math.max(1, Long.highestOneBit((long) (expectedOrds / LOAD_FACTOR)) << 1);
+            return RamUsageEstimator.NUM_BYTES_OBJECT_REF + SHALLOW_LONGHASH_SIZE + slots * BYTES_PER_SLOT;
+        }
+
+        private final BigArrays bigArrays;
+        private final SortedSetDocValues values;
+        private final HyperLogLogPlusPlus counts;
+        private ObjectArray<LongHash> visitedOrds;
+        private long currentMemoryUsage = 0;
+
+        private final long memoryThreshold;
+        private final boolean memoryMonitoringEnabled;
+
+        SparseOrdinalsCollector(HyperLogLogPlusPlus counts, SortedSetDocValues values, BigArrays bigArrays) {
+            this(counts, values, bigArrays, Long.MAX_VALUE, false);
+        }
+
+        SparseOrdinalsCollector(
+            HyperLogLogPlusPlus counts,
+            SortedSetDocValues values,
+            BigArrays bigArrays,
+            long memoryThreshold,
+            boolean memoryMonitoringEnabled
+        ) {
+            this.bigArrays = bigArrays;
+            this.counts = counts;
+            this.values = values;
+            this.memoryThreshold = memoryThreshold;
+            this.memoryMonitoringEnabled = memoryMonitoringEnabled;
+            visitedOrds = bigArrays.newObjectArray(1);
+        }
+
+        @Override
+        public void collect(int doc, long bucketOrd) throws IOException {
+            collect(doc, getOrds(bucketOrd));
+        }
+
+        @Override
+        public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
+            final LongHash ords = getOrds(owningBucketOrd);
+            stream.forEach((doc) -> collect(doc, ords));
+        }
+
+        @Override
+        public void collectRange(int minDoc, int maxDoc) throws IOException {
+            final LongHash ords = getOrds(0);
+            for (int doc = minDoc; doc < maxDoc; ++doc) {
+                collect(doc, ords);
+            }
+        }
+
+        private LongHash getOrds(long bucket) {
+            visitedOrds = bigArrays.grow(visitedOrds, bucket + 1);
+            LongHash ords = visitedOrds.get(bucket);
+            if (ords == null) {
+                ords = new LongHash(1, bigArrays);
+                visitedOrds.set(bucket, ords);
+                trackMemory(RamUsageEstimator.NUM_BYTES_OBJECT_REF + SHALLOW_LONGHASH_SIZE + ords.capacity() * BYTES_PER_SLOT);
+            }
+            return ords;
+        }
+
+        private void collect(final int doc, final LongHash ords) throws IOException {
+            if (values.advanceExact(doc)) {
+                for (int count = values.docValueCount(); count > 0; count--) {
+                    final long capacity = ords.capacity();
+                    ords.add(values.nextOrd());
+                    if (ords.capacity() != capacity) {
+                        trackMemory((ords.capacity() - capacity) * BYTES_PER_SLOT);
+                    }
+                }
+            }
+        }
+
+        private void trackMemory(long bytes) {
+            // Check memory threshold only when monitoring is enabled (hybrid collector)
+            if (memoryMonitoringEnabled) {
+                currentMemoryUsage += bytes;
+                if (currentMemoryUsage > memoryThreshold) {
+                    // Throw singleton exception for efficient control flow to HybridCollector
+                    throw MemoryLimitExceededException.INSTANCE;
+                }
+            }
+        }
+
+        @Override
+        public void postCollect() throws IOException {
+            // hash every visited ordinal once, even if several buckets visited it
+            try (LongHash allVisitedOrds = new LongHash(1, bigArrays)) {
+                for (long bucket = visitedOrds.size() - 1; bucket >= 0; --bucket) {
+                    final LongHash ords = visitedOrds.get(bucket);
+                    if (ords != null) {
+                        for (long id = 0; id < ords.size(); id++) {
+                            allVisitedOrds.add(ords.get(id));
+                        }
+                    }
+                }
+
+                try (LongArray hashes = bigArrays.newLongArray(allVisitedOrds.size(), false)) {
+                    final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+                    for (long id = 0; id < allVisitedOrds.size(); id++) {
+                        final BytesRef value = values.lookupOrd(allVisitedOrds.get(id));
+                        MurmurHash3.hash128(value.bytes, value.offset, value.length, 0, hash);
+                        hashes.set(id, hash.h1);
+                    }
+
+                    for (long bucket = visitedOrds.size() - 1; bucket >= 0; --bucket) {
+                        final LongHash ords = visitedOrds.get(bucket);
+                        if (ords != null) {
+                            for (long id = 0; id < ords.size(); id++) {
+                                counts.collect(bucket, hashes.get(allVisitedOrds.find(ords.get(id))));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        public long getCurrentMemoryUsage() {
+            return currentMemoryUsage;
+        }
+
+        @Override
+        public void close() {
+            for (int i = 0; i < visitedOrds.size(); i++) {
+                Releasables.close(visitedOrds.get(i));
+            }
+            Releasables.close(visitedOrds);
+        }
+    }
+
     /**
      * Representation of a list of hash values. There might be dups and there is no guarantee on the order.
      *
@@ -865,32 +1072,24 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
     }
 
     /**
-     * Hybrid Collector that starts with OrdinalsCollector and switches to DirectCollector
+     * Hybrid Collector that starts with an OrdinalsCollector or a SparseOrdinalsCollector and switches to DirectCollector
      * when memory consumption exceeds a threshold. Uses exception-based control flow for
      * optimal performance - zero overhead when memory is under threshold.
      */
     static class HybridCollector extends Collector {
         private final HyperLogLogPlusPlus counts;
         private final MurmurHash3Values hashValues;
-        private final CardinalityAggregationContext cardinalityContext;
 
         private Collector activeCollector;
-        private final OrdinalsCollector ordinalsCollector;
 
-        HybridCollector(
-            HyperLogLogPlusPlus counts,
-            SortedSetDocValues ordinalValues,
-            MurmurHash3Values hashValues,
-            BigArrays bigArrays,
-            CardinalityAggregationContext cardinalityContext
-        ) {
+        /**
+         * @param initialCollector collector with memory monitoring enabled, or a DirectCollector if the ordinals of the
+         *                         segment are known not to fit under the memory threshold
+         */
+        HybridCollector(HyperLogLogPlusPlus counts, Collector initialCollector, MurmurHash3Values hashValues) {
             this.counts = counts;
             this.hashValues = hashValues;
-            this.cardinalityContext = cardinalityContext;
-
-            // Start with OrdinalsCollector with memory monitoring enabled
-            this.ordinalsCollector = new OrdinalsCollector(counts, ordinalValues, bigArrays, cardinalityContext.getMemoryThreshold(), true);
-            this.activeCollector = ordinalsCollector;
+            this.activeCollector = initialCollector;
         }
 
         @Override
@@ -927,9 +1126,9 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
         }
 
         private void switchToDirectCollector() throws IOException {
-            // Post collect all the already computed data from OrdinalsCollector
-            ordinalsCollector.postCollect();
-            ordinalsCollector.close();
+            // Post collect all the already computed data from the ordinals based collector
+            activeCollector.postCollect();
+            activeCollector.close();
             logger.debug("Hybrid collector switching to DirectCollector due to memory threshold exceeded");
 
             // Create DirectCollector with computed data
@@ -32,6 +32,9 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.common.reduce.DoubleReducer;
+import org.opensearch.common.reduce.DoubleReducerFactory;
+
 import java.util.Objects;
 
 /**
@@ -48,6 +51,7 @@ import java.util.Objects;
 public class CompensatedSum {
 
     private static final double NO_CORRECTION = 0.0;
+    private static final DoubleReducer REDUCER = DoubleReducerFactory.create();
 
     private double value;
     private double delta;
@@ -113,23 +117,19 @@ public class CompensatedSum {
     }
 
     /**
-     * Increments the Kahan sum by adding two sums, and updating the correction term for reducing numeric errors.
+     * Increments the Kahan sum by adding the first {@code count} values of the given array.
      */
     public void add(double[] values, int count) {
-        // If the value is Inf or NaN, just add it to the running tally to "convert" to
-        // Inf/NaN. This keeps the behavior bwc from before kahan summing
-        double sum = value;
-        double c = delta; // Compensation for lost low-order bits
-
-        for (int i = 0; i < count; i++) {
-            double y = values[i] - c;
-            double t = sum + y;
-            c = (t - sum) - y; // Calculate the lost part
-            sum = t;
+        if (DoubleReducerFactory.isVectorized() == false) {
+            for (int i = 0; i < count; i++) {
+                add(values[i], NO_CORRECTION);
+            }
+            return;
         }
-
-        this.value = sum;
-        this.delta = c;
+        final double[] state = { value, delta };
+        REDUCER.sum(values, count, state);
+        this.value = state[0];
+        this.delta = state[1];
     }
 
     @Override
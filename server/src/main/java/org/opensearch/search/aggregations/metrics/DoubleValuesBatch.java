@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.opensearch.common.reduce.DoubleReducer;
+import org.opensearch.common.reduce.DoubleReducerFactory;
+import org.opensearch.index.fielddata.FieldData;
+import org.opensearch.index.fielddata.NumericDoubleValues;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+
+import java.io.IOException;
+
+/**
+ * Buffers the values of batches of documents into a primitive array, so that metric aggregators collecting a
+ * {@link org.apache.lucene.search.DocIdStream} or a range of documents can reduce them with a {@link DoubleReducer}
+ * instead of one value at a time.
+ *
+ * @opensearch.internal
+ */
+final class DoubleValuesBatch {
+
+    /**
+     * Whether metric aggregators should collect batches through this class. This is only the case when the vectorized
+     * reducer is in use: with the scalar reducer, buffering the values first only adds a copy to the per-document path.
+     */
+    static final boolean ENABLED = DoubleReducerFactory.isVectorized();
+
+    /**
+     * Number of buffered values after which the batch should be reduced.
+     */
+    static final int BATCH_SIZE = 512;
+
+    private static final DoubleReducer REDUCER = DoubleReducerFactory.create();
+
+    private final SortedNumericDoubleValues values;
+    private final NumericDoubleValues singleValues;
+    private double[] buffer = new double[0];
+    private int size;
+
+    DoubleValuesBatch(SortedNumericDoubleValues values) {
+        this.values = values;
+        this.singleValues = FieldData.unwrapSingleton(values);
+    }
+
+    DoubleValuesBatch(NumericDoubleValues values) {
+        this.values = null;
+        this.singleValues = values;
+    }
+
+    /**
+     * Buffers the values of the given document and returns whether the batch is full.
+     */
+    boolean add(int doc) throws IOException {
+        if (singleValues != null) {
+            if (singleValues.advanceExact(doc)) {
+                if (size == buffer.length) {
+                    grow(size + 1);
+                }
+                buffer[size++] = singleValues.doubleValue();
+            }
+        } else if (values.advanceExact(doc)) {
+            final int count = values.docValueCount();
+            if (size + count > buffer.length) {
+                grow(size + count);
+            }
+            for (int i = 0; i < count; i++) {
+                buffer[size++] = values.nextValue();
+            }
+        }
+        return size >= BATCH_SIZE;
+    }
+
+    private void grow(int minSize) {
+        buffer = ArrayUtil.grow(buffer, Math.max(minSize, BATCH_SIZE));
+    }
+
+    /**
+     * The number of buffered values.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds the buffered values to the given sum.
+     */
+    void sum(CompensatedSum sum) {
+        sum.add(buffer, size);
+    }
+
+    /**
+     * The smallest buffered value, or {@link Double#POSITIVE_INFINITY} if there are none.
+     */
+    double min() {
+        return REDUCER.min(buffer, size);
+    }
+
+    /**
+     * The largest buffered value, or {@link Double#NEGATIVE_INFINITY} if there are none.
+     */
+    double max() {
+        return REDUCER.max(buffer, size);
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
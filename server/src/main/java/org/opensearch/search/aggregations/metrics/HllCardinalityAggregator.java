@@ -10,9 +10,14 @@ package org.opensearch.search.aggregations.metrics;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.index.fielddata.plain.HllFieldData;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.InternalAggregation;
@@ -21,10 +26,14 @@ import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.opensearch.search.aggregations.bucket.filterrewrite.AggregatorBridge.segmentMatchAll;
 
 /**
  * An aggregator that computes cardinality from pre-aggregated HLL++ sketch fields.
  * This aggregator merges HLL++ sketches stored in documents to produce a combined cardinality estimate.
+ * Sketches are merged at the register level straight from their serialized form, without deserializing them.
  *
  * @opensearch.internal
  */
@@ -36,6 +45,9 @@ public class HllCardinalityAggregator extends NumericMetricsAggregator.SingleVal
     private final int precision;
     private HyperLogLogPlusPlus counts;
 
+    private int unionOnlySegments;
+    private int collectedSegments;
+
     HllCardinalityAggregator(
         String name,
         HllFieldData fieldData,
@@ -55,56 +67,60 @@ public class HllCardinalityAggregator extends NumericMetricsAggregator.SingleVal
         return org.apache.lucene.search.ScoreMode.COMPLETE_NO_SCORES;
     }
 
+    /**
+     * A top-level aggregation over a segment whose docs all match the query is the union of all the sketches of the
+     * segment, so they are read straight from doc values instead of being collected through the query.
+     */
     @Override
-    public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
-        final HllFieldData.HllLeafFieldData leafData = fieldData.load(ctx);
+    protected boolean tryPrecomputeAggregationForLeaf(LeafReaderContext ctx) throws IOException {
+        if (parent != null || segmentMatchAll(context, ctx) == false) {
+            return false;
+        }
+        final BinaryDocValues sketches = fieldData.load(ctx).getSketches();
+        if (sketches != null) {
+            final Bits liveDocs = ctx.reader().getLiveDocs();
+            for (int doc = sketches.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = sketches.nextDoc()) {
+                if (liveDocs == null || liveDocs.get(doc)) {
+                    mergeSketch(sketches.binaryValue(), doc, 0);
+                }
+            }
+        }
+        unionOnlySegments++;
+        return true;
+    }
 
+    @Override
+    public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
+        final BinaryDocValues sketches = fieldData.load(ctx).getSketches();
+        if (sketches == null) {
+            return LeafBucketCollector.NO_OP_COLLECTOR;
+        }
+        collectedSegments++;
         return new LeafBucketCollector() {
             @Override
             public void collect(int doc, long bucket) throws IOException {
-                AbstractHyperLogLogPlusPlus sketch = null;
-                try {
-                    sketch = leafData.getSketch(doc);
-                    if (sketch != null) {
-                        // Lazy initialize counts on first sketch
-                        // Initialize with enough capacity for the current bucket
-                        if (counts == null) {
-                            counts = new HyperLogLogPlusPlus(precision, context.bigArrays(), bucket + 1);
-                        }
-
-                        // Grow if needed to accommodate this bucket
-                        if (bucket >= counts.maxOrd()) {
-                            HyperLogLogPlusPlus newCounts = new HyperLogLogPlusPlus(precision, context.bigArrays(), bucket + 1);
-                            for (long i = 0; i < counts.maxOrd(); i++) {
-                                if (counts.cardinality(i) > 0) {
-                                    newCounts.merge(i, counts, i);
-                                }
-                            }
-                            counts.close();
-                            counts = newCounts;
-                        }
-
-                        // Merge the stored sketch into our aggregation sketch
-                        counts.merge(bucket, sketch, 0);
-                    }
-                } catch (IllegalArgumentException e) {
-                    // Log precision mismatch or other merge errors
-                    logger.warn(
-                        "Failed to merge HLL++ sketch for field [{}] in document {}: {}",
-                        fieldData.getFieldName(),
-                        doc,
-                        e.getMessage()
-                    );
-                    throw e;
-                } finally {
-                    if (sketch != null) {
-                        sketch.close();
-                    }
+                if (sketches.advanceExact(doc)) {
+                    mergeSketch(sketches.binaryValue(), doc, bucket);
                 }
             }
         };
     }
 
+    private void mergeSketch(BytesRef sketch, int doc, long bucket) throws IOException {
+        // Lazy initialize counts on first sketch, it grows as needed to accommodate the bucket
+        if (counts == null) {
+            counts = new HyperLogLogPlusPlus(precision, context.bigArrays(), bucket + 1);
+        }
+        try {
+            // Merge the stored sketch into our aggregation sketch at the register level
+            counts.mergeSerialized(bucket, new BytesArray(sketch.bytes, sketch.offset, sketch.length).streamInput());
+        } catch (IllegalArgumentException e) {
+            // Log precision mismatch or other merge errors
+            logger.warn("Failed to merge HLL++ sketch for field [{}] in document {}: {}", fieldData.getFieldName(), doc, e.getMessage());
+            throw e;
+        }
+    }
+
     @Override
     public double metric(long owningBucketOrd) {
         return counts == null ? 0 : counts.cardinality(owningBucketOrd);
@@ -130,4 +146,11 @@ public class HllCardinalityAggregator extends NumericMetricsAggregator.SingleVal
     protected void doClose() {
         Releasables.close(counts);
     }
+
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        add.accept("union_only_segments", unionOnlySegments);
+        add.accept("collected_segments", collectedSegments);
+    }
 }
@@ -40,8 +40,11 @@ import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.BitArray;
 import org.opensearch.common.util.ByteUtils;
 import org.opensearch.common.util.IntArray;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.util.ByteArray;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
@@ -203,17 +206,46 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         }
     }
 
+    /**
+     * Merges a sketch that was serialized with {@link #writeTo(long, StreamOutput)} into {@code thisBucket}. Unlike reading
+     * the sketch with {@link #readFrom(StreamInput, BigArrays)} and merging it, this doesn't build an intermediate sketch:
+     * the registers of a HyperLogLog sketch are read into a buffer and merged with the registers of the bucket in one pass.
+     */
+    public void mergeSerialized(long thisBucket, StreamInput in) throws IOException {
+        final int otherPrecision = in.readVInt();
+        if (precision() != otherPrecision) {
+            throw new IllegalArgumentException(
+                "Cannot merge HLL++ sketches with different precision: " + precision() + " vs " + otherPrecision
+            );
+        }
+        hll.ensureCapacity(thisBucket + 1);
+        if (in.readBoolean() == LINEAR_COUNTING) {
+            final long size = in.readVLong();
+            for (long i = 0; i < size; ++i) {
+                mergeEncoded(thisBucket, in.readInt());
+            }
+        } else {
+            if (algorithm.get(thisBucket) != HYPERLOGLOG) {
+                upgradeToHll(thisBucket);
+            }
+            hll.mergeRunLens(thisBucket, in);
+        }
+    }
+
     private void merge(long thisBucket, AbstractLinearCounting.HashesIterator values) {
         while (values.next()) {
-            final int encoded = values.value();
-            if (algorithm.get(thisBucket) == LINEAR_COUNTING) {
-                final int newSize = lc.addEncoded(thisBucket, encoded);
-                if (newSize > lc.threshold) {
-                    upgradeToHll(thisBucket);
-                }
-            } else {
-                hll.collectEncoded(thisBucket, encoded);
+            mergeEncoded(thisBucket, values.value());
+        }
+    }
+
+    private void mergeEncoded(long thisBucket, int encoded) {
+        if (algorithm.get(thisBucket) == LINEAR_COUNTING) {
+            final int newSize = lc.addEncoded(thisBucket, encoded);
+            if (newSize > lc.threshold) {
+                upgradeToHll(thisBucket);
             }
+        } else {
+            hll.collectEncoded(thisBucket, encoded);
         }
     }
 
@@ -237,6 +269,9 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
         private final HyperLogLogIterator iterator;
         // array for holding the runlens.
         private ByteArray runLens;
+        // lazily allocated buffers for merging serialized runlens.
+        private byte[] otherRunLens;
+        private BytesRef runLensSpare;
 
         HyperLogLog(BigArrays bigArrays, long initialBucketCount, int precision) {
             super(precision);
@@ -265,6 +300,28 @@ public final class HyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
             runLens.fill(bucketOrd << p, (bucketOrd << p) + m, (byte) 0);
         }
 
+        /**
+         * Reads the {@code m} runlens of a serialized sketch and keeps the max of each of them and the matching runlen of
+         * {@code bucketOrd}. The runlens of the bucket are fetched as a single slice, so that the merge is a plain loop
+         * over two byte arrays, which the JIT can vectorize.
+         */
+        void mergeRunLens(long bucketOrd, StreamInput in) throws IOException {
+            if (otherRunLens == null) {
+                otherRunLens = new byte[m];
+                runLensSpare = new BytesRef();
+            }
+            in.readBytes(otherRunLens, 0, m);
+            final long start = bucketOrd << p;
+            runLens.get(start, m, runLensSpare);
+            final byte[] bytes = runLensSpare.bytes;
+            final int offset = runLensSpare.offset;
+            for (int i = 0; i < m; ++i) {
+                bytes[offset + i] = (byte) Math.max(bytes[offset + i], otherRunLens[i]);
+            }
+            // the slice may be a copy, or a view on the page of the array that was already updated in place
+            runLens.set(start, bytes, offset, m);
+        }
+
         protected void ensureCapacity(long numBuckets) {
             runLens = bigArrays.grow(runLens, numBuckets << p);
         }
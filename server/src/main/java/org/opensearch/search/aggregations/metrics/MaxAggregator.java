@@ -154,6 +154,7 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues allValues = valuesSource.doubleValues(ctx);
         final NumericDoubleValues values = MultiValueMode.MAX.select(allValues);
+        final DoubleValuesBatch batch = DoubleValuesBatch.ENABLED ? new DoubleValuesBatch(values) : null;
         return new LeafBucketCollectorBase(sub, allValues) {
             @Override
             public void collect(int doc, long bucket) throws IOException {
@@ -169,25 +170,55 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
             @Override
             public void collect(DocIdStream stream, long bucket) throws IOException {
                 growMaxes(bucket);
-                final double[] max = { maxes.get(bucket) };
-                stream.forEach((doc) -> {
-                    if (values.advanceExact(doc)) {
-                        max[0] = Math.max(max[0], values.doubleValue());
-                    }
-                });
-                maxes.set(bucket, max[0]);
+                if (batch == null) {
+                    final double[] max = { maxes.get(bucket) };
+                    stream.forEach((doc) -> {
+                        if (values.advanceExact(doc)) {
+                            max[0] = Math.max(max[0], values.doubleValue());
+                        }
+                    });
+                    maxes.set(bucket, max[0]);
+                } else {
+                    stream.forEach((doc) -> {
+                        if (batch.add(doc)) {
+                            reduceBatch(bucket);
+                        }
+                    });
+                    reduceBatch(bucket);
+                }
             }
 
             @Override
             public void collectRange(int min, int max) throws IOException {
-                growMaxes(0);
-                double maximum = maxes.get(0);
-                for (int doc = min; doc < max; doc++) {
-                    if (values.advanceExact(doc)) {
-                        maximum = Math.max(maximum, values.doubleValue());
+                collectRange(min, max, 0);
+            }
+
+            @Override
+            public void collectRange(int min, int max, long bucket) throws IOException {
+                growMaxes(bucket);
+                if (batch == null) {
+                    double maximum = maxes.get(bucket);
+                    for (int doc = min; doc < max; doc++) {
+                        if (values.advanceExact(doc)) {
+                            maximum = Math.max(maximum, values.doubleValue());
+                        }
+                    }
+                    maxes.set(bucket, maximum);
+                } else {
+                    for (int doc = min; doc < max; doc++) {
+                        if (batch.add(doc)) {
+                            reduceBatch(bucket);
+                        }
                     }
+                    reduceBatch(bucket);
+                }
+            }
+
+            private void reduceBatch(long bucket) {
+                if (batch.size() > 0) {
+                    maxes.set(bucket, Math.max(maxes.get(bucket), batch.max()));
+                    batch.clear();
                 }
-                maxes.set(0, maximum);
             }
 
             private void growMaxes(long bucket) {
@@ -154,6 +154,7 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues allValues = valuesSource.doubleValues(ctx);
         final NumericDoubleValues values = MultiValueMode.MIN.select(allValues);
+        final DoubleValuesBatch batch = DoubleValuesBatch.ENABLED ? new DoubleValuesBatch(values) : null;
         return new LeafBucketCollectorBase(sub, allValues) {
             @Override
             public void collect(int doc, long bucket) throws IOException {
@@ -169,25 +170,55 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
             @Override
             public void collect(DocIdStream stream, long bucket) throws IOException {
                 growMins(bucket);
-                final double[] min = { mins.get(bucket) };
-                stream.forEach((doc) -> {
-                    if (values.advanceExact(doc)) {
-                        min[0] = Math.min(min[0], values.doubleValue());
-                    }
-                });
-                mins.set(bucket, min[0]);
+                if (batch == null) {
+                    final double[] min = { mins.get(bucket) };
+                    stream.forEach((doc) -> {
+                        if (values.advanceExact(doc)) {
+                            min[0] = Math.min(min[0], values.doubleValue());
+                        }
+                    });
+                    mins.set(bucket, min[0]);
+                } else {
+                    stream.forEach((doc) -> {
+                        if (batch.add(doc)) {
+                            reduceBatch(bucket);
+                        }
+                    });
+                    reduceBatch(bucket);
+                }
             }
 
             @Override
             public void collectRange(int min, int max) throws IOException {
-                growMins(0);
-                double minimum = mins.get(0);
-                for (int doc = min; doc < max; doc++) {
-                    if (values.advanceExact(doc)) {
-                        minimum = Math.min(minimum, values.doubleValue());
+                collectRange(min, max, 0);
+            }
+
+            @Override
+            public void collectRange(int min, int max, long bucket) throws IOException {
+                growMins(bucket);
+                if (batch == null) {
+                    double minimum = mins.get(bucket);
+                    for (int doc = min; doc < max; doc++) {
+                        if (values.advanceExact(doc)) {
+                            minimum = Math.min(minimum, values.doubleValue());
+                        }
+                    }
+                    mins.set(bucket, minimum);
+                } else {
+                    for (int doc = min; doc < max; doc++) {
+                        if (batch.add(doc)) {
+                            reduceBatch(bucket);
+                        }
                     }
+                    reduceBatch(bucket);
+                }
+            }
+
+            private void reduceBatch(long bucket) {
+                if (batch.size() > 0) {
+                    mins.set(bucket, Math.min(mins.get(bucket), batch.min()));
+                    batch.clear();
                 }
-                mins.set(0, minimum);
             }
 
             private void growMins(long bucket) {
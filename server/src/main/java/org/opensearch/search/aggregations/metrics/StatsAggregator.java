@@ -103,6 +103,7 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        final DoubleValuesBatch batch = DoubleValuesBatch.ENABLED ? new DoubleValuesBatch(values) : null;
 
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -132,50 +133,84 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
             public void collect(DocIdStream stream, long bucket) throws IOException {
                 growStats(bucket);
 
-                double[] min = { mins.get(bucket) };
-                double[] max = { maxes.get(bucket) };
-                stream.forEach((doc) -> {
-                    if (values.advanceExact(doc)) {
-                        final int valuesCount = values.docValueCount();
-                        counts.increment(bucket, valuesCount);
+                if (batch == null) {
+                    double[] min = { mins.get(bucket) };
+                    double[] max = { maxes.get(bucket) };
+                    stream.forEach((doc) -> {
+                        if (values.advanceExact(doc)) {
+                            final int valuesCount = values.docValueCount();
+                            counts.increment(bucket, valuesCount);
 
-                        for (int i = 0; i < valuesCount; i++) {
-                            double value = values.nextValue();
-                            kahanSummation.add(value);
-                            min[0] = Math.min(min[0], value);
-                            max[0] = Math.max(max[0], value);
+                            for (int i = 0; i < valuesCount; i++) {
+                                double value = values.nextValue();
+                                kahanSummation.add(value);
+                                min[0] = Math.min(min[0], value);
+                                max[0] = Math.max(max[0], value);
+                            }
                         }
-                    }
-                });
+                    });
+                    mins.set(bucket, min[0]);
+                    maxes.set(bucket, max[0]);
+                } else {
+                    stream.forEach((doc) -> {
+                        if (batch.add(doc)) {
+                            reduceBatch(bucket);
+                        }
+                    });
+                    reduceBatch(bucket);
+                }
                 sums.set(bucket, kahanSummation.value());
                 compensations.set(bucket, kahanSummation.delta());
-                mins.set(bucket, min[0]);
-                maxes.set(bucket, max[0]);
             }
 
             @Override
             public void collectRange(int min, int max) throws IOException {
-                growStats(0);
+                collectRange(min, max, 0);
+            }
+
+            @Override
+            public void collectRange(int min, int max, long bucket) throws IOException {
+                growStats(bucket);
 
-                double minimum = mins.get(0);
-                double maximum = maxes.get(0);
-                for (int doc = min; doc < max; doc++) {
-                    if (values.advanceExact(doc)) {
-                        final int valuesCount = values.docValueCount();
-                        counts.increment(0, valuesCount);
+                if (batch == null) {
+                    double minimum = mins.get(bucket);
+                    double maximum = maxes.get(bucket);
+                    for (int doc = min; doc < max; doc++) {
+                        if (values.advanceExact(doc)) {
+                            final int valuesCount = values.docValueCount();
+                            counts.increment(bucket, valuesCount);
 
-                        for (int i = 0; i < valuesCount; i++) {
-                            double value = values.nextValue();
-                            kahanSummation.add(value);
-                            minimum = Math.min(minimum, value);
-                            maximum = Math.max(maximum, value);
+                            for (int i = 0; i < valuesCount; i++) {
+                                double value = values.nextValue();
+                                kahanSummation.add(value);
+                                minimum = Math.min(minimum, value);
+                                maximum = Math.max(maximum, value);
+                            }
                         }
                     }
+                    mins.set(bucket, minimum);
+                    maxes.set(bucket, maximum);
+                } else {
+                    for (int doc = min; doc < max; doc++) {
+                        if (batch.add(doc)) {
+                            reduceBatch(bucket);
+                        }
+                    }
+                    reduceBatch(bucket);
+                }
+                sums.set(bucket, kahanSummation.value());
+                compensations.set(bucket, kahanSummation.delta());
+            }
+
+            private void reduceBatch(long bucket) {
+                if (batch.size() == 0) {
+                    return;
                 }
-                sums.set(0, kahanSummation.value());
-                compensations.set(0, kahanSummation.delta());
-                mins.set(0, minimum);
-                maxes.set(0, maximum);
+                counts.increment(bucket, batch.size());
+                batch.sum(kahanSummation);
+                mins.set(bucket, Math.min(mins.get(bucket), batch.min()));
+                maxes.set(bucket, Math.max(maxes.get(bucket), batch.max()));
+                batch.clear();
             }
 
             private void growStats(long bucket) {
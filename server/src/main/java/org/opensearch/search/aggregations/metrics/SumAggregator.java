@@ -120,6 +120,7 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue implemen
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        final DoubleValuesBatch batch = DoubleValuesBatch.ENABLED ? new DoubleValuesBatch(values) : null;
         return new LeafBucketCollectorBase(sub, values) {
             @Override
             public void collect(int doc, long bucket) throws IOException {
@@ -137,29 +138,57 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue implemen
             @Override
             public void collect(DocIdStream stream, long bucket) throws IOException {
                 setKahanSummation(bucket);
-                stream.forEach((doc) -> {
-                    if (values.advanceExact(doc)) {
-                        for (int i = 0; i < values.docValueCount(); i++) {
-                            kahanSummation.add(values.nextValue());
+                if (batch == null) {
+                    stream.forEach((doc) -> {
+                        if (values.advanceExact(doc)) {
+                            for (int i = 0; i < values.docValueCount(); i++) {
+                                kahanSummation.add(values.nextValue());
+                            }
                         }
-                    }
-                });
+                    });
+                } else {
+                    stream.forEach((doc) -> {
+                        if (batch.add(doc)) {
+                            reduceBatch();
+                        }
+                    });
+                    reduceBatch();
+                }
                 compensations.set(bucket, kahanSummation.delta());
                 sums.set(bucket, kahanSummation.value());
             }
 
             @Override
             public void collectRange(int min, int max) throws IOException {
-                setKahanSummation(0);
-                for (int docId = min; docId < max; docId++) {
-                    if (values.advanceExact(docId)) {
-                        for (int i = 0; i < values.docValueCount(); i++) {
-                            kahanSummation.add(values.nextValue());
+                collectRange(min, max, 0);
+            }
+
+            @Override
+            public void collectRange(int min, int max, long bucket) throws IOException {
+                setKahanSummation(bucket);
+                if (batch == null) {
+                    for (int docId = min; docId < max; docId++) {
+                        if (values.advanceExact(docId)) {
+                            for (int i = 0; i < values.docValueCount(); i++) {
+                                kahanSummation.add(values.nextValue());
+                            }
                         }
                     }
+                } else {
+                    for (int docId = min; docId < max; docId++) {
+                        if (batch.add(docId)) {
+                            reduceBatch();
+                        }
+                    }
+                    reduceBatch();
                 }
-                sums.set(0, kahanSummation.value());
-                compensations.set(0, kahanSummation.delta());
+                sums.set(bucket, kahanSummation.value());
+                compensations.set(bucket, kahanSummation.delta());
+            }
+
+            private void reduceBatch() {
+                batch.sum(kahanSummation);
+                batch.clear();
             }
 
             private void setKahanSummation(long bucket) {
@@ -32,6 +32,7 @@
 
 package org.opensearch.search.aggregations.pipeline;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.ParsingException;
@@ -49,6 +50,7 @@ import org.opensearch.search.aggregations.support.AggregationPath;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -223,6 +225,77 @@ public class BucketHelpers {
         }
     }
 
+    /**
+     * Resolves the value at <code>aggPath</code> for all <code>buckets</code> of <code>agg</code>, in order, see
+     * {@link #resolveBucketValue(MultiBucketsAggregation, InternalMultiBucketAggregation.InternalBucket, List, GapPolicy)}.
+     * The path is parsed once and the values are stored in a primitive array, which avoids parsing the path and
+     * boxing the value of every bucket when a pipeline aggregation runs over a large number of buckets.
+     */
+    public static BucketValues resolveBucketValues(
+        MultiBucketsAggregation agg,
+        List<? extends InternalMultiBucketAggregation.InternalBucket> buckets,
+        String aggPath,
+        GapPolicy gapPolicy
+    ) {
+        List<String> aggPathsList = AggregationPath.parse(aggPath).getPathElementsAsStringList();
+        double[] values = new double[buckets.size()];
+        BitSet unresolved = null;
+        int i = 0;
+        for (InternalMultiBucketAggregation.InternalBucket bucket : buckets) {
+            Double value = resolveBucketValue(agg, bucket, aggPathsList, gapPolicy);
+            if (value == null) {
+                if (unresolved == null) {
+                    unresolved = new BitSet(values.length);
+                }
+                unresolved.set(i);
+                values[i] = Double.NaN;
+            } else {
+                values[i] = value;
+            }
+            i++;
+        }
+        return new BucketValues(values, unresolved);
+    }
+
+    /**
+     * The values of a buckets path resolved for all buckets of a multi-bucket aggregation, see
+     * {@link #resolveBucketValues(MultiBucketsAggregation, List, String, GapPolicy)}.
+     *
+     * @opensearch.internal
+     */
+    public static final class BucketValues {
+        private final double[] values;
+        @Nullable
+        private final BitSet unresolved;
+
+        private BucketValues(double[] values, @Nullable BitSet unresolved) {
+            this.values = values;
+            this.unresolved = unresolved;
+        }
+
+        /**
+         * The number of buckets.
+         */
+        public int size() {
+            return values.length;
+        }
+
+        /**
+         * Returns false if the path could not be resolved in the bucket at <code>index</code>, which is when
+         * {@link #resolveBucketValue} returns null.
+         */
+        public boolean isResolved(int index) {
+            return unresolved == null || unresolved.get(index) == false;
+        }
+
+        /**
+         * Returns the value of the bucket at <code>index</code>, or {@link Double#NaN} if it could not be resolved.
+         */
+        public double get(int index) {
+            return values[index];
+        }
+    }
+
     /**
      * Inspects where we are in the agg tree and tries to format a helpful error
      */
@@ -39,6 +39,7 @@ import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
+import org.opensearch.search.aggregations.pipeline.BucketHelpers.BucketValues;
 import org.opensearch.search.aggregations.pipeline.BucketHelpers.GapPolicy;
 
 import java.util.ArrayList;
@@ -48,7 +49,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
-import static org.opensearch.search.aggregations.pipeline.BucketHelpers.resolveBucketValue;
+import static org.opensearch.search.aggregations.pipeline.BucketHelpers.resolveBucketValues;
 
 /**
  * Aggregate all docs into a bucket defined by a script
@@ -83,23 +84,28 @@ public class BucketScriptPipelineAggregator extends PipelineAggregator {
         List<? extends InternalMultiBucketAggregation.InternalBucket> buckets = originalAgg.getBuckets();
 
         BucketAggregationScript.Factory factory = reduceContext.scriptService().compile(script, BucketAggregationScript.CONTEXT);
-        List<InternalMultiBucketAggregation.InternalBucket> newBuckets = new ArrayList<>();
+        List<InternalMultiBucketAggregation.InternalBucket> newBuckets = new ArrayList<>(buckets.size());
+        String[] varNames = bucketsPathsMap.keySet().toArray(new String[0]);
+        BucketValues[] varValues = new BucketValues[varNames.length];
+        for (int i = 0; i < varNames.length; i++) {
+            varValues[i] = resolveBucketValues(originalAgg, buckets, bucketsPathsMap.get(varNames[i]), gapPolicy);
+        }
+        int index = 0;
         for (InternalMultiBucketAggregation.InternalBucket bucket : buckets) {
             Map<String, Object> vars = new HashMap<>();
             if (script.getParams() != null) {
                 vars.putAll(script.getParams());
             }
             boolean skipBucket = false;
-            for (Map.Entry<String, String> entry : bucketsPathsMap.entrySet()) {
-                String varName = entry.getKey();
-                String bucketsPath = entry.getValue();
-                Double value = resolveBucketValue(originalAgg, bucket, bucketsPath, gapPolicy);
-                if (GapPolicy.SKIP == gapPolicy && (value == null || Double.isNaN(value))) {
+            for (int i = 0; i < varNames.length; i++) {
+                BucketValues values = varValues[i];
+                if (GapPolicy.SKIP == gapPolicy && Double.isNaN(values.get(index))) {
                     skipBucket = true;
                     break;
                 }
-                vars.put(varName, value);
+                vars.put(varNames[i], values.isResolved(index) ? values.get(index) : null);
             }
+            index++;
             if (skipBucket) {
                 newBuckets.add(bucket);
             } else {
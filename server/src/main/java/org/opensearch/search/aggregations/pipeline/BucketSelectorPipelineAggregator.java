@@ -37,6 +37,7 @@ import org.opensearch.script.Script;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
 import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
+import org.opensearch.search.aggregations.pipeline.BucketHelpers.BucketValues;
 import org.opensearch.search.aggregations.pipeline.BucketHelpers.GapPolicy;
 
 import java.util.ArrayList;
@@ -44,7 +45,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static org.opensearch.search.aggregations.pipeline.BucketHelpers.resolveBucketValue;
+import static org.opensearch.search.aggregations.pipeline.BucketHelpers.resolveBucketValues;
 
 /**
  * Aggregate all docs into a selected bucket
@@ -78,17 +79,22 @@ public class BucketSelectorPipelineAggregator extends PipelineAggregator {
         BucketAggregationSelectorScript.Factory factory = reduceContext.scriptService()
             .compile(script, BucketAggregationSelectorScript.CONTEXT);
         List<InternalMultiBucketAggregation.InternalBucket> newBuckets = new ArrayList<>();
+        String[] varNames = bucketsPathsMap.keySet().toArray(new String[0]);
+        BucketValues[] varValues = new BucketValues[varNames.length];
+        for (int i = 0; i < varNames.length; i++) {
+            varValues[i] = resolveBucketValues(originalAgg, buckets, bucketsPathsMap.get(varNames[i]), gapPolicy);
+        }
+        int index = 0;
         for (InternalMultiBucketAggregation.InternalBucket bucket : buckets) {
             Map<String, Object> vars = new HashMap<>();
             if (script.getParams() != null) {
                 vars.putAll(script.getParams());
             }
-            for (Map.Entry<String, String> entry : bucketsPathsMap.entrySet()) {
-                String varName = entry.getKey();
-                String bucketsPath = entry.getValue();
-                Double value = resolveBucketValue(originalAgg, bucket, bucketsPath, gapPolicy);
-                vars.put(varName, value);
+            for (int i = 0; i < varNames.length; i++) {
+                BucketValues values = varValues[i];
+                vars.put(varNames[i], values.isResolved(index) ? values.get(index) : null);
             }
+            index++;
             // TODO: can we use one instance of the script for all buckets? it should be stateless?
             BucketAggregationSelectorScript executableScript = factory.newInstance(vars);
             if (executableScript.execute()) {
@@ -36,6 +36,7 @@ import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
 import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
 import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation;
 import org.opensearch.search.aggregations.pipeline.BucketHelpers.GapPolicy;
+import org.opensearch.search.aggregations.support.AggregationPath;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.SortOrder;
 
@@ -89,9 +90,16 @@ public class BucketSortPipelineAggregator extends PipelineAggregator {
             return originalAgg.create(new ArrayList<>(buckets.subList(from, Math.min(from + currentSize, bucketsCount))));
         }
 
-        List<ComparableBucket> ordered = new ArrayList<>();
+        // parse the sort paths once rather than once per bucket
+        Map<FieldSortBuilder, List<String>> sortPaths = new HashMap<>();
+        for (FieldSortBuilder sort : sorts) {
+            if ("_key".equals(sort.getFieldName()) == false) {
+                sortPaths.put(sort, AggregationPath.parse(sort.getFieldName()).getPathElementsAsStringList());
+            }
+        }
+        List<ComparableBucket> ordered = new ArrayList<>(bucketsCount);
         for (InternalMultiBucketAggregation.InternalBucket bucket : buckets) {
-            ComparableBucket comparableBucket = new ComparableBucket(originalAgg, bucket);
+            ComparableBucket comparableBucket = new ComparableBucket(originalAgg, bucket, sortPaths);
             if (comparableBucket.skip() == false) {
                 ordered.add(comparableBucket);
             }
@@ -115,20 +123,24 @@ public class BucketSortPipelineAggregator extends PipelineAggregator {
         private final InternalMultiBucketAggregation.InternalBucket internalBucket;
         private final Map<FieldSortBuilder, Comparable<Object>> sortValues;
 
-        private ComparableBucket(MultiBucketsAggregation parentAgg, InternalMultiBucketAggregation.InternalBucket internalBucket) {
+        private ComparableBucket(
+            MultiBucketsAggregation parentAgg,
+            InternalMultiBucketAggregation.InternalBucket internalBucket,
+            Map<FieldSortBuilder, List<String>> sortPaths
+        ) {
             this.parentAgg = parentAgg;
             this.internalBucket = internalBucket;
-            this.sortValues = resolveAndCacheSortValues();
+            this.sortValues = resolveAndCacheSortValues(sortPaths);
         }
 
-        private Map<FieldSortBuilder, Comparable<Object>> resolveAndCacheSortValues() {
+        private Map<FieldSortBuilder, Comparable<Object>> resolveAndCacheSortValues(Map<FieldSortBuilder, List<String>> sortPaths) {
             Map<FieldSortBuilder, Comparable<Object>> resolved = new HashMap<>();
             for (FieldSortBuilder sort : sorts) {
                 String sortField = sort.getFieldName();
                 if ("_key".equals(sortField)) {
                     resolved.put(sort, (Comparable<Object>) internalBucket.getKey());
                 } else {
-                    Double bucketValue = BucketHelpers.resolveBucketValue(parentAgg, internalBucket, sortField, gapPolicy);
+                    Double bucketValue = BucketHelpers.resolveBucketValue(parentAgg, internalBucket, sortPaths.get(sort), gapPolicy);
                     if (GapPolicy.SKIP == gapPolicy && Double.isNaN(bucketValue)) {
                         continue;
                     }
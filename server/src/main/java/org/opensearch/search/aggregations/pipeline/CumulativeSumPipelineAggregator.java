@@ -39,6 +39,7 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
 import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation.Bucket;
 import org.opensearch.search.aggregations.bucket.histogram.HistogramFactory;
+import org.opensearch.search.aggregations.pipeline.BucketHelpers.BucketValues;
 import org.opensearch.search.aggregations.pipeline.BucketHelpers.GapPolicy;
 
 import java.util.ArrayList;
@@ -47,7 +48,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
-import static org.opensearch.search.aggregations.pipeline.BucketHelpers.resolveBucketValue;
+import static org.opensearch.search.aggregations.pipeline.BucketHelpers.resolveBucketValues;
 
 /**
  * Aggregate all docs into a cumulative sum bucket
@@ -72,12 +73,14 @@ public class CumulativeSumPipelineAggregator extends PipelineAggregator {
         List<? extends InternalMultiBucketAggregation.InternalBucket> buckets = histo.getBuckets();
         HistogramFactory factory = (HistogramFactory) histo;
         List<Bucket> newBuckets = new ArrayList<>(buckets.size());
+        BucketValues values = resolveBucketValues(histo, buckets, bucketsPaths()[0], GapPolicy.INSERT_ZEROS);
         double sum = 0;
+        int index = 0;
         for (InternalMultiBucketAggregation.InternalBucket bucket : buckets) {
-            Double thisBucketValue = resolveBucketValue(histo, bucket, bucketsPaths()[0], GapPolicy.INSERT_ZEROS);
+            double thisBucketValue = values.get(index++);
 
             // Only increment the sum if it's a finite value, otherwise "increment by zero" is correct
-            if (thisBucketValue != null && thisBucketValue.isInfinite() == false && thisBucketValue.isNaN() == false) {
+            if (Double.isFinite(thisBucketValue)) {
                 sum += thisBucketValue;
             }
 
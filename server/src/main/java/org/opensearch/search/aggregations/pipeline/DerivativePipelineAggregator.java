@@ -39,6 +39,7 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
 import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation.Bucket;
 import org.opensearch.search.aggregations.bucket.histogram.HistogramFactory;
+import org.opensearch.search.aggregations.pipeline.BucketHelpers.BucketValues;
 import org.opensearch.search.aggregations.pipeline.BucketHelpers.GapPolicy;
 
 import java.util.ArrayList;
@@ -47,7 +48,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
-import static org.opensearch.search.aggregations.pipeline.BucketHelpers.resolveBucketValue;
+import static org.opensearch.search.aggregations.pipeline.BucketHelpers.resolveBucketValues;
 
 /**
  * Aggregate all docs into a derivative value
@@ -83,13 +84,17 @@ public class DerivativePipelineAggregator extends PipelineAggregator {
         List<? extends InternalMultiBucketAggregation.InternalBucket> buckets = histo.getBuckets();
         HistogramFactory factory = (HistogramFactory) histo;
 
-        List<Bucket> newBuckets = new ArrayList<>();
+        BucketValues values = resolveBucketValues(histo, buckets, bucketsPaths()[0], gapPolicy);
+        List<Bucket> newBuckets = new ArrayList<>(buckets.size());
         Number lastBucketKey = null;
-        Double lastBucketValue = null;
+        boolean lastBucketResolved = false;
+        double lastBucketValue = Double.NaN;
+        int index = 0;
         for (InternalMultiBucketAggregation.InternalBucket bucket : buckets) {
             Number thisBucketKey = factory.getKey(bucket);
-            Double thisBucketValue = resolveBucketValue(histo, bucket, bucketsPaths()[0], gapPolicy);
-            if (lastBucketValue != null && thisBucketValue != null) {
+            boolean thisBucketResolved = values.isResolved(index);
+            double thisBucketValue = values.get(index);
+            if (lastBucketResolved && thisBucketResolved) {
                 double gradient = thisBucketValue - lastBucketValue;
                 double xDiff = -1;
                 if (xAxisUnits != null) {
@@ -105,7 +110,9 @@ public class DerivativePipelineAggregator extends PipelineAggregator {
                 newBuckets.add(bucket);
             }
             lastBucketKey = thisBucketKey;
+            lastBucketResolved = thisBucketResolved;
             lastBucketValue = thisBucketValue;
+            index++;
         }
         return factory.createAggregation(newBuckets);
     }
@@ -39,15 +39,17 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
 import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation;
 import org.opensearch.search.aggregations.bucket.histogram.HistogramFactory;
+import org.opensearch.search.aggregations.pipeline.BucketHelpers.BucketValues;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
-import static org.opensearch.search.aggregations.pipeline.BucketHelpers.resolveBucketValue;
+import static org.opensearch.search.aggregations.pipeline.BucketHelpers.resolveBucketValues;
 
 /**
  * This pipeline aggregation gives the user the ability to script functions that "move" across a window
@@ -105,7 +107,7 @@ public class MovFnPipelineAggregator extends PipelineAggregator {
         List<? extends InternalMultiBucketAggregation.InternalBucket> buckets = histo.getBuckets();
         HistogramFactory factory = (HistogramFactory) histo;
 
-        List<MultiBucketsAggregation.Bucket> newBuckets = new ArrayList<>();
+        List<MultiBucketsAggregation.Bucket> newBuckets = new ArrayList<>(buckets.size());
 
         // Initialize the script
         MovingFunctionScript.Factory scriptFactory = reduceContext.scriptService().compile(script, MovingFunctionScript.CONTEXT);
@@ -116,29 +118,32 @@ public class MovFnPipelineAggregator extends PipelineAggregator {
 
         MovingFunctionScript executableScript = scriptFactory.newInstance();
 
-        List<Double> values = buckets.stream()
-            .map(b -> resolveBucketValue(histo, b, bucketsPaths()[0], gapPolicy))
-            .filter(v -> v != null && v.isNaN() == false)
-            .collect(Collectors.toList());
+        // the values of the buckets that have a value, the windows of the script are slices of this array
+        BucketValues bucketValues = resolveBucketValues(histo, buckets, bucketsPaths()[0], gapPolicy);
+        double[] values = new double[bucketValues.size()];
+        int numValues = 0;
+        for (int i = 0; i < bucketValues.size(); i++) {
+            if (Double.isNaN(bucketValues.get(i)) == false) {
+                values[numValues++] = bucketValues.get(i);
+            }
+        }
 
         int index = 0;
+        int bucketIndex = 0;
         for (InternalMultiBucketAggregation.InternalBucket bucket : buckets) {
-            Double thisBucketValue = resolveBucketValue(histo, bucket, bucketsPaths()[0], gapPolicy);
+            double thisBucketValue = bucketValues.get(bucketIndex++);
 
             // Default is to reuse existing bucket. Simplifies the rest of the logic,
             // since we only change newBucket if we can add to it
             MultiBucketsAggregation.Bucket newBucket = bucket;
 
-            if (thisBucketValue != null && thisBucketValue.isNaN() == false) {
+            if (Double.isNaN(thisBucketValue) == false) {
 
                 // The custom context mandates that the script returns a double (not Double) so we
                 // don't need null checks, etc.
-                int fromIndex = clamp(index - window + shift, values);
-                int toIndex = clamp(index + shift, values);
-                double movavg = executableScript.execute(
-                    vars,
-                    values.subList(fromIndex, toIndex).stream().mapToDouble(Double::doubleValue).toArray()
-                );
+                int fromIndex = clamp(index - window + shift, numValues);
+                int toIndex = clamp(index + shift, numValues);
+                double movavg = executableScript.execute(vars, Arrays.copyOfRange(values, fromIndex, toIndex));
 
                 List<InternalAggregation> aggs = StreamSupport.stream(bucket.getAggregations().spliterator(), false)
                     .map(InternalAggregation.class::cast)
@@ -153,12 +158,12 @@ public class MovFnPipelineAggregator extends PipelineAggregator {
         return factory.createAggregation(newBuckets);
     }
 
-    private int clamp(int index, List<Double> list) {
+    private int clamp(int index, int size) {
         if (index < 0) {
             return 0;
         }
-        if (index > list.size()) {
-            return list.size();
+        if (index > size) {
+            return size;
         }
         return index;
     }
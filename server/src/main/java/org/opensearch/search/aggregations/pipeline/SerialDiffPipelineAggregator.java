@@ -33,7 +33,6 @@
 package org.opensearch.search.aggregations.pipeline;
 
 import org.opensearch.common.Nullable;
-import org.opensearch.common.collect.EvictingQueue;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
@@ -41,6 +40,7 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
 import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation.Bucket;
 import org.opensearch.search.aggregations.bucket.histogram.HistogramFactory;
+import org.opensearch.search.aggregations.pipeline.BucketHelpers.BucketValues;
 import org.opensearch.search.aggregations.pipeline.BucketHelpers.GapPolicy;
 
 import java.util.ArrayList;
@@ -49,7 +49,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
-import static org.opensearch.search.aggregations.pipeline.BucketHelpers.resolveBucketValue;
+import static org.opensearch.search.aggregations.pipeline.BucketHelpers.resolveBucketValues;
 
 /**
  * Aggregate all docs into a serial diff bucket
@@ -85,28 +85,19 @@ public class SerialDiffPipelineAggregator extends PipelineAggregator {
         List<? extends InternalMultiBucketAggregation.InternalBucket> buckets = histo.getBuckets();
         HistogramFactory factory = (HistogramFactory) histo;
 
-        List<Bucket> newBuckets = new ArrayList<>();
-        EvictingQueue<Double> lagWindow = new EvictingQueue<>(lag);
+        List<Bucket> newBuckets = new ArrayList<>(buckets.size());
         int counter = 0;
 
+        // unresolved values are NaN, so there is no need to normalize them
+        BucketValues values = resolveBucketValues(histo, buckets, bucketsPaths()[0], gapPolicy);
         for (InternalMultiBucketAggregation.InternalBucket bucket : buckets) {
-            Double thisBucketValue = resolveBucketValue(histo, bucket, bucketsPaths()[0], gapPolicy);
+            double thisBucketValue = values.get(counter);
             Bucket newBucket = bucket;
 
             counter += 1;
 
             // Still under the initial lag period, add nothing and move on
-            Double lagValue;
-            if (counter <= lag) {
-                lagValue = Double.NaN;
-            } else {
-                lagValue = lagWindow.peek();  // Peek here, because we rely on add'ing to always move the window
-            }
-
-            // Normalize null's to NaN
-            if (thisBucketValue == null) {
-                thisBucketValue = Double.NaN;
-            }
+            double lagValue = counter <= lag ? Double.NaN : values.get(counter - 1 - lag);
 
             // Both have values, calculate diff and replace the "empty" bucket
             if (!Double.isNaN(thisBucketValue) && !Double.isNaN(lagValue)) {
@@ -120,7 +111,6 @@ public class SerialDiffPipelineAggregator extends PipelineAggregator {
             }
 
             newBuckets.add(newBucket);
-            lagWindow.add(thisBucketValue);
         }
         return factory.createAggregation(newBuckets);
     }
@@ -97,6 +97,7 @@ public class RemoteStoreStatsTestHelper {
             .uploadBytesPerSecMovingAverage(0)
             .uploadTimeMovingAverage(0)
             .bytesLag(100)
+            .uploadBytesSkipped(20)
             .totalUploadTimeInMs(10)
             .directoryFileTransferTrackerStats(createZeroDirectoryFileTransferStats())
             .build();
@@ -290,6 +291,12 @@ public class RemoteStoreStatsTestHelper {
                 ),
                 (int) segmentTransferStats.uploadBytesFailed
             );
+            assertEquals(
+                ((Map) segmentUploads.get(RemoteStoreStats.UploadStatsFields.TOTAL_UPLOAD_SIZE)).get(
+                    RemoteStoreStats.SubFields.SKIPPED_BYTES
+                ),
+                (int) segmentTransferStats.uploadBytesSkipped
+            );
             assertEquals(
                 ((Map) segmentUploads.get(RemoteStoreStats.UploadStatsFields.REMOTE_REFRESH_SIZE_IN_BYTES)).get(
                     RemoteStoreStats.SubFields.MOVING_AVG
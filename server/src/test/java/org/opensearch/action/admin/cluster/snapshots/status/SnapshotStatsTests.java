@@ -32,6 +32,8 @@
 
 package org.opensearch.action.admin.cluster.snapshots.status;
 
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.test.AbstractXContentTestCase;
 
@@ -71,4 +73,15 @@ public class SnapshotStatsTests extends AbstractXContentTestCase<SnapshotStats>
     protected boolean supportsUnknownFields() {
         return true;
     }
+
+    public void testThroughput() throws IOException {
+        final SnapshotStats stats = new SnapshotStats(0, 2000, 1, 1, 1, 4096, 4096, 4096);
+        assertEquals(2048, stats.getProcessedBytesPerSecond());
+        final String json = Strings.toString(MediaTypeRegistry.JSON, stats);
+        assertTrue(json, json.contains("\"throughput_in_bytes_per_sec\":2048"));
+
+        final SnapshotStats notStarted = new SnapshotStats(0, 0, 1, 1, 0, 4096, 4096, 0);
+        assertEquals(0, notStarted.getProcessedBytesPerSecond());
+        assertFalse(Strings.toString(MediaTypeRegistry.JSON, notStarted).contains("throughput"));
+    }
 }
@@ -672,6 +672,45 @@ public class MetadataTests extends OpenSearchTestCase {
         assertThat(fromStreamMeta.indexGraveyard(), equalTo(fromStreamMeta.indexGraveyard()));
     }
 
+    public void testEqualMappingsAreShared() throws IOException {
+        final Metadata.Builder builder = Metadata.builder();
+        final int numberOfIndices = randomIntBetween(2, 10);
+        for (int i = 0; i < numberOfIndices; i++) {
+            builder.put(
+                IndexMetadata.builder("index" + i)
+                    .settings(
+                        Settings.builder()
+                            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                    )
+                    .putMapping(i % 2 == 0 ? FIND_MAPPINGS_TEST_ITEM : "{\"_doc\":{\"properties\":{\"field\":{\"type\":\"keyword\"}}}}")
+            );
+        }
+        final Metadata metadata = builder.build();
+        assertThat(metadata.index("index0").mapping().routingRequired(), is(true));
+        for (int i = 2; i < numberOfIndices; i++) {
+            assertSame(metadata.index("index" + (i % 2)).mapping(), metadata.index("index" + i).mapping());
+        }
+
+        final BytesStreamOutput out = new BytesStreamOutput();
+        metadata.writeTo(out);
+        final NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(ClusterModule.getNamedWriteables());
+        final Metadata fromStreamMeta = Metadata.readFrom(
+            new NamedWriteableAwareStreamInput(out.bytes().streamInput(), namedWriteableRegistry)
+        );
+        for (int i = 0; i < numberOfIndices; i++) {
+            assertEquals(metadata.index("index" + i), fromStreamMeta.index("index" + i));
+            assertSame(fromStreamMeta.index("index" + (i % 2)).mapping(), fromStreamMeta.index("index" + i).mapping());
+        }
+
+        // index metadata whose mapping is already shared is kept as is
+        final IndexMetadata unchanged = metadata.index("index0");
+        final Metadata updated = Metadata.builder(metadata).put(IndexMetadata.builder(metadata.index("index1")).version(2L)).build();
+        assertSame(unchanged, updated.index("index0"));
+        assertSame(metadata.index("index1").mapping(), updated.index("index1").mapping());
+    }
+
     public void testFindMappings() throws IOException {
         Metadata metadata = Metadata.builder()
             .put(
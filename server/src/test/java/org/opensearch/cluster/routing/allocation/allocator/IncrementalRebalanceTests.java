@@ -0,0 +1,333 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.EmptyClusterInfoService;
+import org.opensearch.cluster.OpenSearchAllocationTestCase;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.RoutingNode;
+import org.opensearch.cluster.routing.RoutingNodes;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.cluster.routing.allocation.RoutingAllocation;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.gateway.TestGatewayAllocator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.opensearch.cluster.routing.ShardRoutingState.INITIALIZING;
+import static org.opensearch.cluster.routing.ShardRoutingState.RELOCATING;
+import static org.opensearch.cluster.routing.ShardRoutingState.STARTED;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class IncrementalRebalanceTests extends OpenSearchAllocationTestCase {
+
+    public void testTrackerRequiresFullRebalanceInitially() {
+        final ClusterState state = startedCluster(createAllocationService(), 2, 2);
+        final IncrementalRebalanceTracker tracker = new IncrementalRebalanceTracker();
+        assertNull(tracker.indicesToRebalance(newRoutingAllocation(yesAllocationDeciders(), state)));
+    }
+
+    public void testTrackerReturnsNothingWhenRoutingUnchanged() {
+        final ClusterState state = startedCluster(createAllocationService(), 2, 2);
+        final IncrementalRebalanceTracker tracker = new IncrementalRebalanceTracker();
+        record(tracker, state, null, Collections.emptySet());
+        assertThat(tracker.indicesToRebalance(newRoutingAllocation(yesAllocationDeciders(), state)), empty());
+    }
+
+    public void testTrackerReturnsNewIndex() {
+        final ClusterState state = startedCluster(createAllocationService(), 2, 2);
+        final IncrementalRebalanceTracker tracker = new IncrementalRebalanceTracker();
+        record(tracker, state, null, Collections.emptySet());
+
+        final Metadata metadata = Metadata.builder(state.metadata()).put(indexMetadata("new_index", 1, 0)).build();
+        final ClusterState newState = ClusterState.builder(state)
+            .metadata(metadata)
+            .routingTable(RoutingTable.builder(state.routingTable()).addAsNew(metadata.index("new_index")).build())
+            .build();
+        assertThat(tracker.indicesToRebalance(newRoutingAllocation(yesAllocationDeciders(), newState)), containsInAnyOrder("new_index"));
+    }
+
+    public void testTrackerReturnsIndicesOnTouchedNodes() {
+        final AllocationService allocationService = createAllocationService();
+        ClusterState state = startedCluster(allocationService, 2, 2);
+        final IncrementalRebalanceTracker tracker = new IncrementalRebalanceTracker();
+        record(tracker, state, null, Collections.emptySet());
+
+        final ShardRouting shard = state.routingTable().index("test_0").shard(0).primaryShard();
+        state = allocationService.applyFailedShard(state, shard, randomBoolean());
+        final Set<String> indices = tracker.indicesToRebalance(newRoutingAllocation(yesAllocationDeciders(), state));
+        assertNotNull(indices);
+        assertThat(indices, hasItem("test_0"));
+        for (ShardRouting shardRouting : state.getRoutingNodes().node(shard.currentNodeId())) {
+            assertThat(indices, hasItem(shardRouting.getIndexName()));
+        }
+    }
+
+    public void testTrackerRequiresFullRebalanceWhenNodesChange() {
+        final ClusterState state = startedCluster(createAllocationService(), 2, 2);
+        final IncrementalRebalanceTracker tracker = new IncrementalRebalanceTracker();
+        record(tracker, state, null, Collections.emptySet());
+
+        final ClusterState newState = ClusterState.builder(state)
+            .nodes(DiscoveryNodes.builder(state.nodes()).add(newNode("node_new")))
+            .build();
+        assertNull(tracker.indicesToRebalance(newRoutingAllocation(yesAllocationDeciders(), newState)));
+    }
+
+    public void testTrackerCarriesOverUnsettledIndices() {
+        final ClusterState state = startedCluster(createAllocationService(), 2, 2);
+        final IncrementalRebalanceTracker tracker = new IncrementalRebalanceTracker();
+        record(tracker, state, null, Set.of("test_1"));
+        assertThat(tracker.indicesToRebalance(newRoutingAllocation(yesAllocationDeciders(), state)), containsInAnyOrder("test_1"));
+
+        // a skipped round keeps its candidates pending
+        record(tracker, state, Set.of("test_0"), null);
+        assertThat(
+            tracker.indicesToRebalance(newRoutingAllocation(yesAllocationDeciders(), state)),
+            containsInAnyOrder("test_0", "test_1")
+        );
+
+        tracker.invalidate();
+        assertNull(tracker.indicesToRebalance(newRoutingAllocation(yesAllocationDeciders(), state)));
+    }
+
+    public void testTrackerReturnsIndicesMovableToLighterNodes() {
+        final AllocationService allocationService = createAllocationService();
+        final ClusterState state = startedCluster(allocationService, 3, 3, 1, 0);
+        final IncrementalRebalanceTracker tracker = new IncrementalRebalanceTracker();
+        record(tracker, state, null, Collections.emptySet());
+
+        final Metadata metadata = Metadata.builder(state.metadata()).remove("test_0").build();
+        final ClusterState newState = ClusterState.builder(state)
+            .metadata(metadata)
+            .routingTable(RoutingTable.builder(state.routingTable()).remove("test_0").build())
+            .build();
+        final Set<String> indices = tracker.indicesToRebalance(newRoutingAllocation(yesAllocationDeciders(), newState));
+        assertNotNull(indices);
+        // the nodes which hosted the deleted index are lighter now, so any shard of the other nodes may move there
+        final Set<String> lighterNodes = new HashSet<>();
+        for (ShardRouting shardRouting : state.routingTable().allShards("test_0")) {
+            lighterNodes.add(shardRouting.currentNodeId());
+        }
+        for (RoutingNode routingNode : newState.getRoutingNodes()) {
+            if (lighterNodes.contains(routingNode.nodeId()) == false) {
+                for (ShardRouting shardRouting : routingNode) {
+                    assertThat(indices, hasItem(shardRouting.getIndexName()));
+                }
+            }
+        }
+    }
+
+    public void testTrackerDropsRoundsWhichAreNotApplied() {
+        final AllocationService allocationService = createAllocationService();
+        final ClusterState state = startedCluster(allocationService, 2, 2);
+        final IncrementalRebalanceTracker tracker = new IncrementalRebalanceTracker();
+        record(tracker, state, null, Collections.emptySet());
+
+        final ShardRouting shard = state.routingTable().index("test_0").shard(0).primaryShard();
+        final ClusterState failedState = allocationService.applyFailedShard(state, shard, randomBoolean());
+        // a dry run of a reroute on the new routing, whose result is never applied
+        final RoutingAllocation dryRun = newRoutingAllocation(yesAllocationDeciders(), failedState);
+        tracker.onRebalanceCompleted(dryRun, null, Collections.emptySet());
+        tracker.onAllocationCompleted(dryRun);
+        tracker.onClusterStateApplied(state);
+
+        // the changes are still diffed against the routing of the last applied round
+        assertThat(tracker.indicesToRebalance(newRoutingAllocation(yesAllocationDeciders(), failedState)), hasItem("test_0"));
+    }
+
+    public void testIncrementalRebalanceConvergesToFullRebalance() {
+        final Settings settings = Settings.builder()
+            .put("cluster.routing.allocation.node_concurrent_recoveries", randomIntBetween(1, 4))
+            .put("cluster.routing.allocation.cluster_concurrent_rebalance", randomIntBetween(1, 8))
+            .build();
+        final BalancedShardsAllocator incrementalAllocator = new BalancedShardsAllocator(
+            Settings.builder().put(settings).put(BalancedShardsAllocator.INCREMENTAL_REBALANCE_ENABLED_SETTING.getKey(), true).build()
+        );
+        final AllocationService incrementalService = new MockAllocationService(
+            randomAllocationDeciders(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), random()),
+            new TestGatewayAllocator(),
+            incrementalAllocator,
+            EmptyClusterInfoService.INSTANCE,
+            SNAPSHOT_INFO_SERVICE_WITH_NO_SHARD_SIZES
+        );
+        final AllocationService fullService = createAllocationService(settings);
+
+        final int numberOfNodes = randomIntBetween(3, 6);
+        int nextIndex = randomIntBetween(2, 6);
+        ClusterState state = startedCluster(fullService, numberOfNodes, nextIndex, randomIntBetween(1, 4), 1);
+        final int numberOfChanges = randomIntBetween(5, 20);
+        for (int i = 0; i < numberOfChanges; i++) {
+            final ClusterState previous = state;
+            final List<String> indices = new ArrayList<>(state.routingTable().indicesRouting().keySet());
+            switch (randomIntBetween(0, 3)) {
+                case 0 -> {
+                    final Metadata metadata = Metadata.builder(state.metadata())
+                        .put(indexMetadata("test_" + nextIndex++, randomIntBetween(1, 6), randomIntBetween(0, 1)))
+                        .build();
+                    final RoutingTable routingTable = RoutingTable.builder(state.routingTable())
+                        .addAsNew(metadata.index("test_" + (nextIndex - 1)))
+                        .build();
+                    state = incrementalService.reroute(
+                        ClusterState.builder(state).metadata(metadata).routingTable(routingTable).build(),
+                        "index created"
+                    );
+                }
+                case 1 -> {
+                    if (indices.size() > 1) {
+                        final String index = randomFrom(indices);
+                        state = incrementalService.reroute(
+                            ClusterState.builder(state)
+                                .metadata(Metadata.builder(state.metadata()).remove(index))
+                                .routingTable(RoutingTable.builder(state.routingTable()).remove(index).build())
+                                .build(),
+                            "index deleted"
+                        );
+                    }
+                }
+                case 2 -> {
+                    final List<ShardRouting> started = state.getRoutingNodes().shardsWithState(STARTED);
+                    if (started.isEmpty() == false) {
+                        state = incrementalService.applyFailedShard(state, randomFrom(started), randomBoolean());
+                    }
+                }
+                default -> {
+                    // a dry run, whose result is never applied, followed by the publication of an unrelated change
+                    incrementalService.reroute(state, "dry run");
+                }
+            }
+            incrementalAllocator.clusterChanged(new ClusterChangedEvent("test", state, previous));
+            state = applyStartedShardsUntilNoChange(state, incrementalService, incrementalAllocator);
+        }
+
+        // a full rebalance of the incrementally balanced cluster has nothing left to do
+        final ClusterState fullyBalanced = fullService.reroute(state, "full rebalance");
+        assertThat(fullyBalanced.getRoutingNodes().shardsWithState(RELOCATING), empty());
+        assertThat(fullyBalanced.getRoutingNodes().shardsWithState(INITIALIZING), empty());
+        assertThat(fullyBalanced.getRoutingNodes().unassigned().size(), equalTo(state.getRoutingNodes().unassigned().size()));
+    }
+
+    public void testIncrementalRebalanceBalancesAddedNodes() {
+        final int numberOfIndices = randomIntBetween(2, 6);
+        final int numberOfShards = randomIntBetween(2, 6);
+        final AllocationService allocationService = createAllocationService(
+            Settings.builder()
+                .put(BalancedShardsAllocator.INCREMENTAL_REBALANCE_ENABLED_SETTING.getKey(), true)
+                .put("cluster.routing.allocation.node_concurrent_recoveries", 1)
+                .put("cluster.routing.allocation.cluster_concurrent_rebalance", 1)
+                .build()
+        );
+        ClusterState state = startedCluster(allocationService, numberOfIndices, numberOfShards);
+
+        final int numberOfNodes = 2 + randomIntBetween(1, 3);
+        final DiscoveryNodes.Builder nodes = DiscoveryNodes.builder(state.nodes());
+        for (int i = 2; i < numberOfNodes; i++) {
+            nodes.add(newNode("node_" + i));
+        }
+        state = allocationService.reroute(ClusterState.builder(state).nodes(nodes).build(), "nodes added");
+        state = applyStartedShardsUntilNoChange(state, allocationService);
+        assertThat(state.getRoutingNodes().shardsWithState(INITIALIZING), empty());
+
+        final RoutingNodes routingNodes = state.getRoutingNodes();
+        final float avgShardsPerNode = (float) (numberOfIndices * numberOfShards * 2) / numberOfNodes;
+        for (RoutingNode node : routingNodes) {
+            assertThat(node.numberOfShardsWithState(STARTED), greaterThanOrEqualTo((int) Math.floor(avgShardsPerNode - 1)));
+            assertThat(node.numberOfShardsWithState(STARTED), lessThanOrEqualTo((int) Math.ceil(avgShardsPerNode + 1)));
+        }
+    }
+
+    /**
+     * Records a rebalance round on the given cluster state as if it was applied without changing the routing.
+     */
+    private static void record(
+        IncrementalRebalanceTracker tracker,
+        ClusterState state,
+        Set<String> candidateIndices,
+        Set<String> unsettledIndices
+    ) {
+        final RoutingAllocation allocation = newRoutingAllocation(yesAllocationDeciders(), state);
+        tracker.onRebalanceCompleted(allocation, candidateIndices, unsettledIndices);
+        tracker.onAllocationCompleted(allocation);
+        tracker.onClusterStateApplied(state);
+    }
+
+    /**
+     * Like {@link #applyStartedShardsUntilNoChange(ClusterState, AllocationService)}, applying each cluster state.
+     */
+    private ClusterState applyStartedShardsUntilNoChange(
+        ClusterState clusterState,
+        AllocationService service,
+        BalancedShardsAllocator allocator
+    ) {
+        ClusterState lastClusterState;
+        do {
+            lastClusterState = clusterState;
+            clusterState = startInitializingShardsAndReroute(service, clusterState);
+            allocator.clusterChanged(new ClusterChangedEvent("test", clusterState, lastClusterState));
+        } while (lastClusterState.equals(clusterState) == false);
+        return clusterState;
+    }
+
+    private ClusterState startedCluster(AllocationService allocationService, int numberOfIndices, int numberOfShards) {
+        return startedCluster(allocationService, 2, numberOfIndices, numberOfShards, 1);
+    }
+
+    private ClusterState startedCluster(
+        AllocationService allocationService,
+        int numberOfNodes,
+        int numberOfIndices,
+        int numberOfShards,
+        int numberOfReplicas
+    ) {
+        final Metadata.Builder metadata = Metadata.builder();
+        for (int i = 0; i < numberOfIndices; i++) {
+            metadata.put(indexMetadata("test_" + i, numberOfShards, numberOfReplicas));
+        }
+        final Metadata builtMetadata = metadata.build();
+        final RoutingTable.Builder routingTable = RoutingTable.builder();
+        for (IndexMetadata indexMetadata : builtMetadata) {
+            routingTable.addAsNew(indexMetadata);
+        }
+        final DiscoveryNodes.Builder nodes = DiscoveryNodes.builder();
+        for (int i = 0; i < numberOfNodes; i++) {
+            nodes.add(newNode("node_" + i));
+        }
+        final ClusterState state = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(builtMetadata)
+            .routingTable(routingTable.build())
+            .nodes(nodes)
+            .build();
+        return applyStartedShardsUntilNoChange(allocationService.reroute(state, "reroute"), allocationService);
+    }
+
+    private static IndexMetadata.Builder indexMetadata(String name, int numberOfShards, int numberOfReplicas) {
+        return IndexMetadata.builder(name)
+            .settings(settings(Version.CURRENT))
+            .numberOfShards(numberOfShards)
+            .numberOfReplicas(numberOfReplicas);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.EmptyClusterInfoService;
+import org.opensearch.cluster.OpenSearchAllocationTestCase;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.RoutingNode;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.cluster.routing.allocation.decider.Decision;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.gateway.TestGatewayAllocator;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.opensearch.cluster.routing.ShardRoutingState.INITIALIZING;
+
+public class ParallelDecisionEvaluationTests extends OpenSearchAllocationTestCase {
+
+    private ThreadPool threadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        terminate(threadPool);
+        super.tearDown();
+    }
+
+    public void testParallelEvaluationMatchesSequentialEvaluation() {
+        final int iterations = randomIntBetween(3, 8);
+        for (int i = 0; i < iterations; i++) {
+            assertSameAllocations();
+        }
+    }
+
+    public void testEvaluatorStoresDecisionsByPosition() {
+        final ParallelNodeDecisionEvaluator evaluator = new ParallelNodeDecisionEvaluator(threadPool.generic(), randomIntBetween(2, 8));
+        final int count = randomIntBetween(0, 20);
+        final BalancedShardsAllocator.ModelNode[] nodes = new BalancedShardsAllocator.ModelNode[count];
+        for (int i = 0; i < count; i++) {
+            nodes[i] = new BalancedShardsAllocator.ModelNode(new RoutingNode("node_" + i, null));
+        }
+        final Decision[] decisions = new Decision[count];
+        evaluator.evaluate(nodes, count, decisions, node -> Decision.single(Decision.Type.YES, null, node.getNodeId()));
+        for (int i = 0; i < count; i++) {
+            assertEquals("node_" + i, decisions[i].getExplanation());
+        }
+    }
+
+    public void testEvaluatorRunsOnCallerWhenExecutorRejects() {
+        final ParallelNodeDecisionEvaluator evaluator = new ParallelNodeDecisionEvaluator(command -> {
+            throw new RejectedExecutionException("rejected");
+        }, randomIntBetween(2, 8));
+        final BalancedShardsAllocator.ModelNode[] nodes = new BalancedShardsAllocator.ModelNode[] {
+            new BalancedShardsAllocator.ModelNode(new RoutingNode("node_0", null)),
+            new BalancedShardsAllocator.ModelNode(new RoutingNode("node_1", null)) };
+        final Decision[] decisions = new Decision[2];
+        evaluator.evaluate(nodes, 2, decisions, node -> Decision.NO);
+        assertSame(Decision.NO, decisions[0]);
+        assertSame(Decision.NO, decisions[1]);
+    }
+
+    public void testEvaluatorPropagatesFailures() {
+        final ParallelNodeDecisionEvaluator evaluator = new ParallelNodeDecisionEvaluator(threadPool.generic(), randomIntBetween(2, 8));
+        final BalancedShardsAllocator.ModelNode[] nodes = new BalancedShardsAllocator.ModelNode[] {
+            new BalancedShardsAllocator.ModelNode(new RoutingNode("node_0", null)),
+            new BalancedShardsAllocator.ModelNode(new RoutingNode("node_1", null)) };
+        final IllegalStateException e = expectThrows(
+            IllegalStateException.class,
+            () -> evaluator.evaluate(nodes, 2, new Decision[2], node -> { throw new IllegalStateException("boom"); })
+        );
+        assertEquals("boom", e.getMessage());
+    }
+
+    private void assertSameAllocations() {
+        final Settings settings = Settings.builder()
+            .put("cluster.routing.allocation.awareness.attributes", "zone")
+            .put("cluster.routing.allocation.node_concurrent_recoveries", randomIntBetween(1, 5))
+            .put("cluster.routing.allocation.exclude.tag", randomFrom("tag_0", "tag_none"))
+            .build();
+        final long seed = randomLong();
+        final AllocationService sequential = newAllocationService(settings, seed, 1);
+        final AllocationService parallel = newAllocationService(settings, seed, randomIntBetween(2, 8));
+
+        ClusterState sequentialState = randomClusterState();
+        ClusterState parallelState = sequentialState;
+        for (int round = 0; round < 100; round++) {
+            sequentialState = sequential.reroute(sequentialState, "reroute");
+            parallelState = parallel.reroute(parallelState, "reroute");
+            assertEquals(describeRouting(sequentialState.routingTable()), describeRouting(parallelState.routingTable()));
+            if (sequentialState.routingTable().shardsWithState(INITIALIZING).isEmpty()) {
+                return;
+            }
+            sequentialState = sequential.applyStartedShards(sequentialState, sequentialState.routingTable().shardsWithState(INITIALIZING));
+            parallelState = parallel.applyStartedShards(parallelState, parallelState.routingTable().shardsWithState(INITIALIZING));
+        }
+    }
+
+    private AllocationService newAllocationService(Settings settings, long seed, int parallelism) {
+        final BalancedShardsAllocator allocator = new BalancedShardsAllocator(
+            Settings.builder().put(settings).put(BalancedShardsAllocator.DECIDER_PARALLELISM_SETTING.getKey(), parallelism).build()
+        );
+        allocator.setDeciderExecutor(threadPool.generic());
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        return new MockAllocationService(
+            randomAllocationDeciders(settings, clusterSettings, new Random(seed)),
+            new TestGatewayAllocator(),
+            allocator,
+            EmptyClusterInfoService.INSTANCE,
+            SNAPSHOT_INFO_SERVICE_WITH_NO_SHARD_SIZES
+        );
+    }
+
+    private ClusterState randomClusterState() {
+        final Metadata.Builder metadata = Metadata.builder();
+        final int numberOfIndices = randomIntBetween(1, 10);
+        for (int i = 0; i < numberOfIndices; i++) {
+            metadata.put(
+                IndexMetadata.builder("test_" + i)
+                    .settings(settings(Version.CURRENT))
+                    .numberOfShards(randomIntBetween(1, 5))
+                    .numberOfReplicas(randomIntBetween(0, 2))
+            );
+        }
+        final Metadata builtMetadata = metadata.build();
+        final RoutingTable.Builder routingTable = RoutingTable.builder();
+        for (IndexMetadata indexMetadata : builtMetadata) {
+            routingTable.addAsNew(indexMetadata);
+        }
+        final DiscoveryNodes.Builder nodes = DiscoveryNodes.builder();
+        final int numberOfNodes = randomIntBetween(3, 20);
+        for (int i = 0; i < numberOfNodes; i++) {
+            nodes.add(newNode("node_" + i, Map.of("zone", "zone_" + (i % 3), "tag", "tag_" + (i % 4))));
+        }
+        return ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(builtMetadata)
+            .routingTable(routingTable.build())
+            .nodes(nodes)
+            .build();
+    }
+
+    private static List<String> describeRouting(RoutingTable routingTable) {
+        final List<String> description = new ArrayList<>();
+        for (ShardRouting shardRouting : routingTable.allShards()) {
+            description.add(
+                shardRouting.shardId()
+                    + (shardRouting.primary() ? "[P]" : "[R]")
+                    + " "
+                    + shardRouting.state()
+                    + " "
+                    + shardRouting.currentNodeId()
+                    + " "
+                    + shardRouting.relocatingNodeId()
+            );
+        }
+        return description;
+    }
+}
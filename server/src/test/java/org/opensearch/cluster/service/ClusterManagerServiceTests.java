@@ -106,6 +106,7 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -193,11 +194,19 @@ public class ClusterManagerServiceTests extends OpenSearchTestCase {
         final MetricsRegistry metricsRegistry = mock(MetricsRegistry.class);
         final Histogram clusterStateComputeHistogram = mock(Histogram.class);
         final Histogram clusterStatePublishHistogram = mock(Histogram.class);
+        final Histogram clusterStateTaskQueueHistogram = mock(Histogram.class);
+        final Histogram clusterStateTaskBatchSizeHistogram = mock(Histogram.class);
         when(metricsRegistry.createHistogram(anyString(), anyString(), anyString())).thenAnswer(invocationOnMock -> {
             String histogramName = (String) invocationOnMock.getArguments()[0];
             if (histogramName.contains("cluster.state.new.compute.latency")) {
                 return clusterStateComputeHistogram;
             }
+            if (histogramName.contains("cluster.state.task.queue.latency")) {
+                return clusterStateTaskQueueHistogram;
+            }
+            if (histogramName.contains("cluster.state.task.batch.size")) {
+                return clusterStateTaskBatchSizeHistogram;
+            }
             return clusterStatePublishHistogram;
         });
 
@@ -243,6 +252,8 @@ public class ClusterManagerServiceTests extends OpenSearchTestCase {
         nonClusterManager.close();
 
         verify(clusterStateComputeHistogram, times(1)).record(anyDouble(), any());
+        verify(clusterStateTaskQueueHistogram, times(2)).record(anyDouble(), any());
+        verify(clusterStateTaskBatchSizeHistogram, times(2)).record(eq(1.0), any());
     }
 
     public void testThreadContext() throws InterruptedException {
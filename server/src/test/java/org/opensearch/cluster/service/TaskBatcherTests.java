@@ -47,6 +47,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -74,10 +75,17 @@ public class TaskBatcherTests extends TaskExecutorTests {
 
     static class TestTaskBatcher extends TaskBatcher {
 
+        volatile int maxBatchSize = Integer.MAX_VALUE;
+
         TestTaskBatcher(Logger logger, PrioritizedOpenSearchThreadPoolExecutor threadExecutor) {
             super(logger, threadExecutor, getMockListener());
         }
 
+        @Override
+        protected int maxBatchSize(Object batchingKey) {
+            return maxBatchSize;
+        }
+
         @Override
         protected void run(Object batchingKey, List<? extends BatchedTask> tasks, Function<Boolean, String> taskSummaryGenerator) {
             List<UpdateTask> updateTasks = (List) tasks;
@@ -201,6 +209,45 @@ public class TaskBatcherTests extends TaskExecutorTests {
         assertThat(executionOrder, equalTo(Arrays.asList("A0", "A1", "A2", "B3", "B4", "A5", "A6")));
     }
 
+    public void testBatchSizeLimitInterleavesExecutors() throws InterruptedException {
+        final List<List<String>> batches = new CopyOnWriteArrayList<>();
+        final CountDownLatch processed = new CountDownLatch(7);
+        final TestExecutor<String> executorA = batches::add;
+        final TestExecutor<String> executorB = batches::add;
+        final ClusterStateTaskConfig config = ClusterStateTaskConfig.build(Priority.NORMAL);
+        final TestListener listener = new TestListener() {
+            @Override
+            public void processed(String source) {
+                processed.countDown();
+            }
+
+            @Override
+            public void onFailure(String source, Exception e) {
+                throw new AssertionError(e);
+            }
+        };
+        taskBatcher.maxBatchSize = 2;
+
+        try (BlockingTask blockingTask = new BlockingTask(Priority.IMMEDIATE)) {
+            submitTask("blocking", blockingTask);
+            final Map<String, TestListener> tasksA = new LinkedHashMap<>();
+            for (int i = 0; i < 5; i++) {
+                tasksA.put("A" + i, listener);
+            }
+            submitTasks("A", tasksA, config, executorA);
+            submitTasks("B", Collections.singletonMap("B0", listener), config, executorB);
+            submitTask("B", "B1", config, executorB, listener);
+        }
+
+        processed.await();
+        assertThat(
+            batches,
+            equalTo(Arrays.asList(Arrays.asList("A0", "A1"), Arrays.asList("B0", "B1"), Arrays.asList("A2", "A3"), Arrays.asList("A4")))
+        );
+        assertTrue("expected empty map but was " + taskBatcher.tasksPerBatchingKey, taskBatcher.tasksPerBatchingKey.isEmpty());
+        assertTrue(taskBatcher.taskIdentityPerBatchingKey.isEmpty());
+    }
+
     static class TaskExecutor implements TestExecutor<Integer> {
         List<Integer> tasks = new ArrayList<>();
 
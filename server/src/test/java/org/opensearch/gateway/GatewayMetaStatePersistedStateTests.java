@@ -107,6 +107,7 @@ import static org.opensearch.node.remotestore.RemoteStoreNodeAttribute.REMOTE_ST
 import static org.opensearch.node.remotestore.RemoteStoreNodeAttribute.isRemoteStoreClusterStateEnabled;
 import static org.opensearch.test.NodeRoles.nonClusterManagerNode;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
@@ -338,6 +339,53 @@ public class GatewayMetaStatePersistedStateTests extends OpenSearchTestCase {
         }
     }
 
+    public void testLucenePersistedStateStats() throws IOException {
+        CoordinationState.PersistedState gateway = null;
+        try {
+            gateway = newGatewayPersistedState();
+            assertThat(gateway.getStats(), instanceOf(LucenePersistedStateStats.class));
+            final LucenePersistedStateStats stats = (LucenePersistedStateStats) gateway.getStats();
+            // the initial state is written in full when the persisted state is created
+            final long initialFullWrites = stats.getFullWriteCount();
+            assertThat(initialFullWrites, greaterThanOrEqualTo(1L));
+            final long initialIndicesWritten = stats.getIndicesWrittenCount();
+
+            final long term = randomLongBetween(1L, Long.MAX_VALUE);
+            final IndexMetadata indexMetadata = createIndexMetadata("index", 1, 1L);
+            final IndexMetadata otherIndexMetadata = createIndexMetadata("other", 1, 1L);
+            gateway.setLastAcceptedState(
+                createClusterState(
+                    1L,
+                    Metadata.builder()
+                        .coordinationMetadata(createCoordinationMetadata(term))
+                        .put(indexMetadata, false)
+                        .put(otherIndexMetadata, false)
+                        .build()
+                )
+            );
+            assertThat(stats.getFullWriteCount(), equalTo(initialFullWrites + 1));
+            assertThat(stats.getIndicesWrittenCount(), equalTo(initialIndicesWritten + 2));
+
+            gateway.setLastAcceptedState(
+                createClusterState(
+                    2L,
+                    Metadata.builder()
+                        .coordinationMetadata(createCoordinationMetadata(term))
+                        .put(IndexMetadata.builder(indexMetadata).version(2L), false)
+                        .put(otherIndexMetadata, false)
+                        .build()
+                )
+            );
+            assertThat(stats.getIncrementalWriteCount(), equalTo(1L));
+            assertThat(stats.getIndicesWrittenCount(), equalTo(initialIndicesWritten + 3));
+            assertThat(stats.getIndicesSkippedCount(), equalTo(1L));
+            assertThat(stats.getSuccessCount(), equalTo(initialFullWrites + 2));
+            assertThat(stats.getFailedCount(), equalTo(0L));
+        } finally {
+            IOUtils.close(gateway);
+        }
+    }
+
     public void testCurrentTermAndTermAreDifferent() throws IOException {
         CoordinationState.PersistedState gateway = null;
         try {
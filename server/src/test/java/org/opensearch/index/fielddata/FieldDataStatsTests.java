@@ -31,6 +31,7 @@
 
 package org.opensearch.index.fielddata;
 
+import org.opensearch.Version;
 import org.opensearch.common.FieldMemoryStats;
 import org.opensearch.common.FieldMemoryStatsTests;
 import org.opensearch.common.io.stream.BytesStreamOutput;
@@ -46,6 +47,8 @@ public class FieldDataStatsTests extends OpenSearchTestCase {
         FieldDataStats stats = new FieldDataStats.Builder().memorySize(randomNonNegativeLong())
             .evictions(randomNonNegativeLong())
             .fieldMemoryStats(map)
+            .globalOrdinalsBuildCount(randomNonNegativeLong())
+            .globalOrdinalsBuildTimeInMillis(randomNonNegativeLong())
             .build();
         BytesStreamOutput out = new BytesStreamOutput();
         stats.writeTo(out);
@@ -55,5 +58,25 @@ public class FieldDataStatsTests extends OpenSearchTestCase {
         assertEquals(stats.getEvictions(), read.getEvictions());
         assertEquals(stats.getMemorySize(), read.getMemorySize());
         assertEquals(stats.getFields(), read.getFields());
+        assertEquals(stats.getGlobalOrdinalsBuildCount(), read.getGlobalOrdinalsBuildCount());
+        assertEquals(stats.getGlobalOrdinalsBuildTime(), read.getGlobalOrdinalsBuildTime());
+    }
+
+    public void testSerializeToOlderVersion() throws IOException {
+        FieldDataStats stats = new FieldDataStats.Builder().memorySize(randomNonNegativeLong())
+            .evictions(randomNonNegativeLong())
+            .globalOrdinalsBuildCount(randomNonNegativeLong())
+            .globalOrdinalsBuildTimeInMillis(randomNonNegativeLong())
+            .build();
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(Version.V_3_5_0);
+        stats.writeTo(out);
+        StreamInput input = out.bytes().streamInput();
+        input.setVersion(Version.V_3_5_0);
+        FieldDataStats read = new FieldDataStats(input);
+        assertEquals(-1, input.read());
+        assertEquals(stats.getMemorySize(), read.getMemorySize());
+        assertEquals(0L, read.getGlobalOrdinalsBuildCount());
+        assertEquals(0L, read.getGlobalOrdinalsBuildTime().millis());
     }
 }
@@ -8,31 +8,51 @@
 
 package org.opensearch.index.shard;
 
+import org.apache.lucene.codecs.CodecUtil;
 import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
 import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.BlobStore;
 import org.opensearch.common.util.UploadListener;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.remote.RemoteSegmentTransferTracker;
 import org.opensearch.index.store.CompositeDirectory;
+import org.opensearch.index.store.DirectoryFileTransferTracker;
 import org.opensearch.index.store.RemoteDirectory;
 import org.opensearch.index.store.RemoteSegmentStoreDirectory;
 import org.opensearch.index.store.lockmanager.RemoteStoreLockManager;
+import org.opensearch.remotestore.multipart.mocks.MockFsBlobStore;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
@@ -471,6 +491,283 @@ public class RemoteStoreUploaderServiceTests extends OpenSearchTestCase {
         verify(mockUploadListener).onFailure("segment1");
     }
 
+    /**
+     * Tests that segment files are uploaded smallest first and that no more than the configured number of uploads are in
+     * flight at the same time.
+     *
+     * @throws Exception if the test fails
+     */
+    public void testUploadSegmentsSmallestFirstWithBoundedConcurrency() throws Exception {
+        Map<String, Long> segmentSizeMap = new HashMap<>();
+        int numSegments = randomIntBetween(2, 20);
+        for (int i = 0; i < numSegments; i++) {
+            segmentSizeMap.put("_" + i + ".cfs", randomLongBetween(1, 1000));
+        }
+        int maxConcurrentUploads = randomIntBetween(1, 5);
+
+        RemoteDirectory remoteDirectory = mock(RemoteDirectory.class);
+        RemoteStoreUploaderService testUploaderService = createUploaderService(remoteDirectory, null, maxConcurrentUploads);
+
+        List<String> uploadOrder = Collections.synchronizedList(new ArrayList<>());
+        Deque<ActionListener<Void>> inFlightUploads = new ConcurrentLinkedDeque<>();
+        doAnswer(invocation -> {
+            uploadOrder.add(invocation.getArgument(1));
+            inFlightUploads.add(invocation.getArgument(5));
+            assertThat(inFlightUploads.size(), lessThanOrEqualTo(maxConcurrentUploads));
+            return true;
+        }).when(remoteDirectory).copyFrom(any(), any(), any(), any(), any(), any(), any(Boolean.class), any());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        ActionListener<Void> listener = ActionListener.wrap(
+            response -> latch.countDown(),
+            exception -> fail("Upload should succeed: " + exception.getMessage())
+        );
+        testUploaderService.uploadSegments(segmentSizeMap.keySet(), segmentSizeMap, listener, mockUploadListenerFunction, false, null);
+
+        assertEquals(Math.min(maxConcurrentUploads, numSegments), inFlightUploads.size());
+        ActionListener<Void> upload;
+        while ((upload = inFlightUploads.poll()) != null) {
+            upload.onResponse(null);
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        List<String> expectedOrder = new ArrayList<>(segmentSizeMap.keySet());
+        expectedOrder.sort(Comparator.comparingLong((String segment) -> segmentSizeMap.get(segment)).thenComparing(segment -> segment));
+        assertEquals(expectedOrder, uploadOrder);
+        verify(mockUploadListener, times(numSegments)).onSuccess(any(String.class));
+    }
+
+    /**
+     * Tests that segment files which are no longer referenced by the latest refresh are not uploaded, that their size is
+     * tracked as skipped and that the upload fails so that no metadata is written for the outdated refresh.
+     *
+     * @throws Exception if the test fails
+     */
+    public void testUploadSegmentsSkipsFilesNoLongerReferenced() throws Exception {
+        Map<String, Long> segmentSizeMap = new HashMap<>();
+        segmentSizeMap.put("_0.cfs", 100L);
+        segmentSizeMap.put("_0.cfe", 10L);
+        segmentSizeMap.put("_1.cfs", 200L);
+        segmentSizeMap.put("_1.cfe", 20L);
+
+        RemoteSegmentTransferTracker segmentTracker = new RemoteSegmentTransferTracker(
+            new ShardId(new Index("test", "test"), 1),
+            new DirectoryFileTransferTracker(),
+            20
+        );
+        // A newer refresh merged segment _0 away
+        segmentTracker.updateLatestLocalFileNameLengthMap(List.of("_1.cfs", "_1.cfe", "_2.cfs", "_2.cfe"), file -> 1L);
+
+        RemoteDirectory remoteDirectory = mock(RemoteDirectory.class);
+        RemoteStoreUploaderService testUploaderService = createUploaderService(remoteDirectory, segmentTracker, randomIntBetween(1, 5));
+
+        Set<String> uploaded = ConcurrentCollections.newConcurrentSet();
+        doAnswer(invocation -> {
+            uploaded.add(invocation.getArgument(1));
+            ActionListener<Void> callback = invocation.getArgument(5);
+            callback.onResponse(null);
+            return true;
+        }).when(remoteDirectory).copyFrom(any(), any(), any(), any(), any(), any(), any(Boolean.class), any());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        ActionListener<Void> listener = ActionListener.wrap(response -> fail("Upload of stale segments should not succeed"), exception -> {
+            assertThat(exception, instanceOf(StaleSegmentUploadException.class));
+            latch.countDown();
+        });
+        testUploaderService.uploadSegments(segmentSizeMap.keySet(), segmentSizeMap, listener, mockUploadListenerFunction, false, null);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(Set.of("_1.cfs", "_1.cfe"), uploaded);
+        assertEquals(110L, segmentTracker.getUploadBytesSkipped());
+        verify(mockUploadListener, never()).beforeUpload("_0.cfs");
+    }
+
+    /**
+     * Tests that an upload started while stale segment files must not be skipped uploads all its files, so that the metadata
+     * of its refresh can be uploaded.
+     *
+     * @throws Exception if the test fails
+     */
+    public void testUploadSegmentsUploadsFilesNoLongerReferencedWhenNotSkipping() throws Exception {
+        Map<String, Long> segmentSizeMap = new HashMap<>();
+        segmentSizeMap.put("_0.cfs", 100L);
+        segmentSizeMap.put("_0.cfe", 10L);
+        segmentSizeMap.put("_1.cfs", 200L);
+        segmentSizeMap.put("_1.cfe", 20L);
+
+        RemoteSegmentTransferTracker segmentTracker = new RemoteSegmentTransferTracker(
+            new ShardId(new Index("test", "test"), 1),
+            new DirectoryFileTransferTracker(),
+            20
+        );
+        // A newer refresh merged segment _0 away
+        segmentTracker.updateLatestLocalFileNameLengthMap(List.of("_1.cfs", "_1.cfe", "_2.cfs", "_2.cfe"), file -> 1L);
+
+        RemoteDirectory remoteDirectory = mock(RemoteDirectory.class);
+        RemoteStoreUploaderService testUploaderService = createUploaderService(
+            remoteDirectory,
+            segmentTracker,
+            randomIntBetween(1, 5),
+            () -> false
+        );
+
+        Set<String> uploaded = ConcurrentCollections.newConcurrentSet();
+        doAnswer(invocation -> {
+            uploaded.add(invocation.getArgument(1));
+            ActionListener<Void> callback = invocation.getArgument(5);
+            callback.onResponse(null);
+            return true;
+        }).when(remoteDirectory).copyFrom(any(), any(), any(), any(), any(), any(), any(Boolean.class), any());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        ActionListener<Void> listener = ActionListener.wrap(
+            response -> latch.countDown(),
+            exception -> fail("Upload should succeed but got " + exception)
+        );
+        testUploaderService.uploadSegments(segmentSizeMap.keySet(), segmentSizeMap, listener, mockUploadListenerFunction, false, null);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(segmentSizeMap.keySet(), uploaded);
+        assertEquals(0L, segmentTracker.getUploadBytesSkipped());
+    }
+
+    /**
+     * Tests the upload of segment files to a file system backed blob store: the files are uploaded smallest first, the files
+     * which the latest refresh no longer references never reach the blob store and the upload fails so that no metadata is
+     * written for the outdated refresh.
+     *
+     * @throws Exception if the test fails
+     */
+    public void testUploadSegmentsToFsBlobStore() throws Exception {
+        try (Directory localDirectory = newFSDirectory(createTempDir())) {
+            Map<String, Long> segmentSizeMap = new HashMap<>();
+            for (String file : List.of("_0.cfs", "_0.cfe", "_0.si", "_1.cfs", "_1.cfe", "_1.si", "_2.cfs", "_2.cfe", "_2.si")) {
+                try (IndexOutput output = localDirectory.createOutput(file, IOContext.DEFAULT)) {
+                    CodecUtil.writeHeader(output, "test", 0);
+                    byte[] content = randomByteArrayOfLength(randomIntBetween(1, 4096));
+                    output.writeBytes(content, content.length);
+                    CodecUtil.writeFooter(output);
+                }
+                segmentSizeMap.put(file, localDirectory.fileLength(file));
+            }
+            Set<String> staleSegments = Set.of("_0.cfs", "_0.cfe", "_0.si");
+            Set<String> referencedSegments = new HashSet<>(segmentSizeMap.keySet());
+            referencedSegments.removeAll(staleSegments);
+
+            ShardId shardId = new ShardId(new Index("test", "test"), 1);
+            RemoteSegmentTransferTracker segmentTracker = new RemoteSegmentTransferTracker(shardId, new DirectoryFileTransferTracker(), 20);
+            // A newer refresh merged segment _0 away
+            List<String> latestLocalFiles = new ArrayList<>(referencedSegments);
+            latestLocalFiles.addAll(List.of("_3.cfs", "_3.cfe", "_3.si"));
+            segmentTracker.updateLatestLocalFileNameLengthMap(latestLocalFiles, file -> 1L);
+
+            BlobStore blobStore = new MockFsBlobStore(randomIntBetween(1, 8) * 1024, createTempDir(), false, false);
+            BlobContainer dataContainer = blobStore.blobContainer(BlobPath.cleanPath().add("data"));
+            RemoteSegmentStoreDirectory remoteSegmentStoreDirectory = new RemoteSegmentStoreDirectory(
+                new RemoteDirectory(dataContainer),
+                new RemoteDirectory(blobStore.blobContainer(BlobPath.cleanPath().add("metadata"))),
+                mock(RemoteStoreLockManager.class),
+                mock(ThreadPool.class),
+                shardId,
+                new HashMap<>()
+            );
+            IndexShard indexShard = mock(IndexShard.class);
+            when(indexShard.shardId()).thenReturn(shardId);
+            when(indexShard.state()).thenReturn(IndexShardState.STARTED);
+            RemoteStoreUploaderService fsUploaderService = new RemoteStoreUploaderService(
+                indexShard,
+                new TestFilterDirectory(new TestFilterDirectory(localDirectory)),
+                remoteSegmentStoreDirectory,
+                segmentTracker,
+                () -> randomIntBetween(1, 4)
+            );
+
+            List<String> uploadOrder = Collections.synchronizedList(new ArrayList<>());
+            UploadListener orderListener = new UploadListener() {
+                @Override
+                public void beforeUpload(String file) {
+                    uploadOrder.add(file);
+                }
+
+                @Override
+                public void onSuccess(String file) {}
+
+                @Override
+                public void onFailure(String file) {
+                    fail("Upload of " + file + " should succeed");
+                }
+            };
+            CountDownLatch latch = new CountDownLatch(1);
+            ActionListener<Void> listener = ActionListener.wrap(
+                response -> fail("Upload of stale segments should not succeed"),
+                exception -> {
+                    assertThat(exception, instanceOf(StaleSegmentUploadException.class));
+                    latch.countDown();
+                }
+            );
+            fsUploaderService.uploadSegments(segmentSizeMap.keySet(), segmentSizeMap, listener, sizeMap -> orderListener, false, null);
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+
+            List<String> expectedOrder = new ArrayList<>(referencedSegments);
+            expectedOrder.sort(Comparator.comparingLong((String segment) -> segmentSizeMap.get(segment)).thenComparing(segment -> segment));
+            assertEquals(expectedOrder, uploadOrder);
+            Set<String> uploadedBlobs = new HashSet<>();
+            for (String blob : dataContainer.listBlobs().keySet()) {
+                uploadedBlobs.add(blob.substring(0, blob.indexOf(RemoteSegmentStoreDirectory.SEGMENT_NAME_UUID_SEPARATOR)));
+            }
+            assertEquals(referencedSegments, uploadedBlobs);
+            assertEquals(referencedSegments, remoteSegmentStoreDirectory.getSegmentsUploadedToRemoteStore().keySet());
+            long staleBytes = staleSegments.stream().mapToLong(segmentSizeMap::get).sum();
+            assertEquals(staleBytes, segmentTracker.getUploadBytesSkipped());
+        }
+    }
+
+    private RemoteStoreUploaderService createUploaderService(
+        RemoteDirectory remoteDirectory,
+        RemoteSegmentTransferTracker segmentTracker,
+        int maxConcurrentUploads
+    ) {
+        return createUploaderService(remoteDirectory, segmentTracker, maxConcurrentUploads, () -> true);
+    }
+
+    private RemoteStoreUploaderService createUploaderService(
+        RemoteDirectory remoteDirectory,
+        RemoteSegmentTransferTracker segmentTracker,
+        int maxConcurrentUploads,
+        BooleanSupplier skipStaleSegmentsSupplier
+    ) {
+        IndexShard freshMockShard = mock(IndexShard.class);
+        ShardId shardId = new ShardId(new Index("test", "test"), 1);
+        when(freshMockShard.shardId()).thenReturn(shardId);
+        when(freshMockShard.state()).thenReturn(IndexShardState.STARTED);
+
+        Directory innerMockDelegate = mock(Directory.class);
+        FilterDirectory innerFilterDirectory = new TestFilterDirectory(new TestFilterDirectory(innerMockDelegate));
+        FilterDirectory outerFilterDirectory = new TestFilterDirectory(new TestFilterDirectory(innerFilterDirectory));
+
+        RemoteSegmentStoreDirectory remoteSegmentStoreDirectory;
+        try {
+            remoteSegmentStoreDirectory = new RemoteSegmentStoreDirectory(
+                remoteDirectory,
+                mock(RemoteDirectory.class),
+                mock(RemoteStoreLockManager.class),
+                freshMockShard.getThreadPool(),
+                freshMockShard.shardId(),
+                new HashMap<>()
+            );
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return new RemoteStoreUploaderService(
+            freshMockShard,
+            outerFilterDirectory,
+            remoteSegmentStoreDirectory,
+            segmentTracker,
+            () -> maxConcurrentUploads,
+            skipStaleSegmentsSupplier
+        );
+    }
+
     /**
      * Test implementation of FilterDirectory used for creating nested directory structures
      * in tests. This class simply delegates all operations to the wrapped directory.
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.snapshots.blobstore;
+
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+public class ParallelRangeInputStreamTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        super.tearDown();
+    }
+
+    public void testReadsRangesInOrder() throws IOException {
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(0, 10_000));
+        final int rangeSize = randomIntBetween(1, 1000);
+        final int maxConcurrentRanges = randomIntBetween(1, 8);
+        final byte[] read;
+        try (InputStream stream = new ParallelRangeInputStream(bytes.length, rangeSize, maxConcurrentRanges, threadPool.generic()) {
+            @Override
+            protected InputStream openRange(long position, int rangeLength) {
+                assertTrue(rangeLength <= rangeSize);
+                return new ByteArrayInputStream(bytes, Math.toIntExact(position), rangeLength);
+            }
+        }) {
+            if (randomBoolean()) {
+                read = stream.readAllBytes();
+            } else {
+                final byte[] buffer = new byte[bytes.length];
+                for (int i = 0; i < bytes.length; i++) {
+                    final int b = stream.read();
+                    assertNotEquals(-1, b);
+                    buffer[i] = (byte) b;
+                }
+                assertEquals(-1, stream.read());
+                read = buffer;
+            }
+        }
+        assertArrayEquals(bytes, read);
+    }
+
+    public void testFailsOnShortRange() {
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(10, 100));
+        final InputStream stream = new ParallelRangeInputStream(bytes.length, randomIntBetween(1, 5), 2, threadPool.generic()) {
+            @Override
+            protected InputStream openRange(long position, int rangeLength) {
+                // the blob is shorter than the expected length, so its last range is cut off
+                final byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+                final int from = Math.toIntExact(Math.min(position, truncated.length));
+                return new ByteArrayInputStream(truncated, from, Math.min(rangeLength, truncated.length - from));
+            }
+        };
+        expectThrows(EOFException.class, stream::readAllBytes);
+    }
+
+    public void testPropagatesRangeFailures() {
+        final IOException failure = new IOException("simulated");
+        final long length = randomIntBetween(1, 100);
+        final InputStream stream = new ParallelRangeInputStream(length, randomIntBetween(1, 10), 2, threadPool.generic()) {
+            @Override
+            protected InputStream openRange(long position, int rangeLength) throws IOException {
+                throw failure;
+            }
+        };
+        assertSame(failure, expectThrows(IOException.class, stream::read));
+    }
+}
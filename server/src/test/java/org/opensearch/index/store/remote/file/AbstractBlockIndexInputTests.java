@@ -17,6 +17,7 @@ import org.junit.Assert;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -68,6 +69,12 @@ public class AbstractBlockIndexInputTests extends OpenSearchTestCase {
         assertTrue(AbstractBlockIndexInput.isBlockFilename("file_block_0"));
         assertFalse(AbstractBlockIndexInput.isBlockFilename("file.txt"));
         assertEquals("file_block_5", AbstractBlockIndexInput.getBlockFileName("file", 5));
+        assertEquals(
+            "file_block_5",
+            AbstractBlockIndexInput.getBlockFileName("file", 5, AbstractBlockIndexInput.Builder.DEFAULT_BLOCK_SIZE_SHIFT)
+        );
+        assertEquals("file_block_5_s20", AbstractBlockIndexInput.getBlockFileName("file", 5, 20));
+        assertEquals("file", AbstractBlockIndexInput.getFileNameFromBlockFileName("file_block_5_s20"));
         assertEquals("original", AbstractBlockIndexInput.getFileNameFromBlockFileName("original_block_3"));
         assertEquals("noblock", AbstractBlockIndexInput.getFileNameFromBlockFileName("noblock"));
     }
@@ -195,6 +202,35 @@ public class AbstractBlockIndexInputTests extends OpenSearchTestCase {
         assertEquals(1023, AbstractBlockIndexInput.getBlockOffset(1023, 10));
     }
 
+    public void testSequentialAccessPrefetchesAhead() throws IOException {
+        try (PrefetchRecordingIndexInput indexInput = new PrefetchRecordingIndexInput(16)) {
+            indexInput.seek(0);
+            indexInput.readBytes(new byte[16 * 1024], 0, 16 * 1024);
+            // the pattern is known once the second block is demanded, after which every block is prefetched exactly once
+            assertEquals(List.of(2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15), indexInput.prefetched);
+        }
+    }
+
+    public void testStridedAccessPrefetchesAlongStride() throws IOException {
+        try (PrefetchRecordingIndexInput indexInput = new PrefetchRecordingIndexInput(16)) {
+            for (int blockId = 1; blockId < 16; blockId += 3) {
+                indexInput.seek((long) blockId * 1024);
+                indexInput.readByte();
+            }
+            assertEquals(List.of(10, 13), indexInput.prefetched);
+        }
+    }
+
+    public void testRandomAccessDoesNotPrefetch() throws IOException {
+        try (PrefetchRecordingIndexInput indexInput = new PrefetchRecordingIndexInput(16)) {
+            for (int blockId : new int[] { 9, 3, 12, 2, 7, 1, 0 }) {
+                indexInput.seek((long) blockId * 1024);
+                indexInput.readByte();
+            }
+            assertEquals(List.of(), indexInput.prefetched);
+        }
+    }
+
     private TestAbstractBlockIndexInput createTestIndexInput() {
         return new TestAbstractBlockIndexInput(false);
     }
@@ -245,4 +281,33 @@ public class AbstractBlockIndexInputTests extends OpenSearchTestCase {
             return currentBlockId;
         }
     }
+
+    private static class PrefetchRecordingIndexInput extends AbstractBlockIndexInput {
+        private final List<Integer> prefetched = new ArrayList<>();
+
+        PrefetchRecordingIndexInput(int numberOfBlocks) {
+            super(builder().blockSizeShift(10).offset(0).length(numberOfBlocks * 1024L).resourceDescription("prefetch"));
+            cleanable.clean();
+        }
+
+        @Override
+        protected IndexInput fetchBlock(int blockId) {
+            return new ByteArrayIndexInput("", new byte[(int) AbstractBlockIndexInput.getActualBlockSize(blockId, blockSizeShift, length)]);
+        }
+
+        @Override
+        protected void prefetchBlock(int blockId) {
+            prefetched.add(blockId);
+        }
+
+        @Override
+        public AbstractBlockIndexInput clone() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected AbstractBlockIndexInput buildSlice(String sliceDescription, long offset, long length) {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
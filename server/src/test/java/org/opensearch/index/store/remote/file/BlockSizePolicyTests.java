@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.file;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import static org.opensearch.index.store.remote.file.AbstractBlockIndexInput.Builder.DEFAULT_BLOCK_SIZE_SHIFT;
+
+public class BlockSizePolicyTests extends OpenSearchTestCase {
+
+    public void testDefaultIsUniform() {
+        assertSame(BlockSizePolicy.UNIFORM, BlockSizePolicy.fromSettings(Settings.EMPTY));
+    }
+
+    public void testExtensionTable() {
+        final BlockSizePolicy policy = BlockSizePolicy.fromSettings(
+            Settings.builder().put("index.store.remote.block_size_by_extension", true).build()
+        );
+        assertSame(BlockSizePolicy.BY_EXTENSION, policy);
+        assertEquals(20, policy.blockSizeShift("_0_Lucene912_0.tim"));
+        assertEquals(20, policy.blockSizeShift("_0.kdi"));
+        assertEquals(24, policy.blockSizeShift("_0_Lucene90_0.dvd"));
+        assertEquals(24, policy.blockSizeShift("_0.fdt"));
+        assertEquals(DEFAULT_BLOCK_SIZE_SHIFT, policy.blockSizeShift("_0.cfs"));
+        assertEquals(DEFAULT_BLOCK_SIZE_SHIFT, policy.blockSizeShift("segments_1"));
+    }
+
+    public void testUniform() {
+        for (String fileName : new String[] { "_0.tim", "_0.dvd", "_0.cfs", "segments_1" }) {
+            assertEquals(DEFAULT_BLOCK_SIZE_SHIFT, BlockSizePolicy.UNIFORM.blockSizeShift(fileName));
+        }
+    }
+
+    public void testOverrides() {
+        final BlockSizePolicy policy = BlockSizePolicy.fromSettings(
+            Settings.builder().put("index.store.remote.block_size.tim", "64kb").put("index.store.remote.block_size.vec", "32mb").build()
+        );
+        assertEquals(16, policy.blockSizeShift("_0.tim"));
+        assertEquals(25, policy.blockSizeShift("_0.vec"));
+        // extensions which are not overridden keep the default block size
+        assertEquals(DEFAULT_BLOCK_SIZE_SHIFT, policy.blockSizeShift("_0.dvd"));
+        assertEquals(DEFAULT_BLOCK_SIZE_SHIFT, policy.blockSizeShift("_0.doc"));
+    }
+
+    public void testOverridesOnExtensionTable() {
+        final BlockSizePolicy policy = BlockSizePolicy.fromSettings(
+            Settings.builder()
+                .put("index.store.remote.block_size_by_extension", true)
+                .put("index.store.remote.block_size.tim", "64kb")
+                .build()
+        );
+        assertEquals(16, policy.blockSizeShift("_0.tim"));
+        // extensions which are not overridden keep the block size of the table
+        assertEquals(24, policy.blockSizeShift("_0.dvd"));
+        assertEquals(DEFAULT_BLOCK_SIZE_SHIFT, policy.blockSizeShift("_0.doc"));
+    }
+
+    public void testInvalidBlockSizes() {
+        for (String blockSize : new String[] { "1kb", "2gb", "3mb", "100000b" }) {
+            final Settings settings = Settings.builder().put("index.store.remote.block_size.tim", blockSize).build();
+            expectThrows(IllegalArgumentException.class, () -> BlockSizePolicy.fromSettings(settings));
+        }
+    }
+}
@@ -166,8 +166,6 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
             null
         );
 
-        int blockSize = 1 << blockSizeShift;
-
         doAnswer(invocation -> {
             BlobFetchRequest blobFetchRequest = invocation.getArgument(0);
             return blobFetchRequest.getDirectory().openInput(blobFetchRequest.getFileName(), IOContext.READONCE);
@@ -181,7 +179,7 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
             fail("fail to create MMapDirectory: " + e.getMessage());
         }
 
-        initBlockFiles(blockSize, directory);
+        initBlockFiles(blockSizeShift, directory);
 
         return new OnDemandBlockSnapshotIndexInput(
             AbstractBlockIndexInput.builder()
@@ -196,7 +194,8 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
         );
     }
 
-    private void initBlockFiles(int blockSize, FSDirectory fsDirectory) {
+    private void initBlockFiles(int blockSizeShift, FSDirectory fsDirectory) {
+        int blockSize = 1 << blockSizeShift;
         int numOfBlocks = FILE_SIZE / blockSize;
 
         int sizeOfLastBlock = FILE_SIZE % blockSize;
@@ -207,7 +206,7 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
             // write 48, -80 alternatively
             for (int i = 0; i < numOfBlocks; i++) {
                 // create normal blocks
-                String blockName = BLOCK_FILE_PREFIX + "_block_" + i;
+                String blockName = AbstractBlockIndexInput.getBlockFileName(BLOCK_FILE_PREFIX, i, blockSizeShift);
                 IndexOutput output = fsDirectory.createOutput(blockName, null);
                 // since block size is always even number, safe to do division
                 for (int j = 0; j < blockSize / 2; j++) {
@@ -221,7 +220,7 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
 
             if (numOfBlocks > 1 && sizeOfLastBlock != 0) {
                 // create last block
-                String lastBlockName = BLOCK_FILE_PREFIX + "_block_" + numOfBlocks;
+                String lastBlockName = AbstractBlockIndexInput.getBlockFileName(BLOCK_FILE_PREFIX, numOfBlocks, blockSizeShift);
                 IndexOutput output = fsDirectory.createOutput(lastBlockName, null);
                 for (int i = 0; i < sizeOfLastBlock; i++) {
                     if ((i & 1) == 0) {
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public class BlockFetchPlannerTests extends OpenSearchTestCase {
+
+    public void testMergesAdjacentBlocksOfSameBlob() {
+        final List<BlobFetchRequest.BlobPart> blocks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            blocks.add(new BlobFetchRequest.BlobPart("blob", i * 1024L, 1024));
+        }
+        Collections.shuffle(blocks, random());
+        final List<BlockFetchPlanner.CoalescedRead<BlobFetchRequest.BlobPart>> reads = plan(blocks, 0, 1 << 20);
+        assertEquals(1, reads.size());
+        assertEquals("blob", reads.get(0).blobName());
+        assertEquals(0L, reads.get(0).position());
+        assertEquals(4096L, reads.get(0).length());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i * 1024L, reads.get(0).blocks().get(i).getPosition());
+        }
+    }
+
+    public void testMergesBlocksSeparatedBySmallGaps() {
+        final List<BlobFetchRequest.BlobPart> blocks = List.of(
+            new BlobFetchRequest.BlobPart("blob", 0, 1024),
+            new BlobFetchRequest.BlobPart("blob", 1536, 1024),
+            new BlobFetchRequest.BlobPart("blob", 8192, 1024)
+        );
+        final List<BlockFetchPlanner.CoalescedRead<BlobFetchRequest.BlobPart>> reads = plan(blocks, 512, 1 << 20);
+        assertEquals(2, reads.size());
+        assertEquals(0L, reads.get(0).position());
+        assertEquals(2560L, reads.get(0).length());
+        assertEquals(2, reads.get(0).blocks().size());
+        assertEquals(8192L, reads.get(1).position());
+        assertEquals(1024L, reads.get(1).length());
+    }
+
+    public void testDoesNotMergeAcrossBlobsOverlapsOrSizeLimit() {
+        final List<BlobFetchRequest.BlobPart> blocks = List.of(
+            new BlobFetchRequest.BlobPart("blob-a", 0, 1024),
+            new BlobFetchRequest.BlobPart("blob-b", 1024, 1024),
+            // overlaps the first block of blob-a
+            new BlobFetchRequest.BlobPart("blob-a", 512, 1024),
+            new BlobFetchRequest.BlobPart("blob-b", 2048, 1024),
+            // would make the read of blob-b larger than the limit
+            new BlobFetchRequest.BlobPart("blob-b", 3072, 1024)
+        );
+        final List<BlockFetchPlanner.CoalescedRead<BlobFetchRequest.BlobPart>> reads = plan(blocks, 0, 2048);
+        assertEquals(4, reads.size());
+        assertEquals("blob-a", reads.get(0).blobName());
+        assertEquals(1, reads.get(0).blocks().size());
+        assertEquals("blob-a", reads.get(1).blobName());
+        assertEquals(1, reads.get(1).blocks().size());
+        assertEquals("blob-b", reads.get(2).blobName());
+        assertEquals(2048L, reads.get(2).length());
+        assertEquals(2, reads.get(2).blocks().size());
+        assertEquals("blob-b", reads.get(3).blobName());
+        assertEquals(3072L, reads.get(3).position());
+    }
+
+    private static List<BlockFetchPlanner.CoalescedRead<BlobFetchRequest.BlobPart>> plan(
+        List<BlobFetchRequest.BlobPart> blocks,
+        long maxGap,
+        long maxRead
+    ) {
+        return BlockFetchPlanner.plan(blocks, Function.identity(), maxGap, maxRead);
+    }
+}
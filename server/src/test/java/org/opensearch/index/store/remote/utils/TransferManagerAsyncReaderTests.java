@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils;
+
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.core.action.ActionListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class TransferManagerAsyncReaderTests extends TransferManagerTestCase {
+    private BlobContainer blobContainer;
+
+    @Override
+    protected void initializeTransferManager() throws IOException {
+        blobContainer = mock(BlobContainer.class);
+        doAnswer(i -> new ByteArrayInputStream(createData())).when(blobContainer).readBlob(eq("blob"), anyLong(), anyLong());
+        final TransferManager.StreamReader blockingReader = (name, position, length) -> {
+            throw new AssertionError("blob [" + name + "] must not be read on the requesting thread");
+        };
+        // completes reads on a thread of its own, like a client built on non-blocking I/O
+        final TransferManager.AsyncStreamReader asyncReader = (name, position, length, listener) -> new Thread(
+            () -> ActionListener.completeWith(listener, () -> blobContainer.readBlob(name, position, length))
+        ).start();
+        transferManager = new TransferManager(blockingReader, asyncReader, fileCache, threadPool);
+    }
+
+    @Override
+    protected void mockExceptionWhileReading() throws IOException {
+        doThrow(new IOException("Expected test exception")).when(blobContainer).readBlob(eq("failure-blob"), anyLong(), anyLong());
+    }
+
+    @Override
+    protected void mockWaitForLatchReader(CountDownLatch latch) throws IOException {
+        doAnswer(i -> {
+            latch.await();
+            return new ByteArrayInputStream(createData());
+        }).when(blobContainer).readBlob(eq("blocking-blob"), anyLong(), anyLong());
+    }
+
+    public void testConcurrentRequestsForBlockShareOneRead() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        mockWaitForLatchReader(latch);
+        final List<BlobFetchRequest.BlobPart> blobParts = List.of(new BlobFetchRequest.BlobPart("blocking-blob", 0, EIGHT_MB));
+        final BlobFetchRequest request = BlobFetchRequest.builder()
+            .fileName("blocking-file")
+            .directory(directory)
+            .blobParts(blobParts)
+            .build();
+
+        final int numReaders = between(2, 8);
+        final List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < numReaders; i++) {
+            final Thread reader = new Thread(() -> {
+                try (IndexInput indexInput = transferManager.fetchBlob(request)) {
+                    assertIndexInputIsFunctional(indexInput);
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+        // every requester parks on the same pending download
+        assertBusy(() -> {
+            for (Thread reader : readers) {
+                assertEquals(Thread.State.WAITING, reader.getState());
+            }
+        });
+        latch.countDown();
+        for (Thread reader : readers) {
+            reader.join(5_000);
+            assertFalse(reader.isAlive());
+        }
+        verify(blobContainer, times(1)).readBlob("blocking-blob", 0, EIGHT_MB);
+    }
+}
@@ -8,10 +8,14 @@
 
 package org.opensearch.index.store.remote.utils;
 
+import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.blobstore.BlobContainer;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -19,6 +23,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class TransferManagerBlobContainerReaderTests extends TransferManagerTestCase {
     private BlobContainer blobContainer;
@@ -40,4 +46,39 @@ public class TransferManagerBlobContainerReaderTests extends TransferManagerTest
             return new ByteArrayInputStream(createData());
         }).when(blobContainer).readBlob(eq("blocking-blob"), anyLong(), anyLong());
     }
+
+    public void testPrefetchOfAdjacentBlocksIsReadWithSingleRequest() throws Exception {
+        final int blockSize = 1024;
+        final int numBlocks = between(2, 8);
+        final byte[] blob = randomByteArrayOfLength(blockSize * numBlocks);
+        fileCache.prefetchTracker().setMaxConcurrentPrefetches(numBlocks);
+        doAnswer(i -> {
+            final long position = i.getArgument(1);
+            final long length = i.getArgument(2);
+            return new ByteArrayInputStream(blob, Math.toIntExact(position), Math.toIntExact(length));
+        }).when(blobContainer).readBlob(eq("adjacent-blob"), anyLong(), anyLong());
+
+        final List<BlobFetchRequest> requests = new ArrayList<>();
+        for (int i = 0; i < numBlocks; i++) {
+            requests.add(
+                BlobFetchRequest.builder()
+                    .fileName("block-" + i)
+                    .directory(directory)
+                    .blobParts(List.of(new BlobFetchRequest.BlobPart("adjacent-blob", (long) i * blockSize, blockSize)))
+                    .build()
+            );
+        }
+        transferManager.prefetchBlobs(requests);
+        assertBusy(() -> assertEquals(0, fileCache.prefetchTracker().getInFlight()));
+        verify(blobContainer, times(1)).readBlob("adjacent-blob", 0, (long) blockSize * numBlocks);
+
+        for (int i = 0; i < numBlocks; i++) {
+            try (IndexInput indexInput = transferManager.fetchBlob(requests.get(i))) {
+                final byte[] block = new byte[blockSize];
+                indexInput.readBytes(block, 0, blockSize);
+                assertArrayEquals(Arrays.copyOfRange(blob, i * blockSize, (i + 1) * blockSize), block);
+            }
+        }
+        verify(blobContainer, times(1)).readBlob(eq("adjacent-blob"), anyLong(), anyLong());
+    }
 }
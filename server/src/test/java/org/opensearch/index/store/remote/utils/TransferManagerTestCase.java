@@ -336,12 +336,63 @@ public abstract class TransferManagerTestCase extends OpenSearchTestCase {
         assertEquals(Optional.of(1), Optional.of(fileCache.getRef(blobFetchRequest.getFilePath())));
     }
 
+    public void testPrefetchedBlockIsReadFromCache() throws Exception {
+        final BlobFetchRequest blobFetchRequest = blobFetchRequest("file");
+        transferManager.prefetchBlob(blobFetchRequest);
+        assertBusy(() -> assertEquals(0, fileCache.prefetchTracker().getInFlight()));
+        assertEquals(1L, fileCache.prefetchTracker().getPrefetchCount());
+        MatcherAssert.assertThat(fileCache.usage(), equalTo((long) EIGHT_MB));
+        MatcherAssert.assertThat(fileCache.activeUsage(), equalTo(0L));
+
+        try (IndexInput i = transferManager.fetchBlob(blobFetchRequest)) {
+            assertIndexInputIsFunctional(i);
+        }
+        try (IndexInput i = transferManager.fetchBlob(blobFetchRequest)) {
+            assertIndexInputIsFunctional(i);
+        }
+        assertEquals(1L, fileCache.prefetchTracker().getHitCount());
+        assertEquals(0L, fileCache.prefetchTracker().getWasteCount());
+        assertEquals(1L, fileCache.fileCacheStats().getBlockFileCacheStats().getPrefetchHits());
+    }
+
+    public void testPrefetchedBlockRemovedBeforeReadIsWasted() throws Exception {
+        final BlobFetchRequest blobFetchRequest = blobFetchRequest("file");
+        transferManager.prefetchBlob(blobFetchRequest);
+        assertBusy(() -> assertEquals(0, fileCache.prefetchTracker().getInFlight()));
+        fileCache.remove(blobFetchRequest.getFilePath());
+        assertEquals(0L, fileCache.prefetchTracker().getHitCount());
+        assertEquals(1L, fileCache.prefetchTracker().getWasteCount());
+    }
+
+    public void testPrefetchSkipsCachedBlocks() throws Exception {
+        final BlobFetchRequest blobFetchRequest = blobFetchRequest("file");
+        try (IndexInput i = transferManager.fetchBlob(blobFetchRequest)) {
+            transferManager.prefetchBlob(blobFetchRequest);
+        }
+        assertEquals(0L, fileCache.prefetchTracker().getPrefetchCount());
+        assertEquals(0, fileCache.prefetchTracker().getInFlight());
+        assertEquals(Optional.of(0), Optional.of(fileCache.getRef(blobFetchRequest.getFilePath())));
+    }
+
+    public void testPrefetchSkippedWhenLimitReached() {
+        fileCache.prefetchTracker().setMaxConcurrentPrefetches(0);
+        transferManager.prefetchBlob(blobFetchRequest("file"));
+        assertEquals(0L, fileCache.prefetchTracker().getPrefetchCount());
+        assertEquals(0L, fileCache.size());
+    }
+
     protected abstract void initializeTransferManager() throws IOException;
 
     protected abstract void mockExceptionWhileReading() throws IOException;
 
     protected abstract void mockWaitForLatchReader(CountDownLatch latch) throws IOException;
 
+    private BlobFetchRequest blobFetchRequest(String blobname) {
+        List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
+        blobParts.add(new BlobFetchRequest.BlobPart("blob", 0, EIGHT_MB));
+        return BlobFetchRequest.builder().fileName(blobname).directory(directory).blobParts(blobParts).build();
+    }
+
     private IndexInput fetchBlobWithName(String blobname) throws IOException {
         List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
         blobParts.add(new BlobFetchRequest.BlobPart("blob", 0, EIGHT_MB));
@@ -358,7 +409,7 @@ public abstract class TransferManagerTestCase extends OpenSearchTestCase {
         return transferManager.fetchBlob(blobFetchRequest);
     }
 
-    private static void assertIndexInputIsFunctional(IndexInput indexInput) throws IOException {
+    protected static void assertIndexInputIsFunctional(IndexInput indexInput) throws IOException {
         indexInput.seek(EIGHT_MB - 1);
         MatcherAssert.assertThat(indexInput.readByte(), equalTo((byte) 7));
     }
@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.common.cache.RemovalReason;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class S3FifoCacheTests extends RefCountedCacheTestCase {
+    public S3FifoCacheTests() {
+        super(new S3FifoCache<>(CAPACITY, n -> {}, value -> value));
+    }
+
+    public void testScanDoesNotEvictFrequentlyAccessedEntries() {
+        final S3FifoCache<String, Long> cache = new S3FifoCache<>(CAPACITY, n -> {}, value -> value);
+        cache.put("hot", 10L);
+        cache.decRef("hot");
+        cache.get("hot");
+        cache.decRef("hot");
+        // scan through more than the capacity with entries which are read once
+        for (int i = 0; i < 50; i++) {
+            final String key = "scan_" + i;
+            cache.put(key, 10L);
+            cache.decRef(key);
+        }
+        assertNotNull(cache.getRef("hot"));
+        assertTrue(cache.usage() < CAPACITY);
+    }
+
+    public void testRecentlyEvictedEntryIsReadmittedToMainQueue() {
+        final List<String> evicted = new ArrayList<>();
+        final S3FifoCache<String, Long> cache = new S3FifoCache<>(CAPACITY, n -> {
+            if (n.getRemovalReason() == RemovalReason.CAPACITY) {
+                evicted.add(n.getKey());
+            }
+        }, value -> value);
+        for (int i = 0; i < 10; i++) {
+            final String key = Integer.toString(i);
+            cache.put(key, 10L);
+            cache.decRef(key);
+        }
+        assertEquals(List.of("0"), evicted);
+        // "0" is a ghost now, so it skips the small queue and outlives the entries which were only read once
+        cache.put("0", 10L);
+        cache.decRef("0");
+        for (int i = 10; i < 15; i++) {
+            final String key = Integer.toString(i);
+            cache.put(key, 10L);
+            cache.decRef(key);
+        }
+        assertNotNull(cache.getRef("0"));
+        assertEquals(List.of("0", "1", "2", "3", "4", "5", "6"), evicted);
+    }
+
+    public void testPinnedEntriesAreNotEvicted() {
+        final S3FifoCache<String, Long> cache = new S3FifoCache<>(CAPACITY, n -> {}, value -> value);
+        cache.put("pinned", 25L);
+        cache.pin("pinned");
+        cache.decRef("pinned");
+        assertEquals(25L, cache.pinnedUsage());
+        assertEquals(0L, cache.activeUsage());
+        for (int i = 0; i < 10; i++) {
+            final String key = Integer.toString(i);
+            cache.put(key, 25L);
+            cache.decRef(key);
+        }
+        assertNotNull(cache.getRef("pinned"));
+        assertEquals(50L, cache.prune());
+        assertNotNull(cache.getRef("pinned"));
+        cache.unpin("pinned");
+        assertEquals(0L, cache.pinnedUsage());
+        assertEquals(25L, cache.prune());
+        assertNull(cache.getRef("pinned"));
+    }
+
+    public void testConcurrentAccess() throws Exception {
+        final AtomicLong removedWeight = new AtomicLong();
+        final S3FifoCache<String, Long> cache = new S3FifoCache<>(
+            CAPACITY,
+            n -> removedWeight.addAndGet(n.getRemovalReason() == RemovalReason.REPLACED ? 0 : n.getValue()),
+            value -> value
+        );
+        final int numThreads = randomIntBetween(2, 8);
+        final int numKeys = randomIntBetween(10, 50);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < numThreads; t++) {
+            final Random random = new Random(randomLong());
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < 1000; i++) {
+                    final String key = Integer.toString(random.nextInt(numKeys));
+                    switch (random.nextInt(4)) {
+                        case 0:
+                            if (cache.get(key) != null) {
+                                cache.decRef(key);
+                            }
+                            break;
+                        case 1:
+                            cache.compute(key, (k, v) -> v == null ? 5L : v);
+                            cache.decRef(key);
+                            break;
+                        case 2:
+                            cache.put(key, 5L);
+                            cache.decRef(key);
+                            break;
+                        default:
+                            cache.remove(key);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0L, cache.activeUsage());
+        assertEquals(5L * cache.size(), cache.usage());
+        assertTrue(cache.usage() < CAPACITY);
+        final long usage = cache.usage();
+        cache.clear();
+        assertEquals(0L, cache.usage());
+        assertEquals(0L, cache.size());
+        assertTrue(removedWeight.get() >= usage);
+    }
+}
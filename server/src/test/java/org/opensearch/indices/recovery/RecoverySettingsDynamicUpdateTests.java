@@ -96,6 +96,26 @@ public class RecoverySettingsDynamicUpdateTests extends OpenSearchTestCase {
         assertEquals(700000, recoverySettings.getTranslogConcurrentRecoveryBatchSize());
     }
 
+    public void testSetSnapshotRecoverySettings() {
+        assertEquals("", recoverySettings.getSnapshotRepository());
+        assertEquals(5, recoverySettings.getMaxConcurrentSnapshotFileDownloads());
+        final int maxConcurrentDownloads = randomIntBetween(1, 20);
+        clusterSettings.applySettings(
+            Settings.builder()
+                .put(RecoverySettings.INDICES_RECOVERY_SNAPSHOT_REPOSITORY_SETTING.getKey(), "repo")
+                .put(RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_SNAPSHOT_FILE_DOWNLOADS_SETTING.getKey(), maxConcurrentDownloads)
+                .build()
+        );
+        assertEquals("repo", recoverySettings.getSnapshotRepository());
+        assertEquals(maxConcurrentDownloads, recoverySettings.getMaxConcurrentSnapshotFileDownloads());
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> clusterSettings.applySettings(
+                Settings.builder().put(RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_SNAPSHOT_FILE_DOWNLOADS_SETTING.getKey(), 0).build()
+            )
+        );
+    }
+
     public void testSetMergedSegmentReplicationMaxBytesPerSec() {
         assertEquals(40, (int) recoverySettings.mergedSegmentReplicationRateLimiter().getMBPerSec());
         clusterSettings.applySettings(
@@ -32,6 +32,7 @@
 
 package org.opensearch.search.aggregations.bucket.composite;
 
+import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.index.CompositeReader;
 import org.apache.lucene.index.IndexReader;
@@ -41,8 +42,10 @@ import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.FieldExistsQuery;
 import org.apache.lucene.search.IndexOrDocValuesQuery;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.TermQuery;
 import org.opensearch.common.util.BigArrays;
+import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.index.mapper.IpFieldMapper;
 import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
@@ -51,6 +54,9 @@ import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.instanceOf;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -279,6 +285,72 @@ public class SingleDimensionValuesSourceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testNumericAfterQuery() {
+        MappedFieldType number = new NumberFieldMapper.NumberFieldType("number", NumberFieldMapper.NumberType.LONG);
+        LongValuesSource source = newLongValuesSource(number, false, MissingOrder.DEFAULT, 1);
+        assertNull(source.createAfterQueryOrNull());
+        source.setAfter(42L);
+        assertEquals(LongPoint.newRangeQuery("number", 42L, Long.MAX_VALUE), source.createAfterQueryOrNull());
+
+        MappedFieldType integer = new NumberFieldMapper.NumberFieldType("integer", NumberFieldMapper.NumberType.INTEGER);
+        source = newLongValuesSource(integer, false, MissingOrder.DEFAULT, 1);
+        source.setAfter(-5L);
+        assertEquals(IntPoint.newRangeQuery("integer", -5, Integer.MAX_VALUE), source.createAfterQueryOrNull());
+        source.setAfter(Long.MAX_VALUE);
+        assertThat(source.createAfterQueryOrNull(), instanceOf(MatchNoDocsQuery.class));
+
+        MappedFieldType date = new DateFieldMapper.DateFieldType("date");
+        source = newLongValuesSource(date, false, MissingOrder.DEFAULT, 1);
+        source.setAfter(1000L);
+        assertEquals(LongPoint.newRangeQuery("date", 1000L, Long.MAX_VALUE), source.createAfterQueryOrNull());
+
+        // documents without values sort after the after value
+        source = newLongValuesSource(number, true, MissingOrder.LAST, 1);
+        source.setAfter(42L);
+        assertNull(source.createAfterQueryOrNull());
+        source = newLongValuesSource(number, true, MissingOrder.FIRST, 1);
+        source.setAfter(42L);
+        assertNotNull(source.createAfterQueryOrNull());
+
+        source = newLongValuesSource(number, false, MissingOrder.DEFAULT, -1);
+        source.setAfter(42L);
+        assertNull(source.createAfterQueryOrNull());
+
+        MappedFieldType notSearchable = new NumberFieldMapper.NumberFieldType(
+            "number",
+            NumberFieldMapper.NumberType.LONG,
+            false,
+            false,
+            true,
+            false,
+            true,
+            null,
+            Collections.emptyMap()
+        );
+        source = newLongValuesSource(notSearchable, false, MissingOrder.DEFAULT, 1);
+        source.setAfter(42L);
+        assertNull(source.createAfterQueryOrNull());
+    }
+
+    private static LongValuesSource newLongValuesSource(
+        MappedFieldType fieldType,
+        boolean missingBucket,
+        MissingOrder missingOrder,
+        int reverseMul
+    ) {
+        return new LongValuesSource(
+            BigArrays.NON_RECYCLING_INSTANCE,
+            fieldType,
+            context -> null,
+            value -> value,
+            DocValueFormat.RAW,
+            missingBucket,
+            missingOrder,
+            1,
+            reverseMul
+        );
+    }
+
     private static IndexReader mockIndexReader(int maxDoc, int numDocs) {
         CompositeReader reader = mock(CompositeReader.class);
         when(reader.hasDeletions()).thenReturn(maxDoc - numDocs > 0);
@@ -40,6 +40,7 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -66,14 +67,19 @@ import org.opensearch.search.MultiValueMode;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.aggregations.bucket.HistogramSkiplistLeafCollector;
 import org.opensearch.search.aggregations.bucket.terms.StringTerms;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.InternalSum;
 import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 
 import java.io.IOException;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -392,6 +398,137 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
         }
     }
 
+    public void testSkiplistCollectRangeOnSortedIndex() throws IOException {
+        Settings settings = getSettingsWithIndexSort();
+        IndexSettings indexSettings = new IndexSettings(new IndexMetadata.Builder("index").settings(settings).build(), settings);
+
+        MappedFieldType dateType = new DateFieldMapper.DateFieldType(AGGREGABLE_DATE);
+        String valueField = "value";
+        MappedFieldType valueType = new NumberFieldMapper.NumberFieldType(valueField, NumberFieldMapper.NumberType.LONG);
+        IndexNumericFieldData fieldData = (IndexNumericFieldData) dateType.fielddataBuilder("index", () -> {
+            throw new UnsupportedOperationException();
+        }).build(null, null);
+        SortField sortField = fieldData.sortField(null, MultiValueMode.MIN, null, false);
+
+        Map<Long, Long> expectedCounts = new HashMap<>();
+        Map<Long, Long> expectedSums = new HashMap<>();
+        try (Directory directory = newDirectory()) {
+            IndexWriterConfig config = newIndexWriterConfig();
+            config.setIndexSort(new Sort(sortField));
+            try (IndexWriter indexWriter = new IndexWriter(directory, config)) {
+                long timestamp = DateFieldMapper.DEFAULT_DATE_TIME_FORMATTER.parseMillis("2020-01-01");
+                int numDocs = randomIntBetween(2000, 6000);
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    long value = randomIntBetween(0, 100);
+                    doc.add(new NumericDocValuesField(valueField, value));
+                    if (rarely() == false) {
+                        timestamp += randomLongBetween(0, 3_600_000);
+                        doc.add(SortedNumericDocValuesField.indexedField(AGGREGABLE_DATE, timestamp));
+                        long key = timestamp - timestamp % 86_400_000;
+                        expectedCounts.merge(key, 1L, Long::sum);
+                        expectedSums.merge(key, value, Long::sum);
+                    }
+                    indexWriter.addDocument(doc);
+                }
+                indexWriter.forceMerge(1);
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("test").field(AGGREGABLE_DATE)
+                    .calendarInterval(DateHistogramInterval.DAY)
+                    .subAggregation(new SumAggregationBuilder(valueField).field(valueField));
+                DateHistogramAggregator aggregator = createAggregator(
+                    new MatchAllDocsQuery(),
+                    aggregationBuilder,
+                    indexSearcher,
+                    indexSettings,
+                    dateType,
+                    valueType
+                );
+                aggregator.preCollection();
+                // Directly call collectRange on each leaf, as a match_all query does
+                for (LeafReaderContext leaf : indexReader.leaves()) {
+                    LeafBucketCollector leafCollector = aggregator.getLeafCollector(leaf);
+                    leafCollector.collectRange(0, leaf.reader().maxDoc());
+                }
+                aggregator.postCollection();
+                InternalDateHistogram histogram = (InternalDateHistogram) aggregator.buildTopLevel();
+
+                assertEquals(expectedCounts.size(), histogram.getBuckets().size());
+                for (InternalDateHistogram.Bucket bucket : histogram.getBuckets()) {
+                    long key = ((ZonedDateTime) bucket.getKey()).toInstant().toEpochMilli();
+                    assertEquals(expectedCounts.get(key).longValue(), bucket.getDocCount());
+                    InternalSum sum = bucket.getAggregations().get(valueField);
+                    assertEquals(expectedSums.get(key).doubleValue(), sum.getValue(), 0d);
+                }
+            }
+        }
+    }
+
+    public void testSkiplistCollectRangeOnSortedIndexWithDocCountField() throws IOException {
+        Settings settings = getSettingsWithIndexSort();
+        IndexSettings indexSettings = new IndexSettings(new IndexMetadata.Builder("index").settings(settings).build(), settings);
+
+        MappedFieldType dateType = new DateFieldMapper.DateFieldType(AGGREGABLE_DATE);
+        IndexNumericFieldData fieldData = (IndexNumericFieldData) dateType.fielddataBuilder("index", () -> {
+            throw new UnsupportedOperationException();
+        }).build(null, null);
+        SortField sortField = fieldData.sortField(null, MultiValueMode.MIN, null, false);
+
+        Map<Long, Long> expectedCounts = new HashMap<>();
+        try (Directory directory = newDirectory()) {
+            IndexWriterConfig config = newIndexWriterConfig();
+            config.setIndexSort(new Sort(sortField));
+            try (IndexWriter indexWriter = new IndexWriter(directory, config)) {
+                long timestamp = DateFieldMapper.DEFAULT_DATE_TIME_FORMATTER.parseMillis("2020-01-01");
+                int numDocs = randomIntBetween(2000, 6000);
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    timestamp += randomLongBetween(0, 3_600_000);
+                    doc.add(SortedNumericDocValuesField.indexedField(AGGREGABLE_DATE, timestamp));
+                    long docCount = 1;
+                    if (randomBoolean()) {
+                        docCount = randomIntBetween(2, 10);
+                        doc.add(new NumericDocValuesField(DocCountFieldMapper.NAME, docCount));
+                    }
+                    expectedCounts.merge(timestamp - timestamp % 86_400_000, docCount, Long::sum);
+                    indexWriter.addDocument(doc);
+                }
+                indexWriter.forceMerge(1);
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("test").field(AGGREGABLE_DATE)
+                    .calendarInterval(DateHistogramInterval.DAY);
+                DateHistogramAggregator aggregator = createAggregator(
+                    new MatchAllDocsQuery(),
+                    aggregationBuilder,
+                    indexSearcher,
+                    indexSettings,
+                    dateType
+                );
+                aggregator.preCollection();
+                for (LeafReaderContext leaf : indexReader.leaves()) {
+                    LeafBucketCollector leafCollector = aggregator.getLeafCollector(leaf);
+                    // docs with a _doc_count can't be counted by range
+                    assertFalse(leafCollector instanceof HistogramSkiplistLeafCollector);
+                    leafCollector.collectRange(0, leaf.reader().maxDoc());
+                }
+                aggregator.postCollection();
+                InternalDateHistogram histogram = (InternalDateHistogram) aggregator.buildTopLevel();
+
+                assertEquals(expectedCounts.size(), histogram.getBuckets().size());
+                for (InternalDateHistogram.Bucket bucket : histogram.getBuckets()) {
+                    long key = ((ZonedDateTime) bucket.getKey()).toInstant().toEpochMilli();
+                    assertEquals(expectedCounts.get(key).longValue(), bucket.getDocCount());
+                }
+            }
+        }
+    }
+
     private static void indexDocsForSkiplist(Directory directory, IndexWriterConfig config, String filterField, String categoryField)
         throws IOException {
         try (IndexWriter indexWriter = new IndexWriter(directory, config)) {
@@ -17,10 +17,17 @@ import org.apache.lucene.document.SortedDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.CheckedConsumer;
@@ -386,6 +393,142 @@ public class MultiTermsAggregatorTests extends AggregatorTestCase {
         });
     }
 
+    public void testMultiValuesKeywordFields() throws IOException {
+        testAggregation(new MatchAllDocsQuery(), fieldConfigs(asList(KEYWORD_FIELD, UNRELATED_KEYWORD_FIELD)), NONE_DECORATOR, iw -> {
+            iw.addDocument(
+                asList(
+                    new SortedSetDocValuesField(KEYWORD_FIELD, new BytesRef("a")),
+                    new SortedSetDocValuesField(KEYWORD_FIELD, new BytesRef("b")),
+                    new SortedSetDocValuesField(UNRELATED_KEYWORD_FIELD, new BytesRef("x"))
+                )
+            );
+            iw.addDocument(
+                asList(
+                    new SortedSetDocValuesField(KEYWORD_FIELD, new BytesRef("a")),
+                    new SortedSetDocValuesField(UNRELATED_KEYWORD_FIELD, new BytesRef("x")),
+                    new SortedSetDocValuesField(UNRELATED_KEYWORD_FIELD, new BytesRef("y"))
+                )
+            );
+            iw.addDocument(singletonList(new SortedSetDocValuesField(KEYWORD_FIELD, new BytesRef("b"))));
+            iw.addDocument(
+                asList(
+                    new SortedSetDocValuesField(KEYWORD_FIELD, new BytesRef("c")),
+                    new SortedSetDocValuesField(UNRELATED_KEYWORD_FIELD, new BytesRef("y"))
+                )
+            );
+        }, h -> {
+            MatcherAssert.assertThat(h.getBuckets(), hasSize(4));
+            MatcherAssert.assertThat(h.getBuckets().get(0).getKey(), contains(equalTo("a"), equalTo("x")));
+            MatcherAssert.assertThat(h.getBuckets().get(0).getDocCount(), equalTo(2L));
+            MatcherAssert.assertThat(h.getBuckets().get(1).getKey(), contains(equalTo("a"), equalTo("y")));
+            MatcherAssert.assertThat(h.getBuckets().get(1).getDocCount(), equalTo(1L));
+            MatcherAssert.assertThat(h.getBuckets().get(2).getKey(), contains(equalTo("b"), equalTo("x")));
+            MatcherAssert.assertThat(h.getBuckets().get(2).getDocCount(), equalTo(1L));
+            MatcherAssert.assertThat(h.getBuckets().get(3).getKey(), contains(equalTo("c"), equalTo("y")));
+            MatcherAssert.assertThat(h.getBuckets().get(3).getDocCount(), equalTo(1L));
+        });
+    }
+
+    public void testCollectionStrategy() throws IOException {
+        int termsPerSegment = (int) MultiTermsAggregator.MAX_LAZY_GLOBAL_ORDS / 2 + 1;
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int segment = 0; segment < 2; segment++) {
+                    for (int i = 0; i < termsPerSegment; i++) {
+                        indexWriter.addDocument(
+                            asList(
+                                new SortedSetDocValuesField(KEYWORD_FIELD, new BytesRef("k-" + i)),
+                                new SortedSetDocValuesField(UNRELATED_KEYWORD_FIELD, new BytesRef(i % 2 == 0 ? "x" : "y")),
+                                new NumericDocValuesField(INT_FIELD, i)
+                            )
+                        );
+                    }
+                    for (int i = 0; i < 3; i++) {
+                        indexWriter.addDocument(
+                            asList(
+                                new SortedSetDocValuesField(KEYWORD_FIELD, new BytesRef("k-0")),
+                                new SortedSetDocValuesField(UNRELATED_KEYWORD_FIELD, new BytesRef("x")),
+                                new NumericDocValuesField(INT_FIELD, i)
+                            )
+                        );
+                    }
+                    indexWriter.commit();
+                }
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                assertEquals(2, indexReader.leaves().size());
+                IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+                MultiTermsAggregationBuilder builder = new MultiTermsAggregationBuilder(AGG_NAME).terms(
+                    fieldConfigs(asList(KEYWORD_FIELD, UNRELATED_KEYWORD_FIELD))
+                ).size(termsPerSegment);
+                MappedFieldType keywordFieldType = new KeywordFieldMapper.KeywordFieldType(KEYWORD_FIELD);
+                MappedFieldType unrelatedFieldType = new KeywordFieldMapper.KeywordFieldType(UNRELATED_KEYWORD_FIELD);
+
+                // the segments have too many ordinals to build global ordinals just for this search
+                Map<String, Object> debug = new HashMap<>();
+                Map<List<Object>, Long> segmentOrdinalsCounts = collect(
+                    indexSearcher,
+                    builder,
+                    debug,
+                    keywordFieldType,
+                    unrelatedFieldType
+                );
+                MatcherAssert.assertThat(debug.get("collection_strategy"), equalTo("packed_segment_ordinals"));
+                MatcherAssert.assertThat(debug.get("segments_with_packed_ordinals"), equalTo(2));
+                MatcherAssert.assertThat(segmentOrdinalsCounts.size(), equalTo(termsPerSegment));
+                MatcherAssert.assertThat(segmentOrdinalsCounts.get(asList("k-0", "x")), equalTo(8L));
+                MatcherAssert.assertThat(segmentOrdinalsCounts.get(asList("k-1", "y")), equalTo(2L));
+
+                // eager global ordinals were already built by the refresh
+                MappedFieldType eagerKeywordFieldType = new KeywordFieldMapper.KeywordFieldType(KEYWORD_FIELD);
+                eagerKeywordFieldType.setEagerGlobalOrdinals(true);
+                debug.clear();
+                Map<List<Object>, Long> globalOrdinalsCounts = collect(
+                    indexSearcher,
+                    builder,
+                    debug,
+                    eagerKeywordFieldType,
+                    unrelatedFieldType
+                );
+                MatcherAssert.assertThat(debug.get("collection_strategy"), equalTo("packed_global_ordinals"));
+                MatcherAssert.assertThat(globalOrdinalsCounts, equalTo(segmentOrdinalsCounts));
+
+                // sub-aggregations need the bucket of a document while collecting it
+                builder.subAggregation(new MaxAggregationBuilder("max").field(INT_FIELD));
+                debug.clear();
+                Map<List<Object>, Long> bytesCounts = collect(
+                    indexSearcher,
+                    builder,
+                    debug,
+                    keywordFieldType,
+                    unrelatedFieldType,
+                    mappedFieldTypeMap.get(INT_FIELD)
+                );
+                MatcherAssert.assertThat(debug.get("collection_strategy"), equalTo("composite_bytes"));
+                MatcherAssert.assertThat(bytesCounts, equalTo(segmentOrdinalsCounts));
+            }
+        }
+    }
+
+    private Map<List<Object>, Long> collect(
+        IndexSearcher indexSearcher,
+        MultiTermsAggregationBuilder builder,
+        Map<String, Object> debug,
+        MappedFieldType... fieldTypes
+    ) throws IOException {
+        MultiTermsAggregator aggregator = createAggregator(builder, indexSearcher, fieldTypes);
+        aggregator.preCollection();
+        indexSearcher.search(new MatchAllDocsQuery(), aggregator);
+        aggregator.postCollection();
+        aggregator.collectDebugInfo(debug::put);
+        InternalMultiTerms result = (InternalMultiTerms) aggregator.buildTopLevel();
+        Map<List<Object>, Long> docCounts = new HashMap<>();
+        for (InternalMultiTerms.Bucket bucket : result.getBuckets()) {
+            docCounts.put(bucket.getKey(), bucket.getDocCount());
+        }
+        return docCounts;
+    }
+
     public void testScripts() throws IOException {
         testAggregation(
             new MatchAllDocsQuery(),
@@ -46,6 +46,8 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.IndexOptions;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NoMergePolicy;
@@ -53,6 +55,8 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.search.FieldExistsQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
@@ -292,6 +296,169 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         directory.close();
     }
 
+    public void testCostModelSelectsSegmentOrdinals() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int segment = 0; segment < 2; segment++) {
+                    for (int i = 0; i < SegmentOrdinalsStringTermsAggregator.MAX_LOW_CARDINALITY_ORDS + 1; i++) {
+                        Document document = new Document();
+                        ADD_SORTED_SET_FIELD_INDEXED.apply(document, "string", segment + "-" + i);
+                        ADD_SORTED_SET_FIELD_NOT_INDEXED.apply(document, "not_indexed", segment + "-" + i);
+                        indexWriter.addDocument(document);
+                    }
+                    indexWriter.commit();
+                }
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                assertEquals(2, indexReader.leaves().size());
+                IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+                MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+                MappedFieldType notIndexedFieldType = new KeywordFieldMapper.KeywordFieldType("not_indexed");
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").userValueTypeHint(ValueType.STRING)
+                    .field("string");
+
+                // high cardinality segments with a query that global ordinals would collect document by document
+                Query selective = new TermQuery(new Term("string", "0-1"));
+                Aggregator aggregator = createAggregator(selective, aggregationBuilder, indexSearcher, createIndexSettings(), fieldType);
+                assertThat(aggregator, instanceOf(SegmentOrdinalsStringTermsAggregator.class));
+                assertThat(debugInfo(aggregator).get("selected_by"), equalTo("cost_model"));
+
+                // a match_all query is counted from term frequencies by global ordinals without collecting any document
+                CountingAggregator counting = new CountingAggregator(
+                    new AtomicInteger(),
+                    createAggregator(new MatchAllDocsQuery(), aggregationBuilder, indexSearcher, createIndexSettings(), fieldType)
+                );
+                assertThat(counting.delegate, instanceOf(GlobalOrdinalsStringTermsAggregator.class));
+                counting.preCollection();
+                indexSearcher.search(new MatchAllDocsQuery(), counting);
+                counting.postCollection();
+                assertEquals(0, counting.getCollectCount().get());
+                Terms result = reduce(counting);
+                assertEquals(10, result.getBuckets().size());
+                assertEquals(2 * (SegmentOrdinalsStringTermsAggregator.MAX_LOW_CARDINALITY_ORDS + 1) - 10, result.getSumOfOtherDocCounts());
+
+                // unless the field has no terms to count from
+                aggregator = createAggregator(
+                    new MatchAllDocsQuery(),
+                    new TermsAggregationBuilder("_name").userValueTypeHint(ValueType.STRING).field("not_indexed"),
+                    indexSearcher,
+                    createIndexSettings(),
+                    notIndexedFieldType
+                );
+                assertThat(aggregator, instanceOf(SegmentOrdinalsStringTermsAggregator.class));
+                assertThat(debugInfo(aggregator).get("selected_by"), equalTo("cost_model"));
+
+                // eager global ordinals were already built by the refresh
+                MappedFieldType eagerFieldType = new KeywordFieldMapper.KeywordFieldType("string");
+                eagerFieldType.setEagerGlobalOrdinals(true);
+                aggregator = createAggregator(selective, aggregationBuilder, indexSearcher, createIndexSettings(), eagerFieldType);
+                assertThat(aggregator, instanceOf(GlobalOrdinalsStringTermsAggregator.class));
+
+                // the execution hint selects segment ordinals regardless of the cost model
+                aggregationBuilder.executionHint(TermsAggregatorFactory.ExecutionMode.SEGMENT_ORDINALS.toString());
+                aggregator = createAggregator(new MatchAllDocsQuery(), aggregationBuilder, indexSearcher, createIndexSettings(), fieldType);
+                assertThat(aggregator, instanceOf(SegmentOrdinalsStringTermsAggregator.class));
+                assertThat(debugInfo(aggregator).get("selected_by"), equalTo("execution_hint"));
+
+                // sub-aggregations need buckets shared by all segments
+                aggregationBuilder.executionHint(null);
+                aggregationBuilder.subAggregation(AggregationBuilders.cardinality("card").field("string"));
+                aggregator = createAggregator(selective, aggregationBuilder, indexSearcher, createIndexSettings(), fieldType);
+                assertThat(aggregator, instanceOf(GlobalOrdinalsStringTermsAggregator.class));
+            }
+        }
+    }
+
+    public void testCostModelKeepsGlobalOrdinalsForFewSegments() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int i = 0; i < SegmentOrdinalsStringTermsAggregator.MAX_LOW_CARDINALITY_ORDS + 1; i++) {
+                    Document document = new Document();
+                    ADD_SORTED_SET_FIELD_INDEXED.apply(document, "string", Integer.toString(i));
+                    indexWriter.addDocument(document);
+                }
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                // a single segment's ordinals are its global ordinals, so they are free
+                assertEquals(1, indexReader.leaves().size());
+                IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+                MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").userValueTypeHint(ValueType.STRING)
+                    .field("string");
+                Aggregator aggregator = createAggregator(
+                    new TermQuery(new Term("string", "1")),
+                    aggregationBuilder,
+                    indexSearcher,
+                    createIndexSettings(),
+                    fieldType
+                );
+                assertThat(aggregator, instanceOf(GlobalOrdinalsStringTermsAggregator.class));
+            }
+        }
+    }
+
+    private static Map<String, Object> debugInfo(Aggregator aggregator) {
+        Map<String, Object> debug = new HashMap<>();
+        aggregator.collectDebugInfo(debug::put);
+        return debug;
+    }
+
+    public void testSegmentOrdinalsMatchGlobalOrdinals() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                int numDocs = randomIntBetween(10, 500);
+                for (int i = 0; i < numDocs; i++) {
+                    Document document = new Document();
+                    int numValues = randomIntBetween(0, 3);
+                    for (int j = 0; j < numValues; j++) {
+                        document.add(new SortedSetDocValuesField("string", new BytesRef(randomAlphaOfLengthBetween(1, 2))));
+                    }
+                    if (frequently() == false) {
+                        document.add(new NumericDocValuesField("_doc_count", randomIntBetween(1, 10)));
+                    }
+                    indexWriter.addDocument(document);
+                    if (rarely()) {
+                        indexWriter.commit();
+                    }
+                }
+                try (IndexReader indexReader = maybeWrapReaderEs(indexWriter.getReader())) {
+                    IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                    MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("string");
+                    int size = randomIntBetween(1, 50);
+                    TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").userValueTypeHint(ValueType.STRING)
+                        .field("string")
+                        .order(randomFrom(BucketOrder.count(false), BucketOrder.key(true), BucketOrder.key(false)))
+                        .size(size)
+                        .shardSize(size);
+
+                    Terms expected = null;
+                    for (TermsAggregatorFactory.ExecutionMode executionMode : List.of(
+                        TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS,
+                        TermsAggregatorFactory.ExecutionMode.SEGMENT_ORDINALS
+                    )) {
+                        aggregationBuilder.executionHint(executionMode.toString());
+                        TermsAggregator aggregator = createAggregator(aggregationBuilder, indexSearcher, fieldType);
+                        aggregator.preCollection();
+                        indexSearcher.search(new MatchAllDocsQuery(), aggregator);
+                        aggregator.postCollection();
+                        Terms result = reduce(aggregator);
+                        if (expected == null) {
+                            expected = result;
+                            continue;
+                        }
+                        assertThat(aggregator, instanceOf(SegmentOrdinalsStringTermsAggregator.class));
+                        assertEquals(expected.getBuckets().size(), result.getBuckets().size());
+                        for (int i = 0; i < expected.getBuckets().size(); i++) {
+                            assertEquals(expected.getBuckets().get(i).getKeyAsString(), result.getBuckets().get(i).getKeyAsString());
+                            assertEquals(expected.getBuckets().get(i).getDocCount(), result.getBuckets().get(i).getDocCount());
+                        }
+                        assertEquals(expected.getSumOfOtherDocCounts(), result.getSumOfOtherDocCounts());
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * This test case utilizes the default implementation of GlobalOrdinalsStringTermsAggregator since collectSegmentOrds is false
      */
@@ -299,8 +466,9 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         // Fields not indexed: cannot use LeafBucketCollector#termDocFreqCollector - all documents are visited
         testSimple(ADD_SORTED_SET_FIELD_NOT_INDEXED, false, false, false, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 4);
 
-        // Fields indexed, deleted documents in segment: cannot use LeafBucketCollector#termDocFreqCollector - all documents are visited
-        testSimple(ADD_SORTED_SET_FIELD_INDEXED, true, false, false, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 4);
+        // Fields indexed, deleted documents in segment: will use LeafBucketCollector#termDocFreqCollector and subtract the terms
+        // of the deleted documents - no documents are visited
+        testSimple(ADD_SORTED_SET_FIELD_INDEXED, true, false, false, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 0);
 
         // Fields indexed, no deleted documents in segment: will use LeafBucketCollector#termDocFreqCollector - no documents are visited
         testSimple(ADD_SORTED_SET_FIELD_INDEXED, false, false, false, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 0);
@@ -318,8 +486,9 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         // Fields not indexed: cannot use LeafBucketCollector#termDocFreqCollector - all documents are visited
         testSimple(ADD_SORTED_SET_FIELD_NOT_INDEXED, false, false, true, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 4);
 
-        // Fields indexed, deleted documents in segment: cannot use LeafBucketCollector#termDocFreqCollector - all documents are visited
-        testSimple(ADD_SORTED_SET_FIELD_INDEXED, true, false, true, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 4);
+        // Fields indexed, deleted documents in segment: will use LeafBucketCollector#termDocFreqCollector and subtract the terms
+        // of the deleted documents - no documents are visited
+        testSimple(ADD_SORTED_SET_FIELD_INDEXED, true, false, true, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 0);
 
         // Fields indexed, no deleted documents in segment: will use LeafBucketCollector#termDocFreqCollector - no documents are visited
         testSimple(ADD_SORTED_SET_FIELD_INDEXED, false, false, true, TermsAggregatorFactory.ExecutionMode.GLOBAL_ORDINALS, 0);
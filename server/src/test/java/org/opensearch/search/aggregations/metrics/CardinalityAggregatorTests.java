@@ -41,10 +41,13 @@ import org.apache.lucene.document.SortedDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.FieldExistsQuery;
 import org.apache.lucene.search.IndexSearcher;
@@ -57,6 +60,7 @@ import org.apache.lucene.tests.util.TestUtil;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.geo.GeoPoint;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.index.mapper.KeywordFieldMapper;
@@ -71,14 +75,18 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
 import org.opensearch.search.aggregations.metrics.CardinalityAggregator.HybridCollector;
 import org.opensearch.search.aggregations.metrics.CardinalityAggregator.OrdinalsCollector;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregator.SparseOrdinalsCollector;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -851,6 +859,199 @@ public class CardinalityAggregatorTests extends AggregatorTestCase {
         }, fieldType, true, 15); // Very low threshold to force switching during collectRange
     }
 
+    public void testHybridCollectorUsesSparseOrdinalsCollectorWithSelectiveQuery() throws IOException {
+        MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("field");
+        final CardinalityAggregationBuilder aggregationBuilder = new CardinalityAggregationBuilder("_name").field("field");
+        final Query query = new TermQuery(new Term("selected", "true"));
+
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                // many ordinals per segment, but only 4 docs match the query
+                for (int i = 0; i < 20000; i++) {
+                    SortedSetDocValuesField value = new SortedSetDocValuesField("field", new BytesRef("value" + i));
+                    if (i % 5000 == 0) {
+                        indexWriter.addDocument(asList(value, new KeywordField("selected", "true", Field.Store.NO)));
+                    } else {
+                        indexWriter.addDocument(singleton(value));
+                    }
+                }
+                indexWriter.forceMerge(1);
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                CardinalityAggregator aggregator = createAggregatorWithCustomizableSearchContext(
+                    query,
+                    aggregationBuilder,
+                    indexSearcher,
+                    createIndexSettings(),
+                    new MultiBucketConsumerService.MultiBucketConsumer(
+                        Integer.MAX_VALUE,
+                        new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+                    ),
+                    (searchContext) -> when(searchContext.cardinalityAggregationContext()).thenReturn(
+                        new CardinalityAggregationContext(true, 1024L * 1024L)
+                    ),
+                    fieldType
+                );
+                aggregator.preCollection();
+                // the searcher hands the weight of the query to the aggregator, which estimates the number of matching docs with it
+                indexSearcher.search(query, aggregator);
+                aggregator.postCollection();
+
+                InternalCardinality card = (InternalCardinality) aggregator.buildTopLevel();
+                assertEquals(4.0, card.getValue(), 0);
+
+                Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                assertEquals(1, debug.get("hybrid_collectors_used"));
+                assertEquals(1, debug.get("sparse_ordinals_collectors_used"));
+            }
+        }
+    }
+
+    public void testSparseOrdinalsCollectorWithSelectiveQuery() throws IOException {
+        // the precision threshold makes the counts small enough for the ordinals of all values but not of the matching ones
+        final CardinalityAggregationBuilder aggregationBuilder = new CardinalityAggregationBuilder("_name").field("field")
+            .precisionThreshold(200);
+        try (Directory directory = newDirectory()) {
+            indexSelectiveDocs(directory);
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                CardinalityAggregator aggregator = collectSelectiveDocs(
+                    indexReader,
+                    new TermQuery(new Term("group", "a")),
+                    aggregationBuilder,
+                    new CardinalityAggregationContext(false, 1024L * 1024L)
+                );
+                assertEquals(4.0, ((InternalCardinality) aggregator.buildTopLevel()).getValue(), 0);
+
+                Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                assertEquals(0, debug.get("hybrid_collectors_used"));
+                assertEquals(1, debug.get("sparse_ordinals_collectors_used"));
+            }
+        }
+    }
+
+    public void testSparseOrdinalsCollectorWithManyBuckets() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < 100; i++) {
+                    // values are shared by several docs so that buckets visit some of the same ordinals
+                    indexWriter.addDocument(
+                        asList(
+                            new SortedSetDocValuesField("field", new BytesRef("value" + i / 2)),
+                            new SortedSetDocValuesField("field", new BytesRef("other" + i % 7))
+                        )
+                    );
+                }
+                indexWriter.forceMerge(1);
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                LeafReader reader = getOnlyLeafReader(indexReader);
+                final int numBuckets = 3;
+                List<Set<BytesRef>> expected = new ArrayList<>();
+                for (int bucket = 0; bucket < numBuckets; bucket++) {
+                    expected.add(new HashSet<>());
+                }
+                SortedSetDocValues values = DocValues.getSortedSet(reader, "field");
+                for (int doc = 0; doc < reader.maxDoc(); doc++) {
+                    assertTrue(values.advanceExact(doc));
+                    for (int count = values.docValueCount(); count > 0; count--) {
+                        expected.get(doc % numBuckets).add(BytesRef.deepCopyOf(values.lookupOrd(values.nextOrd())));
+                    }
+                }
+
+                try (
+                    HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(
+                        HyperLogLogPlusPlus.DEFAULT_PRECISION,
+                        BigArrays.NON_RECYCLING_INSTANCE,
+                        numBuckets
+                    );
+                    SparseOrdinalsCollector collector = new SparseOrdinalsCollector(
+                        counts,
+                        DocValues.getSortedSet(reader, "field"),
+                        BigArrays.NON_RECYCLING_INSTANCE
+                    )
+                ) {
+                    for (int doc = 0; doc < reader.maxDoc(); doc++) {
+                        collector.collect(doc, doc % numBuckets);
+                    }
+                    collector.postCollect();
+                    for (int bucket = 0; bucket < numBuckets; bucket++) {
+                        assertEquals(expected.get(bucket).size(), counts.cardinality(bucket));
+                    }
+                }
+            }
+        }
+    }
+
+    public void testHybridCollectorStartsDirectWhenOrdinalsExceedThreshold() throws IOException {
+        final CardinalityAggregationBuilder aggregationBuilder = new CardinalityAggregationBuilder("_name").field("field");
+        try (Directory directory = newDirectory()) {
+            indexSelectiveDocs(directory);
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                // neither the ordinals of the segment nor the ones of the matching docs fit in 100 bytes
+                CardinalityAggregator aggregator = collectSelectiveDocs(
+                    indexReader,
+                    new TermQuery(new Term("group", "a")),
+                    aggregationBuilder,
+                    new CardinalityAggregationContext(true, 100)
+                );
+                assertEquals(4.0, ((InternalCardinality) aggregator.buildTopLevel()).getValue(), 0);
+
+                Map<String, Object> debug = new HashMap<>();
+                aggregator.collectDebugInfo(debug::put);
+                assertEquals(1, debug.get("hybrid_collectors_used"));
+                assertEquals(1, debug.get("hybrid_collectors_started_direct"));
+                assertEquals(0, debug.get("sparse_ordinals_collectors_used"));
+            }
+        }
+    }
+
+    /**
+     * Indexes a single segment of 20000 distinct values of which only 4 docs are in group "a".
+     */
+    private void indexSelectiveDocs(Directory directory) throws IOException {
+        try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+            for (int i = 0; i < 20000; i++) {
+                SortedSetDocValuesField value = new SortedSetDocValuesField("field", new BytesRef("value" + i));
+                if (i % 5000 == 0) {
+                    indexWriter.addDocument(asList(value, new KeywordField("group", "a", Field.Store.NO)));
+                } else {
+                    indexWriter.addDocument(singleton(value));
+                }
+            }
+            indexWriter.forceMerge(1);
+        }
+    }
+
+    private CardinalityAggregator collectSelectiveDocs(
+        IndexReader indexReader,
+        Query query,
+        AggregationBuilder aggregationBuilder,
+        CardinalityAggregationContext cardinalityContext
+    ) throws IOException {
+        IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+        CardinalityAggregator aggregator = createAggregatorWithCustomizableSearchContext(
+            query,
+            aggregationBuilder,
+            indexSearcher,
+            createIndexSettings(),
+            new MultiBucketConsumerService.MultiBucketConsumer(
+                Integer.MAX_VALUE,
+                new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+            ),
+            (searchContext) -> when(searchContext.cardinalityAggregationContext()).thenReturn(cardinalityContext),
+            new KeywordFieldMapper.KeywordFieldType("field")
+        );
+        aggregator.preCollection();
+        indexSearcher.search(query, aggregator);
+        aggregator.postCollection();
+        return aggregator;
+    }
+
     public void testMemoryLimitExceptionSingleton() {
         // Test that the exception is indeed a singleton
         CardinalityAggregator.MemoryLimitExceededException ex1 = CardinalityAggregator.MemoryLimitExceededException.INSTANCE;
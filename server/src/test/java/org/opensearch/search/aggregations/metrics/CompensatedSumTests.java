@@ -32,6 +32,7 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.common.reduce.DoubleReducerFactory;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Assert;
 
@@ -88,6 +89,32 @@ public class CompensatedSumTests extends OpenSearchTestCase {
         Assert.assertEquals(Double.parseDouble("8.673617379884035E-19"), compensatedResult1.delta(), 0.0);
     }
 
+    public void testAddArray() {
+        int count = randomIntBetween(0, 1000);
+        double[] values = new double[count + randomIntBetween(1, 10)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomDoubleBetween(-1000, 1000, true);
+        }
+        CompensatedSum expected = new CompensatedSum(0.001, 0.0);
+        for (int i = 0; i < count; i++) {
+            expected.add(values[i]);
+        }
+        CompensatedSum actual = new CompensatedSum(0.001, 0.0);
+        actual.add(values, count);
+        if ("ScalarDoubleReducer".equals(DoubleReducerFactory.create().getClass().getSimpleName())) {
+            // the scalar reducer adds the values in the same order and with the same corrections
+            Assert.assertEquals(expected.value(), actual.value(), 0d);
+            Assert.assertEquals(expected.delta(), actual.delta(), 0d);
+        } else {
+            // the vector reducer compensates every lane separately, which may change the last bits of the sum
+            Assert.assertEquals(expected.value(), actual.value(), 1e-6);
+        }
+
+        values[randomIntBetween(0, values.length - 1)] = Double.NaN;
+        actual.add(values, values.length);
+        Assert.assertTrue(Double.isNaN(actual.value()));
+    }
+
     public void testInfiniteAndNaN() {
         CompensatedSum compensatedResult1 = new CompensatedSum(0, 0);
         double[] doubles = { Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NaN };
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.apache.lucene.document.BinaryDocValuesField;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.index.mapper.HllFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.opensearch.common.util.BitMixer.mix64;
+
+public class HllCardinalityAggregatorTests extends AggregatorTestCase {
+
+    private static final String FIELD_NAME = "sketch";
+
+    /**
+     * A match_all query over a segment with deleted docs unions the sketches of the live docs straight from doc values.
+     */
+    public void testUnionOfSegmentWithDeletedDocs() throws IOException {
+        final int precision = randomIntBetween(AbstractHyperLogLog.MIN_PRECISION, 16);
+        try (
+            Directory directory = newDirectory();
+            HyperLogLogPlusPlus expected = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1)
+        ) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                final int numDocs = randomIntBetween(2, 50);
+                for (int doc = 0; doc < numDocs; doc++) {
+                    // the first doc is kept so that the segment is not dropped and the last one is deleted
+                    final boolean deleted = doc == numDocs - 1 || (doc > 0 && randomBoolean());
+                    indexWriter.addDocument(sketchDocument(precision, doc, deleted ? null : expected, deleted ? "deleted" : "live"));
+                }
+                indexWriter.deleteDocuments(new Term("group", "deleted"));
+                indexWriter.commit();
+            }
+
+            final Map<String, Object> debug = new HashMap<>();
+            final InternalCardinality cardinality = aggregate(directory, new MatchAllDocsQuery(), precision, debug);
+            assertEquals(expected.cardinality(0), cardinality.getValue());
+            assertEquals(1, debug.get("union_only_segments"));
+            assertEquals(0, debug.get("collected_segments"));
+        }
+    }
+
+    /**
+     * A query which doesn't match all the docs of a segment falls back to collecting the sketches of the matching docs.
+     */
+    public void testCollectWhenQueryDoesNotMatchWholeSegment() throws IOException {
+        final int precision = randomIntBetween(AbstractHyperLogLog.MIN_PRECISION, 16);
+        try (
+            Directory directory = newDirectory();
+            HyperLogLogPlusPlus expected = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1)
+        ) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                final int numDocs = randomIntBetween(2, 50);
+                for (int doc = 0; doc < numDocs; doc++) {
+                    // the first doc matches and the last one doesn't, so that the query matches only a part of the segment
+                    final boolean matching = doc == 0 || (doc < numDocs - 1 && randomBoolean());
+                    indexWriter.addDocument(sketchDocument(precision, doc, matching ? expected : null, matching ? "selected" : "other"));
+                }
+                indexWriter.commit();
+            }
+
+            final Map<String, Object> debug = new HashMap<>();
+            final InternalCardinality cardinality = aggregate(directory, new TermQuery(new Term("group", "selected")), precision, debug);
+            assertEquals(expected.cardinality(0), cardinality.getValue());
+            assertEquals(0, debug.get("union_only_segments"));
+            assertEquals(1, debug.get("collected_segments"));
+        }
+    }
+
+    /**
+     * Builds a doc whose sketch holds values that no other doc holds, collecting them into {@code expected} if it is not null.
+     */
+    private static Document sketchDocument(int precision, int doc, HyperLogLogPlusPlus expected, String group) throws IOException {
+        final Document document = new Document();
+        try (
+            HyperLogLogPlusPlus sketch = new HyperLogLogPlusPlus(precision, BigArrays.NON_RECYCLING_INSTANCE, 1);
+            BytesStreamOutput out = new BytesStreamOutput()
+        ) {
+            // some sketches use linear counting and others are large enough to be HyperLogLog sketches
+            final int numValues = randomIntBetween(1, 2000);
+            for (int i = 0; i < numValues; i++) {
+                final long hash = mix64((long) doc * 2000 + i);
+                sketch.collect(0, hash);
+                if (expected != null) {
+                    expected.collect(0, hash);
+                }
+            }
+            sketch.writeTo(0, out);
+            document.add(new BinaryDocValuesField(FIELD_NAME, out.bytes().toBytesRef()));
+        }
+        document.add(new StringField("group", group, Field.Store.NO));
+        return document;
+    }
+
+    private InternalCardinality aggregate(Directory directory, Query query, int precision, Map<String, Object> debug) throws IOException {
+        final MappedFieldType fieldType = new HllFieldMapper.HllFieldType(FIELD_NAME, precision, Collections.emptyMap());
+        final CardinalityAggregationBuilder aggregationBuilder = new CardinalityAggregationBuilder("_name").field(FIELD_NAME);
+        try (IndexReader indexReader = DirectoryReader.open(directory)) {
+            assertEquals(1, indexReader.leaves().size());
+            final IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+            final HllCardinalityAggregator aggregator = createAggregator(
+                query,
+                aggregationBuilder,
+                indexSearcher,
+                createIndexSettings(),
+                fieldType
+            );
+            aggregator.preCollection();
+            indexSearcher.search(query, aggregator);
+            aggregator.postCollection();
+            aggregator.collectDebugInfo(debug::put);
+            return (InternalCardinality) aggregator.buildTopLevel();
+        }
+    }
+}
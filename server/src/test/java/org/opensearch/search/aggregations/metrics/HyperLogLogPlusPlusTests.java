@@ -32,6 +32,7 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.BitMixer;
 import org.opensearch.core.common.breaker.CircuitBreaker;
@@ -40,6 +41,7 @@ import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.core.indices.breaker.CircuitBreakerService;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
@@ -124,6 +126,44 @@ public class HyperLogLogPlusPlusTests extends OpenSearchTestCase {
         }
     }
 
+    public void testMergeSerialized() throws IOException {
+        final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final HyperLogLogPlusPlus expected = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 0);
+        final HyperLogLogPlusPlus merged = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 0);
+        final long bucket = randomInt(5);
+        final int numSketches = randomIntBetween(1, 20);
+        for (int i = 0; i < numSketches; ++i) {
+            // mix sketches that are still linear counting with sketches that were upgraded to HyperLogLog
+            try (HyperLogLogPlusPlus sketch = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+                final int numValues = randomBoolean() ? randomIntBetween(1, 10) : randomIntBetween(1, 10000);
+                for (int j = 0; j < numValues; ++j) {
+                    sketch.collect(0, BitMixer.mix64(randomInt(100000)));
+                }
+                BytesStreamOutput out = new BytesStreamOutput();
+                sketch.writeTo(0, out);
+                try (
+                    AbstractHyperLogLogPlusPlus deserialized = AbstractHyperLogLogPlusPlus.readFrom(
+                        out.bytes().streamInput(),
+                        BigArrays.NON_RECYCLING_INSTANCE
+                    )
+                ) {
+                    expected.merge(bucket, deserialized, 0);
+                }
+                merged.mergeSerialized(bucket, out.bytes().streamInput());
+                assertTrue(expected.equals(bucket, merged, bucket));
+                assertEquals(expected.cardinality(bucket), merged.cardinality(bucket));
+            }
+        }
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        final int otherPrecision = p == MIN_PRECISION ? p + 1 : p - 1;
+        try (HyperLogLogPlusPlus other = new HyperLogLogPlusPlus(otherPrecision, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            other.collect(0, randomLong());
+            other.writeTo(0, out);
+        }
+        expectThrows(IllegalArgumentException.class, () -> merged.mergeSerialized(bucket, out.bytes().streamInput()));
+    }
+
     public void testFakeHashes() {
         // hashes with lots of leading zeros trigger different paths in the code that we try to go through here
         final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
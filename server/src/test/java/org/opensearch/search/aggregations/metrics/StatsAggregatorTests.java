@@ -518,4 +518,37 @@ public class StatsAggregatorTests extends AggregatorTestCase {
             }
         }
     }
+
+    public void testCollectRangeOfMultipleBatches() throws IOException {
+        final MappedFieldType ft = new NumberFieldMapper.NumberFieldType("field", NumberType.DOUBLE);
+        try (Directory directory = newDirectory(); RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+            final SimpleStatsAggregator expected = new SimpleStatsAggregator();
+            int numDocs = randomIntBetween(DoubleValuesBatch.BATCH_SIZE, 3 * DoubleValuesBatch.BATCH_SIZE);
+            for (int i = 0; i < numDocs; i++) {
+                Document doc = new Document();
+                int numValues = randomIntBetween(0, 3);
+                for (int j = 0; j < numValues; j++) {
+                    double value = randomDoubleBetween(-100d, 100d, true);
+                    doc.add(new SortedNumericDocValuesField(ft.name(), NumericUtils.doubleToSortableLong(value)));
+                    expected.add(value);
+                }
+                indexWriter.addDocument(doc);
+            }
+            try (IndexReader reader = indexWriter.getReader()) {
+                IndexSearcher searcher = newIndexSearcher(reader);
+                StatsAggregator aggregator = createAggregator(stats("_name").field(ft.name()), searcher, ft);
+                aggregator.preCollection();
+                for (LeafReaderContext leaf : reader.leaves()) {
+                    LeafBucketCollector leafCollector = aggregator.getLeafCollector(leaf);
+                    leafCollector.collectRange(0, leaf.reader().maxDoc());
+                }
+                aggregator.postCollection();
+                InternalStats stats = (InternalStats) aggregator.buildTopLevel();
+                assertEquals(expected.count, stats.getCount(), 0);
+                assertEquals(expected.sum, stats.getSum(), numDocs * TOLERANCE);
+                assertEquals(expected.min, stats.getMin(), 0);
+                assertEquals(expected.max, stats.getMax(), 0);
+            }
+        }
+    }
 }
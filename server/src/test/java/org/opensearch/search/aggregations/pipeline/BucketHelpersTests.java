@@ -37,6 +37,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.search.aggregations.AggregationExecutionException;
 import org.opensearch.search.aggregations.Aggregations;
 import org.opensearch.search.aggregations.InternalMultiBucketAggregation;
+import org.opensearch.search.aggregations.InvalidAggregationPathException;
 import org.opensearch.search.aggregations.bucket.MultiBucketsAggregation;
 import org.opensearch.search.aggregations.metrics.InternalTDigestPercentiles;
 import org.opensearch.test.OpenSearchTestCase;
@@ -209,4 +210,75 @@ public class BucketHelpersTests extends OpenSearchTestCase {
             )
         );
     }
+
+    public void testResolveBucketValues() {
+        MultiBucketsAggregation agg = mock(MultiBucketsAggregation.class);
+        List<InternalMultiBucketAggregation.InternalBucket> buckets = List.of(
+            newBucket(1, 3.0),
+            newBucket(0, 5.0),
+            newBucket(1, null),
+            newBucket(1, Double.NaN),
+            newBucket(2, 7L)
+        );
+
+        BucketHelpers.BucketValues values = BucketHelpers.resolveBucketValues(agg, buckets, "foo>bar", BucketHelpers.GapPolicy.SKIP);
+        assertEquals(buckets.size(), values.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            Double expected = BucketHelpers.resolveBucketValue(agg, buckets.get(i), "foo>bar", BucketHelpers.GapPolicy.SKIP);
+            assertEquals(expected != null, values.isResolved(i));
+            assertEquals(expected == null ? Double.NaN : expected, values.get(i), 0d);
+        }
+
+        values = BucketHelpers.resolveBucketValues(agg, buckets, "foo>bar", BucketHelpers.GapPolicy.INSERT_ZEROS);
+        assertEquals(3.0, values.get(0), 0d);
+        assertEquals(0.0, values.get(1), 0d);
+        assertFalse(values.isResolved(2));
+        assertEquals(0.0, values.get(3), 0d);
+        assertEquals(7.0, values.get(4), 0d);
+    }
+
+    /**
+     * Creates a bucket whose property is <code>value</code>, or that has no property if <code>value</code> is null.
+     */
+    private static InternalMultiBucketAggregation.InternalBucket newBucket(long docCount, Object value) {
+        return new InternalMultiBucketAggregation.InternalBucket() {
+            @Override
+            public void writeTo(StreamOutput out) throws IOException {
+
+            }
+
+            @Override
+            public Object getKey() {
+                return null;
+            }
+
+            @Override
+            public String getKeyAsString() {
+                return null;
+            }
+
+            @Override
+            public long getDocCount() {
+                return docCount;
+            }
+
+            @Override
+            public Aggregations getAggregations() {
+                return null;
+            }
+
+            @Override
+            public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+                return null;
+            }
+
+            @Override
+            public Object getProperty(String containingAggName, List<String> path) {
+                if (value == null) {
+                    throw new InvalidAggregationPathException("unknown path " + path);
+                }
+                return value;
+            }
+        };
+    }
 }
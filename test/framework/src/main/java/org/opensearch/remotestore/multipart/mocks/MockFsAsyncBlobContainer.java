@@ -21,6 +21,7 @@ import org.opensearch.common.blobstore.stream.write.WriteContext;
 import org.opensearch.common.io.InputStreamContainer;
 import org.opensearch.core.action.ActionListener;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -141,6 +142,20 @@ public class MockFsAsyncBlobContainer extends FsBlobContainer implements AsyncMu
         }).start();
     }
 
+    @Override
+    public void readBlobAsync(String blobName, long position, long length, ActionListener<InputStream> listener) {
+        new Thread(() -> ActionListener.completeWith(listener, () -> {
+            try (InputStream inputStream = readBlob(blobName, position, length)) {
+                return new ByteArrayInputStream(inputStream.readAllBytes());
+            }
+        })).start();
+    }
+
+    @Override
+    public boolean asyncRangeReadSupported() {
+        return true;
+    }
+
     public boolean remoteIntegrityCheckSupported() {
         return true;
     }